@@ -0,0 +1,233 @@
+package com.grin.ioc;
+
+import com.grin.ioc.annotations.StartUp;
+import com.grin.ioc.config.DIConfiguration;
+import com.grin.ioc.enums.BootstrapMode;
+import com.grin.ioc.enums.DirectoryScannerType;
+import com.grin.ioc.enums.DirectoryType;
+import com.grin.ioc.enums.JarScannerType;
+import com.grin.ioc.enums.ObjectInstantiationType;
+import com.grin.ioc.models.Directory;
+import com.grin.ioc.models.ScanIndex;
+import com.grin.ioc.models.ServiceDetails;
+import com.grin.ioc.models.ServiceIndexEntry;
+import com.grin.ioc.services.*;
+import com.grin.ioc.services.impl.*;
+
+import java.io.File;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Application starting point.
+ *
+ * Holds an instance of Dependency Container.
+ */
+public class Main {
+
+    public static void main(String[] args) {
+        run(Main.class);
+    }
+
+    /**
+     * Overload with default configuration.
+     *
+     * @param startupClass any class from the client side.
+     */
+    public static void run(Class<?> startupClass) {
+        run(startupClass, new DIConfiguration());
+    }
+
+    /**
+     * Runs with startup class.
+     *
+     * @param startupClass any class from the client side.
+     * @param configuration client configuration.
+     */
+    public static DependencyContainer run(Class<?> startupClass, DIConfiguration configuration) {
+        DependencyContainer dependencyContainer = run(new File[]{
+                new File(new DirectoryResolverImpl().resolveDirectory(startupClass).getDirectory()),
+        }, configuration);
+
+        runStartUpMethod(startupClass, dependencyContainer);
+
+        return dependencyContainer;
+    }
+
+    public static DependencyContainer run(File[] startupDirectories, DIConfiguration configuration) {
+        ScanIndexService scanIndexService = null;
+        ScanIndex scanIndex = null;
+        if (configuration.scanning().getIndexFile() != null) {
+            scanIndexService = new ScanIndexServiceImpl(configuration);
+            scanIndex = scanIndexService.readIndex();
+        }
+
+        ServicesScanningService scanningService = new ServicesScanningServiceImpl(configuration.annotations(), scanIndex);
+
+        ObjectInstantiationService objectInstantiationService = createObjectInstantiationService(configuration);
+        InstantiationServices instantiationService = new InstantiationServicesImpl(
+                configuration.instantiations(),
+                objectInstantiationService
+        );
+
+        Map<Class<?>, ServiceIndexEntry> indexedServices = new ConcurrentHashMap<>();
+        Set<Class<?>> locatedClasses;
+        List<ServiceDetails> serviceDetails;
+
+        if (configuration.scanning().getBootstrapMode() == BootstrapMode.PIPELINED) {
+            try (ServicesPipeline servicesPipeline = new ServicesPipelineImpl(
+                    configuration, scanningService, objectInstantiationService, indexedServices, scanIndex)) {
+                locatedClasses = locateClasses(startupDirectories, configuration, scanIndex, indexedServices, servicesPipeline);
+
+                Set<ServiceDetails> mappedServices = servicesPipeline.awaitMappedServices();
+
+                if (scanIndexService != null) {
+                    scanIndexService.writeIndex(scanIndex);
+                }
+
+                serviceDetails = instantiationService.instantiateServicesAndBeans(
+                        mappedServices,
+                        servicesPipeline.getInstantiatedServices()
+                );
+            }
+        } else {
+            locatedClasses = locateClasses(startupDirectories, configuration, scanIndex, indexedServices, cls -> {
+            });
+
+            Set<ServiceDetails> mappedServices = scanningService.mapServices(locatedClasses, indexedServices);
+
+            if (scanIndexService != null) {
+                scanIndexService.writeIndex(scanIndex);
+            }
+
+            serviceDetails = instantiationService.instantiateServicesAndBeans(mappedServices);
+        }
+
+        DependencyContainer dependencyContainer = new DependencyContainerImpl(configuration.instantiations().getReloadExecutor());
+
+        dependencyContainer.init(locatedClasses, serviceDetails, objectInstantiationService);
+
+        return dependencyContainer;
+    }
+
+    private static ObjectInstantiationService createObjectInstantiationService(DIConfiguration configuration) {
+        ObjectInstantiationType objectInstantiationType = configuration.instantiations().getObjectInstantiationType();
+
+        if (objectInstantiationType == ObjectInstantiationType.METHOD_HANDLES) {
+            return new MethodHandleInstantiationServiceImpl();
+        }
+
+        if (objectInstantiationType == ObjectInstantiationType.GENERATED_FACTORIES) {
+            return new ObjectInstantiationServiceImpl(new ServiceFactoryGeneratorImpl(), new MethodHandleInstantiationServiceImpl());
+        }
+
+        return new ObjectInstantiationServiceImpl();
+    }
+
+    /**
+     * Locates classes in all given directories.
+     * Directories with a service index written at compile time are not scanned,
+     * only their indexed services are located.
+     *
+     * @param scanIndex       results of the previous run or null if no index is used.
+     * @param indexedServices storage for the services read from a service index.
+     * @param classConsumer   consumer for each newly located class.
+     */
+    private static Set<Class<?>> locateClasses(File[] startupDirectories,
+                                               DIConfiguration configuration,
+                                               ScanIndex scanIndex,
+                                               Map<Class<?>, ServiceIndexEntry> indexedServices,
+                                               Consumer<Class<?>> classConsumer) {
+        Set<Class<?>> locatedClasses = new HashSet<>();
+        Consumer<Class<?>> locatedClassConsumer = cls -> {
+            if (locatedClasses.add(cls)) {
+                classConsumer.accept(cls);
+            }
+        };
+
+        DirectoryResolver directoryResolver = new DirectoryResolverImpl();
+        ServiceIndexReader serviceIndexReader = configuration.scanning().isServiceIndexEnabled()
+                ? new ServiceIndexReaderImpl(configuration)
+                : null;
+
+        for (File startupDirectory : startupDirectories) {
+            final Directory directory = directoryResolver.resolveDirectory(startupDirectory);
+
+            Map<Class<?>, ServiceIndexEntry> serviceIndex = serviceIndexReader == null
+                    ? null
+                    : serviceIndexReader.readServiceIndex(directory);
+            if (serviceIndex != null) {
+                indexedServices.putAll(serviceIndex);
+                serviceIndex.keySet().forEach(locatedClassConsumer);
+                continue;
+            }
+
+            ClassPathScanner classLocator = createClassPathScanner(directory, configuration);
+            if (scanIndex != null) {
+                classLocator = new IndexedClassPathScanner(classLocator, directory.getDirectoryType(), scanIndex, configuration);
+            }
+
+            classLocator.locateClasses(directory.getDirectory(), locatedClassConsumer);
+        }
+
+        return locatedClasses;
+    }
+
+    /**
+     * Chooses the {@link ClassPathScanner} for the given directory type and the configured scanner type.
+     */
+    private static ClassPathScanner createClassPathScanner(Directory directory, DIConfiguration configuration) {
+        if (directory.getDirectoryType() == DirectoryType.JAR_FILE) {
+            if (configuration.scanning().getJarScannerType() == JarScannerType.MEMORY_MAPPED) {
+                return new MemoryMappedClassPathScannerForJarFile(configuration);
+            }
+
+            return new ClassPathScannerForJarFile(configuration);
+        }
+
+        if (configuration.scanning().getDirectoryScannerType() == DirectoryScannerType.FORK_JOIN) {
+            return new ForkJoinClassPathScannerForDirectory(configuration);
+        }
+
+        return new ClassPathScannerForDirectory(configuration);
+    }
+
+    /**
+     * Method calls executes when all services are loaded.
+     * <p>
+     * Looks for instantiated service from the given type.
+     *
+     * If instance is found, looks for void method with 0 params
+     * and with {@link com.grin.ioc.annotations.StartUp} annotation and executes it.
+     *
+     * @param startupClass any class from the client side.
+     */
+    private static void runStartUpMethod(Class<?> startupClass, DependencyContainer dependencyContainer) {
+        ServiceDetails serviceDetails = dependencyContainer.getServiceDetails(startupClass);
+
+        if (serviceDetails == null) {
+            return;
+        }
+
+        for (Method declaredMethod : serviceDetails.getServiceType().getDeclaredMethods()) {
+            if (declaredMethod.getParameterCount() != 0 ||
+                    (declaredMethod.getReturnType() != void.class &&
+                            declaredMethod.getReturnType() != Void.class)
+                    || !declaredMethod.isAnnotationPresent(StartUp.class)) {
+                continue;
+            }
+
+            declaredMethod.setAccessible(true);
+            try {
+                declaredMethod.invoke(serviceDetails.getActualInstance());
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new RuntimeException(e);
+            }
+
+            return;
+        }
+    }
+}
@@ -6,7 +6,8 @@ import java.lang.annotation.*;
 
 /**
  * You can use this annotation on your own annotations if you want to make them compatible with MagicInjector.
- * This annotation can be used to create aliases for {@link Autowired}, {@link PostConstruct}, {@link PreDestroy}.
+ * This annotation can be used to create aliases for {@link Autowired}, {@link PostConstruct}, {@link PreDestroy}
+ * and for {@link Service} or any other service annotation.
  *
  * For services and beans you might want to use {@link ConfigurableAnnotationsConfiguration}.
  */
@@ -1,5 +1,7 @@
 package com.grin.ioc.annotations;
 
+import com.grin.ioc.enums.ServiceScope;
+
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -14,4 +16,5 @@ import java.lang.annotation.Target;
 @Target(ElementType.METHOD)
 public @interface Bean {
 
+    ServiceScope scope() default ServiceScope.SINGLETON;
 }
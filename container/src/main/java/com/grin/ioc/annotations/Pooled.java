@@ -0,0 +1,34 @@
+package com.grin.ioc.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotate a service or a bean method of {@link com.grin.ioc.enums.ServiceScope#POOLED} scope to configure its pool.
+ * Pooled services that are not annotated use the default values.
+ *
+ * <p>
+ * Instances are created when no idle instance is left and the pool is not full, otherwise the calling thread
+ * waits for an instance to be returned. Instances that stay idle longer than the idle timeout
+ * are destroyed once the pool is used again, as long as the pool keeps its minimum size.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface Pooled {
+
+    /**
+     * Number of instances created with the pool and never evicted.
+     */
+    int minSize() default 0;
+
+    int maxSize() default 16;
+
+    long idleTimeoutMillis() default 60_000L;
+
+    /**
+     * How long a call waits for an instance when all of them are borrowed before it fails.
+     */
+    long borrowTimeoutMillis() default 30_000L;
+}
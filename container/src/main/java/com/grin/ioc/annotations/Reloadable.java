@@ -0,0 +1,22 @@
+package com.grin.ioc.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotate a service or a bean method to choose whether the service or bean gets a proxy.
+ *
+ * <p>
+ * Reloadable services are injected and returned through a proxy that always calls the current instance.
+ * Other services are injected directly and their dependent services are reloaded together with them.
+ * Only beans of interface types can be proxied.
+ * Services that are not annotated use {@link com.grin.ioc.config.configurations.InstantiationConfiguration#isServicesReloadableByDefault()}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface Reloadable {
+
+    boolean value() default true;
+}
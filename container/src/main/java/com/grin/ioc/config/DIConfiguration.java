@@ -2,14 +2,17 @@ package com.grin.ioc.config;
 
 import com.grin.ioc.config.configurations.ConfigurableAnnotationsConfiguration;
 import com.grin.ioc.config.configurations.InstantiationConfiguration;
+import com.grin.ioc.config.configurations.ScanningConfiguration;
 
 public class DIConfiguration {
     private ConfigurableAnnotationsConfiguration annotations;
     private InstantiationConfiguration instantiations;
+    private ScanningConfiguration scanning;
 
     public DIConfiguration() {
         this.annotations = new ConfigurableAnnotationsConfiguration(this);
         this.instantiations = new InstantiationConfiguration(this);
+        this.scanning = new ScanningConfiguration(this);
     }
 
     public ConfigurableAnnotationsConfiguration annotations() {
@@ -20,6 +23,10 @@ public class DIConfiguration {
         return this.instantiations;
     }
 
+    public ScanningConfiguration scanning() {
+        return this.scanning;
+    }
+
     public DIConfiguration build() {
         return this;
     }
@@ -12,6 +12,16 @@ public class ConfigurableAnnotationsConfiguration extends BaseConfiguration {
     private Set<Class<? extends Annotation>> beanAnnotations;
     private Map<Class<?>, Class<? extends Annotation>> additionalClasses;
 
+    /**
+     * Packages to scan, including their sub packages. If empty all packages are scanned.
+     */
+    private Set<String> includedPackages;
+
+    /**
+     * Packages that are never scanned, including their sub packages.
+     */
+    private Set<String> excludedPackages;
+
     private ClassLoader classLoader;
 
     public ConfigurableAnnotationsConfiguration(DIConfiguration parentConfig) {
@@ -19,6 +29,8 @@ public class ConfigurableAnnotationsConfiguration extends BaseConfiguration {
         this.serviceAnnotations = new HashSet<>();
         this.beanAnnotations = new HashSet<>();
         this.additionalClasses = new HashMap<>();
+        this.includedPackages = new HashSet<>();
+        this.excludedPackages = new HashSet<>();
 
         this.classLoader = Thread.currentThread().getContextClassLoader();
     }
@@ -47,6 +59,26 @@ public class ConfigurableAnnotationsConfiguration extends BaseConfiguration {
         return this;
     }
 
+    public ConfigurableAnnotationsConfiguration addIncludedPackage(String packageName) {
+        this.includedPackages.add(packageName);
+        return this;
+    }
+
+    public ConfigurableAnnotationsConfiguration addIncludedPackages(Collection<String> packageNames) {
+        this.includedPackages.addAll(packageNames);
+        return this;
+    }
+
+    public ConfigurableAnnotationsConfiguration addExcludedPackage(String packageName) {
+        this.excludedPackages.add(packageName);
+        return this;
+    }
+
+    public ConfigurableAnnotationsConfiguration addExcludedPackages(Collection<String> packageNames) {
+        this.excludedPackages.addAll(packageNames);
+        return this;
+    }
+
     public Set<Class<? extends Annotation>> getServiceAnnotations() {
         return serviceAnnotations;
     }
@@ -59,6 +91,14 @@ public class ConfigurableAnnotationsConfiguration extends BaseConfiguration {
         return this.additionalClasses;
     }
 
+    public Set<String> getIncludedPackages() {
+        return this.includedPackages;
+    }
+
+    public Set<String> getExcludedPackages() {
+        return this.excludedPackages;
+    }
+
     public ConfigurableAnnotationsConfiguration setClassLoader(ClassLoader classLoader) {
         this.classLoader = classLoader;
         return this;
@@ -0,0 +1,140 @@
+package com.grin.ioc.config.configurations;
+
+import com.grin.ioc.config.BaseConfiguration;
+import com.grin.ioc.config.DIConfiguration;
+import com.grin.ioc.enums.InstantiationMode;
+import com.grin.ioc.enums.ObjectInstantiationType;
+import com.grin.ioc.models.ServiceDetails;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.Executor;
+
+public class InstantiationConfiguration extends BaseConfiguration {
+
+    /**
+     * @deprecated services are instantiated in dependency order, the value is not used anymore.
+     */
+    @Deprecated
+    private int maxNumberIteration;
+
+    private Collection<ServiceDetails> providedServices;
+
+    private InstantiationMode instantiationMode;
+
+    private ObjectInstantiationType objectInstantiationType;
+
+    /**
+     * Executor used in {@link InstantiationMode#PARALLEL} mode. If null, a thread pool with
+     * one thread per available processor is created and shut down after startup.
+     */
+    private Executor executor;
+
+    /**
+     * Executor on which dependant services are reloaded in parallel. If null, the container uses
+     * its own pool of daemon threads, so reloads never queue behind startup work.
+     */
+    private Executor reloadExecutor;
+
+    /**
+     * Whether circular dependencies are broken by injecting proxies in {@link com.grin.ioc.annotations.Autowired}
+     * fields of interface or non final class types. The proxies call the service once it is instantiated.
+     */
+    private boolean circularFieldDependenciesAllowed;
+
+    /**
+     * Whether services that are not annotated with {@link com.grin.ioc.annotations.Reloadable} get a proxy.
+     * If false, only reloadable services are proxied and all others are injected directly.
+     */
+    private boolean servicesReloadableByDefault;
+
+    public InstantiationConfiguration(DIConfiguration parentConfig) {
+        super(parentConfig);
+        this.maxNumberIteration = 100000;
+        this.instantiationMode = InstantiationMode.SEQUENTIAL;
+        this.objectInstantiationType = ObjectInstantiationType.REFLECTION;
+        this.servicesReloadableByDefault = true;
+
+        this.providedServices = new ArrayList<>();
+    }
+
+    /**
+     * @deprecated services are instantiated in dependency order, the value is not used anymore.
+     */
+    @Deprecated
+    public int getMaxNumberIteration() {
+        return this.maxNumberIteration;
+    }
+
+    /**
+     * @deprecated services are instantiated in dependency order, the value is not used anymore.
+     */
+    @Deprecated
+    public InstantiationConfiguration setMaxNumberIteration(int maxNumberIteration) {
+        this.maxNumberIteration = maxNumberIteration;
+        return this;
+    }
+
+    public InstantiationConfiguration addProvidedServices(Collection<ServiceDetails> serviceDetails) {
+        this.providedServices.addAll(serviceDetails);
+        return this;
+    }
+
+    public Collection<ServiceDetails> getProvidedServices() {
+        return this.providedServices;
+    }
+
+    public InstantiationMode getInstantiationMode() {
+        return this.instantiationMode;
+    }
+
+    public InstantiationConfiguration setInstantiationMode(InstantiationMode instantiationMode) {
+        this.instantiationMode = instantiationMode;
+        return this;
+    }
+
+    public ObjectInstantiationType getObjectInstantiationType() {
+        return this.objectInstantiationType;
+    }
+
+    public InstantiationConfiguration setObjectInstantiationType(ObjectInstantiationType objectInstantiationType) {
+        this.objectInstantiationType = objectInstantiationType;
+        return this;
+    }
+
+    public Executor getExecutor() {
+        return this.executor;
+    }
+
+    public InstantiationConfiguration setExecutor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    public Executor getReloadExecutor() {
+        return this.reloadExecutor;
+    }
+
+    public InstantiationConfiguration setReloadExecutor(Executor reloadExecutor) {
+        this.reloadExecutor = reloadExecutor;
+        return this;
+    }
+
+    public boolean isServicesReloadableByDefault() {
+        return this.servicesReloadableByDefault;
+    }
+
+    public InstantiationConfiguration setServicesReloadableByDefault(boolean servicesReloadableByDefault) {
+        this.servicesReloadableByDefault = servicesReloadableByDefault;
+        return this;
+    }
+
+    public boolean isCircularFieldDependenciesAllowed() {
+        return this.circularFieldDependenciesAllowed;
+    }
+
+    public InstantiationConfiguration setCircularFieldDependenciesAllowed(boolean circularFieldDependenciesAllowed) {
+        this.circularFieldDependenciesAllowed = circularFieldDependenciesAllowed;
+        return this;
+    }
+}
@@ -0,0 +1,129 @@
+package com.grin.ioc.config.configurations;
+
+import com.grin.ioc.config.BaseConfiguration;
+import com.grin.ioc.config.DIConfiguration;
+import com.grin.ioc.enums.BootstrapMode;
+import com.grin.ioc.enums.DirectoryScannerType;
+import com.grin.ioc.enums.JarScannerType;
+import com.grin.ioc.enums.ScanningMode;
+
+import java.nio.file.Path;
+
+public class ScanningConfiguration extends BaseConfiguration {
+
+    private ScanningMode scanningMode;
+
+    private DirectoryScannerType directoryScannerType;
+
+    private JarScannerType jarScannerType;
+
+    /**
+     * Number of threads used by the parallel scanners and by the mapping workers of the pipeline.
+     */
+    private int parallelism;
+
+    /**
+     * File in which scan and mapping results are stored between runs, null if no index is used.
+     */
+    private Path indexFile;
+
+    /**
+     * Whether services are read from the index written by the annotation processor
+     * instead of scanning directories and jar files that contain one. Disabled by default.
+     * The located classes of such directories are then only the indexed services,
+     * see {@link com.grin.ioc.services.DependencyContainer#getAllLocatedClasses()}.
+     * Indexes that were not written with all configured service and bean annotations are ignored.
+     */
+    private boolean serviceIndexEnabled;
+
+    private BootstrapMode bootstrapMode;
+
+    /**
+     * Maximum number of located classes waiting to be mapped in {@link BootstrapMode#PIPELINED} mode,
+     * scanning blocks when it is reached.
+     */
+    private int pipelineQueueCapacity;
+
+    public ScanningConfiguration(DIConfiguration parentConfig) {
+        super(parentConfig);
+        this.scanningMode = ScanningMode.CLASS_LOADING;
+        this.directoryScannerType = DirectoryScannerType.RECURSIVE;
+        this.jarScannerType = JarScannerType.JAR_FILE;
+        this.parallelism = Runtime.getRuntime().availableProcessors();
+        this.serviceIndexEnabled = false;
+        this.bootstrapMode = BootstrapMode.SEQUENTIAL;
+        this.pipelineQueueCapacity = 1024;
+    }
+
+    public ScanningMode getScanningMode() {
+        return this.scanningMode;
+    }
+
+    public ScanningConfiguration setScanningMode(ScanningMode scanningMode) {
+        this.scanningMode = scanningMode;
+        return this;
+    }
+
+    public DirectoryScannerType getDirectoryScannerType() {
+        return this.directoryScannerType;
+    }
+
+    public ScanningConfiguration setDirectoryScannerType(DirectoryScannerType directoryScannerType) {
+        this.directoryScannerType = directoryScannerType;
+        return this;
+    }
+
+    public JarScannerType getJarScannerType() {
+        return this.jarScannerType;
+    }
+
+    public ScanningConfiguration setJarScannerType(JarScannerType jarScannerType) {
+        this.jarScannerType = jarScannerType;
+        return this;
+    }
+
+    public int getParallelism() {
+        return this.parallelism;
+    }
+
+    public ScanningConfiguration setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    public Path getIndexFile() {
+        return this.indexFile;
+    }
+
+    public ScanningConfiguration setIndexFile(Path indexFile) {
+        this.indexFile = indexFile;
+        return this;
+    }
+
+    public boolean isServiceIndexEnabled() {
+        return this.serviceIndexEnabled;
+    }
+
+    public ScanningConfiguration setServiceIndexEnabled(boolean serviceIndexEnabled) {
+        this.serviceIndexEnabled = serviceIndexEnabled;
+        return this;
+    }
+
+    public BootstrapMode getBootstrapMode() {
+        return this.bootstrapMode;
+    }
+
+    public ScanningConfiguration setBootstrapMode(BootstrapMode bootstrapMode) {
+        this.bootstrapMode = bootstrapMode;
+        return this;
+    }
+
+    public int getPipelineQueueCapacity() {
+        return this.pipelineQueueCapacity;
+    }
+
+    public ScanningConfiguration setPipelineQueueCapacity(int pipelineQueueCapacity) {
+        this.pipelineQueueCapacity = pipelineQueueCapacity;
+        return this;
+    }
+}
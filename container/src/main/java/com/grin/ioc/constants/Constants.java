@@ -4,9 +4,17 @@ public class Constants {
     public static final String CLASS_FILE_EXTENSION = ".class";
     public static final String JAR_FILE_EXTENSION = ".jar";
 
+    /**
+     * Location of the service index written by the annotation processor.
+     */
+    public static final String SERVICE_INDEX_RESOURCE = "META-INF/grin-ioc/service-index";
+
     /**
      * The maximum number or allowed iterations for instantiating services and beans
      * before an exception is thrown.
+     *
+     * @deprecated services are instantiated in dependency order, the value is not used anymore.
      */
+    @Deprecated
     public static final int MAX_NUMBER_OF_INSTANTIATION_ITERATIONS = 100000;
 }
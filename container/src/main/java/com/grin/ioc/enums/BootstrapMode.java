@@ -0,0 +1,21 @@
+package com.grin.ioc.enums;
+
+/**
+ * How scanning, mapping and instantiation of services are scheduled on startup.
+ */
+public enum BootstrapMode {
+
+    /**
+     * All classes are located, then mapped and then instantiated.
+     */
+    SEQUENTIAL,
+
+    /**
+     * Located classes are mapped by worker threads while scanning continues and services
+     * without constructor parameters and autowired fields are instantiated as soon as they are mapped.
+     * Constructors of such services may run while other classes are still being loaded.
+     * Services with dependencies are instantiated once all classes are mapped, since their providers
+     * can only be chosen then, in parallel in {@link InstantiationMode#PARALLEL} mode.
+     */
+    PIPELINED
+}
@@ -0,0 +1,17 @@
+package com.grin.ioc.enums;
+
+/**
+ * {@link com.grin.ioc.services.ClassPathScanner} implementation used for directories.
+ */
+public enum DirectoryScannerType {
+
+    /**
+     * Single threaded recursive scanner.
+     */
+    RECURSIVE,
+
+    /**
+     * Scanner that splits the directory tree across a ForkJoinPool.
+     */
+    FORK_JOIN
+}
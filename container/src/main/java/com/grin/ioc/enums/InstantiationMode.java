@@ -0,0 +1,18 @@
+package com.grin.ioc.enums;
+
+/**
+ * How the services in the dependency graph are instantiated on startup.
+ */
+public enum InstantiationMode {
+
+    /**
+     * Services are instantiated one by one on the calling thread.
+     */
+    SEQUENTIAL,
+
+    /**
+     * Services whose dependencies are instantiated are constructed concurrently on an executor,
+     * including their post construct methods and beans.
+     */
+    PARALLEL
+}
@@ -0,0 +1,17 @@
+package com.grin.ioc.enums;
+
+/**
+ * {@link com.grin.ioc.services.ClassPathScanner} implementation used for jar files.
+ */
+public enum JarScannerType {
+
+    /**
+     * Scanner that iterates the entries of a {@link java.util.jar.JarFile}.
+     */
+    JAR_FILE,
+
+    /**
+     * Scanner that memory maps the archive and reads its central directory in place.
+     */
+    MEMORY_MAPPED
+}
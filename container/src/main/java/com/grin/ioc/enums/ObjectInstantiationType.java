@@ -0,0 +1,26 @@
+package com.grin.ioc.enums;
+
+/**
+ * {@link com.grin.ioc.services.ObjectInstantiationService} implementation used to create and destroy instances.
+ */
+public enum ObjectInstantiationType {
+
+    /**
+     * Constructors, fields and methods are invoked through the reflection API.
+     */
+    REFLECTION,
+
+    /**
+     * Method handles are created once for each service and cached on its details.
+     */
+    METHOD_HANDLES,
+
+    /**
+     * Services are created through factory classes generated for each service that call constructors,
+     * assign fields and invoke post construct methods directly. Services whose members are not
+     * accessible from a generated class, such as private autowired fields, are created through method handles
+     * like in {@link #METHOD_HANDLES} mode and are logged at debug level. Beans and pre destroy methods
+     * use method handles as well.
+     */
+    GENERATED_FACTORIES
+}
@@ -0,0 +1,20 @@
+package com.grin.ioc.enums;
+
+/**
+ * Strategy used by the {@link com.grin.ioc.services.ClassPathScanner} implementations
+ * to decide which class files are handed to the ClassLoader.
+ */
+public enum ScanningMode {
+
+    /**
+     * Every class file found is loaded and initialized.
+     */
+    CLASS_LOADING,
+
+    /**
+     * Class files are parsed as bytecode first and only classes annotated with
+     * a service annotation (or an alias for one) are loaded.
+     * {@link com.grin.ioc.services.DependencyContainer#getAllLocatedClasses()} will only contain those classes.
+     */
+    BYTECODE
+}
@@ -0,0 +1,44 @@
+package com.grin.ioc.enums;
+
+/**
+ * Lifetime of the instances of a service or bean.
+ */
+public enum ServiceScope {
+
+    /**
+     * One instance that is shared by all dependant services and lookups.
+     */
+    SINGLETON,
+
+    /**
+     * A new instance for every lookup and every dependant service. The service is never proxied
+     * and its instances are not destroyed by the container.
+     */
+    PROTOTYPE,
+
+    /**
+     * One instance per thread, created on its first use. Injected and returned through a proxy
+     * that calls the instance of the calling thread. Instances of terminated threads are destroyed
+     * when a new thread creates its instance.
+     */
+    THREAD,
+
+    /**
+     * One instance per stripe of threads, with about as many stripes as there are processors.
+     * Injected and returned through a proxy that locks a stripe, the one of the calling thread unless it is busy,
+     * and calls its instance. Calls on the same stripe are run one at a time, also across per core services.
+     *
+     * <p>
+     * The stripe locks are shared by all per core services of all containers, so that nested calls between them
+     * cannot deadlock. A call waits only if every stripe is held, which limits the number of per core calls
+     * running at once to the number of stripes in the whole application.
+     */
+    PER_CORE,
+
+    /**
+     * A bounded pool of instances, see {@link com.grin.ioc.annotations.Pooled}. Injected and returned through a proxy
+     * that borrows an instance for every call and returns it once the call is done,
+     * so an instance is never used by two threads at once.
+     */
+    POOLED
+}
@@ -0,0 +1,11 @@
+package com.grin.ioc.exceptions;
+
+public class CircularDependencyException extends ServiceInstantiationException {
+    public CircularDependencyException(String message) {
+        super(message);
+    }
+
+    public CircularDependencyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
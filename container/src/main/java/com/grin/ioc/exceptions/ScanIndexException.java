@@ -0,0 +1,11 @@
+package com.grin.ioc.exceptions;
+
+public class ScanIndexException extends RuntimeException {
+    public ScanIndexException(String message) {
+        super(message);
+    }
+
+    public ScanIndexException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,44 @@
+package com.grin.ioc.models;
+
+import java.util.Map;
+
+/**
+ * Simple POJO class that holds the information read from a class file
+ * without loading it through a ClassLoader.
+ */
+public class ClassFileDetails {
+
+    /**
+     * Binary name of the class (e.g. com.example.MyService).
+     */
+    private String className;
+
+    /**
+     * Class access flags as stored in the class file.
+     */
+    private int accessFlags;
+
+    /**
+     * Binary names of all runtime visible annotations of the class mapped to
+     * the class referenced by their "value" element or null if there is no such element.
+     */
+    private Map<String, String> annotations;
+
+    public ClassFileDetails(String className, int accessFlags, Map<String, String> annotations) {
+        this.className = className;
+        this.accessFlags = accessFlags;
+        this.annotations = annotations;
+    }
+
+    public String getClassName() {
+        return this.className;
+    }
+
+    public int getAccessFlags() {
+        return this.accessFlags;
+    }
+
+    public Map<String, String> getAnnotations() {
+        return this.annotations;
+    }
+}
@@ -0,0 +1,206 @@
+package com.grin.ioc.models;
+
+import java.lang.reflect.Field;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Simple POJO class that represents a service in the dependency graph.
+ *
+ * <p>
+ * Keeps the services and beans chosen to provide each dependency, the services this one
+ * requires, the services that have to wait for this one and the number of services this one is waiting for.
+ */
+public class EnqueuedServiceDetails {
+
+    /**
+     * Reference to the target service.
+     */
+    private ServiceDetails serviceDetails;
+
+    /**
+     * Array of dependencies that the target constructor of the service requires.
+     */
+    private Class<?>[] dependencies;
+
+    /**
+     * Services or beans matching the types in @dependencies, null for missing {@link com.grin.ioc.annotations.Nullable} ones.
+     */
+    private ServiceDetails[] dependencyProviders;
+
+    /**
+     * Array of dependencies that are required from {@link com.grin.ioc.annotations.Autowired} annotated fields.
+     */
+    private Class<?>[] fieldDependencies;
+
+    /**
+     * Services or beans matching the types in @fieldDependencies.
+     */
+    private ServiceDetails[] fieldDependencyProviders;
+
+    /**
+     * Proxies injected in autowired fields instead of the provider instances to break circular dependencies.
+     */
+    private Object[] fieldDependencyProxies;
+
+    /**
+     * Beans that are created once the service is instantiated.
+     */
+    private ServiceBeanDetails[] beans;
+
+    /**
+     * Services that have to be instantiated before this one.
+     */
+    private Set<EnqueuedServiceDetails> requiredServices;
+
+    /**
+     * Services that can be instantiated only after this one.
+     */
+    private List<EnqueuedServiceDetails> dependentServices;
+
+    /**
+     * Number of services that have to be instantiated before this one,
+     * decremented concurrently when services are instantiated in parallel.
+     */
+    private AtomicInteger unresolvedDependenciesCount;
+
+    public EnqueuedServiceDetails(ServiceDetails serviceDetails) {
+        this.serviceDetails = serviceDetails;
+        this.dependencies = serviceDetails.getTargetConstructor().getParameterTypes();
+        this.dependencyProviders = new ServiceDetails[this.dependencies.length];
+
+        Field[] autowireAnnotatedFields = serviceDetails.getAutowireAnnotatedFields();
+        this.fieldDependencies = new Class[autowireAnnotatedFields.length];
+        this.fieldDependencyProviders = new ServiceDetails[autowireAnnotatedFields.length];
+        this.fieldDependencyProxies = new Object[autowireAnnotatedFields.length];
+        for (int i = 0; i < autowireAnnotatedFields.length; i++) {
+            this.fieldDependencies[i] = autowireAnnotatedFields[i].getType();
+        }
+
+        this.beans = new ServiceBeanDetails[serviceDetails.getBeans().length];
+        for (int i = 0; i < this.beans.length; i++) {
+            this.beans[i] = new ServiceBeanDetails(serviceDetails.getBeans()[i].getReturnType(), serviceDetails.getBeans()[i], serviceDetails);
+        }
+
+        this.requiredServices = new LinkedHashSet<>();
+        this.dependentServices = new ArrayList<>();
+        this.unresolvedDependenciesCount = new AtomicInteger();
+    }
+
+    public ServiceDetails getServiceDetails() {
+        return this.serviceDetails;
+    }
+
+    public Class<?>[] getDependencies() {
+        return this.dependencies;
+    }
+
+    public ServiceDetails[] getDependencyProviders() {
+        return this.dependencyProviders;
+    }
+
+    public Class<?>[] getFieldDependencies() {
+        return this.fieldDependencies;
+    }
+
+    public ServiceDetails[] getFieldDependencyProviders() {
+        return this.fieldDependencyProviders;
+    }
+
+    public ServiceBeanDetails[] getBeans() {
+        return this.beans;
+    }
+
+    /**
+     * @return the proxies of the dependency providers, or their instances if they have no proxy,
+     * in the order of the target constructor parameters.
+     */
+    public Object[] getDependencyInstances() {
+        return this.collectInstances(this.dependencyProviders);
+    }
+
+    /**
+     * @return the proxies or instances of the field dependency providers, or the proxies created for them
+     * to break circular dependencies, in the order of the autowired fields.
+     */
+    public Object[] getFieldDependencyInstances() {
+        Object[] instances = this.collectInstances(this.fieldDependencyProviders);
+        for (int i = 0; i < instances.length; i++) {
+            if (this.fieldDependencyProxies[i] != null) {
+                instances[i] = this.fieldDependencyProxies[i];
+            }
+        }
+
+        return instances;
+    }
+
+    public Object[] getFieldDependencyProxies() {
+        return this.fieldDependencyProxies;
+    }
+
+    public boolean hasFieldDependencyProxy(int fieldIndex) {
+        return this.fieldDependencyProxies[fieldIndex] != null;
+    }
+
+    public void setFieldDependencyProxy(int fieldIndex, Object proxy) {
+        this.fieldDependencyProxies[fieldIndex] = proxy;
+    }
+
+    private Object[] collectInstances(ServiceDetails[] providers) {
+        Object[] instances = new Object[providers.length];
+        for (int i = 0; i < providers.length; i++) {
+            if (providers[i] != null) {
+                instances[i] = providers[i].getProxyInstance();
+            }
+        }
+
+        return instances;
+    }
+
+    public Set<EnqueuedServiceDetails> getRequiredServices() {
+        return Collections.unmodifiableSet(this.requiredServices);
+    }
+
+    public void addRequiredService(EnqueuedServiceDetails requiredService) {
+        this.requiredServices.add(requiredService);
+    }
+
+    public void removeRequiredService(EnqueuedServiceDetails requiredService) {
+        this.requiredServices.remove(requiredService);
+    }
+
+    public List<EnqueuedServiceDetails> getDependentServices() {
+        return Collections.unmodifiableList(this.dependentServices);
+    }
+
+    /**
+     * Makes the given service wait for this one.
+     *
+     * @param dependentService the service that depends on this one.
+     */
+    public void addDependentService(EnqueuedServiceDetails dependentService) {
+        this.dependentServices.add(dependentService);
+        dependentService.unresolvedDependenciesCount.incrementAndGet();
+    }
+
+    /**
+     * Called when one of the services this one is waiting for is instantiated.
+     *
+     * @return the number of services this one is still waiting for.
+     */
+    public int resolveDependency() {
+        return this.unresolvedDependenciesCount.decrementAndGet();
+    }
+
+    /**
+     * @return true if all services this one depends on are instantiated.
+     */
+    public boolean isResolved() {
+        return this.unresolvedDependenciesCount.get() == 0;
+    }
+
+    @Override
+    public String toString() {
+        return this.serviceDetails.getServiceType().getName();
+    }
+}
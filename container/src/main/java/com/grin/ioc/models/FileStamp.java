@@ -0,0 +1,43 @@
+package com.grin.ioc.models;
+
+/**
+ * Last modified time and size of a class file, a changed file differs in at least one of them.
+ */
+public class FileStamp {
+
+    private final long lastModifiedMillis;
+
+    private final long size;
+
+    public FileStamp(long lastModifiedMillis, long size) {
+        this.lastModifiedMillis = lastModifiedMillis;
+        this.size = size;
+    }
+
+    public long getLastModifiedMillis() {
+        return this.lastModifiedMillis;
+    }
+
+    public long getSize() {
+        return this.size;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+
+        if (!(other instanceof FileStamp)) {
+            return false;
+        }
+
+        FileStamp fileStamp = (FileStamp) other;
+        return this.lastModifiedMillis == fileStamp.lastModifiedMillis && this.size == fileStamp.size;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(this.lastModifiedMillis) * 31 + Long.hashCode(this.size);
+    }
+}
@@ -14,10 +14,13 @@ public class InvocationHandlerImpl implements InvocationHandler {
 
     @Override
     public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        ServiceInstanceSnapshot instanceSnapshot = this.serviceDetails.enterInstance();
         try {
-            return method.invoke(this.serviceDetails.getActualInstance(), args);
+            return method.invoke(instanceSnapshot.getInstance(), args);
         } catch (InvocationTargetException ex) {
             throw ex.getTargetException();
+        } finally {
+            instanceSnapshot.exit();
         }
     }
 }
\ No newline at end of file
@@ -14,10 +14,13 @@ public class MethodInvocationHandlerImpl implements MethodHandler {
 
     @Override
     public Object invoke(Object o, Method method, Method method1, Object[] objects) throws Throwable {
+        ServiceInstanceSnapshot instanceSnapshot = this.serviceDetails.enterInstance();
         try {
-            return method.invoke(this.serviceDetails.getActualInstance(), objects);
+            return method.invoke(instanceSnapshot.getInstance(), objects);
         } catch (InvocationTargetException ex) {
             throw ex.getTargetException();
+        } finally {
+            instanceSnapshot.exit();
         }
     }
 }
@@ -0,0 +1,353 @@
+package com.grin.ioc.models;
+
+import com.grin.ioc.exceptions.ServiceInstantiationException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Snapshot of a {@link com.grin.ioc.enums.ServiceScope#POOLED} service that lends its instances
+ * to calls through proxies.
+ *
+ * <p>
+ * A call borrows an instance when it first gets the instance of the snapshot, which proxies do only after
+ * {@link ServiceDetails#enterInstance()} has checked that the snapshot is still published, and returns it when it exits.
+ * Nested calls of the same thread use the instance borrowed by the outer call. Idle instances are kept in a lock free
+ * deque, the most recently returned first so that borrowed instances are likely still in cache, the size of the pool
+ * is bounded by compare and set on a counter. Threads that find the pool full park until a returned instance
+ * wakes one of them up.
+ */
+public class PooledInstanceSnapshot extends ServiceInstanceSnapshot {
+    private static final String BORROW_TIMEOUT_MSG = "Timed out after %d ms waiting for one of %d pooled instances.";
+    private static final String NOT_BORROWED_MSG = "Pooled instances can only be used in calls through the proxy of their service.";
+
+    private final Supplier<Object> instanceFactory;
+
+    private final Consumer<Object> instanceDestroyer;
+
+    private final int minSize;
+
+    private final int maxSize;
+
+    private final long idleTimeoutNanos;
+
+    private final long borrowTimeoutNanos;
+
+    /**
+     * All instances of the pool, borrowed or idle.
+     */
+    private final Queue<PooledInstance> instances;
+
+    /**
+     * Idle instances, the most recently returned first.
+     */
+    private final Deque<PooledInstance> idleInstances;
+
+    private final AtomicInteger size;
+
+    private final AtomicInteger idleCount;
+
+    private final ThreadLocal<Lease> leases;
+
+    /**
+     * Threads parked until an instance is returned.
+     */
+    private final Queue<Thread> waitingThreads;
+
+    private final LongAdder createdCount;
+
+    private final LongAdder evictedCount;
+
+    private final LongAdder borrowCount;
+
+    private final LongAdder waitCount;
+
+    private final LongAdder timeoutCount;
+
+    public PooledInstanceSnapshot(Supplier<Object> instanceFactory,
+                                  Consumer<Object> instanceDestroyer,
+                                  int minSize,
+                                  int maxSize,
+                                  long idleTimeoutMillis,
+                                  long borrowTimeoutMillis) {
+        super(null);
+        this.instanceFactory = instanceFactory;
+        this.instanceDestroyer = instanceDestroyer;
+        this.maxSize = Math.max(1, maxSize);
+        this.minSize = Math.max(0, Math.min(minSize, this.maxSize));
+        this.idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis);
+        this.borrowTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(borrowTimeoutMillis);
+
+        this.instances = new ConcurrentLinkedQueue<>();
+        this.idleInstances = new ConcurrentLinkedDeque<>();
+        this.size = new AtomicInteger();
+        this.idleCount = new AtomicInteger();
+        this.leases = ThreadLocal.withInitial(Lease::new);
+        this.waitingThreads = new ConcurrentLinkedQueue<>();
+
+        this.createdCount = new LongAdder();
+        this.evictedCount = new LongAdder();
+        this.borrowCount = new LongAdder();
+        this.waitCount = new LongAdder();
+        this.timeoutCount = new LongAdder();
+
+        for (int i = 0; i < this.minSize; i++) {
+            this.size.incrementAndGet();
+            this.makeIdle(this.createInstance());
+        }
+    }
+
+    @Override
+    public void enter() {
+        super.enter();
+        this.leases.get().depth++;
+    }
+
+    /**
+     * Returns the instance of the current thread to the pool once its outermost call is done
+     * and evicts instances that have been idle for too long.
+     */
+    @Override
+    public void exit() {
+        Lease lease = this.leases.get();
+        if (--lease.depth == 0 && lease.pooledInstance != null) {
+            PooledInstance pooledInstance = lease.pooledInstance;
+            lease.pooledInstance = null;
+
+            this.makeIdle(pooledInstance);
+            this.evictIdleInstances(pooledInstance.idleSince);
+        }
+
+        super.exit();
+    }
+
+    /**
+     * Borrows an instance for the current call unless the thread already has one.
+     *
+     * @return the instance borrowed by the current thread.
+     * @throws IllegalStateException         if the current thread is not in a call through the proxy of the service.
+     * @throws ServiceInstantiationException if no instance was returned within the borrow timeout.
+     */
+    @Override
+    public Object getInstance() {
+        Lease lease = this.leases.get();
+        if (lease.depth == 0) {
+            throw new IllegalStateException(NOT_BORROWED_MSG);
+        }
+
+        if (lease.pooledInstance == null) {
+            lease.pooledInstance = this.borrow();
+        }
+
+        return lease.pooledInstance.instance;
+    }
+
+    @Override
+    public boolean hasSingleInstance() {
+        return false;
+    }
+
+    @Override
+    public Collection<Object> getInstances() {
+        List<Object> instances = new ArrayList<>();
+        for (PooledInstance pooledInstance : this.instances) {
+            instances.add(pooledInstance.instance);
+        }
+
+        return instances;
+    }
+
+    /**
+     * Destroys instances that have been idle longer than the idle timeout, as long as the pool keeps its minimum size.
+     * Called whenever an instance is returned, so a pool that is not used keeps its instances until this is called.
+     */
+    public void evictIdleInstances() {
+        this.evictIdleInstances(System.nanoTime());
+    }
+
+    public ServicePoolMetrics getMetrics() {
+        return new ServicePoolMetrics(
+                this.size.get(),
+                this.idleCount.get(),
+                this.createdCount.sum(),
+                this.evictedCount.sum(),
+                this.borrowCount.sum(),
+                this.waitCount.sum(),
+                this.timeoutCount.sum()
+        );
+    }
+
+    /**
+     * Takes the most recently returned idle instance or creates one if the pool is not full,
+     * otherwise parks until an instance is returned or the pool shrinks.
+     *
+     * <p>
+     * A waiting thread is queued before it looks for an instance again, and every returned instance
+     * wakes up a queued thread after it is made idle, so no instance is returned unnoticed while a thread parks.
+     */
+    private PooledInstance borrow() {
+        this.borrowCount.increment();
+
+        PooledInstance pooledInstance = this.tryBorrow();
+        if (pooledInstance != null) {
+            return pooledInstance;
+        }
+
+        this.waitCount.increment();
+        long deadline = System.nanoTime() + this.borrowTimeoutNanos;
+        Thread currentThread = Thread.currentThread();
+        while (true) {
+            this.waitingThreads.add(currentThread);
+
+            pooledInstance = this.tryBorrow();
+            if (pooledInstance != null) {
+                this.stopWaiting(currentThread);
+                return pooledInstance;
+            }
+
+            long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0) {
+                this.stopWaiting(currentThread);
+                this.timeoutCount.increment();
+                throw new ServiceInstantiationException(String.format(
+                        BORROW_TIMEOUT_MSG, TimeUnit.NANOSECONDS.toMillis(this.borrowTimeoutNanos), this.maxSize
+                ));
+            }
+
+            LockSupport.parkNanos(this, remainingNanos);
+            this.waitingThreads.remove(currentThread);
+        }
+    }
+
+    /**
+     * Removes the current thread from the waiting threads. If it has been woken up already,
+     * the wake up is passed on, since the instance it was meant for may still be idle.
+     */
+    private void stopWaiting(Thread currentThread) {
+        if (!this.waitingThreads.remove(currentThread)) {
+            this.wakeUpWaitingThread();
+        }
+    }
+
+    /**
+     * @return an idle or new instance or null if the pool is full.
+     */
+    private PooledInstance tryBorrow() {
+        while (true) {
+            PooledInstance pooledInstance = this.idleInstances.pollFirst();
+            if (pooledInstance != null) {
+                this.idleCount.decrementAndGet();
+                return pooledInstance;
+            }
+
+            int size = this.size.get();
+            if (size >= this.maxSize) {
+                return null;
+            }
+
+            if (this.size.compareAndSet(size, size + 1)) {
+                return this.createInstance();
+            }
+        }
+    }
+
+    private void wakeUpWaitingThread() {
+        Thread waitingThread = this.waitingThreads.poll();
+        if (waitingThread != null) {
+            LockSupport.unpark(waitingThread);
+        }
+    }
+
+    /**
+     * Creates an instance for a slot that has already been counted in the size of the pool.
+     */
+    private PooledInstance createInstance() {
+        Object instance;
+        try {
+            instance = this.instanceFactory.get();
+        } catch (RuntimeException | Error e) {
+            this.size.decrementAndGet();
+            this.wakeUpWaitingThread();
+            throw e;
+        }
+
+        PooledInstance pooledInstance = new PooledInstance(instance);
+        this.instances.add(pooledInstance);
+        this.createdCount.increment();
+
+        return pooledInstance;
+    }
+
+    private void makeIdle(PooledInstance pooledInstance) {
+        pooledInstance.idleSince = System.nanoTime();
+        this.idleInstances.offerFirst(pooledInstance);
+        this.idleCount.incrementAndGet();
+        this.wakeUpWaitingThread();
+    }
+
+    /**
+     * Evicts from the tail of the idle deque, where the instances that have been idle the longest are.
+     * An instance is removed from the deque before the size is decremented, so the pool never exceeds its maximum size,
+     * and it is put back if another thread has brought the pool down to its minimum size in the meantime.
+     */
+    private void evictIdleInstances(long now) {
+        while (this.size.get() > this.minSize) {
+            PooledInstance oldest = this.idleInstances.peekLast();
+            if (oldest == null || now - oldest.idleSince < this.idleTimeoutNanos) {
+                return;
+            }
+
+            if (!this.idleInstances.removeLastOccurrence(oldest)) {
+                continue;
+            }
+
+            this.idleCount.decrementAndGet();
+
+            int size;
+            do {
+                size = this.size.get();
+                if (size <= this.minSize) {
+                    this.idleInstances.offerLast(oldest);
+                    this.idleCount.incrementAndGet();
+                    return;
+                }
+            } while (!this.size.compareAndSet(size, size - 1));
+
+            this.instances.remove(oldest);
+            this.evictedCount.increment();
+            destroyInstance(this.instanceDestroyer, oldest.instance);
+        }
+    }
+
+    private static class PooledInstance {
+
+        private final Object instance;
+
+        private volatile long idleSince;
+
+        private PooledInstance(Object instance) {
+            this.instance = instance;
+        }
+    }
+
+    /**
+     * Instance borrowed by a thread and the number of its calls that are running on it.
+     */
+    private static class Lease {
+
+        private PooledInstance pooledInstance;
+
+        private int depth;
+    }
+}
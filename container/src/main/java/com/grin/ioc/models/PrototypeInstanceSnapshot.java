@@ -0,0 +1,34 @@
+package com.grin.ioc.models;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Snapshot of a {@link com.grin.ioc.enums.ServiceScope#PROTOTYPE} service that creates a new instance
+ * on every call. The instances belong to their callers and are not destroyed with the snapshot.
+ */
+public class PrototypeInstanceSnapshot extends ServiceInstanceSnapshot {
+
+    private final Supplier<Object> instanceFactory;
+
+    public PrototypeInstanceSnapshot(Supplier<Object> instanceFactory) {
+        super(null);
+        this.instanceFactory = instanceFactory;
+    }
+
+    @Override
+    public Object getInstance() {
+        return this.instanceFactory.get();
+    }
+
+    @Override
+    public boolean hasSingleInstance() {
+        return false;
+    }
+
+    @Override
+    public Collection<Object> getInstances() {
+        return List.of();
+    }
+}
@@ -0,0 +1,127 @@
+package com.grin.ioc.models;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.security.CodeSource;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the scan and mapping results of a previous run and collects the ones of the current run.
+ *
+ * <p>
+ * The previous results are read from the index file. While scanning, the classes and jar files that
+ * changed since then are collected so that only their results are computed again. The results of
+ * the current run are written back to the index file once services are mapped.
+ */
+public class ScanIndex {
+
+    /**
+     * Key describing the configuration the index was created with.
+     * The index is valid only for the same key.
+     */
+    private String configurationKey;
+
+    private Map<String, ScanIndexRoot> previousRoots;
+
+    private Map<String, ServiceIndexEntry> previousServices;
+
+    private Map<String, ScanIndexRoot> roots;
+
+    /**
+     * Services mapped in the current run, written concurrently when services are mapped in parallel.
+     */
+    private Map<String, ServiceIndexEntry> services;
+
+    /**
+     * Names of classes which class files were added, modified or removed since the previous run.
+     */
+    private Set<String> changedClasses;
+
+    /**
+     * Canonical paths of the jar files that are new or changed since the previous run.
+     */
+    private Set<String> changedJarFiles;
+
+    public ScanIndex(String configurationKey,
+                     Map<String, ScanIndexRoot> previousRoots,
+                     Map<String, ServiceIndexEntry> previousServices) {
+        this.configurationKey = configurationKey;
+        this.previousRoots = previousRoots;
+        this.previousServices = previousServices;
+
+        this.roots = new HashMap<>();
+        this.services = new ConcurrentHashMap<>();
+        this.changedClasses = new HashSet<>();
+        this.changedJarFiles = new HashSet<>();
+    }
+
+    public String getConfigurationKey() {
+        return this.configurationKey;
+    }
+
+    public Map<String, ScanIndexRoot> getPreviousRoots() {
+        return this.previousRoots;
+    }
+
+    public Map<String, ServiceIndexEntry> getPreviousServices() {
+        return this.previousServices;
+    }
+
+    public Map<String, ScanIndexRoot> getRoots() {
+        return this.roots;
+    }
+
+    public Map<String, ServiceIndexEntry> getServices() {
+        return this.services;
+    }
+
+    public Set<String> getChangedClasses() {
+        return this.changedClasses;
+    }
+
+    public Set<String> getChangedJarFiles() {
+        return this.changedJarFiles;
+    }
+
+    /**
+     * Checks whether the previous results are still valid for the given class.
+     * That is the case when neither the class nor any of its super classes changed.
+     *
+     * @param cls the given class.
+     * @return true if the previous results can be used for the given class.
+     */
+    public boolean isUpToDate(Class<?> cls) {
+        for (Class<?> type = cls; type != null && type != Object.class; type = type.getSuperclass()) {
+            if (this.changedClasses.contains(type.getName())) {
+                return false;
+            }
+
+            if (!this.changedJarFiles.isEmpty() && this.changedJarFiles.contains(this.getJarFile(type))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * @return canonical path of the location from which the class was loaded or null.
+     */
+    private String getJarFile(Class<?> cls) {
+        CodeSource codeSource = cls.getProtectionDomain().getCodeSource();
+        if (codeSource == null || codeSource.getLocation() == null) {
+            return null;
+        }
+
+        try {
+            return new File(codeSource.getLocation().toURI()).getCanonicalPath();
+        } catch (URISyntaxException | IOException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.grin.ioc.models;
+
+import com.grin.ioc.enums.DirectoryType;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Simple POJO class that keeps the scan result of a single directory or jar file.
+ */
+public class ScanIndexRoot {
+
+    /**
+     * Canonical path of the directory or jar file.
+     */
+    private String directory;
+
+    private DirectoryType directoryType;
+
+    /**
+     * Checksum of the jar file contents, 0 for directories.
+     */
+    private long checksum;
+
+    /**
+     * Stamps of all class files in a directory,
+     * keyed by their path relative to the directory. Empty for jar files.
+     */
+    private Map<String, FileStamp> fileStamps;
+
+    /**
+     * Names of the classes that the scanner located in this directory or jar file.
+     */
+    private Set<String> locatedClasses;
+
+    public ScanIndexRoot(String directory,
+                         DirectoryType directoryType,
+                         long checksum,
+                         Map<String, FileStamp> fileStamps,
+                         Set<String> locatedClasses) {
+        this.directory = directory;
+        this.directoryType = directoryType;
+        this.checksum = checksum;
+        this.fileStamps = fileStamps;
+        this.locatedClasses = locatedClasses;
+    }
+
+    public String getDirectory() {
+        return this.directory;
+    }
+
+    public DirectoryType getDirectoryType() {
+        return this.directoryType;
+    }
+
+    public long getChecksum() {
+        return this.checksum;
+    }
+
+    public Map<String, FileStamp> getFileStamps() {
+        return this.fileStamps;
+    }
+
+    public Set<String> getLocatedClasses() {
+        return this.locatedClasses;
+    }
+}
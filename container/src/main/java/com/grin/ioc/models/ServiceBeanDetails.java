@@ -1,5 +1,8 @@
 package com.grin.ioc.models;
 
+import com.grin.ioc.annotations.Bean;
+import com.grin.ioc.enums.ServiceScope;
+
 import java.lang.reflect.Method;
 
 /**
@@ -35,16 +38,16 @@ public class ServiceBeanDetails extends ServiceDetails {
         return this.rootService;
     }
 
+    /**
+     * @return the scope of the {@link Bean} annotation or singleton for other annotations.
+     */
     @Override
-    public Object getProxyInstance() {
-        if (super.getProxyInstance() != null) {
-            return super.getProxyInstance();
+    public ServiceScope getScope() {
+        Bean bean = this.originMethod.getAnnotation(Bean.class);
+        if (bean == null) {
+            return ServiceScope.SINGLETON;
         }
 
-        return this.getActualInstance();
-    }
-
-    public boolean hasProxyInstance() {
-        return super.getProxyInstance() != null;
+        return bean.scope();
     }
 }
\ No newline at end of file
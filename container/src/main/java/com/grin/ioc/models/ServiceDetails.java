@@ -0,0 +1,367 @@
+package com.grin.ioc.models;
+
+import com.grin.ioc.annotations.Service;
+import com.grin.ioc.enums.ServiceScope;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * Simple POJO class that holds information about a given class.
+ *
+ * <p>
+ * This is needed since that way we have the data scanned only once and we
+ * will improve performance at runtime since the data in only collected once
+ * at startup.
+ */
+public class ServiceDetails {
+    private static final String PROXY_ALREADY_CREATED_MSG = "Proxy instance already created.";
+
+    private static final AtomicReferenceFieldUpdater<ServiceDetails, ServiceInstanceSnapshot> INSTANCE_SNAPSHOT_UPDATER =
+            AtomicReferenceFieldUpdater.newUpdater(ServiceDetails.class, ServiceInstanceSnapshot.class, "instanceSnapshot");
+
+    /**
+     * The type of the service.
+     */
+    private Class<?> serviceType;
+
+    /**
+     * The annotation used to map the service (@Service or a custom one).
+     */
+    private Annotation annotation;
+
+    /**
+     * The constructor that will be used to create an instance of the service.
+     */
+    private Constructor<?> targetConstructor;
+
+    /**
+     * Published service instance with the calls running on it.
+     * Replaced as a whole, so readers always see a complete instance.
+     */
+    private volatile ServiceInstanceSnapshot instanceSnapshot;
+
+    /**
+     * Proxy instance that will be injected into services instead of actual instance.
+     * Null if the service is not reloadable, the actual instance is injected then.
+     */
+    private Object proxyInstance;
+
+    /**
+     * Reference to the post construct method if any.
+     */
+    private Method postConstructMethod;
+
+    /**
+     * Reference to the pre destroy method if any.
+     */
+    private Method preDestroyMethod;
+
+    /**
+     * The reference to all @Bean (or a custom one) annotated methods.
+     */
+    private Method[] beans;
+
+    private Field[] autowireAnnotatedFields;
+
+    /**
+     * List of all services that depend on this one.
+     */
+    private List<ServiceDetails> dependentServices;
+
+    /**
+     * Services and beans chosen at startup for the constructor parameters, null for missing nullable ones.
+     * Null if the service was not instantiated by the container.
+     */
+    private ServiceDetails[] dependencyProviders;
+
+    /**
+     * Services and beans chosen at startup for the autowired fields.
+     */
+    private ServiceDetails[] fieldDependencyProviders;
+
+    /**
+     * Proxies injected in autowired fields instead of the provider instances to break circular dependencies,
+     * null for the other fields.
+     */
+    private Object[] fieldDependencyProxies;
+
+    /**
+     * Handle that follows the proxy or instance of this service.
+     */
+    private final ServiceHandle<Object> serviceHandle;
+
+    /**
+     * Method handles created on the first instantiation when method handles are used.
+     */
+    private volatile ServiceMethodHandles methodHandles;
+
+    /**
+     * Factory generated on the first instantiation when generated factories are used.
+     */
+    private volatile ServiceFactory serviceFactory;
+
+    public ServiceDetails() {
+        this.dependentServices = new ArrayList<>();
+        this.instanceSnapshot = new ServiceInstanceSnapshot(null, false);
+        this.serviceHandle = new ServiceHandle<>(this);
+    }
+
+    public ServiceDetails(Class<?> serviceType,
+                          Annotation annotation,
+                          Constructor<?> targetConstructor,
+                          Method postConstructMethod,
+                          Method preDestroyMethod,
+                          Method[] beans,
+                          Field[] autowireAnnotatedFields) {
+        this();
+        this.serviceType = serviceType;
+        this.annotation = annotation;
+        this.targetConstructor = targetConstructor;
+        this.postConstructMethod = postConstructMethod;
+        this.preDestroyMethod = preDestroyMethod;
+        this.beans = beans;
+        this.autowireAnnotatedFields = autowireAnnotatedFields;
+    }
+
+    public Class<?> getServiceType() {
+        return serviceType;
+    }
+
+    public Field[] getAutowireAnnotatedFields() {
+        return this.autowireAnnotatedFields;
+    }
+
+    public void setAutowireAnnotatedFields(Field[] autowireAnnotatedFields) {
+        this.autowireAnnotatedFields = autowireAnnotatedFields;
+    }
+
+    public void setServiceType(Class<?> serviceType) {
+        this.serviceType = serviceType;
+    }
+
+    public Annotation getAnnotation() {
+        return annotation;
+    }
+
+    public void setAnnotation(Annotation annotation) {
+        this.annotation = annotation;
+    }
+
+    public Constructor<?> getTargetConstructor() {
+        return targetConstructor;
+    }
+
+    public void setTargetConstructor(Constructor<?> targetConstructor) {
+        this.targetConstructor = targetConstructor;
+    }
+
+    public Object getActualInstance() {
+        return this.instanceSnapshot.getInstance();
+    }
+
+    /**
+     * Publishes the given instance. Calls that are already running keep using the previous snapshot.
+     */
+    public void setInstance(Object instance) {
+        this.setInstanceSnapshot(this.newInstanceSnapshot(instance));
+    }
+
+    /**
+     * Calls through proxies are counted only if the service has a pre destroy method,
+     * otherwise nothing has to wait for them when the instance is replaced.
+     *
+     * @return a snapshot of the given singleton instance that is not published.
+     */
+    public ServiceInstanceSnapshot newInstanceSnapshot(Object instance) {
+        return new ServiceInstanceSnapshot(instance, this.preDestroyMethod != null);
+    }
+
+    public ServiceInstanceSnapshot getInstanceSnapshot() {
+        return this.instanceSnapshot;
+    }
+
+    /**
+     * Publishes the given snapshot. Calls that are already running keep using the previous snapshot.
+     */
+    public void setInstanceSnapshot(ServiceInstanceSnapshot instanceSnapshot) {
+        this.swapInstanceSnapshot(instanceSnapshot);
+    }
+
+    /**
+     * Publishes the given snapshot atomically.
+     *
+     * @return the snapshot that was replaced, only one of concurrent callers gets each replaced snapshot.
+     */
+    public ServiceInstanceSnapshot swapInstanceSnapshot(ServiceInstanceSnapshot instanceSnapshot) {
+        ServiceInstanceSnapshot replacedSnapshot = INSTANCE_SNAPSHOT_UPDATER.getAndSet(this, instanceSnapshot);
+        this.serviceHandle.refresh();
+
+        return replacedSnapshot;
+    }
+
+    /**
+     * @return the scope of the {@link Service} annotation or singleton for other annotations.
+     */
+    public ServiceScope getScope() {
+        if (this.annotation instanceof Service) {
+            return ((Service) this.annotation).scope();
+        }
+
+        return ServiceScope.SINGLETON;
+    }
+
+    /**
+     * Counts a call in on the current snapshot. The snapshot is checked again after counting the call,
+     * so a snapshot that is replaced meanwhile is never used once it has been seen drained.
+     * Snapshots that do not count calls are returned as they are.
+     *
+     * @return the snapshot whose instance has to be called, {@link ServiceInstanceSnapshot#exit()} has to be
+     * called on it once the call is finished.
+     */
+    public ServiceInstanceSnapshot enterInstance() {
+        ServiceInstanceSnapshot instanceSnapshot = this.instanceSnapshot;
+        if (!instanceSnapshot.countsCalls()) {
+            return instanceSnapshot;
+        }
+
+        while (true) {
+            instanceSnapshot.enter();
+            if (instanceSnapshot == this.instanceSnapshot) {
+                return instanceSnapshot;
+            }
+
+            instanceSnapshot.exit();
+            instanceSnapshot = this.instanceSnapshot;
+        }
+    }
+
+    /**
+     * @return the proxy instance or the actual instance if the service has no proxy.
+     */
+    public Object getProxyInstance() {
+        if (this.proxyInstance != null) {
+            return this.proxyInstance;
+        }
+
+        return this.getActualInstance();
+    }
+
+    public ServiceHandle<Object> getServiceHandle() {
+        return this.serviceHandle;
+    }
+
+    public boolean hasProxyInstance() {
+        return this.proxyInstance != null;
+    }
+
+    public void setProxyInstance(Object proxyInstance) {
+        if (this.proxyInstance != null) {
+            throw new IllegalArgumentException(PROXY_ALREADY_CREATED_MSG);
+        }
+
+        this.proxyInstance = proxyInstance;
+        this.serviceHandle.refresh();
+    }
+
+    public Method getPostConstructMethod() {
+        return postConstructMethod;
+    }
+
+    public void setPostConstructMethod(Method postConstructMethod) {
+        this.postConstructMethod = postConstructMethod;
+    }
+
+    public Method getPreDestroyMethod() {
+        return preDestroyMethod;
+    }
+
+    public void setPreDestroyMethod(Method preDestroyMethod) {
+        this.preDestroyMethod = preDestroyMethod;
+    }
+
+    public Method[] getBeans() {
+        return beans;
+    }
+
+    public void setBeans(Method[] beans) {
+        this.beans = beans;
+    }
+
+    public List<ServiceDetails> getDependentServices() {
+        return Collections.unmodifiableList(this.dependentServices);
+    }
+
+    public void addDependentServices(ServiceDetails dependentService) {
+        this.dependentServices.add(dependentService);
+    }
+
+    public ServiceDetails[] getDependencyProviders() {
+        return this.dependencyProviders;
+    }
+
+    public ServiceDetails[] getFieldDependencyProviders() {
+        return this.fieldDependencyProviders;
+    }
+
+    public Object[] getFieldDependencyProxies() {
+        return this.fieldDependencyProxies;
+    }
+
+    /**
+     * Keeps the dependencies chosen at startup, so reloads inject the same ones.
+     */
+    public void setDependencyProviders(ServiceDetails[] dependencyProviders,
+                                       ServiceDetails[] fieldDependencyProviders,
+                                       Object[] fieldDependencyProxies) {
+        this.dependencyProviders = dependencyProviders;
+        this.fieldDependencyProviders = fieldDependencyProviders;
+        this.fieldDependencyProxies = fieldDependencyProxies;
+    }
+
+    public ServiceMethodHandles getMethodHandles() {
+        return this.methodHandles;
+    }
+
+    public void setMethodHandles(ServiceMethodHandles methodHandles) {
+        this.methodHandles = methodHandles;
+    }
+
+    public ServiceFactory getServiceFactory() {
+        return this.serviceFactory;
+    }
+
+    public void setServiceFactory(ServiceFactory serviceFactory) {
+        this.serviceFactory = serviceFactory;
+    }
+
+    /**
+     * We are using the serviceType hashcode in order to make this class unique
+     * when using in in sets.
+     *
+     * @return hashcode.
+     */
+    @Override
+    public int hashCode() {
+        if (this.serviceType == null) {
+            return super.hashCode();
+        }
+
+        return this.serviceType.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        if (this.serviceType == null) {
+            return super.toString();
+        }
+
+        return this.serviceType.getName();
+    }
+}
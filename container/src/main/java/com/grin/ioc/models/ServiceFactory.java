@@ -0,0 +1,24 @@
+package com.grin.ioc.models;
+
+/**
+ * Factory generated for a service that calls its constructor, assigns its
+ * {@link com.grin.ioc.annotations.Autowired} fields and invokes its post construct method directly.
+ */
+public interface ServiceFactory {
+
+    /**
+     * @param constructorParams instantiated dependencies in the order of the target constructor parameters.
+     * @return new instance of the service.
+     */
+    Object createInstance(Object[] constructorParams);
+
+    /**
+     * @param autowiredFieldInstances instances in the order of the autowired fields of the service.
+     */
+    void setAutowiredFields(Object instance, Object[] autowiredFieldInstances);
+
+    /**
+     * Does nothing if the service has no post construct method.
+     */
+    void invokePostConstruct(Object instance);
+}
@@ -0,0 +1,59 @@
+package com.grin.ioc.models;
+
+/**
+ * Resolved reference to a service that always returns its current instance.
+ *
+ * <p>
+ * The instance is refreshed by the {@link ServiceDetails} of the service whenever its instance
+ * or proxy changes, so reading it is a single volatile read without any lookup.
+ * Services without a single instance, like prototypes, are looked up on every call.
+ *
+ * @param <T> type under which the service was requested.
+ */
+public class ServiceHandle<T> {
+
+    private final ServiceDetails serviceDetails;
+
+    /**
+     * The proxy of the service or its actual instance if it has no proxy, null if there is no single instance.
+     */
+    private volatile T instance;
+
+    ServiceHandle(ServiceDetails serviceDetails) {
+        this.serviceDetails = serviceDetails;
+    }
+
+    /**
+     * @return the proxy of the service or its current instance if it has no proxy.
+     */
+    @SuppressWarnings("unchecked")
+    public T get() {
+        T instance = this.instance;
+        if (instance != null) {
+            return instance;
+        }
+
+        return (T) this.serviceDetails.getProxyInstance();
+    }
+
+    public ServiceDetails getServiceDetails() {
+        return this.serviceDetails;
+    }
+
+    /**
+     * Caches the current instance again until the snapshot did not change meanwhile,
+     * so concurrent refreshes always end with the instance of the last published snapshot.
+     */
+    @SuppressWarnings("unchecked")
+    void refresh() {
+        ServiceInstanceSnapshot instanceSnapshot;
+        do {
+            instanceSnapshot = this.serviceDetails.getInstanceSnapshot();
+            if (this.serviceDetails.hasProxyInstance() || instanceSnapshot.hasSingleInstance()) {
+                this.instance = (T) this.serviceDetails.getProxyInstance();
+            } else {
+                this.instance = null;
+            }
+        } while (instanceSnapshot != this.serviceDetails.getInstanceSnapshot());
+    }
+}
@@ -0,0 +1,113 @@
+package com.grin.ioc.models;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+/**
+ * Simple POJO class that keeps the result of mapping a service by name only,
+ * so it can be stored in an index and turned back into {@link ServiceDetails}
+ * without scanning the service class again.
+ *
+ * <p>
+ * Members that can be declared in a super class are stored as "declaringClass#memberName".
+ */
+public class ServiceIndexEntry {
+    public static final String MEMBER_SEPARATOR = "#";
+
+    /**
+     * Binary name of the service class.
+     */
+    private String className;
+
+    /**
+     * Binary name of the annotation used to map the service or null.
+     */
+    private String annotationType;
+
+    /**
+     * Binary names of the parameter types of the target constructor.
+     */
+    private String[] constructorParameterTypes;
+
+    private String postConstructMethod;
+
+    private String preDestroyMethod;
+
+    /**
+     * Names of the bean methods, they are always declared in the service class.
+     */
+    private String[] beanMethods;
+
+    private String[] autowiredFields;
+
+    public ServiceIndexEntry(String className,
+                             String annotationType,
+                             String[] constructorParameterTypes,
+                             String postConstructMethod,
+                             String preDestroyMethod,
+                             String[] beanMethods,
+                             String[] autowiredFields) {
+        this.className = className;
+        this.annotationType = annotationType;
+        this.constructorParameterTypes = constructorParameterTypes;
+        this.postConstructMethod = postConstructMethod;
+        this.preDestroyMethod = preDestroyMethod;
+        this.beanMethods = beanMethods;
+        this.autowiredFields = autowiredFields;
+    }
+
+    public ServiceIndexEntry(ServiceDetails serviceDetails) {
+        this(
+                serviceDetails.getServiceType().getName(),
+                serviceDetails.getAnnotation() == null ? null : serviceDetails.getAnnotation().annotationType().getName(),
+                Arrays.stream(serviceDetails.getTargetConstructor().getParameterTypes()).map(Class::getName).toArray(String[]::new),
+                toMemberReference(serviceDetails.getPostConstructMethod()),
+                toMemberReference(serviceDetails.getPreDestroyMethod()),
+                Arrays.stream(serviceDetails.getBeans()).map(Method::getName).toArray(String[]::new),
+                Arrays.stream(serviceDetails.getAutowireAnnotatedFields())
+                        .map(field -> field.getDeclaringClass().getName() + MEMBER_SEPARATOR + field.getName())
+                        .toArray(String[]::new)
+        );
+    }
+
+    private static String toMemberReference(Method method) {
+        if (method == null) {
+            return null;
+        }
+
+        return method.getDeclaringClass().getName() + MEMBER_SEPARATOR + method.getName();
+    }
+
+    public String getClassName() {
+        return this.className;
+    }
+
+    public String getAnnotationType() {
+        return this.annotationType;
+    }
+
+    public String[] getConstructorParameterTypes() {
+        return this.constructorParameterTypes;
+    }
+
+    public String getPostConstructMethod() {
+        return this.postConstructMethod;
+    }
+
+    public String getPreDestroyMethod() {
+        return this.preDestroyMethod;
+    }
+
+    public String[] getBeanMethods() {
+        return this.beanMethods;
+    }
+
+    public String[] getAutowiredFields() {
+        return this.autowiredFields;
+    }
+
+    @Override
+    public String toString() {
+        return this.className;
+    }
+}
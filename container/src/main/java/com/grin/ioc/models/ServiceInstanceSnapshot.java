@@ -0,0 +1,177 @@
+package com.grin.ioc.models;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Immutable published instance of a service together with the calls that are currently running on it.
+ *
+ * <p>
+ * Calls through proxies are counted in striped counters, one stripe per group of threads, so that concurrent
+ * calls rarely touch the same cache line. A thread always counts a call in and out of the same stripe,
+ * so no stripe is ever lower than the number of its running calls and a zero sum means there are none.
+ * Calls are only counted if the instance has to be destroyed once they are done, a proxy call on any other
+ * snapshot is a read of its instance.
+ *
+ * <p>
+ * Snapshots of services that are not singletons create their instances on demand, see the subclasses.
+ */
+public class ServiceInstanceSnapshot {
+
+    /**
+     * Number of longs between two stripes so that every stripe is on its own cache line.
+     */
+    private static final int STRIPE_PADDING = 8;
+
+    /**
+     * At least two, so a per core call that blocks never stalls every other per core call on a single processor.
+     */
+    private static final int STRIPES = Math.min(
+            Integer.highestOneBit(Math.max(2, Runtime.getRuntime().availableProcessors() * 2 - 1)),
+            64
+    );
+
+    private final Object instance;
+
+    /**
+     * Null if calls are not counted.
+     */
+    private final AtomicLongArray runningCalls;
+
+    /**
+     * Thread waiting for the running calls to finish, unparked by every call that exits meanwhile.
+     */
+    private volatile Thread drainWaiter;
+
+    public ServiceInstanceSnapshot(Object instance) {
+        this(instance, true);
+    }
+
+    /**
+     * @param countsCalls whether calls through proxies are counted, so that the instance can be destroyed
+     *                    once they are done. If false, the snapshot is always drained.
+     */
+    public ServiceInstanceSnapshot(Object instance, boolean countsCalls) {
+        this.instance = instance;
+        this.runningCalls = countsCalls ? new AtomicLongArray(STRIPES * STRIPE_PADDING) : null;
+    }
+
+    public Object getInstance() {
+        return this.instance;
+    }
+
+    /**
+     * @return true if every call of {@link #getInstance()} returns the same instance.
+     */
+    public boolean hasSingleInstance() {
+        return true;
+    }
+
+    /**
+     * @return the instances created by this snapshot that have to be destroyed with it.
+     */
+    public Collection<Object> getInstances() {
+        if (this.instance == null) {
+            return List.of();
+        }
+
+        return List.of(this.instance);
+    }
+
+    /**
+     * @return true if calls through proxies are counted in and out of this snapshot.
+     */
+    public boolean countsCalls() {
+        return this.runningCalls != null;
+    }
+
+    /**
+     * Counts a call that has started on the current thread.
+     */
+    public void enter() {
+        if (this.runningCalls != null) {
+            this.runningCalls.getAndIncrement(stripe());
+        }
+    }
+
+    /**
+     * Counts a call that has finished on the current thread and wakes up the thread waiting for the snapshot to drain.
+     */
+    public void exit() {
+        if (this.runningCalls != null) {
+            this.runningCalls.getAndDecrement(stripe());
+
+            Thread drainWaiter = this.drainWaiter;
+            if (drainWaiter != null) {
+                LockSupport.unpark(drainWaiter);
+            }
+        }
+    }
+
+    /**
+     * @return true if no calls are running on the instance.
+     */
+    public boolean isDrained() {
+        if (this.runningCalls == null) {
+            return true;
+        }
+
+        for (int i = 0; i < this.runningCalls.length(); i += STRIPE_PADDING) {
+            if (this.runningCalls.get(i) != 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Parks until no calls are running on the instance. The waiting thread is published before the calls are summed
+     * and every exit reads it after counting out, so the last call either is seen to be done or unparks the waiter.
+     * Only one thread may wait at a time.
+     */
+    public void awaitDrained() {
+        this.drainWaiter = Thread.currentThread();
+        try {
+            while (!this.isDrained()) {
+                LockSupport.park(this);
+            }
+        } finally {
+            this.drainWaiter = null;
+        }
+    }
+
+    /**
+     * @return the stripe of the current thread, a thread always gets the same stripe.
+     */
+    protected static int getStripe() {
+        long threadId = Thread.currentThread().getId();
+        int hash = (int) (threadId ^ (threadId >>> 32)) * 0x9E3779B9;
+
+        return (hash >>> 16) & (STRIPES - 1);
+    }
+
+    protected static int getStripeCount() {
+        return STRIPES;
+    }
+
+    /**
+     * Destroys an instance that is dropped while the snapshot is in use. Failures of pre destroy methods are reported
+     * to the uncaught exception handler instead of failing the call that dropped the instance.
+     */
+    protected static void destroyInstance(Consumer<Object> instanceDestroyer, Object instance) {
+        try {
+            instanceDestroyer.accept(instance);
+        } catch (RuntimeException e) {
+            Thread thread = Thread.currentThread();
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+        }
+    }
+
+    private static int stripe() {
+        return getStripe() * STRIPE_PADDING;
+    }
+}
@@ -0,0 +1,59 @@
+package com.grin.ioc.models;
+
+import java.lang.invoke.MethodHandle;
+
+/**
+ * Method handles of a service that are created once and reused for every instance of the service.
+ *
+ * <p>
+ * All handles are adapted to {@link Object} parameter and return types so that they can be
+ * invoked exactly without knowing the service type.
+ */
+public class ServiceMethodHandles {
+
+    /**
+     * Constructor of type (Object[])Object or the origin method of type (Object)Object for beans.
+     */
+    private final MethodHandle factory;
+
+    /**
+     * Setters of type (Object,Object)void for each {@link com.grin.ioc.annotations.Autowired} field.
+     */
+    private final MethodHandle[] fieldSetters;
+
+    /**
+     * Post construct method of type (Object)void or null.
+     */
+    private final MethodHandle postConstruct;
+
+    /**
+     * Pre destroy method of type (Object)void or null.
+     */
+    private final MethodHandle preDestroy;
+
+    public ServiceMethodHandles(MethodHandle factory,
+                                MethodHandle[] fieldSetters,
+                                MethodHandle postConstruct,
+                                MethodHandle preDestroy) {
+        this.factory = factory;
+        this.fieldSetters = fieldSetters;
+        this.postConstruct = postConstruct;
+        this.preDestroy = preDestroy;
+    }
+
+    public MethodHandle getFactory() {
+        return this.factory;
+    }
+
+    public MethodHandle[] getFieldSetters() {
+        return this.fieldSetters;
+    }
+
+    public MethodHandle getPostConstruct() {
+        return this.postConstruct;
+    }
+
+    public MethodHandle getPreDestroy() {
+        return this.preDestroy;
+    }
+}
@@ -0,0 +1,89 @@
+package com.grin.ioc.models;
+
+/**
+ * Point in time metrics of the pool of a {@link com.grin.ioc.enums.ServiceScope#POOLED} service.
+ * Counters are totals since the pool was created, a reloaded service starts with a new pool.
+ */
+public class ServicePoolMetrics {
+
+    private final int size;
+
+    private final int idleCount;
+
+    private final long createdCount;
+
+    private final long evictedCount;
+
+    private final long borrowCount;
+
+    private final long waitCount;
+
+    private final long timeoutCount;
+
+    public ServicePoolMetrics(int size,
+                              int idleCount,
+                              long createdCount,
+                              long evictedCount,
+                              long borrowCount,
+                              long waitCount,
+                              long timeoutCount) {
+        this.size = size;
+        this.idleCount = idleCount;
+        this.createdCount = createdCount;
+        this.evictedCount = evictedCount;
+        this.borrowCount = borrowCount;
+        this.waitCount = waitCount;
+        this.timeoutCount = timeoutCount;
+    }
+
+    /**
+     * @return number of instances of the pool, borrowed or idle.
+     */
+    public int getSize() {
+        return this.size;
+    }
+
+    public int getIdleCount() {
+        return this.idleCount;
+    }
+
+    public int getBorrowedCount() {
+        return Math.max(0, this.size - this.idleCount);
+    }
+
+    public long getCreatedCount() {
+        return this.createdCount;
+    }
+
+    public long getEvictedCount() {
+        return this.evictedCount;
+    }
+
+    public long getBorrowCount() {
+        return this.borrowCount;
+    }
+
+    /**
+     * @return number of borrows that had to wait because all instances were borrowed.
+     */
+    public long getWaitCount() {
+        return this.waitCount;
+    }
+
+    public long getTimeoutCount() {
+        return this.timeoutCount;
+    }
+
+    @Override
+    public String toString() {
+        return "ServicePoolMetrics{" +
+                "size=" + this.size +
+                ", idleCount=" + this.idleCount +
+                ", createdCount=" + this.createdCount +
+                ", evictedCount=" + this.evictedCount +
+                ", borrowCount=" + this.borrowCount +
+                ", waitCount=" + this.waitCount +
+                ", timeoutCount=" + this.timeoutCount +
+                '}';
+    }
+}
@@ -0,0 +1,12 @@
+package com.grin.ioc.models;
+
+/**
+ * Implemented by generated proxy classes that call the current instance of a service directly.
+ */
+public interface ServiceProxy {
+
+    /**
+     * @param serviceDetails service whose actual instance is called by the proxy.
+     */
+    void setProxiedServiceDetails(ServiceDetails serviceDetails);
+}
@@ -0,0 +1,92 @@
+package com.grin.ioc.models;
+
+import java.util.*;
+
+/**
+ * Index from types to the services and beans that can be assigned to them.
+ *
+ * <p>
+ * Every service is registered under its own type, all of its super classes and all interfaces
+ * they implement, so finding the services compatible with a type is a single lookup.
+ * Services of a type are kept in the order they were added.
+ */
+public class ServiceTypeIndex {
+
+    private final Map<Class<?>, List<ServiceDetails>> servicesByType;
+
+    public ServiceTypeIndex() {
+        this.servicesByType = new HashMap<>();
+    }
+
+    public ServiceTypeIndex(Collection<ServiceDetails> services) {
+        this();
+        services.forEach(this::addService);
+    }
+
+    public void addService(ServiceDetails serviceDetails) {
+        this.addService(serviceDetails, serviceDetails.getServiceType());
+    }
+
+    /**
+     * Registers the service under the given type and all of its supertypes.
+     * A service registered under a type right before is not registered again.
+     *
+     * @param serviceDetails given service.
+     * @param type           the type of the service or of one of its instances.
+     */
+    public void addService(ServiceDetails serviceDetails, Class<?> type) {
+        for (Class<?> supertype : collectSupertypes(type)) {
+            List<ServiceDetails> services = this.servicesByType.computeIfAbsent(supertype, key -> new ArrayList<>());
+            if (services.isEmpty() || services.get(services.size() - 1) != serviceDetails) {
+                services.add(serviceDetails);
+            }
+        }
+    }
+
+    /**
+     * @param type given type.
+     * @return services and beans that can be assigned to the given type or an empty list.
+     */
+    public List<ServiceDetails> getServices(Class<?> type) {
+        return Collections.unmodifiableList(this.servicesByType.getOrDefault(type, List.of()));
+    }
+
+    /**
+     * @return copy of the index with unmodifiable lists that can be read from any thread.
+     */
+    public Map<Class<?>, List<ServiceDetails>> toUnmodifiableMap() {
+        Map<Class<?>, List<ServiceDetails>> servicesByType = new HashMap<>();
+        this.servicesByType.forEach((type, services) -> servicesByType.put(type, List.copyOf(services)));
+
+        return Collections.unmodifiableMap(servicesByType);
+    }
+
+    /**
+     * @return the given type, its super classes and all of their interfaces.
+     * Interfaces are assignable to {@link Object} as well.
+     */
+    private static Set<Class<?>> collectSupertypes(Class<?> type) {
+        Set<Class<?>> supertypes = new LinkedHashSet<>();
+        Deque<Class<?>> types = new ArrayDeque<>();
+        types.add(type);
+
+        while (!types.isEmpty()) {
+            Class<?> current = types.removeFirst();
+            if (!supertypes.add(current)) {
+                continue;
+            }
+
+            if (current.getSuperclass() != null) {
+                types.addLast(current.getSuperclass());
+            }
+
+            types.addAll(Arrays.asList(current.getInterfaces()));
+        }
+
+        if (type.isInterface()) {
+            supertypes.add(Object.class);
+        }
+
+        return supertypes;
+    }
+}
@@ -0,0 +1,139 @@
+package com.grin.ioc.models;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Snapshot of a {@link com.grin.ioc.enums.ServiceScope#PER_CORE} service that creates
+ * one instance for each stripe on its first use on that stripe.
+ *
+ * <p>
+ * A call through a proxy holds the lock of one stripe until it returns, so an instance is never used by two threads
+ * at once. The call takes the stripe of its thread if it is free, otherwise the first free stripe after it,
+ * and waits for the stripe of its thread only if all stripes are busy. The stripe locks are shared by all per core
+ * services of all containers and nested calls keep the stripe of the outermost call, so a thread holds at most one
+ * stripe lock and calls between per core services cannot deadlock. Calls to different per core services on the same
+ * stripe are run one at a time as well, a call to one service blocks calls to another only if all stripes are busy.
+ */
+public class StripedInstanceSnapshot extends ServiceInstanceSnapshot {
+
+    private static final ReentrantLock[] STRIPE_LOCKS = createStripeLocks();
+
+    /**
+     * Stripe held by the current thread and the number of its calls through per core proxies.
+     */
+    private static final ThreadLocal<StripeLease> STRIPE_LEASES = ThreadLocal.withInitial(StripeLease::new);
+
+    private final Supplier<Object> instanceFactory;
+
+    private final AtomicReferenceArray<Object> stripeInstances;
+
+    public StripedInstanceSnapshot(Supplier<Object> instanceFactory) {
+        super(null);
+        this.instanceFactory = instanceFactory;
+        this.stripeInstances = new AtomicReferenceArray<>(getStripeCount());
+    }
+
+    @Override
+    public void enter() {
+        super.enter();
+
+        StripeLease stripeLease = STRIPE_LEASES.get();
+        if (stripeLease.depth++ == 0) {
+            stripeLease.stripe = lockStripe();
+        }
+    }
+
+    @Override
+    public void exit() {
+        StripeLease stripeLease = STRIPE_LEASES.get();
+        if (--stripeLease.depth == 0) {
+            STRIPE_LOCKS[stripeLease.stripe].unlock();
+        }
+
+        super.exit();
+    }
+
+    /**
+     * @return the instance of the stripe held by the current call, or of the stripe of the current thread
+     * outside of calls through proxies, created under the lock of the stripe.
+     */
+    @Override
+    public Object getInstance() {
+        StripeLease stripeLease = STRIPE_LEASES.get();
+        int stripe = stripeLease.depth > 0 ? stripeLease.stripe : getStripe();
+
+        Object instance = this.stripeInstances.get(stripe);
+        if (instance != null) {
+            return instance;
+        }
+
+        ReentrantLock stripeLock = STRIPE_LOCKS[stripe];
+        stripeLock.lock();
+        try {
+            instance = this.stripeInstances.get(stripe);
+            if (instance == null) {
+                instance = this.instanceFactory.get();
+                this.stripeInstances.set(stripe, instance);
+            }
+
+            return instance;
+        } finally {
+            stripeLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean hasSingleInstance() {
+        return false;
+    }
+
+    @Override
+    public Collection<Object> getInstances() {
+        List<Object> instances = new ArrayList<>();
+        for (int i = 0; i < this.stripeInstances.length(); i++) {
+            if (this.stripeInstances.get(i) != null) {
+                instances.add(this.stripeInstances.get(i));
+            }
+        }
+
+        return instances;
+    }
+
+    /**
+     * @return the stripe of the current thread or the first free one after it, locked.
+     */
+    private static int lockStripe() {
+        int stripe = getStripe();
+        for (int i = 0; i < STRIPE_LOCKS.length; i++) {
+            int candidate = (stripe + i) & (STRIPE_LOCKS.length - 1);
+            if (STRIPE_LOCKS[candidate].tryLock()) {
+                return candidate;
+            }
+        }
+
+        STRIPE_LOCKS[stripe].lock();
+
+        return stripe;
+    }
+
+    private static ReentrantLock[] createStripeLocks() {
+        ReentrantLock[] stripeLocks = new ReentrantLock[getStripeCount()];
+        for (int i = 0; i < stripeLocks.length; i++) {
+            stripeLocks[i] = new ReentrantLock();
+        }
+
+        return stripeLocks;
+    }
+
+    private static class StripeLease {
+
+        private int stripe;
+
+        private int depth;
+    }
+}
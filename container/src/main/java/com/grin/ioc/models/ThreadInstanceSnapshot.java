@@ -0,0 +1,102 @@
+package com.grin.ioc.models;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Snapshot of a {@link com.grin.ioc.enums.ServiceScope#THREAD} service that creates
+ * one instance for each thread on its first call.
+ *
+ * <p>
+ * The snapshot keeps the instance of a thread only as long as the thread is alive, it refers to the thread weakly.
+ * Instances of threads that have terminated are destroyed when another thread creates its instance
+ * or when {@link #destroyInstancesOfTerminatedThreads()} is called, the instances of live threads
+ * are destroyed with the snapshot.
+ */
+public class ThreadInstanceSnapshot extends ServiceInstanceSnapshot {
+
+    private final Supplier<Object> instanceFactory;
+
+    private final Consumer<Object> instanceDestroyer;
+
+    private final ThreadLocal<ThreadInstance> threadInstances;
+
+    /**
+     * Instances of all threads that have not been destroyed yet.
+     */
+    private final Queue<ThreadInstance> createdInstances;
+
+    public ThreadInstanceSnapshot(Supplier<Object> instanceFactory, Consumer<Object> instanceDestroyer) {
+        super(null);
+        this.instanceFactory = instanceFactory;
+        this.instanceDestroyer = instanceDestroyer;
+        this.createdInstances = new ConcurrentLinkedQueue<>();
+        this.threadInstances = ThreadLocal.withInitial(this::createThreadInstance);
+    }
+
+    @Override
+    public Object getInstance() {
+        return this.threadInstances.get().instance;
+    }
+
+    @Override
+    public boolean hasSingleInstance() {
+        return false;
+    }
+
+    /**
+     * @return the instances of the threads that are alive and of the terminated threads that have not been destroyed yet.
+     */
+    @Override
+    public Collection<Object> getInstances() {
+        List<Object> instances = new ArrayList<>();
+        for (ThreadInstance threadInstance : this.createdInstances) {
+            instances.add(threadInstance.instance);
+        }
+
+        return instances;
+    }
+
+    /**
+     * Destroys and forgets the instances of the threads that have terminated.
+     */
+    public void destroyInstancesOfTerminatedThreads() {
+        for (ThreadInstance threadInstance : this.createdInstances) {
+            if (!threadInstance.isThreadAlive() && this.createdInstances.remove(threadInstance)) {
+                destroyInstance(this.instanceDestroyer, threadInstance.instance);
+            }
+        }
+    }
+
+    private ThreadInstance createThreadInstance() {
+        this.destroyInstancesOfTerminatedThreads();
+
+        ThreadInstance threadInstance = new ThreadInstance(Thread.currentThread(), this.instanceFactory.get());
+        this.createdInstances.add(threadInstance);
+
+        return threadInstance;
+    }
+
+    private static class ThreadInstance {
+
+        private final WeakReference<Thread> thread;
+
+        private final Object instance;
+
+        private ThreadInstance(Thread thread, Object instance) {
+            this.thread = new WeakReference<>(thread);
+            this.instance = instance;
+        }
+
+        private boolean isThreadAlive() {
+            Thread thread = this.thread.get();
+            return thread != null && thread.isAlive();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.grin.ioc.services;
+
+import com.grin.ioc.exceptions.ClassLocationException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Service for deciding whether a class file should be loaded, based on its bytecode only.
+ */
+public interface ClassFileFilter {
+
+    /**
+     * @param classFile the bytes of the class file.
+     * @return true if the class is annotated with a service annotation or an alias for one.
+     */
+    boolean isServiceCandidate(ByteBuffer classFile) throws ClassLocationException;
+}
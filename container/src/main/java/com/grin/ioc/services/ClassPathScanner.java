@@ -0,0 +1,28 @@
+package com.grin.ioc.services;
+
+import com.grin.ioc.exceptions.ClassLocationException;
+
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Service for locating classes in the application context.
+ */
+public interface ClassPathScanner {
+
+    /**
+     * @param directory the given directory.
+     * @return a set of located classes.
+     */
+    Set<Class<?>> locateClasses(String directory) throws ClassLocationException;
+
+    /**
+     * Passes each located class to the given consumer as soon as it is loaded.
+     *
+     * @param directory     the given directory.
+     * @param classConsumer consumer for the located classes.
+     */
+    default void locateClasses(String directory, Consumer<Class<?>> classConsumer) throws ClassLocationException {
+        this.locateClasses(directory).forEach(classConsumer);
+    }
+}
@@ -2,6 +2,8 @@ package com.grin.ioc.services;
 
 import com.grin.ioc.exceptions.AlreadyInitializedException;
 import com.grin.ioc.models.ServiceDetails;
+import com.grin.ioc.models.ServiceHandle;
+import com.grin.ioc.models.ServicePoolMetrics;
 
 import java.lang.annotation.Annotation;
 import java.util.Collection;
@@ -14,13 +16,19 @@ public interface DependencyContainer {
 
     void reload(Class<?> serviceType);
 
+    void reloadAll(Collection<Class<?>> serviceTypes);
+
     void update(Object service);
 
     <T> T getService(Class<T> serviceType);
 
+    <T> ServiceHandle<T> getServiceHandle(Class<T> serviceType);
+
     ServiceDetails getServiceDetails(Class<?> serviceType);
 
-    Collection<Class<?>> getAllScannedClasses();
+    ServicePoolMetrics getPoolMetrics(Class<?> serviceType);
+
+    Collection<Class<?>> getAllLocatedClasses();
 
     Collection<ServiceDetails> getImplementations(Class<?> serviceType);
 
@@ -0,0 +1,20 @@
+package com.grin.ioc.services;
+
+import com.grin.ioc.exceptions.ServiceInstantiationException;
+import com.grin.ioc.models.ServiceDetails;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+public interface InstantiationServices {
+    List<ServiceDetails> instantiateServicesAndBeans(Set<ServiceDetails> mappedServices) throws ServiceInstantiationException;
+
+    /**
+     * @param mappedServices       provided services and their details.
+     * @param instantiatedServices mapped services that already have their instances, only their beans are created.
+     * @return list of all instantiated services and beans.
+     */
+    List<ServiceDetails> instantiateServicesAndBeans(Set<ServiceDetails> mappedServices,
+                                                     Collection<ServiceDetails> instantiatedServices) throws ServiceInstantiationException;
+}
\ No newline at end of file
@@ -10,8 +10,14 @@ public interface ObjectInstantiationService {
 
     void createInstance(ServiceDetails serviceDetails, Object[] constructorParams, Object[] autowiredFieldInstances) throws ServiceInstantiationException;
 
+    Object newInstance(ServiceDetails serviceDetails, Object[] constructorParams, Object[] autowiredFieldInstances) throws ServiceInstantiationException;
+
     void createBeanInstance(ServiceBeanDetails serviceBeanDetails) throws BeanInstantiationException;
 
+    Object newBeanInstance(ServiceBeanDetails serviceBeanDetails, Object rootInstance) throws BeanInstantiationException;
+
     void destroyInstance(ServiceDetails serviceDetails) throws PreDestroyException;
 
+    void destroyInstance(ServiceDetails serviceDetails, Object instance) throws PreDestroyException;
+
 }
\ No newline at end of file
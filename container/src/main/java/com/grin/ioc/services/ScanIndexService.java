@@ -0,0 +1,17 @@
+package com.grin.ioc.services;
+
+import com.grin.ioc.exceptions.ScanIndexException;
+import com.grin.ioc.models.ScanIndex;
+
+/**
+ * Service for persisting scan and mapping results between runs.
+ */
+public interface ScanIndexService {
+
+    /**
+     * @return the stored index or an empty one if there is no valid index for the current configuration.
+     */
+    ScanIndex readIndex();
+
+    void writeIndex(ScanIndex scanIndex) throws ScanIndexException;
+}
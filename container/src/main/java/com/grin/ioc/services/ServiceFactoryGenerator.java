@@ -0,0 +1,17 @@
+package com.grin.ioc.services;
+
+import com.grin.ioc.models.ServiceDetails;
+import com.grin.ioc.models.ServiceFactory;
+
+/**
+ * Service for generating a {@link ServiceFactory} class for a service at runtime.
+ */
+public interface ServiceFactoryGenerator {
+
+    /**
+     * @param serviceDetails the given service.
+     * @return new factory for the service or null if the generated class could not access
+     * the constructor, the autowired fields or the post construct method of the service.
+     */
+    ServiceFactory generateServiceFactory(ServiceDetails serviceDetails);
+}
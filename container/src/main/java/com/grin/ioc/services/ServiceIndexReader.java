@@ -0,0 +1,20 @@
+package com.grin.ioc.services;
+
+import com.grin.ioc.exceptions.ClassLocationException;
+import com.grin.ioc.models.Directory;
+import com.grin.ioc.models.ServiceIndexEntry;
+
+import java.util.Map;
+
+/**
+ * Service for reading the service index written at compile time by the annotation processor.
+ */
+public interface ServiceIndexReader {
+
+    /**
+     * @param directory the given directory or jar file.
+     * @return indexed services and their classes or null if the directory has no service index
+     * or its index was not written with all configured service and bean annotations.
+     */
+    Map<Class<?>, ServiceIndexEntry> readServiceIndex(Directory directory) throws ClassLocationException;
+}
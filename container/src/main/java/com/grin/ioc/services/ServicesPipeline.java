@@ -0,0 +1,36 @@
+package com.grin.ioc.services;
+
+import com.grin.ioc.models.ServiceDetails;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Service for mapping located classes while they are still being located.
+ *
+ * <p>
+ * Located classes are passed to {@link #accept(Object)} by the scanners,
+ * services without dependencies are instantiated as soon as they are mapped.
+ * All other services are left to {@link InstantiationServices}.
+ */
+public interface ServicesPipeline extends Consumer<Class<?>>, AutoCloseable {
+
+    /**
+     * Waits until all accepted classes are mapped and the services without dependencies are instantiated.
+     *
+     * @return set or services and their collected details.
+     */
+    Set<ServiceDetails> awaitMappedServices();
+
+    /**
+     * @return mapped services that are already instantiated, available after {@link #awaitMappedServices()}.
+     */
+    Collection<ServiceDetails> getInstantiatedServices();
+
+    /**
+     * Stops all workers, accepted classes that are not mapped yet are discarded.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,34 @@
+package com.grin.ioc.services;
+
+import com.grin.ioc.models.ServiceDetails;
+import com.grin.ioc.models.ServiceIndexEntry;
+
+import java.util.Map;
+import java.util.Set;
+
+public interface ServicesScanningService {
+
+    Set<ServiceDetails> mapServices(Set<Class<?>> locatedClasses);
+
+    /**
+     * @param locatedClasses  given set of classes.
+     * @param indexedServices entries of the located classes that were indexed at compile time.
+     * @return set or services and their collected details.
+     */
+    Set<ServiceDetails> mapServices(Set<Class<?>> locatedClasses, Map<Class<?>, ServiceIndexEntry> indexedServices);
+
+    /**
+     * Maps a single located class, can be called concurrently for different classes.
+     *
+     * @param cls            the located class.
+     * @param indexedService entry of the class indexed at compile time or null.
+     * @return service details or null if the class is not a service.
+     */
+    ServiceDetails mapService(Class<?> cls, ServiceIndexEntry indexedService);
+
+    /**
+     * @return details of the additional classes provided by the client.
+     */
+    Set<ServiceDetails> mapAdditionalServices();
+
+}
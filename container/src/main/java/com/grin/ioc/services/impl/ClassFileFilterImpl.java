@@ -0,0 +1,106 @@
+package com.grin.ioc.services.impl;
+
+import com.grin.ioc.annotations.AliasFor;
+import com.grin.ioc.annotations.Service;
+import com.grin.ioc.config.DIConfiguration;
+import com.grin.ioc.constants.Constants;
+import com.grin.ioc.exceptions.ClassLocationException;
+import com.grin.ioc.models.ClassFileDetails;
+import com.grin.ioc.services.ClassFileFilter;
+import com.grin.ioc.utils.ClassFileParser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.nio.ByteBuffer;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link ClassFileFilter} implementation.
+ *
+ * <p>
+ * Compares the annotations read from the class file with the configured service annotations.
+ * Unknown annotations are resolved through their own class file, which is read as a resource
+ * from the ClassLoader, to check whether they are {@link AliasFor} one of the service annotations.
+ */
+public class ClassFileFilterImpl implements ClassFileFilter {
+
+    private static final String JAVA_PACKAGE_PREFIX = "java.";
+
+    private final Set<String> serviceAnnotations;
+
+    private final ClassLoader classLoader;
+
+    /**
+     * Cache for annotation types that have already been resolved.
+     * Value is true if the annotation is an alias for a service annotation.
+     */
+    private final Map<String, Boolean> resolvedAliases;
+
+    public ClassFileFilterImpl(DIConfiguration configuration) {
+        this.serviceAnnotations = new HashSet<>();
+        this.serviceAnnotations.add(Service.class.getName());
+        for (Class<? extends Annotation> serviceAnnotation : configuration.annotations().getServiceAnnotations()) {
+            this.serviceAnnotations.add(serviceAnnotation.getName());
+        }
+
+        this.classLoader = configuration.annotations().getClassLoader();
+        this.resolvedAliases = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Interfaces, enums and annotations are never considered services.
+     */
+    @Override
+    public boolean isServiceCandidate(ByteBuffer classFile) throws ClassLocationException {
+        ClassFileDetails classFileDetails = ClassFileParser.parse(classFile);
+
+        int nonServiceFlags = ClassFileParser.ACC_INTERFACE | ClassFileParser.ACC_ENUM | ClassFileParser.ACC_ANNOTATION;
+        if ((classFileDetails.getAccessFlags() & nonServiceFlags) != 0) {
+            return false;
+        }
+
+        for (String annotationType : classFileDetails.getAnnotations().keySet()) {
+            if (this.serviceAnnotations.contains(annotationType) || this.isServiceAlias(annotationType)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private boolean isServiceAlias(String annotationType) {
+        if (annotationType.startsWith(JAVA_PACKAGE_PREFIX)) {
+            return false;
+        }
+
+        return this.resolvedAliases.computeIfAbsent(annotationType, this::resolveAlias);
+    }
+
+    /**
+     * Reads the class file of the given annotation and checks if it is annotated
+     * with {@link AliasFor} having one of the service annotations as value.
+     *
+     * @param annotationType binary name of the annotation.
+     * @return true if the annotation is an alias for a service annotation.
+     */
+    private boolean resolveAlias(String annotationType) {
+        String resourceName = annotationType.replace('.', '/') + Constants.CLASS_FILE_EXTENSION;
+
+        try (InputStream inputStream = this.classLoader.getResourceAsStream(resourceName)) {
+            if (inputStream == null) {
+                return false;
+            }
+
+            ClassFileDetails annotationDetails = ClassFileParser.parse(ByteBuffer.wrap(inputStream.readAllBytes()));
+            String aliasValue = annotationDetails.getAnnotations().get(AliasFor.class.getName());
+
+            return aliasValue != null && this.serviceAnnotations.contains(aliasValue);
+        } catch (IOException e) {
+            throw new ClassLocationException(e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.grin.ioc.services.impl;
+
+import com.grin.ioc.config.DIConfiguration;
+import com.grin.ioc.constants.Constants;
+import com.grin.ioc.enums.ScanningMode;
+import com.grin.ioc.exceptions.ClassLocationException;
+import com.grin.ioc.services.ClassFileFilter;
+import com.grin.ioc.services.ClassPathScanner;
+import com.grin.ioc.utils.PackageFilter;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * ClassPathScanner implementation for directories.
+ *
+ * User recursion to scan all files in the source root directory and filters
+ * those that are classes (end with ".class")
+ */
+public class ClassPathScannerForDirectory implements ClassPathScanner {
+    private static final String INVALID_DIRECTORY_MSG = "Invalid directory '%s'.";
+
+    private final Set<Class<?>> locatedClasses;
+
+    private final ClassLoader classLoader;
+
+    /**
+     * Filter for class files, present only when {@link ScanningMode#BYTECODE} is configured.
+     */
+    private final ClassFileFilter classFileFilter;
+
+    /**
+     * Filter for packages, every package is scanned if no packages are configured.
+     */
+    private final PackageFilter packageFilter;
+
+    public ClassPathScannerForDirectory(DIConfiguration configuration) {
+        this.locatedClasses = new HashSet<>();
+        this.classLoader = configuration.annotations().getClassLoader();
+
+        this.classFileFilter = configuration.scanning().getScanningMode() == ScanningMode.BYTECODE
+                ? new ClassFileFilterImpl(configuration)
+                : null;
+
+        this.packageFilter = new PackageFilter(
+                configuration.annotations().getIncludedPackages(),
+                configuration.annotations().getExcludedPackages()
+        );
+    }
+
+    @Override
+    public Set<Class<?>> locateClasses(String directory) throws ClassLocationException {
+        this.locatedClasses.clear();
+        this.locateClasses(directory, this.locatedClasses::add);
+
+        return this.locatedClasses;
+    }
+
+    @Override
+    public void locateClasses(String directory, Consumer<Class<?>> classConsumer) throws ClassLocationException {
+        File file = new File(directory);
+
+        if (!file.isDirectory()) {
+            throw new ClassLocationException(String.format(INVALID_DIRECTORY_MSG, directory));
+        }
+
+        try {
+            for (File innerFile : file.listFiles()) {
+                this.scanDir(innerFile, "", classConsumer);
+            }
+        } catch (ClassNotFoundException | IOException e) {
+            throw new ClassLocationException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Recursive method for listing all files in a directory.
+     *
+     * Starts with empty package name - ""
+     * If the file is directory, for each sub file calls this method again
+     * with the package name having the current file's name and a dot "." appended
+     * in order to build a proper package name.
+     * Directories whose packages are filtered out are not listed.
+     *
+     * If the file is file and its name ends with ".class" it is loaded using the
+     * built package name and it is passed to the consumer of located classes.
+     * In {@link ScanningMode#BYTECODE} mode the file is read first and classes
+     * that are not service candidates are skipped without being loaded.
+     *
+     * @param file          the current file.
+     * @param packageName   the current package name.
+     * @param classConsumer consumer for the located classes.
+     */
+    private void scanDir(File file, String packageName, Consumer<Class<?>> classConsumer) throws ClassNotFoundException, IOException {
+        if (file.isDirectory()) {
+            packageName += file.getName() + ".";
+
+            if (!this.packageFilter.isPackageScanned(packageName)) {
+                return;
+            }
+
+            for (File innerFile : file.listFiles()) {
+                this.scanDir(innerFile, packageName, classConsumer);
+            }
+        } else {
+            if (!file.getName().endsWith(Constants.CLASS_FILE_EXTENSION)
+                    || !this.packageFilter.isClassIncluded(packageName)) {
+                return;
+            }
+
+            if (this.classFileFilter != null
+                    && !this.classFileFilter.isServiceCandidate(ByteBuffer.wrap(Files.readAllBytes(file.toPath())))) {
+                return;
+            }
+
+            String className = packageName + file.getName()
+                    .replace(Constants.CLASS_FILE_EXTENSION, "");
+
+            classConsumer.accept(Class.forName(className, true, this.classLoader));
+        }
+    }
+
+}
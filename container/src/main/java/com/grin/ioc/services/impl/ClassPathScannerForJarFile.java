@@ -0,0 +1,110 @@
+package com.grin.ioc.services.impl;
+
+import com.grin.ioc.config.DIConfiguration;
+import com.grin.ioc.constants.Constants;
+import com.grin.ioc.enums.ScanningMode;
+import com.grin.ioc.exceptions.ClassLocationException;
+import com.grin.ioc.services.ClassFileFilter;
+import com.grin.ioc.services.ClassPathScanner;
+import com.grin.ioc.utils.PackageFilter;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * ClassPathScanner implementation for jar files.
+ *
+ * <p>
+ * Creates a JarFile object from the jar file from which the application is
+ * executed and filters those entries have are class files.
+ */
+public class ClassPathScannerForJarFile implements ClassPathScanner {
+
+    private ClassLoader classLoader;
+
+    /**
+     * Filter for class files, present only when {@link ScanningMode#BYTECODE} is configured.
+     */
+    private ClassFileFilter classFileFilter;
+
+    /**
+     * Filter for packages, every package is scanned if no packages are configured.
+     */
+    private PackageFilter packageFilter;
+
+    public ClassPathScannerForJarFile(DIConfiguration configuration) {
+        this.classLoader = configuration.annotations().getClassLoader();
+
+        this.classFileFilter = configuration.scanning().getScanningMode() == ScanningMode.BYTECODE
+                ? new ClassFileFilterImpl(configuration)
+                : null;
+
+        this.packageFilter = new PackageFilter(
+                configuration.annotations().getIncludedPackages(),
+                configuration.annotations().getExcludedPackages()
+        );
+    }
+
+    /**
+     * Creates JarFile from the given directory.
+     *
+     * Iterates all entries and checks if the entry name ends with ".class".
+     * If that is the case and its package is not filtered out, adds the class to a set of located classes.
+     * In {@link ScanningMode#BYTECODE} mode the entry is read first and classes
+     * that are not service candidates are skipped without being loaded.
+     *
+     * @param directory the given directory to the jar file.
+     * @return a set of located classes.
+     */
+    @Override
+    public Set<Class<?>> locateClasses(String directory) throws ClassLocationException {
+        Set<Class<?>> classes = new HashSet<>();
+        this.locateClasses(directory, classes::add);
+
+        return classes;
+    }
+
+    @Override
+    public void locateClasses(String directory, Consumer<Class<?>> classConsumer) throws ClassLocationException {
+        try (JarFile jarFile = new JarFile(new File(directory))) {
+            Enumeration<JarEntry> entries = jarFile.entries();
+
+            while (entries.hasMoreElements()) {
+                JarEntry jarEntry = entries.nextElement();
+
+                if (!jarEntry.getName().endsWith(Constants.CLASS_FILE_EXTENSION)
+                        || !this.packageFilter.isClassIncluded(jarEntry.getName())) {
+                    continue;
+                }
+
+                if (this.classFileFilter != null && !this.isServiceCandidate(jarFile, jarEntry)) {
+                    continue;
+                }
+
+                String entryName = jarEntry.getName();
+                String className = entryName
+                        .substring(0, entryName.length() - Constants.CLASS_FILE_EXTENSION.length())
+                        .replace('\\', '.')
+                        .replace('/', '.');
+
+                classConsumer.accept(Class.forName(className, true, this.classLoader));
+            }
+        } catch (IOException | ClassNotFoundException e) {
+            throw new ClassLocationException(e.getMessage(), e);
+        }
+    }
+
+    private boolean isServiceCandidate(JarFile jarFile, JarEntry jarEntry) throws IOException {
+        try (InputStream inputStream = jarFile.getInputStream(jarEntry)) {
+            return this.classFileFilter.isServiceCandidate(ByteBuffer.wrap(inputStream.readAllBytes()));
+        }
+    }
+}
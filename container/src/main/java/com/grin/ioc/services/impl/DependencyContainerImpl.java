@@ -0,0 +1,824 @@
+package com.grin.ioc.services.impl;
+
+import com.grin.ioc.enums.ScanningMode;
+import com.grin.ioc.enums.ServiceScope;
+import com.grin.ioc.exceptions.AlreadyInitializedException;
+import com.grin.ioc.exceptions.CircularDependencyException;
+import com.grin.ioc.exceptions.ServiceInstantiationException;
+import com.grin.ioc.models.PooledInstanceSnapshot;
+import com.grin.ioc.models.ServiceBeanDetails;
+import com.grin.ioc.models.ServiceDetails;
+import com.grin.ioc.models.ServiceHandle;
+import com.grin.ioc.models.ServiceInstanceSnapshot;
+import com.grin.ioc.models.ServicePoolMetrics;
+import com.grin.ioc.models.ServiceTypeIndex;
+import com.grin.ioc.services.DependencyContainer;
+import com.grin.ioc.services.ObjectInstantiationService;
+import com.grin.ioc.utils.ScopeUtils;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Container for all services and beans.
+ *
+ * <p>
+ * Contains functionality for managing the application context
+ * by reloading or accessing certain services.
+ *
+ * <p>
+ * Lookups can be made from any number of threads. The services are indexed by all of their supertypes
+ * and by their annotations on init, so every lookup is a single read of an unmodifiable map
+ * that returns an unmodifiable list. Types and annotations that are not in the indexes have no services.
+ *
+ * <p>
+ * Reloads never leave a service without an instance. The replacements are created first and published
+ * with a single write each, calls that are already running through proxies finish on the previous instance.
+ * The previous instance is destroyed once those calls are done, on a background thread if they are
+ * still running, where PreDestroy failures are reported to its uncaught exception handler.
+ *
+ * <p>
+ * Dependant services that hold a changed instance directly are reloaded once each, in dependency order,
+ * together with the changed services. Services whose changed dependencies are all created are created in parallel.
+ * Nothing is published unless all of them are created. Reloads and updates from different threads run one after another.
+ */
+public class DependencyContainerImpl implements DependencyContainer {
+
+    private static final String ALREADY_INITIALIZED_MSG = "Dependency container already initialized.";
+    private static final String SERVICE_NOT_FOUND_FORMAT = "Service \"%s\" was not found.";
+    private static final String SCOPED_SERVICE_UPDATE_FORMAT = "Service \"%s\" is not a singleton and cannot be updated with a single instance.";
+    private static final String RELOAD_FAILED_MSG = "Could not reload %s services: \n %s";
+    private static final String CIRCULAR_RELOAD_MSG = "Could not reload services because of circular dependencies: \n %s";
+    private static final String DESTROY_THREAD_NAME = "grin-ioc-destroy";
+    private static final long DESTROY_THREAD_KEEP_ALIVE_SECONDS = 60;
+    private static final String RELOAD_THREAD_NAME = "grin-ioc-reload";
+    private static final long RELOAD_THREAD_KEEP_ALIVE_SECONDS = 60;
+
+    private boolean isInit;
+    private Collection<Class<?>> allLocatedClasses;
+    private Collection<ServiceDetails> servicesAndBeans;
+    private ObjectInstantiationService instantiationService;
+
+    /**
+     * Services by the supertypes of their types and of the classes of their proxy instances.
+     */
+    private Map<Class<?>, List<ServiceDetails>> servicesByType;
+
+    /**
+     * Services by the supertypes of their types.
+     */
+    private Map<Class<?>, List<ServiceDetails>> implementationsByType;
+
+    private Map<Class<? extends Annotation>, List<ServiceDetails>> servicesByAnnotation;
+
+    /**
+     * Destroys previous instances once the calls running on them are done.
+     * Its single thread is started only when needed.
+     */
+    private final ExecutorService destroyExecutor;
+
+    /**
+     * Executor on which independent dependant services are reloaded.
+     * Its threads are started only when needed, so user code never runs on the common pool.
+     */
+    private final Executor reloadExecutor;
+
+    /**
+     * Held while a reload batch stages and publishes its instances.
+     */
+    private final ReentrantLock reloadLock;
+
+    public DependencyContainerImpl() {
+        this(null);
+    }
+
+    /**
+     * @param reloadExecutor executor on which dependant services are reloaded in parallel,
+     *                       a pool of daemon threads owned by the container is used if null.
+     */
+    public DependencyContainerImpl(Executor reloadExecutor) {
+        this.isInit = false;
+        this.reloadExecutor = reloadExecutor == null ? createReloadExecutor() : reloadExecutor;
+        this.reloadLock = new ReentrantLock();
+        this.destroyExecutor = new ThreadPoolExecutor(
+                0,
+                1,
+                DESTROY_THREAD_KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, DESTROY_THREAD_NAME);
+                    thread.setDaemon(true);
+
+                    return thread;
+                }
+        );
+    }
+
+    /**
+     * One thread per processor at most, started on demand and stopped when idle.
+     */
+    private static ExecutorService createReloadExecutor() {
+        int threadCount = Runtime.getRuntime().availableProcessors();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                threadCount,
+                threadCount,
+                RELOAD_THREAD_KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, RELOAD_THREAD_NAME);
+                    thread.setDaemon(true);
+
+                    return thread;
+                }
+        );
+        executor.allowCoreThreadTimeOut(true);
+
+        return executor;
+    }
+
+    @Override
+    public void init(Collection<Class<?>> locatedClasses, Collection<ServiceDetails> servicesAndBeans, ObjectInstantiationService instantiationService) throws AlreadyInitializedException {
+        if (this.isInit) {
+            throw new AlreadyInitializedException(ALREADY_INITIALIZED_MSG);
+        }
+
+        this.allLocatedClasses = Collections.unmodifiableCollection(locatedClasses);
+        this.servicesAndBeans = Collections.unmodifiableCollection(servicesAndBeans);
+        this.instantiationService = instantiationService;
+
+        this.createIndexes();
+
+        this.isInit = true;
+    }
+
+    /**
+     * Indexes all services and beans in their order, so that the first service of each type
+     * is the first one that could be found by iterating them.
+     */
+    private void createIndexes() {
+        ServiceTypeIndex serviceTypeIndex = new ServiceTypeIndex();
+        ServiceTypeIndex implementationTypeIndex = new ServiceTypeIndex();
+
+        for (ServiceDetails serviceDetails : this.servicesAndBeans) {
+            serviceTypeIndex.addService(serviceDetails);
+            if (serviceDetails.hasProxyInstance() || serviceDetails.getInstanceSnapshot().hasSingleInstance()) {
+                Object instance = serviceDetails.getProxyInstance();
+                if (instance != null) {
+                    serviceTypeIndex.addService(serviceDetails, instance.getClass());
+                }
+            }
+
+            implementationTypeIndex.addService(serviceDetails);
+        }
+
+        this.servicesByType = serviceTypeIndex.toUnmodifiableMap();
+        this.implementationsByType = implementationTypeIndex.toUnmodifiableMap();
+        this.servicesByAnnotation = Map.copyOf(this.servicesAndBeans.stream()
+                .filter(sd -> sd.getAnnotation() != null)
+                .collect(Collectors.groupingBy(
+                        sd -> sd.getAnnotation().annotationType(),
+                        Collectors.toUnmodifiableList()
+                )));
+    }
+
+    /**
+     * Creates a new instance for a given service, publishes it and destroys the current one.
+     * If the new instance cannot be created, the current one is kept.
+     *
+     * @param serviceDetails - the given service.
+     */
+    @Override
+    public void reload(ServiceDetails serviceDetails) {
+        this.runReloadBatch(List.of(serviceDetails), null);
+    }
+
+    @Override
+    public void reload(Class<?> serviceType) {
+        this.reload(this.getExistingServiceDetails(serviceType));
+    }
+
+    /**
+     * Reloads all given services and the services affected by them as a single batch.
+     * Every affected service is created once, and the new instances are published together
+     * only after all of them were created. If any of them fails, none is published.
+     *
+     * @param serviceTypes - types of the services to reload.
+     */
+    @Override
+    public void reloadAll(Collection<Class<?>> serviceTypes) {
+        List<ServiceDetails> services = new ArrayList<>(serviceTypes.size());
+        for (Class<?> serviceType : serviceTypes) {
+            services.add(this.getExistingServiceDetails(serviceType));
+        }
+
+        this.runReloadBatch(services, null);
+    }
+
+    @Override
+    public void update(Object service) {
+        ServiceDetails serviceDetails = this.getServiceDetails(service.getClass());
+        if (serviceDetails == null) {
+            throw new IllegalArgumentException(String.format(SERVICE_NOT_FOUND_FORMAT, service));
+        }
+
+        if (serviceDetails.getScope() != ServiceScope.SINGLETON) {
+            throw new IllegalArgumentException(String.format(SCOPED_SERVICE_UPDATE_FORMAT, serviceDetails));
+        }
+
+        this.runReloadBatch(List.of(serviceDetails), service);
+    }
+
+    /**
+     * Runs one batch at a time, so concurrent batches never stage instances from the same current instances
+     * and every replaced snapshot is destroyed exactly once.
+     * Services must not reload services from their constructors or post construct methods.
+     *
+     * @param changedServices - services to reload.
+     * @param givenInstance   - instance of the single changed service or null if it is created.
+     */
+    private void runReloadBatch(Collection<ServiceDetails> changedServices, Object givenInstance) {
+        this.reloadLock.lock();
+        try {
+            ReloadBatch reloadBatch = new ReloadBatch(changedServices);
+            if (givenInstance != null) {
+                reloadBatch.stage(changedServices.iterator().next(), givenInstance);
+            }
+
+            reloadBatch.run();
+        } finally {
+            this.reloadLock.unlock();
+        }
+    }
+
+    private ServiceDetails getExistingServiceDetails(Class<?> serviceType) {
+        final ServiceDetails serviceDetails = this.getServiceDetails(serviceType);
+        if (serviceDetails == null) {
+            throw new IllegalArgumentException(String.format(SERVICE_NOT_FOUND_FORMAT, serviceType));
+        }
+
+        return serviceDetails;
+    }
+
+    /**
+     * Destroys the instances of a replaced snapshot right away if no calls are running on it,
+     * otherwise once they are done. The instances are collected only once the snapshot is drained,
+     * since calls that entered it before it was replaced may still create instances.
+     *
+     * @param serviceDetails   - the changed service.
+     * @param instanceSnapshot - the replaced snapshot.
+     */
+    private void destroyWhenDrained(ServiceDetails serviceDetails, ServiceInstanceSnapshot instanceSnapshot) {
+        if (instanceSnapshot.isDrained()) {
+            this.destroyInstances(serviceDetails, instanceSnapshot);
+            return;
+        }
+
+        this.destroyExecutor.execute(() -> this.awaitDrainedAndDestroy(serviceDetails, instanceSnapshot));
+    }
+
+    private void awaitDrainedAndDestroy(ServiceDetails serviceDetails, ServiceInstanceSnapshot instanceSnapshot) {
+        instanceSnapshot.awaitDrained();
+
+        try {
+            this.destroyInstances(serviceDetails, instanceSnapshot);
+        } catch (RuntimeException e) {
+            Thread thread = Thread.currentThread();
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+        }
+    }
+
+    private void destroyInstances(ServiceDetails serviceDetails, ServiceInstanceSnapshot instanceSnapshot) {
+        for (Object instance : instanceSnapshot.getInstances()) {
+            this.instantiationService.destroyInstance(serviceDetails, instance);
+        }
+    }
+
+    /**
+     * Service affected by a reload batch.
+     */
+    private static class ReloadNode {
+
+        private final ServiceDetails serviceDetails;
+
+        /**
+         * Affected services that have to be created after this one.
+         */
+        private final List<ReloadNode> dependantNodes;
+
+        /**
+         * Number of changed dependencies that are not created yet.
+         */
+        private final AtomicInteger pendingDependencies;
+
+        /**
+         * The new snapshot, set once before the dependant nodes are submitted.
+         */
+        private ServiceInstanceSnapshot stagedSnapshot;
+
+        private volatile boolean isStaged;
+
+        /**
+         * Whether the new snapshot was given instead of created by the batch.
+         */
+        private boolean isGiven;
+
+        private ReloadNode(ServiceDetails serviceDetails) {
+            this.serviceDetails = serviceDetails;
+            this.dependantNodes = new ArrayList<>();
+            this.pendingDependencies = new AtomicInteger();
+        }
+
+        private void addDependantNode(ReloadNode dependantNode) {
+            this.dependantNodes.add(dependantNode);
+            dependantNode.pendingDependencies.incrementAndGet();
+        }
+    }
+
+    /**
+     * Reload of some services and of the services affected by them.
+     *
+     * <p>
+     * The dependant services of a service that has no proxy hold its instance, so they are reloaded as well,
+     * and so on for those that have no proxy themselves. A bean is created after the service that declares it
+     * if both are reloaded. Each affected service counts its changed dependencies and is submitted once all
+     * of them are created, so every service is created exactly once and only after the instances it depends on.
+     * Independent services are created in parallel, a single one is created on the calling thread.
+     *
+     * <p>
+     * New instances are staged and injected into the affected services only. Once all of them are created,
+     * they are published in dependency order and the replaced instances are destroyed, dependant services first.
+     * If any service fails, the staged instances are destroyed and the current ones are kept.
+     */
+    private class ReloadBatch {
+
+        /**
+         * Affected services in breadth first order.
+         */
+        private final Map<ServiceDetails, ReloadNode> nodes;
+
+        private final Executor executor;
+
+        /**
+         * Nodes in the order their instances were staged.
+         */
+        private final List<ReloadNode> stagedNodes;
+
+        private final List<Map.Entry<ServiceDetails, Throwable>> failures;
+
+        /**
+         * Number of submitted services that are not done yet.
+         */
+        private final AtomicInteger pendingCount;
+
+        /**
+         * Released once no submitted service is running.
+         */
+        private final CountDownLatch doneLatch;
+
+        private ReloadBatch(Collection<ServiceDetails> changedServices) {
+            this.nodes = this.collectAffectedServices(changedServices);
+            this.executor = this.nodes.size() > 1 ? reloadExecutor : Runnable::run;
+            this.stagedNodes = Collections.synchronizedList(new ArrayList<>());
+            this.failures = Collections.synchronizedList(new ArrayList<>());
+            this.pendingCount = new AtomicInteger(1);
+            this.doneLatch = new CountDownLatch(1);
+        }
+
+        /**
+         * Walks the dependant services of the changed services, adding an edge
+         * from each affected service that has no proxy to each of its dependant services.
+         */
+        private Map<ServiceDetails, ReloadNode> collectAffectedServices(Collection<ServiceDetails> changedServices) {
+            Map<ServiceDetails, ReloadNode> nodes = new LinkedHashMap<>();
+            Deque<ReloadNode> queue = new ArrayDeque<>();
+            for (ServiceDetails changedService : changedServices) {
+                if (!nodes.containsKey(changedService)) {
+                    ReloadNode node = new ReloadNode(changedService);
+                    nodes.put(changedService, node);
+                    queue.addLast(node);
+                }
+            }
+
+            while (!queue.isEmpty()) {
+                ReloadNode node = queue.removeFirst();
+                if (node.serviceDetails.hasProxyInstance()) {
+                    continue;
+                }
+
+                for (ServiceDetails dependantService : node.serviceDetails.getDependentServices()) {
+                    ReloadNode dependantNode = nodes.get(dependantService);
+                    if (dependantNode == null) {
+                        dependantNode = new ReloadNode(dependantService);
+                        nodes.put(dependantService, dependantNode);
+                        queue.addLast(dependantNode);
+                    }
+
+                    node.addDependantNode(dependantNode);
+                }
+            }
+
+            for (ReloadNode node : nodes.values()) {
+                if (node.serviceDetails instanceof ServiceBeanDetails) {
+                    ReloadNode rootNode = nodes.get(((ServiceBeanDetails) node.serviceDetails).getRootService());
+                    if (rootNode != null) {
+                        rootNode.addDependantNode(node);
+                    }
+                }
+            }
+
+            return nodes;
+        }
+
+        /**
+         * Uses the given instance for a changed service instead of creating one.
+         */
+        private void stage(ServiceDetails serviceDetails, Object instance) {
+            ReloadNode node = this.nodes.get(serviceDetails);
+            node.stagedSnapshot = serviceDetails.newInstanceSnapshot(instance);
+            node.isGiven = true;
+        }
+
+        /**
+         * Creates the instances of all affected services, waits until they are done and publishes them.
+         *
+         * @throws ServiceInstantiationException with all failures as suppressed exceptions if any service failed.
+         * @throws CircularDependencyException   if some affected services were never submitted.
+         */
+        private void run() {
+            List<ReloadNode> readyNodes = this.nodes.values().stream()
+                    .filter(node -> node.pendingDependencies.get() == 0)
+                    .collect(Collectors.toList());
+            for (ReloadNode node : readyNodes) {
+                this.submit(node);
+            }
+
+            this.done();
+            this.awaitDone();
+
+            if (this.failures.isEmpty() && this.stagedNodes.size() != this.nodes.size()) {
+                this.discardStagedInstances();
+                throw new CircularDependencyException(String.format(
+                        CIRCULAR_RELOAD_MSG,
+                        this.nodes.values().stream()
+                                .filter(node -> node.pendingDependencies.get() > 0)
+                                .map(node -> node.serviceDetails.toString())
+                                .collect(Collectors.joining(", "))
+                ));
+            }
+
+            if (!this.failures.isEmpty()) {
+                this.discardStagedInstances();
+                this.throwFailures();
+            }
+
+            this.publish();
+        }
+
+        private void submit(ReloadNode node) {
+            if (!this.failures.isEmpty()) {
+                return;
+            }
+
+            this.pendingCount.incrementAndGet();
+            try {
+                this.executor.execute(() -> this.createInstance(node));
+            } catch (RejectedExecutionException e) {
+                this.fail(node.serviceDetails, e);
+                this.done();
+            }
+        }
+
+        private void createInstance(ReloadNode node) {
+            try {
+                if (this.failures.isEmpty()) {
+                    if (!node.isGiven) {
+                        node.stagedSnapshot = this.newInstanceSnapshot(node.serviceDetails);
+                    }
+                    node.isStaged = true;
+                    this.stagedNodes.add(node);
+
+                    this.resolveDependantNodes(node);
+                }
+            } catch (Throwable e) {
+                this.fail(node.serviceDetails, e);
+            } finally {
+                this.done();
+            }
+        }
+
+        /**
+         * Handles different types of service.
+         *
+         * <p>
+         * If the service is bean, it does not have a constructor, but an origin method.
+         *
+         * @param serviceDetails - target service.
+         * @return the new snapshot that is not set yet, with the instance created if the service is a singleton.
+         */
+        private ServiceInstanceSnapshot newInstanceSnapshot(ServiceDetails serviceDetails) {
+            if (serviceDetails instanceof ServiceBeanDetails) {
+                ServiceBeanDetails serviceBeanDetails = (ServiceBeanDetails) serviceDetails;
+                ReloadNode rootNode = this.nodes.get(serviceBeanDetails.getRootService());
+                ServiceInstanceSnapshot rootSnapshot = rootNode != null && rootNode.isStaged
+                        ? rootNode.stagedSnapshot
+                        : serviceBeanDetails.getRootService().getInstanceSnapshot();
+
+                return ScopeUtils.createBeanInstanceSnapshot(instantiationService, serviceBeanDetails, rootSnapshot::getInstance);
+            }
+
+            return ScopeUtils.createInstanceSnapshot(
+                    instantiationService,
+                    serviceDetails,
+                    this.collectDependencies(serviceDetails),
+                    this.collectAutowiredFieldsDependencies(serviceDetails)
+            );
+        }
+
+        /**
+         * Gets instances of all {@link com.grin.ioc.annotations.Autowired} annotated dependencies for a given service.
+         * Fields that got a proxy to break a circular dependency get the same proxy again.
+         *
+         * @param serviceDetails - the given service.
+         * @return array of instantiated dependencies.
+         */
+        private Object[] collectAutowiredFieldsDependencies(ServiceDetails serviceDetails) {
+            Field[] autowireAnnotatedFields = serviceDetails.getAutowireAnnotatedFields();
+            ServiceDetails[] providers = serviceDetails.getFieldDependencyProviders();
+            Object[] proxies = serviceDetails.getFieldDependencyProxies();
+            Object[] instances = new Object[autowireAnnotatedFields.length];
+
+            for (int i = 0; i < autowireAnnotatedFields.length; i++) {
+                if (providers == null) {
+                    instances[i] = this.getDependency(getServiceDetails(autowireAnnotatedFields[i].getType()));
+                } else if (proxies[i] != null) {
+                    instances[i] = proxies[i];
+                } else {
+                    instances[i] = this.getDependency(providers[i]);
+                }
+            }
+
+            return instances;
+        }
+
+        /**
+         * Gets instances of all required dependencies for a given service.
+         *
+         * @param serviceDetails - the given service.
+         * @return array of instantiated dependencies.
+         */
+        private Object[] collectDependencies(ServiceDetails serviceDetails) {
+            Class<?>[] parameterTypes = serviceDetails.getTargetConstructor().getParameterTypes();
+            ServiceDetails[] providers = serviceDetails.getDependencyProviders();
+            Object[] dependencyInstances = new Object[parameterTypes.length];
+
+            for (int i = 0; i < parameterTypes.length; i++) {
+                dependencyInstances[i] = this.getDependency(providers == null
+                        ? getServiceDetails(parameterTypes[i])
+                        : providers[i]);
+            }
+
+            return dependencyInstances;
+        }
+
+        /**
+         * Dependencies are the services and beans chosen at startup, services that were not instantiated
+         * by the container look their dependencies up by type.
+         *
+         * @return the staged instance of a dependency that has no proxy or the instance that is injected otherwise.
+         */
+        private Object getDependency(ServiceDetails dependency) {
+            if (dependency == null) {
+                return null;
+            }
+
+            ReloadNode node = this.nodes.get(dependency);
+            if (node != null && node.isStaged && !dependency.hasProxyInstance()) {
+                return node.stagedSnapshot.getInstance();
+            }
+
+            return dependency.getProxyInstance();
+        }
+
+        /**
+         * Resolves one dependency of each dependant node of a staged node
+         * and submits the ones that have no changed dependencies left.
+         */
+        private void resolveDependantNodes(ReloadNode node) {
+            for (ReloadNode dependantNode : node.dependantNodes) {
+                if (dependantNode.pendingDependencies.decrementAndGet() == 0) {
+                    this.submit(dependantNode);
+                }
+            }
+        }
+
+        private void fail(ServiceDetails serviceDetails, Throwable e) {
+            this.failures.add(Map.entry(serviceDetails, e));
+        }
+
+        private void done() {
+            if (this.pendingCount.decrementAndGet() == 0) {
+                this.doneLatch.countDown();
+            }
+        }
+
+        /**
+         * Waits for all submitted services. Interrupts do not stop the wait, since the staged instances
+         * can only be published or discarded once no service is being created anymore.
+         */
+        private void awaitDone() {
+            boolean isInterrupted = false;
+            while (true) {
+                try {
+                    this.doneLatch.await();
+                    break;
+                } catch (InterruptedException e) {
+                    isInterrupted = true;
+                }
+            }
+
+            if (isInterrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        /**
+         * Publishes all staged snapshots in the order they were created and destroys
+         * the replaced instances, dependant services before their dependencies.
+         */
+        private void publish() {
+            List<ServiceInstanceSnapshot> replacedSnapshots = new ArrayList<>(this.stagedNodes.size());
+            for (ReloadNode node : this.stagedNodes) {
+                replacedSnapshots.add(node.serviceDetails.swapInstanceSnapshot(node.stagedSnapshot));
+            }
+
+            for (int i = this.stagedNodes.size() - 1; i >= 0; i--) {
+                destroyWhenDrained(this.stagedNodes.get(i).serviceDetails, replacedSnapshots.get(i));
+            }
+        }
+
+        /**
+         * Destroys the instances that were created by this batch and will not be published.
+         * Failures are added to the failures of the batch.
+         */
+        private void discardStagedInstances() {
+            for (int i = this.stagedNodes.size() - 1; i >= 0; i--) {
+                ReloadNode node = this.stagedNodes.get(i);
+                if (node.isGiven) {
+                    continue;
+                }
+
+                try {
+                    destroyInstances(node.serviceDetails, node.stagedSnapshot);
+                } catch (RuntimeException e) {
+                    this.fail(node.serviceDetails, e);
+                }
+            }
+        }
+
+        /**
+         * @throws ServiceInstantiationException with all failures as suppressed exceptions.
+         */
+        private void throwFailures() {
+            ServiceInstantiationException exception = new ServiceInstantiationException(String.format(
+                    RELOAD_FAILED_MSG,
+                    this.failures.size(),
+                    this.failures.stream()
+                            .map(failure -> failure.getKey() + ": " + failure.getValue())
+                            .collect(Collectors.joining("\n "))
+            ), this.failures.get(0).getValue());
+
+            for (Map.Entry<ServiceDetails, Throwable> failure : this.failures.subList(1, this.failures.size())) {
+                exception.addSuppressed(failure.getValue());
+            }
+
+            throw exception;
+        }
+    }
+
+    /**
+     * Gets service instance for a given type.
+     *
+     * @param serviceType the given type.
+     * @param <T>         generic type.
+     * @return instance of the required service or null.
+     */
+    @Override
+    public <T> T getService(Class<T> serviceType) {
+        ServiceDetails serviceDetails = this.getServiceDetails(serviceType);
+
+        if (serviceDetails != null) {
+            return (T) serviceDetails.getProxyInstance();
+        }
+
+        return null;
+    }
+
+    /**
+     * Gets a handle for a given type that can be kept instead of looking up the service again.
+     * The handle follows reloads and updates of the service.
+     *
+     * @param serviceType the given type.
+     * @param <T>         generic type.
+     * @return handle of the required service or null.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> ServiceHandle<T> getServiceHandle(Class<T> serviceType) {
+        ServiceDetails serviceDetails = this.getServiceDetails(serviceType);
+
+        if (serviceDetails != null) {
+            return (ServiceHandle<T>) serviceDetails.getServiceHandle();
+        }
+
+        return null;
+    }
+
+    /**
+     * @param serviceType - the given service type.
+     * @return metrics of the current pool of the service or null if the service is not found or not pooled.
+     */
+    @Override
+    public ServicePoolMetrics getPoolMetrics(Class<?> serviceType) {
+        ServiceDetails serviceDetails = this.getServiceDetails(serviceType);
+
+        if (serviceDetails != null && serviceDetails.getInstanceSnapshot() instanceof PooledInstanceSnapshot) {
+            return ((PooledInstanceSnapshot) serviceDetails.getInstanceSnapshot()).getMetrics();
+        }
+
+        return null;
+    }
+
+    /**
+     * Gets service details object for a given service type.
+     *
+     * @param serviceType - the given service type.
+     * @return service details or null.
+     */
+    @Override
+    public ServiceDetails getServiceDetails(Class<?> serviceType) {
+        List<ServiceDetails> services = this.servicesByType.get(serviceType);
+        if (services == null) {
+            return null;
+        }
+
+        return services.get(0);
+    }
+
+    /**
+     * @return a collection of all classes that were located in the application
+     * including even classes that are not annotated with any annotation.
+     * In {@link ScanningMode#BYTECODE} only service classes are located and directories
+     * or jar files with a service index contribute only their indexed services.
+     */
+    @Override
+    public Collection<Class<?>> getAllLocatedClasses() {
+        return this.allLocatedClasses;
+    }
+
+    /**
+     * @param serviceType given interface.
+     * @return collection of service details that implement the given interface.
+     */
+    @Override
+    public Collection<ServiceDetails> getImplementations(Class<?> serviceType) {
+        return this.implementationsByType.getOrDefault(serviceType, List.of());
+    }
+
+    /**
+     * Gets all services that are mapped with a given annotation.
+     *
+     * @param annotationType the given annotation.
+     */
+    @Override
+    public Collection<ServiceDetails> getServicesByAnnotation(Class<? extends Annotation> annotationType) {
+        return this.servicesByAnnotation.getOrDefault(annotationType, List.of());
+    }
+
+    /**
+     * Gets only the instances of all services.
+     */
+    @Override
+    public Collection<ServiceDetails> getAllServices() {
+        return this.servicesAndBeans;
+    }
+}
@@ -0,0 +1,167 @@
+package com.grin.ioc.services.impl;
+
+import com.grin.ioc.config.DIConfiguration;
+import com.grin.ioc.constants.Constants;
+import com.grin.ioc.enums.ScanningMode;
+import com.grin.ioc.exceptions.ClassLocationException;
+import com.grin.ioc.services.ClassFileFilter;
+import com.grin.ioc.services.ClassPathScanner;
+import com.grin.ioc.utils.PackageFilter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+
+/**
+ * ClassPathScanner implementation for directories with many packages.
+ *
+ * <p>
+ * Each directory is listed by its own {@link RecursiveTask} which forks a subtask
+ * for every inner directory. Every task collects class names in its own list and
+ * the lists are merged when the subtasks are joined, so no shared state is written concurrently.
+ * No task is forked for directories whose packages are filtered out.
+ *
+ * <p>
+ * Only listing and {@link ScanningMode#BYTECODE} filtering run in parallel, the located classes
+ * are loaded on the calling thread so that static initializers never run concurrently.
+ */
+public class ForkJoinClassPathScannerForDirectory implements ClassPathScanner {
+    private static final String INVALID_DIRECTORY_MSG = "Invalid directory '%s'.";
+
+    private final ClassLoader classLoader;
+
+    /**
+     * Filter for class files, present only when {@link ScanningMode#BYTECODE} is configured.
+     */
+    private final ClassFileFilter classFileFilter;
+
+    /**
+     * Filter for packages, every package is scanned if no packages are configured.
+     */
+    private final PackageFilter packageFilter;
+
+    private final int parallelism;
+
+    public ForkJoinClassPathScannerForDirectory(DIConfiguration configuration) {
+        this.classLoader = configuration.annotations().getClassLoader();
+        this.parallelism = configuration.scanning().getParallelism();
+
+        this.classFileFilter = configuration.scanning().getScanningMode() == ScanningMode.BYTECODE
+                ? new ClassFileFilterImpl(configuration)
+                : null;
+
+        this.packageFilter = new PackageFilter(
+                configuration.annotations().getIncludedPackages(),
+                configuration.annotations().getExcludedPackages()
+        );
+    }
+
+    @Override
+    public Set<Class<?>> locateClasses(String directory) throws ClassLocationException {
+        Set<Class<?>> locatedClasses = new HashSet<>();
+        this.locateClasses(directory, locatedClasses::add);
+
+        return locatedClasses;
+    }
+
+    @Override
+    public void locateClasses(String directory, Consumer<Class<?>> classConsumer) throws ClassLocationException {
+        Path root = Paths.get(directory);
+
+        if (!Files.isDirectory(root)) {
+            throw new ClassLocationException(String.format(INVALID_DIRECTORY_MSG, directory));
+        }
+
+        List<String> classNames;
+        ForkJoinPool forkJoinPool = new ForkJoinPool(this.parallelism);
+        try {
+            classNames = forkJoinPool.invoke(new DirectoryScanTask(root, ""));
+        } catch (UncheckedIOException e) {
+            throw new ClassLocationException(e.getMessage(), e);
+        } finally {
+            forkJoinPool.shutdown();
+        }
+
+        try {
+            for (String className : classNames) {
+                classConsumer.accept(Class.forName(className, true, this.classLoader));
+            }
+        } catch (ClassNotFoundException e) {
+            throw new ClassLocationException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Lists a single directory.
+     *
+     * <p>
+     * The package name is built once per directory, class names are created by appending
+     * the file name without the ".class" extension to it.
+     */
+    private class DirectoryScanTask extends RecursiveTask<List<String>> {
+
+        private final Path directory;
+
+        /**
+         * Package name of the directory including the trailing dot, empty for the root.
+         */
+        private final String packagePrefix;
+
+        private DirectoryScanTask(Path directory, String packagePrefix) {
+            this.directory = directory;
+            this.packagePrefix = packagePrefix;
+        }
+
+        @Override
+        protected List<String> compute() {
+            List<String> classNames = new ArrayList<>();
+            List<DirectoryScanTask> subTasks = new ArrayList<>();
+
+            try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(this.directory)) {
+                for (Path path : directoryStream) {
+                    String fileName = path.getFileName().toString();
+
+                    if (Files.isDirectory(path)) {
+                        String subPackagePrefix = this.packagePrefix + fileName + ".";
+                        if (!packageFilter.isPackageScanned(subPackagePrefix)) {
+                            continue;
+                        }
+
+                        DirectoryScanTask subTask = new DirectoryScanTask(path, subPackagePrefix);
+                        subTask.fork();
+                        subTasks.add(subTask);
+                    } else if (fileName.endsWith(Constants.CLASS_FILE_EXTENSION)
+                            && packageFilter.isClassIncluded(this.packagePrefix)
+                            && this.isServiceCandidate(path)) {
+                        classNames.add(this.packagePrefix
+                                + fileName.substring(0, fileName.length() - Constants.CLASS_FILE_EXTENSION.length()));
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            for (DirectoryScanTask subTask : subTasks) {
+                classNames.addAll(subTask.join());
+            }
+
+            return classNames;
+        }
+
+        private boolean isServiceCandidate(Path classFile) throws IOException {
+            return classFileFilter == null
+                    || classFileFilter.isServiceCandidate(ByteBuffer.wrap(Files.readAllBytes(classFile)));
+        }
+    }
+}
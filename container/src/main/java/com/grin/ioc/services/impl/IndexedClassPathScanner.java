@@ -0,0 +1,225 @@
+package com.grin.ioc.services.impl;
+
+import com.grin.ioc.config.DIConfiguration;
+import com.grin.ioc.constants.Constants;
+import com.grin.ioc.enums.DirectoryType;
+import com.grin.ioc.enums.ScanningMode;
+import com.grin.ioc.exceptions.ClassLocationException;
+import com.grin.ioc.models.FileStamp;
+import com.grin.ioc.models.ScanIndex;
+import com.grin.ioc.models.ScanIndexRoot;
+import com.grin.ioc.services.ClassFileFilter;
+import com.grin.ioc.services.ClassPathScanner;
+import com.grin.ioc.utils.PackageFilter;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32C;
+
+/**
+ * ClassPathScanner decorator that reuses the results stored in a {@link ScanIndex}.
+ *
+ * <p>
+ * A jar file is scanned again only if its checksum changed, otherwise the classes located
+ * in the previous run are loaded directly.
+ *
+ * <p>
+ * For directories the last modified time and size of every class file are compared.
+ * Unchanged class files keep the previous result, only added or modified ones are examined.
+ * A directory that is not in the index yet is scanned by the given scanner.
+ */
+public class IndexedClassPathScanner implements ClassPathScanner {
+
+    private final ClassPathScanner classPathScanner;
+
+    private final DirectoryType directoryType;
+
+    private final ScanIndex scanIndex;
+
+    private final ClassLoader classLoader;
+
+    /**
+     * Filter for class files, present only when {@link ScanningMode#BYTECODE} is configured.
+     */
+    private final ClassFileFilter classFileFilter;
+
+    /**
+     * Filter for packages, every package is scanned if no packages are configured.
+     */
+    private final PackageFilter packageFilter;
+
+    public IndexedClassPathScanner(ClassPathScanner classPathScanner,
+                                   DirectoryType directoryType,
+                                   ScanIndex scanIndex,
+                                   DIConfiguration configuration) {
+        this.classPathScanner = classPathScanner;
+        this.directoryType = directoryType;
+        this.scanIndex = scanIndex;
+        this.classLoader = configuration.annotations().getClassLoader();
+
+        this.classFileFilter = configuration.scanning().getScanningMode() == ScanningMode.BYTECODE
+                ? new ClassFileFilterImpl(configuration)
+                : null;
+
+        this.packageFilter = new PackageFilter(
+                configuration.annotations().getIncludedPackages(),
+                configuration.annotations().getExcludedPackages()
+        );
+    }
+
+    @Override
+    public Set<Class<?>> locateClasses(String directory) throws ClassLocationException {
+        try {
+            if (this.directoryType == DirectoryType.JAR_FILE) {
+                return this.locateClassesInJarFile(directory);
+            }
+
+            return this.locateClassesInDirectory(directory);
+        } catch (IOException | ClassNotFoundException e) {
+            throw new ClassLocationException(e.getMessage(), e);
+        }
+    }
+
+    private Set<Class<?>> locateClassesInJarFile(String directory) throws IOException, ClassNotFoundException {
+        long checksum = this.calculateChecksum(Paths.get(directory));
+        ScanIndexRoot previousRoot = this.scanIndex.getPreviousRoots().get(directory);
+
+        Set<Class<?>> locatedClasses;
+        if (previousRoot != null && previousRoot.getChecksum() == checksum) {
+            locatedClasses = this.loadClasses(previousRoot.getLocatedClasses());
+        } else {
+            this.scanIndex.getChangedJarFiles().add(directory);
+            locatedClasses = this.classPathScanner.locateClasses(directory);
+        }
+
+        this.scanIndex.getRoots().put(directory, new ScanIndexRoot(
+                directory, DirectoryType.JAR_FILE, checksum, Map.of(), this.getClassNames(locatedClasses)
+        ));
+
+        return locatedClasses;
+    }
+
+    private Set<Class<?>> locateClassesInDirectory(String directory) throws IOException, ClassNotFoundException {
+        Path root = Paths.get(directory);
+        Map<String, FileStamp> fileStamps = this.readFileStamps(root);
+        ScanIndexRoot previousRoot = this.scanIndex.getPreviousRoots().get(directory);
+
+        Set<Class<?>> locatedClasses;
+        if (previousRoot == null) {
+            for (String classFile : fileStamps.keySet()) {
+                this.scanIndex.getChangedClasses().add(this.toClassName(classFile));
+            }
+
+            locatedClasses = this.classPathScanner.locateClasses(directory);
+        } else {
+            List<String> classNames = new ArrayList<>();
+
+            for (Map.Entry<String, FileStamp> fileStamp : fileStamps.entrySet()) {
+                String className = this.toClassName(fileStamp.getKey());
+
+                if (fileStamp.getValue().equals(previousRoot.getFileStamps().get(fileStamp.getKey()))) {
+                    if (previousRoot.getLocatedClasses().contains(className)) {
+                        classNames.add(className);
+                    }
+                } else {
+                    this.scanIndex.getChangedClasses().add(className);
+
+                    if (this.isServiceCandidate(root.resolve(fileStamp.getKey()))) {
+                        classNames.add(className);
+                    }
+                }
+            }
+
+            for (String classFile : previousRoot.getFileStamps().keySet()) {
+                if (!fileStamps.containsKey(classFile)) {
+                    this.scanIndex.getChangedClasses().add(this.toClassName(classFile));
+                }
+            }
+
+            locatedClasses = this.loadClasses(classNames);
+        }
+
+        this.scanIndex.getRoots().put(directory, new ScanIndexRoot(
+                directory, DirectoryType.DIRECTORY, 0, fileStamps, this.getClassNames(locatedClasses)
+        ));
+
+        return locatedClasses;
+    }
+
+    /**
+     * Walks the directory and collects the stamps of all class files in included packages,
+     * the attributes are provided by the walk so no additional file system calls are made.
+     */
+    private Map<String, FileStamp> readFileStamps(Path root) throws IOException {
+        Map<String, FileStamp> fileStamps = new HashMap<>();
+
+        Files.walkFileTree(root, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attributes) {
+                String relativePath = root.relativize(directory).toString().replace(File.separatorChar, '/');
+
+                return packageFilter.isPackageScanned(relativePath)
+                        ? FileVisitResult.CONTINUE
+                        : FileVisitResult.SKIP_SUBTREE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                if (file.getFileName().toString().endsWith(Constants.CLASS_FILE_EXTENSION)) {
+                    String relativePath = root.relativize(file).toString().replace(File.separatorChar, '/');
+                    if (!packageFilter.isClassIncluded(relativePath)) {
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    fileStamps.put(relativePath, new FileStamp(attributes.lastModifiedTime().toMillis(), attributes.size()));
+                }
+
+                return FileVisitResult.CONTINUE;
+            }
+        });
+
+        return fileStamps;
+    }
+
+    private long calculateChecksum(Path jarFile) throws IOException {
+        CRC32C checksum = new CRC32C();
+
+        try (FileChannel fileChannel = FileChannel.open(jarFile, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 16);
+            while (fileChannel.read(buffer) != -1) {
+                checksum.update(buffer.flip());
+                buffer.clear();
+            }
+        }
+
+        return checksum.getValue();
+    }
+
+    private boolean isServiceCandidate(Path classFile) throws IOException {
+        return this.classFileFilter == null
+                || this.classFileFilter.isServiceCandidate(ByteBuffer.wrap(Files.readAllBytes(classFile)));
+    }
+
+    private Set<Class<?>> loadClasses(Collection<String> classNames) throws ClassNotFoundException {
+        Set<Class<?>> classes = new HashSet<>();
+        for (String className : classNames) {
+            classes.add(Class.forName(className, true, this.classLoader));
+        }
+
+        return classes;
+    }
+
+    private Set<String> getClassNames(Set<Class<?>> classes) {
+        return classes.stream().map(Class::getName).collect(Collectors.toSet());
+    }
+
+    private String toClassName(String classFile) {
+        return classFile.substring(0, classFile.length() - Constants.CLASS_FILE_EXTENSION.length()).replace('/', '.');
+    }
+}
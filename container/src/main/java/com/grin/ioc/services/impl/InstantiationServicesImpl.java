@@ -0,0 +1,602 @@
+package com.grin.ioc.services.impl;
+
+import com.grin.ioc.annotations.Nullable;
+import com.grin.ioc.config.configurations.InstantiationConfiguration;
+import com.grin.ioc.enums.InstantiationMode;
+import com.grin.ioc.enums.ServiceScope;
+import com.grin.ioc.exceptions.CircularDependencyException;
+import com.grin.ioc.exceptions.ServiceInstantiationException;
+import com.grin.ioc.models.EnqueuedServiceDetails;
+import com.grin.ioc.models.ServiceBeanDetails;
+import com.grin.ioc.models.ServiceDetails;
+import com.grin.ioc.models.ServiceTypeIndex;
+import com.grin.ioc.services.InstantiationServices;
+import com.grin.ioc.services.ObjectInstantiationService;
+import com.grin.ioc.utils.AliasFinder;
+import com.grin.ioc.utils.DependencyCycleFinder;
+import com.grin.ioc.utils.ProxyUtils;
+import com.grin.ioc.utils.ScopeUtils;
+
+import java.lang.reflect.Parameter;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * {@link InstantiationServices} implementation.
+ *
+ * <p>
+ * Responsible for creating the initial instances or all services and beans.
+ *
+ * <p>
+ * Builds a dependency graph once, where each service waits for the services that provide its
+ * constructor parameters and {@link com.grin.ioc.annotations.Autowired} fields, or for the root
+ * services of the beans that provide them. Circular dependencies are found before any service is
+ * instantiated and the services are then instantiated in topological order.
+ *
+ * <p>
+ * In {@link InstantiationMode#PARALLEL} mode every service whose dependencies are instantiated is
+ * submitted to an executor. The first failure stops submitting new services and all failures
+ * are reported together once the running services are done.
+ */
+public class InstantiationServicesImpl implements InstantiationServices {
+
+    private static final String CIRCULAR_DEPENDENCIES_MSG = "Could not instantiate services because of circular dependencies: \n %s";
+    private static final String CYCLE_SEPARATOR = " -> ";
+    private static final String COULD_NOT_FIND_CONSTRUCTOR_PARAM_MSG = "Could not create instance of '%s'. Parameter '%s' implementation was not found";
+    private static final String COULD_NOT_FIND_FIELD_PARAM_MSG = "Could not create instance of '%s'. Implementation was not found for Autowired field '%s'.";
+    private static final String PARALLEL_INSTANTIATION_FAILED_MSG = "Could not instantiate %s services: \n %s";
+    private static final String INTERRUPTED_MSG = "Interrupted while waiting for services to be instantiated.";
+    private static final String INSTANTIATION_THREAD_NAME = "grin-ioc-instantiation";
+
+    /**
+     * Configuration containing the services provided by the client.
+     */
+    private InstantiationConfiguration configuration;
+
+    private ObjectInstantiationService instantiationService;
+
+    /**
+     * The dependency graph, one node for each mapped service.
+     */
+    private List<EnqueuedServiceDetails> enqueuedServiceDetails;
+
+    /**
+     * Contains all services and beans that can be injected by type in the order they are preferred.
+     * Services provided through the configuration come first, then mapped services and then beans.
+     */
+    private ServiceTypeIndex availableServices;
+
+    /**
+     * Nodes of the mapped services.
+     */
+    private Map<ServiceDetails, EnqueuedServiceDetails> enqueuedServicesByService;
+
+    /**
+     * Mapped services that already have their instances.
+     */
+    private Set<ServiceDetails> alreadyInstantiatedServices;
+
+    /**
+     * Contains services and beans that have been loaded, written concurrently in parallel mode.
+     */
+    private List<ServiceDetails> instantiatedServices;
+
+    public InstantiationServicesImpl(InstantiationConfiguration configuration,
+                                     ObjectInstantiationService instantiationService) {
+        this.configuration = configuration;
+        this.instantiationService = instantiationService;
+        this.enqueuedServiceDetails = new ArrayList<>();
+        this.availableServices = new ServiceTypeIndex();
+        this.enqueuedServicesByService = new IdentityHashMap<>();
+        this.alreadyInstantiatedServices = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.instantiatedServices = Collections.synchronizedList(new ArrayList<>());
+    }
+
+    @Override
+    public List<ServiceDetails> instantiateServicesAndBeans(Set<ServiceDetails> mappedServices) throws ServiceInstantiationException {
+        return this.instantiateServicesAndBeans(mappedServices, List.of());
+    }
+
+    /**
+     * Builds the dependency graph, defines the proxy classes of all reloadable services
+     * and instantiates the services in Kahn order.
+     *
+     * <p>
+     * Services that do not wait for any other service are queued first, in the order of the mapped services.
+     * Each instantiated service, together with its beans, resolves one dependency of each of its dependent
+     * services and the ones that have no unresolved dependencies left are queued.
+     *
+     * @param mappedServices       provided services and their details.
+     * @param instantiatedServices mapped services that already have their instances, only their beans are created.
+     * @return list of all instantiated services and beans in the order of {@link #getInstantiatedServicesInGraphOrder()}.
+     * @throws ServiceInstantiationException if a dependency is missing.
+     * @throws CircularDependencyException   if there are circular dependencies.
+     */
+    @Override
+    public List<ServiceDetails> instantiateServicesAndBeans(Set<ServiceDetails> mappedServices,
+                                                            Collection<ServiceDetails> instantiatedServices) throws ServiceInstantiationException {
+        this.init(mappedServices, instantiatedServices);
+
+        ProxyUtils.createProxyClasses(this.enqueuedServiceDetails.stream()
+                .map(EnqueuedServiceDetails::getServiceDetails)
+                .filter(serviceDetails -> !this.alreadyInstantiatedServices.contains(serviceDetails))
+                .filter(serviceDetails -> ProxyUtils.isReloadable(serviceDetails, this.configuration))
+                .collect(Collectors.toList()));
+
+        List<EnqueuedServiceDetails> resolvedServices = this.enqueuedServiceDetails.stream()
+                .filter(EnqueuedServiceDetails::isResolved)
+                .collect(Collectors.toList());
+
+        if (this.configuration.getInstantiationMode() == InstantiationMode.PARALLEL) {
+            this.instantiateInParallel(resolvedServices);
+        } else {
+            this.instantiateSequentially(resolvedServices);
+        }
+
+        return this.getInstantiatedServicesInGraphOrder();
+    }
+
+    /**
+     * Orders the instantiated services and beans by the dependency graph rather than by the order
+     * they were instantiated in, which differs between runs in {@link InstantiationMode#PARALLEL} mode.
+     * Provided services come first, then each mapped service followed by its beans,
+     * so both modes find the same implementation first.
+     */
+    private List<ServiceDetails> getInstantiatedServicesInGraphOrder() {
+        Map<ServiceDetails, Integer> positions = new IdentityHashMap<>();
+        for (ServiceDetails providedService : this.configuration.getProvidedServices()) {
+            positions.put(providedService, positions.size());
+        }
+
+        for (EnqueuedServiceDetails enqueuedService : this.enqueuedServiceDetails) {
+            positions.put(enqueuedService.getServiceDetails(), positions.size());
+            for (ServiceBeanDetails beanDetails : enqueuedService.getBeans()) {
+                positions.put(beanDetails, positions.size());
+            }
+        }
+
+        List<ServiceDetails> services = new ArrayList<>(this.instantiatedServices);
+        services.sort(Comparator.comparingInt(positions::get));
+
+        return services;
+    }
+
+    /**
+     * @param resolvedServices services that do not wait for any other service.
+     */
+    private void instantiateSequentially(List<EnqueuedServiceDetails> resolvedServices) {
+        Deque<EnqueuedServiceDetails> queue = new ArrayDeque<>(resolvedServices);
+
+        while (!queue.isEmpty()) {
+            EnqueuedServiceDetails enqueuedService = queue.removeFirst();
+
+            this.instantiateService(enqueuedService);
+
+            for (EnqueuedServiceDetails dependentService : enqueuedService.getDependentServices()) {
+                if (dependentService.resolveDependency() == 0) {
+                    queue.addLast(dependentService);
+                }
+            }
+        }
+    }
+
+    /**
+     * Submits the resolved services to the executor, each instantiated service submits
+     * the dependent services whose last dependency it was.
+     * Waits until no submitted service is running.
+     *
+     * @param resolvedServices services that do not wait for any other service.
+     * @throws ServiceInstantiationException with all failures as suppressed exceptions if any service failed.
+     */
+    private void instantiateInParallel(List<EnqueuedServiceDetails> resolvedServices) {
+        Executor executor = this.configuration.getExecutor();
+        ExecutorService ownExecutor = null;
+        if (executor == null) {
+            ownExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+                Thread thread = new Thread(runnable, INSTANTIATION_THREAD_NAME);
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor = ownExecutor;
+        }
+
+        ParallelInstantiation instantiation = new ParallelInstantiation(executor);
+        try {
+            for (EnqueuedServiceDetails resolvedService : resolvedServices) {
+                instantiation.submit(resolvedService);
+            }
+
+            instantiation.await();
+        } finally {
+            if (ownExecutor != null) {
+                ownExecutor.shutdown();
+            }
+        }
+
+        if (!instantiation.failures.isEmpty()) {
+            Map.Entry<ServiceDetails, Throwable> firstFailure = instantiation.failures.get(0);
+            ServiceInstantiationException exception = new ServiceInstantiationException(String.format(
+                    PARALLEL_INSTANTIATION_FAILED_MSG,
+                    instantiation.failures.size(),
+                    instantiation.failures.stream()
+                            .map(failure -> failure.getKey() + ": " + failure.getValue())
+                            .collect(Collectors.joining("\n "))
+            ), firstFailure.getValue());
+
+            for (Map.Entry<ServiceDetails, Throwable> failure : instantiation.failures.subList(1, instantiation.failures.size())) {
+                exception.addSuppressed(failure.getValue());
+            }
+
+            throw exception;
+        }
+    }
+
+    /**
+     * State of a single parallel instantiation.
+     */
+    private class ParallelInstantiation {
+
+        private final Executor executor;
+
+        /**
+         * Number of submitted services that are not done yet.
+         */
+        private final AtomicInteger pendingCount;
+
+        private final List<Map.Entry<ServiceDetails, Throwable>> failures;
+
+        /**
+         * Released once no submitted service is running.
+         */
+        private final CountDownLatch doneLatch;
+
+        private ParallelInstantiation(Executor executor) {
+            this.executor = executor;
+            this.pendingCount = new AtomicInteger(1);
+            this.failures = Collections.synchronizedList(new ArrayList<>());
+            this.doneLatch = new CountDownLatch(1);
+        }
+
+        private void submit(EnqueuedServiceDetails enqueuedService) {
+            if (!this.failures.isEmpty()) {
+                return;
+            }
+
+            this.pendingCount.incrementAndGet();
+            try {
+                this.executor.execute(() -> this.run(enqueuedService));
+            } catch (RejectedExecutionException e) {
+                this.fail(enqueuedService, e);
+                this.done();
+            }
+        }
+
+        private void run(EnqueuedServiceDetails enqueuedService) {
+            try {
+                if (this.failures.isEmpty()) {
+                    instantiateService(enqueuedService);
+
+                    for (EnqueuedServiceDetails dependentService : enqueuedService.getDependentServices()) {
+                        if (dependentService.resolveDependency() == 0) {
+                            this.submit(dependentService);
+                        }
+                    }
+                }
+            } catch (Throwable e) {
+                this.fail(enqueuedService, e);
+            } finally {
+                this.done();
+            }
+        }
+
+        private void fail(EnqueuedServiceDetails enqueuedService, Throwable e) {
+            this.failures.add(Map.entry(enqueuedService.getServiceDetails(), e));
+        }
+
+        private void done() {
+            if (this.pendingCount.decrementAndGet() == 0) {
+                this.doneLatch.countDown();
+            }
+        }
+
+        /**
+         * Waits for all submitted services, the initial count is released here
+         * so the latch cannot open while the resolved services are still being submitted.
+         */
+        private void await() {
+            this.done();
+
+            try {
+                this.doneLatch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServiceInstantiationException(INTERRUPTED_MSG, e);
+            }
+        }
+    }
+
+    /**
+     * Creates the instance and, if it is reloadable, the proxy of the service unless it already has an instance,
+     * registers it and creates its beans. The chosen dependencies are kept on the service for reloads.
+     * Services that are not singletons get a snapshot that creates their instances when they are used.
+     */
+    private void instantiateService(EnqueuedServiceDetails enqueuedService) {
+        ServiceDetails serviceDetails = enqueuedService.getServiceDetails();
+        serviceDetails.setDependencyProviders(
+                enqueuedService.getDependencyProviders(),
+                enqueuedService.getFieldDependencyProviders(),
+                enqueuedService.getFieldDependencyProxies()
+        );
+
+        if (!this.alreadyInstantiatedServices.contains(serviceDetails)) {
+            if (serviceDetails.getScope() == ServiceScope.SINGLETON) {
+                this.instantiationService.createInstance(
+                        serviceDetails,
+                        enqueuedService.getDependencyInstances(),
+                        enqueuedService.getFieldDependencyInstances()
+                );
+            } else {
+                serviceDetails.setInstanceSnapshot(ScopeUtils.createInstanceSnapshot(
+                        this.instantiationService,
+                        serviceDetails,
+                        enqueuedService.getDependencyInstances(),
+                        enqueuedService.getFieldDependencyInstances()
+                ));
+            }
+
+            if (ProxyUtils.isReloadable(serviceDetails, this.configuration)) {
+                ProxyUtils.createProxyInstance(serviceDetails);
+            }
+        }
+
+        this.instantiatedServices.add(serviceDetails);
+        this.registerBeans(enqueuedService);
+    }
+
+    /**
+     * Creates the instance of each bean of the given service.
+     *
+     * @param enqueuedService given service.
+     */
+    private void registerBeans(EnqueuedServiceDetails enqueuedService) {
+        for (ServiceBeanDetails beanDetails : enqueuedService.getBeans()) {
+            if (beanDetails.getScope() == ServiceScope.SINGLETON) {
+                this.instantiationService.createBeanInstance(beanDetails);
+            } else {
+                ServiceDetails rootService = beanDetails.getRootService();
+                beanDetails.setInstanceSnapshot(ScopeUtils.createBeanInstanceSnapshot(
+                        this.instantiationService,
+                        beanDetails,
+                        rootService::getActualInstance
+                ));
+            }
+
+            if (ProxyUtils.isReloadable(beanDetails, this.configuration)) {
+                ProxyUtils.createBeanProxyInstance(beanDetails);
+            }
+
+            this.instantiatedServices.add(beanDetails);
+        }
+    }
+
+    /**
+     * Creates a node for each mapped service and collects all services and beans that can be injected.
+     * Services provided through the configuration are registered as instantiated.
+     * Then the dependencies of each node are resolved, circular dependencies are checked
+     * and each service is added as a dependent service of the services it requires
+     * and of the providers of its autowired fields.
+     *
+     * @param mappedServices       set of mapped services and their information.
+     * @param instantiatedServices mapped services that already have their instances.
+     */
+    private void init(Set<ServiceDetails> mappedServices, Collection<ServiceDetails> instantiatedServices) {
+        this.enqueuedServiceDetails.clear();
+        this.availableServices = new ServiceTypeIndex();
+        this.enqueuedServicesByService.clear();
+        this.alreadyInstantiatedServices.clear();
+        this.instantiatedServices.clear();
+
+        this.alreadyInstantiatedServices.addAll(instantiatedServices);
+
+        //If services are provided through config, add them to the list of available and instantiated services.
+        this.configuration.getProvidedServices().forEach(this.availableServices::addService);
+        this.instantiatedServices.addAll(this.configuration.getProvidedServices());
+
+        for (ServiceDetails serviceDetails : mappedServices) {
+            EnqueuedServiceDetails enqueuedService = new EnqueuedServiceDetails(serviceDetails);
+
+            this.enqueuedServiceDetails.add(enqueuedService);
+            this.enqueuedServicesByService.put(serviceDetails, enqueuedService);
+            this.availableServices.addService(serviceDetails);
+        }
+
+        for (EnqueuedServiceDetails enqueuedService : this.enqueuedServiceDetails) {
+            for (ServiceBeanDetails beanDetails : enqueuedService.getBeans()) {
+                this.availableServices.addService(beanDetails);
+            }
+        }
+
+        for (EnqueuedServiceDetails enqueuedService : this.enqueuedServiceDetails) {
+            this.setDependencyRequirements(enqueuedService);
+        }
+
+        this.checkCircularDependencies();
+
+        for (EnqueuedServiceDetails enqueuedService : this.enqueuedServiceDetails) {
+            for (EnqueuedServiceDetails requiredService : enqueuedService.getRequiredServices()) {
+                requiredService.addDependentService(enqueuedService);
+            }
+
+            ServiceDetails[] fieldProviders = enqueuedService.getFieldDependencyProviders();
+            for (int i = 0; i < fieldProviders.length; i++) {
+                if (!enqueuedService.hasFieldDependencyProxy(i)) {
+                    fieldProviders[i].addDependentServices(enqueuedService.getServiceDetails());
+                }
+            }
+        }
+    }
+
+    /**
+     * Looks for strongly connected components in the dependency graph.
+     * If allowed, tries to break them by injecting proxies in autowired fields first.
+     *
+     * @throws CircularDependencyException with one cycle for each component that is left.
+     */
+    private void checkCircularDependencies() {
+        List<List<EnqueuedServiceDetails>> components = DependencyCycleFinder.findCircularComponents(this.enqueuedServiceDetails);
+
+        if (!components.isEmpty() && this.configuration.isCircularFieldDependenciesAllowed()) {
+            components.forEach(this::breakCircularFieldDependencies);
+            components = DependencyCycleFinder.findCircularComponents(this.enqueuedServiceDetails);
+        }
+
+        if (components.isEmpty()) {
+            return;
+        }
+
+        throw new CircularDependencyException(String.format(
+                CIRCULAR_DEPENDENCIES_MSG,
+                components.stream()
+                        .map(DependencyCycleFinder::findCycle)
+                        .map(cycle -> cycle.stream().map(EnqueuedServiceDetails::toString).collect(Collectors.joining(CYCLE_SEPARATOR)))
+                        .collect(Collectors.joining("\n "))
+        ));
+    }
+
+    /**
+     * Removes the requirements between services of the given component that come only from
+     * autowired fields of proxyable types, these fields get a proxy for the provider instead.
+     *
+     * @param component strongly connected component of the dependency graph.
+     */
+    private void breakCircularFieldDependencies(List<EnqueuedServiceDetails> component) {
+        Set<EnqueuedServiceDetails> members = Collections.newSetFromMap(new IdentityHashMap<>());
+        members.addAll(component);
+
+        for (EnqueuedServiceDetails enqueuedService : component) {
+            Set<EnqueuedServiceDetails> hardRequiredServices = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (ServiceDetails provider : enqueuedService.getDependencyProviders()) {
+                hardRequiredServices.add(this.findEnqueuedService(provider));
+            }
+
+            Class<?>[] fieldDependencies = enqueuedService.getFieldDependencies();
+            ServiceDetails[] fieldProviders = enqueuedService.getFieldDependencyProviders();
+            for (int i = 0; i < fieldDependencies.length; i++) {
+                if (!ProxyUtils.isProxyable(fieldDependencies[i]) || !members.contains(this.findEnqueuedService(fieldProviders[i]))) {
+                    hardRequiredServices.add(this.findEnqueuedService(fieldProviders[i]));
+                }
+            }
+
+            for (int i = 0; i < fieldDependencies.length; i++) {
+                EnqueuedServiceDetails requiredService = this.findEnqueuedService(fieldProviders[i]);
+
+                if (members.contains(requiredService) && !hardRequiredServices.contains(requiredService)) {
+                    enqueuedService.setFieldDependencyProxy(i, ProxyUtils.createDependencyProxyInstance(fieldDependencies[i], fieldProviders[i]));
+                    enqueuedService.removeRequiredService(requiredService);
+                }
+            }
+        }
+    }
+
+    /**
+     * Chooses a provider for each constructor parameter and autowired field of the given service
+     * and makes the service wait for the services of those providers.
+     * Every service and bean that can be injected in a constructor parameter gets the given
+     * service as a dependent service.
+     *
+     * <p>
+     * If {@link Nullable} annotation is present, a missing constructor dependency is considered valid.
+     */
+    private void setDependencyRequirements(EnqueuedServiceDetails enqueuedService) {
+        ServiceDetails serviceDetails = enqueuedService.getServiceDetails();
+
+        Parameter[] parameters = serviceDetails.getTargetConstructor().getParameters();
+        for (int i = 0; i < parameters.length; i++) {
+            List<ServiceDetails> providers = this.findProviders(parameters[i].getType(), serviceDetails);
+
+            if (providers.isEmpty()) {
+                if (AliasFinder.isAnnotationPresent(parameters[i].getDeclaredAnnotations(), Nullable.class)) {
+                    continue;
+                }
+
+                throw new ServiceInstantiationException(
+                        String.format(COULD_NOT_FIND_CONSTRUCTOR_PARAM_MSG,
+                                serviceDetails.getServiceType().getName(),
+                                parameters[i].getType().getName()
+                        )
+                );
+            }
+
+            for (ServiceDetails provider : providers) {
+                provider.addDependentServices(serviceDetails);
+            }
+
+            enqueuedService.getDependencyProviders()[i] = providers.get(0);
+            this.addRequiredService(enqueuedService, providers.get(0));
+        }
+
+        Class<?>[] fieldDependencies = enqueuedService.getFieldDependencies();
+        for (int i = 0; i < fieldDependencies.length; i++) {
+            List<ServiceDetails> providers = this.findProviders(fieldDependencies[i], serviceDetails);
+
+            if (providers.isEmpty()) {
+                throw new ServiceInstantiationException(
+                        String.format(COULD_NOT_FIND_FIELD_PARAM_MSG,
+                                serviceDetails.getServiceType().getName(),
+                                fieldDependencies[i].getName()
+                        )
+                );
+            }
+
+            enqueuedService.getFieldDependencyProviders()[i] = providers.get(0);
+            this.addRequiredService(enqueuedService, providers.get(0));
+        }
+    }
+
+    /**
+     * Makes the given service require the node that has to be instantiated before the given provider
+     * can be injected, nothing is required for services provided through the configuration.
+     */
+    private void addRequiredService(EnqueuedServiceDetails enqueuedService, ServiceDetails provider) {
+        EnqueuedServiceDetails requiredService = this.findEnqueuedService(provider);
+        if (requiredService != null) {
+            enqueuedService.addRequiredService(requiredService);
+        }
+    }
+
+    /**
+     * @return the node of the given service or of the root service of the given bean,
+     * null for missing providers and services provided through the configuration.
+     */
+    private EnqueuedServiceDetails findEnqueuedService(ServiceDetails provider) {
+        if (provider == null) {
+            return null;
+        }
+
+        ServiceDetails service = provider instanceof ServiceBeanDetails
+                ? ((ServiceBeanDetails) provider).getRootService()
+                : provider;
+
+        return this.enqueuedServicesByService.get(service);
+    }
+
+    /**
+     * @param cls            given type.
+     * @param serviceDetails the service that requires the type, it and its beans are not considered.
+     * @return all services and beans that are compatible with the given type in the order they are preferred.
+     */
+    private List<ServiceDetails> findProviders(Class<?> cls, ServiceDetails serviceDetails) {
+        List<ServiceDetails> providers = new ArrayList<>();
+
+        for (ServiceDetails availableService : this.availableServices.getServices(cls)) {
+            if (availableService != serviceDetails
+                    && !(availableService instanceof ServiceBeanDetails && ((ServiceBeanDetails) availableService).getRootService() == serviceDetails)) {
+                providers.add(availableService);
+            }
+        }
+
+        return providers;
+    }
+}
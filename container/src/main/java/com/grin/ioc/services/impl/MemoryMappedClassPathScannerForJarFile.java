@@ -0,0 +1,165 @@
+package com.grin.ioc.services.impl;
+
+import com.grin.ioc.config.DIConfiguration;
+import com.grin.ioc.constants.Constants;
+import com.grin.ioc.enums.ScanningMode;
+import com.grin.ioc.exceptions.ClassLocationException;
+import com.grin.ioc.services.ClassFileFilter;
+import com.grin.ioc.services.ClassPathScanner;
+import com.grin.ioc.utils.PackageFilter;
+import com.grin.ioc.utils.MappedZipFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+/**
+ * ClassPathScanner implementation for large jar files.
+ *
+ * <p>
+ * Memory maps the jar file and walks its central directory with {@link MappedZipFile}.
+ * Entry names are matched byte by byte, a String is created only for the class entries that are loaded
+ * or, if packages are filtered, for the class entries whose package has to be checked.
+ * In {@link ScanningMode#BYTECODE} mode the class entries are inflated and filtered in parallel.
+ */
+public class MemoryMappedClassPathScannerForJarFile implements ClassPathScanner {
+    private static final byte[] CLASS_FILE_EXTENSION = Constants.CLASS_FILE_EXTENSION.getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] META_INF_PREFIX = "META-INF/".getBytes(StandardCharsets.US_ASCII);
+
+    private final ClassLoader classLoader;
+
+    /**
+     * Filter for class files, present only when {@link ScanningMode#BYTECODE} is configured.
+     */
+    private final ClassFileFilter classFileFilter;
+
+    /**
+     * Filter for packages, every package is scanned if no packages are configured.
+     */
+    private final PackageFilter packageFilter;
+
+    private final int parallelism;
+
+    public MemoryMappedClassPathScannerForJarFile(DIConfiguration configuration) {
+        this.classLoader = configuration.annotations().getClassLoader();
+        this.parallelism = configuration.scanning().getParallelism();
+
+        this.classFileFilter = configuration.scanning().getScanningMode() == ScanningMode.BYTECODE
+                ? new ClassFileFilterImpl(configuration)
+                : null;
+
+        this.packageFilter = new PackageFilter(
+                configuration.annotations().getIncludedPackages(),
+                configuration.annotations().getExcludedPackages()
+        );
+    }
+
+    @Override
+    public Set<Class<?>> locateClasses(String directory) throws ClassLocationException {
+        Set<Class<?>> classes = new HashSet<>();
+        this.locateClasses(directory, classes::add);
+
+        return classes;
+    }
+
+    @Override
+    public void locateClasses(String directory, Consumer<Class<?>> classConsumer) throws ClassLocationException {
+        try (MappedZipFile zipFile = new MappedZipFile(Paths.get(directory))) {
+            int[] classEntries = this.findClassEntries(zipFile);
+
+            if (this.classFileFilter != null) {
+                classEntries = this.filterServiceCandidates(zipFile, classEntries);
+            }
+
+            for (int classEntry : classEntries) {
+                String className = zipFile.getName(classEntry, zipFile.getNameLength(classEntry) - CLASS_FILE_EXTENSION.length)
+                        .replace('/', '.');
+
+                classConsumer.accept(Class.forName(className, true, this.classLoader));
+            }
+        } catch (IOException | ClassNotFoundException e) {
+            throw new ClassLocationException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return positions of all entries that can be loaded as classes.
+     */
+    private int[] findClassEntries(MappedZipFile zipFile) throws IOException {
+        IntStream.Builder classEntries = IntStream.builder();
+
+        for (int entry = zipFile.firstEntry(); entry != -1; entry = zipFile.nextEntry(entry)) {
+            if (this.isClassEntry(zipFile, entry)) {
+                classEntries.add(entry);
+            }
+        }
+
+        return classEntries.build().toArray();
+    }
+
+    /**
+     * Entries under META-INF (e.g. multi release versions) and entries like module-info.class
+     * or package-info.class, whose names are not valid class names, are skipped
+     * as well as the entries of filtered out packages.
+     */
+    private boolean isClassEntry(MappedZipFile zipFile, int entry) {
+        if (!zipFile.nameEndsWith(entry, CLASS_FILE_EXTENSION) || zipFile.nameStartsWith(entry, META_INF_PREFIX)) {
+            return false;
+        }
+
+        for (int i = zipFile.getNameLength(entry) - CLASS_FILE_EXTENSION.length - 1; i >= 0; i--) {
+            byte nameByte = zipFile.getNameByte(entry, i);
+            if (nameByte == '/') {
+                break;
+            }
+
+            if (nameByte == '-') {
+                return false;
+            }
+        }
+
+        return this.packageFilter.isEmpty() || this.packageFilter.isClassIncluded(zipFile.getName(entry));
+    }
+
+    private int[] filterServiceCandidates(MappedZipFile zipFile, int[] classEntries) throws IOException {
+        ForkJoinPool forkJoinPool = new ForkJoinPool(this.parallelism);
+
+        try {
+            return forkJoinPool.submit(() -> IntStream.of(classEntries)
+                    .parallel()
+                    .filter(entry -> this.isServiceCandidate(zipFile, entry))
+                    .toArray()
+            ).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ClassLocationException(e.getMessage(), e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) e.getCause()).getCause();
+            }
+
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+
+            throw new ClassLocationException(e.getMessage(), e);
+        } finally {
+            forkJoinPool.shutdown();
+        }
+    }
+
+    private boolean isServiceCandidate(MappedZipFile zipFile, int entry) {
+        try {
+            return this.classFileFilter.isServiceCandidate(zipFile.getContent(entry));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.grin.ioc.services.impl;
+
+import com.grin.ioc.exceptions.BeanInstantiationException;
+import com.grin.ioc.exceptions.PostConstructException;
+import com.grin.ioc.exceptions.PreDestroyException;
+import com.grin.ioc.exceptions.ServiceInstantiationException;
+import com.grin.ioc.models.ServiceBeanDetails;
+import com.grin.ioc.models.ServiceDetails;
+import com.grin.ioc.models.ServiceMethodHandles;
+import com.grin.ioc.services.ObjectInstantiationService;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * {@link ObjectInstantiationService} implementation that uses method handles instead of reflection.
+ *
+ * <p>
+ * The handles are created from the accessible constructor, fields and methods of a service
+ * the first time it is instantiated and cached on its details, so access checks are done only once.
+ * They are adapted to generic types so that they are invoked exactly without boxing varargs.
+ */
+public class MethodHandleInstantiationServiceImpl implements ObjectInstantiationService {
+    private static final String INVALID_PARAMETERS_COUNT_MSG = "Invalid parameters count for '%s'.";
+    private static final String METHOD_HANDLES_FAILED_MSG = "Could not create method handles for '%s'.";
+
+    private static final MethodType FACTORY_TYPE = MethodType.methodType(Object.class, Object[].class);
+    private static final MethodType BEAN_FACTORY_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType FIELD_SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType LIFECYCLE_METHOD_TYPE = MethodType.methodType(void.class, Object.class);
+
+    private final MethodHandles.Lookup lookup;
+
+    public MethodHandleInstantiationServiceImpl() {
+        this.lookup = MethodHandles.lookup();
+    }
+
+    /**
+     * Creates an instance for a service.
+     * Invokes the PostConstruct method.
+     *
+     * @param serviceDetails    the given service details.
+     * @param constructorParams instantiated dependencies.
+     */
+    @Override
+    public void createInstance(ServiceDetails serviceDetails, Object[] constructorParams, Object[] autowiredFieldInstances) throws ServiceInstantiationException {
+        Object instance = this.constructInstance(serviceDetails, constructorParams);
+        serviceDetails.setInstance(instance);
+        this.initializeInstance(serviceDetails, instance, autowiredFieldInstances);
+    }
+
+    /**
+     * Creates a fully initialized instance for a service without setting it.
+     *
+     * @param serviceDetails    the given service details.
+     * @param constructorParams instantiated dependencies.
+     * @return the new instance.
+     */
+    @Override
+    public Object newInstance(ServiceDetails serviceDetails, Object[] constructorParams, Object[] autowiredFieldInstances) throws ServiceInstantiationException {
+        Object instance = this.constructInstance(serviceDetails, constructorParams);
+        this.initializeInstance(serviceDetails, instance, autowiredFieldInstances);
+
+        return instance;
+    }
+
+    private Object constructInstance(ServiceDetails serviceDetails, Object[] constructorParams) throws ServiceInstantiationException {
+        if (constructorParams.length != serviceDetails.getTargetConstructor().getParameterCount()) {
+            throw new ServiceInstantiationException(String.format(INVALID_PARAMETERS_COUNT_MSG, serviceDetails.getServiceType().getName()));
+        }
+
+        MethodHandle factory = this.getMethodHandles(serviceDetails).getFactory();
+
+        try {
+            return (Object) factory.invokeExact(constructorParams);
+        } catch (Throwable e) {
+            throw new ServiceInstantiationException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Sets the autowired fields of a new instance and invokes its PostConstruct method.
+     */
+    private void initializeInstance(ServiceDetails serviceDetails, Object instance, Object[] autowiredFieldInstances) throws ServiceInstantiationException {
+        ServiceMethodHandles methodHandles = this.getMethodHandles(serviceDetails);
+
+        try {
+            MethodHandle[] fieldSetters = methodHandles.getFieldSetters();
+            for (int i = 0; i < fieldSetters.length; i++) {
+                fieldSetters[i].invokeExact(instance, autowiredFieldInstances[i]);
+            }
+        } catch (Throwable e) {
+            throw new ServiceInstantiationException(e.getMessage(), e);
+        }
+
+        if (methodHandles.getPostConstruct() != null) {
+            try {
+                methodHandles.getPostConstruct().invokeExact(instance);
+            } catch (Throwable e) {
+                throw new PostConstructException(e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Creates an instance for a bean by invoking its origin method
+     * and passing the instance of the service in which the bean has been declared.
+     *
+     * @param serviceBeanDetails the given bean details.
+     */
+    @Override
+    public void createBeanInstance(ServiceBeanDetails serviceBeanDetails) throws BeanInstantiationException {
+        serviceBeanDetails.setInstance(this.newBeanInstance(
+                serviceBeanDetails,
+                serviceBeanDetails.getRootService().getActualInstance()
+        ));
+    }
+
+    /**
+     * Creates an instance for a bean from a given instance of the service
+     * in which the bean has been declared, without setting it.
+     *
+     * @param serviceBeanDetails the given bean details.
+     * @param rootInstance       instance of the service in which the bean has been declared.
+     * @return the new instance.
+     */
+    @Override
+    public Object newBeanInstance(ServiceBeanDetails serviceBeanDetails, Object rootInstance) throws BeanInstantiationException {
+        try {
+            return (Object) this.getMethodHandles(serviceBeanDetails).getFactory().invokeExact(rootInstance);
+        } catch (Throwable e) {
+            throw new BeanInstantiationException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Sets the instance to null.
+     * Invokes pre destroy method on all instances of the given service details if one is present.
+     *
+     * @param serviceDetails given service details.
+     */
+    @Override
+    public void destroyInstance(ServiceDetails serviceDetails) throws PreDestroyException {
+        for (Object instance : serviceDetails.getInstanceSnapshot().getInstances()) {
+            this.destroyInstance(serviceDetails, instance);
+        }
+
+        serviceDetails.setInstance(null);
+    }
+
+    /**
+     * Invokes pre destroy method on a given instance of a service if one is present.
+     *
+     * @param serviceDetails given service details.
+     * @param instance       instance that is no longer used.
+     */
+    @Override
+    public void destroyInstance(ServiceDetails serviceDetails, Object instance) throws PreDestroyException {
+        if (serviceDetails.getPreDestroyMethod() == null) {
+            return;
+        }
+
+        try {
+            this.getMethodHandles(serviceDetails).getPreDestroy().invokeExact(instance);
+        } catch (Throwable e) {
+            throw new PreDestroyException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Gets the cached method handles of a service or creates them.
+     * Concurrent callers may create them more than once but always get equivalent handles.
+     *
+     * @param serviceDetails the given service.
+     * @return the method handles of the service.
+     */
+    private ServiceMethodHandles getMethodHandles(ServiceDetails serviceDetails) throws ServiceInstantiationException {
+        ServiceMethodHandles methodHandles = serviceDetails.getMethodHandles();
+        if (methodHandles != null) {
+            return methodHandles;
+        }
+
+        try {
+            methodHandles = serviceDetails instanceof ServiceBeanDetails
+                    ? this.createBeanMethodHandles((ServiceBeanDetails) serviceDetails)
+                    : this.createServiceMethodHandles(serviceDetails);
+        } catch (IllegalAccessException e) {
+            throw new ServiceInstantiationException(String.format(METHOD_HANDLES_FAILED_MSG, serviceDetails.getServiceType().getName()), e);
+        }
+
+        serviceDetails.setMethodHandles(methodHandles);
+
+        return methodHandles;
+    }
+
+    private ServiceMethodHandles createServiceMethodHandles(ServiceDetails serviceDetails) throws IllegalAccessException {
+        Constructor<?> targetConstructor = serviceDetails.getTargetConstructor();
+        MethodHandle factory = this.lookup.unreflectConstructor(targetConstructor)
+                .asSpreader(Object[].class, targetConstructor.getParameterCount())
+                .asType(FACTORY_TYPE);
+
+        Field[] autowireAnnotatedFields = serviceDetails.getAutowireAnnotatedFields();
+        MethodHandle[] fieldSetters = new MethodHandle[autowireAnnotatedFields.length];
+        for (int i = 0; i < autowireAnnotatedFields.length; i++) {
+            fieldSetters[i] = this.lookup.unreflectSetter(autowireAnnotatedFields[i]).asType(FIELD_SETTER_TYPE);
+        }
+
+        return new ServiceMethodHandles(
+                factory,
+                fieldSetters,
+                this.createLifecycleMethodHandle(serviceDetails.getPostConstructMethod()),
+                this.createLifecycleMethodHandle(serviceDetails.getPreDestroyMethod())
+        );
+    }
+
+    private ServiceMethodHandles createBeanMethodHandles(ServiceBeanDetails serviceBeanDetails) throws IllegalAccessException {
+        MethodHandle factory = this.lookup.unreflect(serviceBeanDetails.getOriginMethod()).asType(BEAN_FACTORY_TYPE);
+
+        return new ServiceMethodHandles(
+                factory,
+                new MethodHandle[0],
+                null,
+                this.createLifecycleMethodHandle(serviceBeanDetails.getPreDestroyMethod())
+        );
+    }
+
+    /**
+     * @return handle of type (Object)void that drops the return value of the method or null if there is no method.
+     */
+    private MethodHandle createLifecycleMethodHandle(Method method) throws IllegalAccessException {
+        if (method == null) {
+            return null;
+        }
+
+        return this.lookup.unreflect(method).asType(LIFECYCLE_METHOD_TYPE);
+    }
+}
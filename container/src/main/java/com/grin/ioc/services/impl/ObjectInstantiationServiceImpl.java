@@ -0,0 +1,313 @@
+package com.grin.ioc.services.impl;
+
+import com.grin.ioc.exceptions.BeanInstantiationException;
+import com.grin.ioc.exceptions.PostConstructException;
+import com.grin.ioc.exceptions.PreDestroyException;
+import com.grin.ioc.exceptions.ServiceInstantiationException;
+import com.grin.ioc.models.ServiceBeanDetails;
+import com.grin.ioc.models.ServiceDetails;
+import com.grin.ioc.models.ServiceFactory;
+import com.grin.ioc.services.ObjectInstantiationService;
+import com.grin.ioc.services.ServiceFactoryGenerator;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link ObjectInstantiationService} implementation.
+ *
+ * <p>
+ * If a {@link ServiceFactoryGenerator} is given, services are created through factories generated on their
+ * first instantiation and cached on their details. Services without a factory, beans and pre destroy methods
+ * are handled by the fallback instantiation service if one is given, otherwise through reflection.
+ */
+public class ObjectInstantiationServiceImpl implements ObjectInstantiationService {
+    private static final String INVALID_PARAMETERS_COUNT_MSG = "Invalid parameters count for '%s'.";
+    private static final String NO_SERVICE_FACTORY_MSG = "No factory was generated for '%s' since its constructor, "
+            + "autowired fields or post construct method are not accessible from its package, it is created through %s.";
+
+    private static final System.Logger LOGGER = System.getLogger(ObjectInstantiationServiceImpl.class.getName());
+
+    private final ServiceFactoryGenerator serviceFactoryGenerator;
+
+    private final ObjectInstantiationService fallbackInstantiationService;
+
+    /**
+     * Services for which no factory could be generated.
+     */
+    private final Set<ServiceDetails> servicesWithoutFactory;
+
+    public ObjectInstantiationServiceImpl() {
+        this(null);
+    }
+
+    public ObjectInstantiationServiceImpl(ServiceFactoryGenerator serviceFactoryGenerator) {
+        this(serviceFactoryGenerator, null);
+    }
+
+    public ObjectInstantiationServiceImpl(ServiceFactoryGenerator serviceFactoryGenerator,
+                                          ObjectInstantiationService fallbackInstantiationService) {
+        this.serviceFactoryGenerator = serviceFactoryGenerator;
+        this.fallbackInstantiationService = fallbackInstantiationService;
+        this.servicesWithoutFactory = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * @return services for which no factory could be generated so far, they are logged at debug level as well.
+     */
+    public Collection<ServiceDetails> getServicesWithoutFactory() {
+        return Collections.unmodifiableSet(this.servicesWithoutFactory);
+    }
+
+    /**
+     * Creates an instance for a service.
+     * Invokes the PostConstruct method.
+     *
+     * @param serviceDetails    the given service details.
+     * @param constructorParams instantiated dependencies.
+     */
+    @Override
+    public void createInstance(ServiceDetails serviceDetails, Object[] constructorParams, Object[] autowiredFieldInstances) throws ServiceInstantiationException {
+        if (this.isCreatedByFallback(serviceDetails)) {
+            this.fallbackInstantiationService.createInstance(serviceDetails, constructorParams, autowiredFieldInstances);
+            return;
+        }
+
+        Object instance = this.constructInstance(serviceDetails, constructorParams);
+        serviceDetails.setInstance(instance);
+        this.initializeInstance(serviceDetails, instance, autowiredFieldInstances);
+    }
+
+    /**
+     * Creates a fully initialized instance for a service without setting it.
+     *
+     * @param serviceDetails    the given service details.
+     * @param constructorParams instantiated dependencies.
+     * @return the new instance.
+     */
+    @Override
+    public Object newInstance(ServiceDetails serviceDetails, Object[] constructorParams, Object[] autowiredFieldInstances) throws ServiceInstantiationException {
+        if (this.isCreatedByFallback(serviceDetails)) {
+            return this.fallbackInstantiationService.newInstance(serviceDetails, constructorParams, autowiredFieldInstances);
+        }
+
+        Object instance = this.constructInstance(serviceDetails, constructorParams);
+        this.initializeInstance(serviceDetails, instance, autowiredFieldInstances);
+
+        return instance;
+    }
+
+    /**
+     * Calls the constructor of a service through its generated factory or through reflection.
+     * Exceptions thrown by the service are wrapped the same way for both.
+     */
+    private Object constructInstance(ServiceDetails serviceDetails, Object[] constructorParams) throws ServiceInstantiationException {
+        Constructor<?> targetConstructor = serviceDetails.getTargetConstructor();
+
+        if (constructorParams.length != targetConstructor.getParameterCount()) {
+            throw new ServiceInstantiationException(String.format(INVALID_PARAMETERS_COUNT_MSG, serviceDetails.getServiceType().getName()));
+        }
+
+        ServiceFactory serviceFactory = this.getServiceFactory(serviceDetails);
+
+        if (serviceFactory != null) {
+            try {
+                return serviceFactory.createInstance(constructorParams);
+            } catch (Throwable e) {
+                throw new ServiceInstantiationException(e.getMessage(), e);
+            }
+        }
+
+        try {
+            return targetConstructor.newInstance(constructorParams);
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new ServiceInstantiationException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Sets the autowired fields of a new instance and invokes its PostConstruct method.
+     */
+    private void initializeInstance(ServiceDetails serviceDetails, Object instance, Object[] autowiredFieldInstances) throws ServiceInstantiationException {
+        ServiceFactory serviceFactory = serviceDetails.getServiceFactory();
+
+        if (serviceFactory == null) {
+            try {
+                this.setAutowiredFieldInstances(serviceDetails, instance, autowiredFieldInstances);
+            } catch (IllegalAccessException e) {
+                throw new ServiceInstantiationException(e.getMessage(), e);
+            }
+
+            this.invokePostConstruct(serviceDetails, instance);
+            return;
+        }
+
+        try {
+            serviceFactory.setAutowiredFields(instance, autowiredFieldInstances);
+        } catch (Throwable e) {
+            throw new ServiceInstantiationException(e.getMessage(), e);
+        }
+
+        try {
+            serviceFactory.invokePostConstruct(instance);
+        } catch (Throwable e) {
+            throw new PostConstructException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Gets the cached factory of a service or gets it from the generator,
+     * which defines the factory of a service once even if it is called concurrently.
+     *
+     * @param serviceDetails the given service.
+     * @return the factory of the service or null if factories are not generated or the service is not supported.
+     */
+    private ServiceFactory getServiceFactory(ServiceDetails serviceDetails) {
+        if (this.serviceFactoryGenerator == null || serviceDetails.getServiceFactory() != null) {
+            return serviceDetails.getServiceFactory();
+        }
+
+        if (this.servicesWithoutFactory.contains(serviceDetails)) {
+            return null;
+        }
+
+        ServiceFactory serviceFactory = this.serviceFactoryGenerator.generateServiceFactory(serviceDetails);
+        if (serviceFactory == null) {
+            if (this.servicesWithoutFactory.add(serviceDetails)) {
+                LOGGER.log(System.Logger.Level.DEBUG, () -> String.format(
+                        NO_SERVICE_FACTORY_MSG,
+                        serviceDetails.getServiceType().getName(),
+                        this.fallbackInstantiationService == null ? "reflection" : this.fallbackInstantiationService.getClass().getSimpleName()
+                ));
+            }
+        } else {
+            serviceDetails.setServiceFactory(serviceFactory);
+        }
+
+        return serviceFactory;
+    }
+
+    /**
+     * @return true if the service has no generated factory and there is a fallback instantiation service.
+     */
+    private boolean isCreatedByFallback(ServiceDetails serviceDetails) {
+        return this.fallbackInstantiationService != null
+                && this.serviceFactoryGenerator != null
+                && this.getServiceFactory(serviceDetails) == null;
+    }
+
+    /**
+     * Iterates all {@link com.grin.ioc.annotations.Autowired} annotated fields and sets them a given instance.
+     *
+     * @param serviceDetails          - given service details.
+     * @param instance                - instance of the service.
+     * @param autowiredFieldInstances - field instances.
+     */
+    private void setAutowiredFieldInstances(ServiceDetails serviceDetails, Object instance, Object[] autowiredFieldInstances) throws IllegalAccessException {
+        Field[] autowireAnnotatedFields = serviceDetails.getAutowireAnnotatedFields();
+
+        for (int i = 0; i < autowireAnnotatedFields.length; i++) {
+            autowireAnnotatedFields[i].set(instance, autowiredFieldInstances[i]);
+        }
+    }
+
+    /**
+     * Invokes post construct method if one is present for a given service.
+     *
+     * @param serviceDetails - the given service.
+     * @param instance       - instance of the service.
+     */
+    private void invokePostConstruct(ServiceDetails serviceDetails, Object instance) throws PostConstructException {
+        if (serviceDetails.getPostConstructMethod() == null) {
+            return;
+        }
+
+        try {
+            serviceDetails.getPostConstructMethod().invoke(instance);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new PostConstructException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Creates an instance for a bean by invoking its origin method
+     * and passing the instance of the service in which the bean has been declared.
+     *
+     * @param serviceBeanDetails the given bean details.
+     */
+    @Override
+    public void createBeanInstance(ServiceBeanDetails serviceBeanDetails) throws BeanInstantiationException {
+        serviceBeanDetails.setInstance(this.newBeanInstance(
+                serviceBeanDetails,
+                serviceBeanDetails.getRootService().getActualInstance()
+        ));
+    }
+
+    /**
+     * Creates an instance for a bean from a given instance of the service
+     * in which the bean has been declared, without setting it.
+     *
+     * @param serviceBeanDetails the given bean details.
+     * @param rootInstance       instance of the service in which the bean has been declared.
+     * @return the new instance.
+     */
+    @Override
+    public Object newBeanInstance(ServiceBeanDetails serviceBeanDetails, Object rootInstance) throws BeanInstantiationException {
+        if (this.fallbackInstantiationService != null) {
+            return this.fallbackInstantiationService.newBeanInstance(serviceBeanDetails, rootInstance);
+        }
+
+        Method originMethod = serviceBeanDetails.getOriginMethod();
+
+        try {
+            return originMethod.invoke(rootInstance);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new BeanInstantiationException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Sets the instance to null.
+     * Invokes pre destroy method on all instances of the given service details if one is present.
+     *
+     * @param serviceDetails given service details.
+     */
+    @Override
+    public void destroyInstance(ServiceDetails serviceDetails) throws PreDestroyException {
+        for (Object instance : serviceDetails.getInstanceSnapshot().getInstances()) {
+            this.destroyInstance(serviceDetails, instance);
+        }
+
+        serviceDetails.setInstance(null);
+    }
+
+    /**
+     * Invokes pre destroy method on a given instance of a service if one is present.
+     *
+     * @param serviceDetails given service details.
+     * @param instance       instance that is no longer used.
+     */
+    @Override
+    public void destroyInstance(ServiceDetails serviceDetails, Object instance) throws PreDestroyException {
+        if (serviceDetails.getPreDestroyMethod() == null) {
+            return;
+        }
+
+        if (this.fallbackInstantiationService != null) {
+            this.fallbackInstantiationService.destroyInstance(serviceDetails, instance);
+            return;
+        }
+
+        try {
+            serviceDetails.getPreDestroyMethod().invoke(instance);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new PreDestroyException(e.getMessage(), e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,299 @@
+package com.grin.ioc.services.impl;
+
+import com.grin.ioc.annotations.AliasFor;
+import com.grin.ioc.annotations.Bean;
+import com.grin.ioc.annotations.Service;
+import com.grin.ioc.config.DIConfiguration;
+import com.grin.ioc.constants.Constants;
+import com.grin.ioc.enums.DirectoryType;
+import com.grin.ioc.exceptions.ScanIndexException;
+import com.grin.ioc.models.FileStamp;
+import com.grin.ioc.models.ScanIndex;
+import com.grin.ioc.models.ScanIndexRoot;
+import com.grin.ioc.models.ServiceIndexEntry;
+import com.grin.ioc.services.ScanIndexService;
+
+import java.io.*;
+import java.lang.annotation.Annotation;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.zip.CRC32C;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * {@link ScanIndexService} implementation that stores the index in a binary file.
+ *
+ * <p>
+ * The index is written to a temporary file that is then moved over the index file,
+ * so a crash while writing never leaves a partial index behind.
+ * An index that is missing, unreadable or created with a different configuration is ignored.
+ *
+ * <p>
+ * The index also stores checksums of the class files of the configured annotations and of every
+ * annotation declared on a located class. If any of them changed, e.g. an annotation became an
+ * {@link AliasFor} a service annotation, the whole index is ignored since the results of
+ * unchanged classes might depend on it.
+ */
+public class ScanIndexServiceImpl implements ScanIndexService {
+    private static final String COULD_NOT_WRITE_INDEX_MSG = "Could not write scan index '%s'.";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String JAVA_PACKAGE_PREFIX = "java.";
+
+    /**
+     * Checksum stored for annotations which class file could not be found, CRC32C values are never negative.
+     */
+    private static final long MISSING_CLASS_FILE_CHECKSUM = -1;
+
+    private static final int MAGIC = 0x47494458;
+    private static final int VERSION = 1;
+
+    private final Path indexFile;
+
+    private final String configurationKey;
+
+    private final ClassLoader classLoader;
+
+    /**
+     * Names of the configured service and bean annotations including the default ones.
+     */
+    private final Set<String> configuredAnnotations;
+
+    public ScanIndexServiceImpl(DIConfiguration configuration) {
+        this.indexFile = configuration.scanning().getIndexFile();
+        this.configurationKey = this.createConfigurationKey(configuration);
+        this.classLoader = configuration.annotations().getClassLoader();
+
+        this.configuredAnnotations = Stream.of(
+                configuration.annotations().getServiceAnnotations().stream(),
+                configuration.annotations().getBeanAnnotations().stream(),
+                Stream.of(Service.class, Bean.class)
+        ).flatMap(annotations -> annotations).map(Class::getName).collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    /**
+     * Everything in the configuration that affects which classes are located and mapped.
+     * The platform's default annotations are always included since they might not
+     * have been added to the configuration yet.
+     */
+    private String createConfigurationKey(DIConfiguration configuration) {
+        return String.join(";",
+                configuration.scanning().getScanningMode().name(),
+                this.joinAnnotationNames(configuration.annotations().getServiceAnnotations(), Service.class),
+                this.joinAnnotationNames(configuration.annotations().getBeanAnnotations(), Bean.class),
+                this.joinPackageNames(configuration.annotations().getIncludedPackages()),
+                this.joinPackageNames(configuration.annotations().getExcludedPackages())
+        );
+    }
+
+    private String joinAnnotationNames(Set<Class<? extends Annotation>> annotations, Class<? extends Annotation> defaultAnnotation) {
+        return Stream.concat(annotations.stream(), Stream.of(defaultAnnotation))
+                .map(Class::getName)
+                .distinct()
+                .sorted()
+                .collect(Collectors.joining(","));
+    }
+
+    private String joinPackageNames(Set<String> packageNames) {
+        return packageNames.stream().sorted().collect(Collectors.joining(","));
+    }
+
+    @Override
+    public ScanIndex readIndex() {
+        if (!Files.isRegularFile(this.indexFile)) {
+            return this.createEmptyIndex();
+        }
+
+        try (DataInputStream inputStream = new DataInputStream(new BufferedInputStream(Files.newInputStream(this.indexFile)))) {
+            if (inputStream.readInt() != MAGIC
+                    || inputStream.readInt() != VERSION
+                    || !this.configurationKey.equals(inputStream.readUTF())) {
+                return this.createEmptyIndex();
+            }
+
+            int annotationsCount = inputStream.readInt();
+            for (int i = 0; i < annotationsCount; i++) {
+                String annotationName = inputStream.readUTF();
+                if (inputStream.readLong() != this.calculateClassFileChecksum(annotationName)) {
+                    return this.createEmptyIndex();
+                }
+            }
+
+            Map<String, ScanIndexRoot> roots = new HashMap<>();
+            int rootsCount = inputStream.readInt();
+            for (int i = 0; i < rootsCount; i++) {
+                ScanIndexRoot root = this.readRoot(inputStream);
+                roots.put(root.getDirectory(), root);
+            }
+
+            Map<String, ServiceIndexEntry> services = new HashMap<>();
+            int servicesCount = inputStream.readInt();
+            for (int i = 0; i < servicesCount; i++) {
+                ServiceIndexEntry entry = this.readServiceEntry(inputStream);
+                services.put(entry.getClassName(), entry);
+            }
+
+            return new ScanIndex(this.configurationKey, roots, services);
+        } catch (IOException | RuntimeException e) {
+            return this.createEmptyIndex();
+        }
+    }
+
+    @Override
+    public void writeIndex(ScanIndex scanIndex) throws ScanIndexException {
+        Path tempFile = this.indexFile.resolveSibling(this.indexFile.getFileName() + TEMP_FILE_SUFFIX);
+
+        try {
+            if (this.indexFile.getParent() != null) {
+                Files.createDirectories(this.indexFile.getParent());
+            }
+
+            try (DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                outputStream.writeInt(MAGIC);
+                outputStream.writeInt(VERSION);
+                outputStream.writeUTF(scanIndex.getConfigurationKey());
+
+                Set<String> annotationNames = this.collectAnnotationNames(scanIndex);
+                outputStream.writeInt(annotationNames.size());
+                for (String annotationName : annotationNames) {
+                    outputStream.writeUTF(annotationName);
+                    outputStream.writeLong(this.calculateClassFileChecksum(annotationName));
+                }
+
+                outputStream.writeInt(scanIndex.getRoots().size());
+                for (ScanIndexRoot root : scanIndex.getRoots().values()) {
+                    this.writeRoot(outputStream, root);
+                }
+
+                outputStream.writeInt(scanIndex.getServices().size());
+                for (ServiceIndexEntry entry : scanIndex.getServices().values()) {
+                    this.writeServiceEntry(outputStream, entry);
+                }
+            }
+
+            Files.move(tempFile, this.indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | ClassNotFoundException e) {
+            throw new ScanIndexException(String.format(COULD_NOT_WRITE_INDEX_MSG, this.indexFile), e);
+        }
+    }
+
+    /**
+     * Collects the configured annotations and the annotations declared on the located classes.
+     * The located classes are already loaded, so reading their annotations does not load them again.
+     */
+    private Set<String> collectAnnotationNames(ScanIndex scanIndex) throws ClassNotFoundException {
+        Set<String> annotationNames = new TreeSet<>(this.configuredAnnotations);
+
+        for (ScanIndexRoot root : scanIndex.getRoots().values()) {
+            for (String className : root.getLocatedClasses()) {
+                for (Annotation annotation : Class.forName(className, false, this.classLoader).getDeclaredAnnotations()) {
+                    String annotationName = annotation.annotationType().getName();
+                    if (!annotationName.startsWith(JAVA_PACKAGE_PREFIX)) {
+                        annotationNames.add(annotationName);
+                    }
+                }
+            }
+        }
+
+        return annotationNames;
+    }
+
+    private long calculateClassFileChecksum(String className) throws IOException {
+        String resourceName = className.replace('.', '/') + Constants.CLASS_FILE_EXTENSION;
+
+        try (InputStream inputStream = this.classLoader.getResourceAsStream(resourceName)) {
+            if (inputStream == null) {
+                return MISSING_CLASS_FILE_CHECKSUM;
+            }
+
+            CRC32C checksum = new CRC32C();
+            checksum.update(inputStream.readAllBytes());
+
+            return checksum.getValue();
+        }
+    }
+
+    private ScanIndex createEmptyIndex() {
+        return new ScanIndex(this.configurationKey, new HashMap<>(), new HashMap<>());
+    }
+
+    private ScanIndexRoot readRoot(DataInputStream inputStream) throws IOException {
+        String directory = inputStream.readUTF();
+        DirectoryType directoryType = DirectoryType.valueOf(inputStream.readUTF());
+        long checksum = inputStream.readLong();
+
+        int fileStampsCount = inputStream.readInt();
+        Map<String, FileStamp> fileStamps = new HashMap<>(fileStampsCount * 2);
+        for (int i = 0; i < fileStampsCount; i++) {
+            fileStamps.put(inputStream.readUTF(), new FileStamp(inputStream.readLong(), inputStream.readLong()));
+        }
+
+        return new ScanIndexRoot(directory, directoryType, checksum, fileStamps, new HashSet<>(Arrays.asList(this.readStrings(inputStream))));
+    }
+
+    private void writeRoot(DataOutputStream outputStream, ScanIndexRoot root) throws IOException {
+        outputStream.writeUTF(root.getDirectory());
+        outputStream.writeUTF(root.getDirectoryType().name());
+        outputStream.writeLong(root.getChecksum());
+
+        outputStream.writeInt(root.getFileStamps().size());
+        for (Map.Entry<String, FileStamp> fileStamp : root.getFileStamps().entrySet()) {
+            outputStream.writeUTF(fileStamp.getKey());
+            outputStream.writeLong(fileStamp.getValue().getLastModifiedMillis());
+            outputStream.writeLong(fileStamp.getValue().getSize());
+        }
+
+        this.writeStrings(outputStream, root.getLocatedClasses().toArray(String[]::new));
+    }
+
+    private ServiceIndexEntry readServiceEntry(DataInputStream inputStream) throws IOException {
+        return new ServiceIndexEntry(
+                inputStream.readUTF(),
+                this.readNullableString(inputStream),
+                this.readStrings(inputStream),
+                this.readNullableString(inputStream),
+                this.readNullableString(inputStream),
+                this.readStrings(inputStream),
+                this.readStrings(inputStream)
+        );
+    }
+
+    private void writeServiceEntry(DataOutputStream outputStream, ServiceIndexEntry entry) throws IOException {
+        outputStream.writeUTF(entry.getClassName());
+        this.writeNullableString(outputStream, entry.getAnnotationType());
+        this.writeStrings(outputStream, entry.getConstructorParameterTypes());
+        this.writeNullableString(outputStream, entry.getPostConstructMethod());
+        this.writeNullableString(outputStream, entry.getPreDestroyMethod());
+        this.writeStrings(outputStream, entry.getBeanMethods());
+        this.writeStrings(outputStream, entry.getAutowiredFields());
+    }
+
+    private String readNullableString(DataInputStream inputStream) throws IOException {
+        return inputStream.readBoolean() ? inputStream.readUTF() : null;
+    }
+
+    private void writeNullableString(DataOutputStream outputStream, String value) throws IOException {
+        outputStream.writeBoolean(value != null);
+        if (value != null) {
+            outputStream.writeUTF(value);
+        }
+    }
+
+    private String[] readStrings(DataInputStream inputStream) throws IOException {
+        String[] values = new String[inputStream.readInt()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = inputStream.readUTF();
+        }
+
+        return values;
+    }
+
+    private void writeStrings(DataOutputStream outputStream, String[] values) throws IOException {
+        outputStream.writeInt(values.length);
+        for (String value : values) {
+            outputStream.writeUTF(value);
+        }
+    }
+}
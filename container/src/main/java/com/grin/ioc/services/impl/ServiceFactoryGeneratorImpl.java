@@ -0,0 +1,359 @@
+package com.grin.ioc.services.impl;
+
+import com.grin.ioc.exceptions.ServiceInstantiationException;
+import com.grin.ioc.models.ServiceDetails;
+import com.grin.ioc.models.ServiceFactory;
+import com.grin.ioc.services.ServiceFactoryGenerator;
+import javassist.bytecode.AccessFlag;
+import javassist.bytecode.Bytecode;
+import javassist.bytecode.ClassFile;
+import javassist.bytecode.ConstPool;
+import javassist.bytecode.DuplicateMemberException;
+import javassist.bytecode.MethodInfo;
+import javassist.bytecode.Opcode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link ServiceFactoryGenerator} implementation that writes the bytecode of the factories with javassist.
+ *
+ * <p>
+ * Each factory is defined in the package and class loader of its service, so it can call package private
+ * constructors and methods and assign package private fields without reflection. Services with private
+ * or final members or with dependencies of types that are not visible from their package are not supported.
+ *
+ * <p>
+ * The bytecode is written directly instead of being compiled from source, since the javassist compiler
+ * has to read the class files of the services and cannot parse recent class file versions.
+ *
+ * <p>
+ * Factories are stateless, so they are cached per service type and shared by all containers of the same class loader.
+ * A service type gets one factory for each combination of target constructor, autowired fields
+ * and post construct method, which only differ if containers use different annotations.
+ * Factory class names end with the index of that combination among the factories of the service type.
+ */
+public class ServiceFactoryGeneratorImpl implements ServiceFactoryGenerator {
+    private static final String FACTORY_CLASS_SUFFIX = "$$ServiceFactory";
+    private static final String FACTORY_GENERATION_FAILED_MSG = "Could not generate a factory for '%s'.";
+
+    /**
+     * Factories of each service type. Generating a factory is atomic for each key,
+     * so concurrent first instantiations of a service define its factory class once.
+     */
+    private static final ClassValue<ServiceFactories> SERVICE_FACTORIES = new ClassValue<>() {
+        @Override
+        protected ServiceFactories computeValue(Class<?> serviceType) {
+            return new ServiceFactories();
+        }
+    };
+
+    private static final String CONSTRUCTOR_NAME = "<init>";
+    private static final String NO_ARGS_DESCRIPTOR = "()V";
+    private static final String CREATE_INSTANCE_DESCRIPTOR = "([Ljava/lang/Object;)Ljava/lang/Object;";
+    private static final String SET_AUTOWIRED_FIELDS_DESCRIPTOR = "(Ljava/lang/Object;[Ljava/lang/Object;)V";
+    private static final String INVOKE_POST_CONSTRUCT_DESCRIPTOR = "(Ljava/lang/Object;)V";
+
+    private static final Map<Class<?>, Class<?>> WRAPPER_TYPES = Map.of(
+            boolean.class, Boolean.class,
+            byte.class, Byte.class,
+            char.class, Character.class,
+            short.class, Short.class,
+            int.class, Integer.class,
+            long.class, Long.class,
+            float.class, Float.class,
+            double.class, Double.class
+    );
+
+    /**
+     * Gets the cached factory of the given service or writes a factory class for it,
+     * defines it next to the service and creates an instance.
+     *
+     * @param serviceDetails the given service.
+     * @return the factory or null if the service is not supported.
+     * @throws ServiceInstantiationException if the factory could not be defined.
+     */
+    @Override
+    public ServiceFactory generateServiceFactory(ServiceDetails serviceDetails) {
+        if (!this.isSupported(serviceDetails)) {
+            return null;
+        }
+
+        ServiceFactories serviceFactories = SERVICE_FACTORIES.get(serviceDetails.getServiceType());
+
+        return serviceFactories.factories.computeIfAbsent(
+                this.getFactoryKey(serviceDetails),
+                key -> this.defineServiceFactory(serviceDetails, serviceFactories.nextIndex.getAndIncrement())
+        );
+    }
+
+    /**
+     * @param factoryIndex unique index of the factory among the factories of the same service type.
+     */
+    private ServiceFactory defineServiceFactory(ServiceDetails serviceDetails, int factoryIndex) {
+        Class<?> serviceType = serviceDetails.getServiceType();
+        String factoryClassName = serviceType.getName() + FACTORY_CLASS_SUFFIX + factoryIndex;
+
+        ClassFile classFile = new ClassFile(false, factoryClassName, Object.class.getName());
+        classFile.setMajorVersion(ClassFile.JAVA_5);
+        classFile.setAccessFlags(AccessFlag.PUBLIC | AccessFlag.FINAL | AccessFlag.SUPER);
+        classFile.setInterfaces(new String[]{ServiceFactory.class.getName()});
+
+        try {
+            ConstPool constPool = classFile.getConstPool();
+            classFile.addMethod(this.createMethod(constPool, CONSTRUCTOR_NAME, NO_ARGS_DESCRIPTOR, this.constructorCode(constPool)));
+            classFile.addMethod(this.createMethod(constPool, "createInstance", CREATE_INSTANCE_DESCRIPTOR, this.createInstanceCode(constPool, serviceDetails)));
+            classFile.addMethod(this.createMethod(constPool, "setAutowiredFields", SET_AUTOWIRED_FIELDS_DESCRIPTOR, this.setAutowiredFieldsCode(constPool, serviceDetails)));
+            classFile.addMethod(this.createMethod(constPool, "invokePostConstruct", INVOKE_POST_CONSTRUCT_DESCRIPTOR, this.invokePostConstructCode(constPool, serviceDetails)));
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                classFile.write(out);
+            }
+
+            Class<?> factoryClass = MethodHandles.privateLookupIn(serviceType, MethodHandles.lookup())
+                    .defineClass(bytes.toByteArray());
+
+            return (ServiceFactory) factoryClass.getDeclaredConstructor().newInstance();
+        } catch (DuplicateMemberException | IOException | ReflectiveOperationException | LinkageError e) {
+            throw new ServiceInstantiationException(String.format(FACTORY_GENERATION_FAILED_MSG, serviceType.getName()), e);
+        }
+    }
+
+    /**
+     * @return descriptor of the target constructor, the autowired fields and the post construct method of the service.
+     */
+    private String getFactoryKey(ServiceDetails serviceDetails) {
+        StringBuilder key = new StringBuilder(MethodType.methodType(
+                void.class,
+                serviceDetails.getTargetConstructor().getParameterTypes()
+        ).toMethodDescriptorString());
+
+        for (Field field : serviceDetails.getAutowireAnnotatedFields()) {
+            key.append(';').append(field.getDeclaringClass().getName()).append('.').append(field.getName());
+        }
+
+        Method postConstructMethod = serviceDetails.getPostConstructMethod();
+        if (postConstructMethod != null) {
+            key.append(';').append(postConstructMethod.getDeclaringClass().getName()).append('#').append(postConstructMethod.getName());
+        }
+
+        return key.toString();
+    }
+
+    private MethodInfo createMethod(ConstPool constPool, String name, String descriptor, Bytecode code) {
+        MethodInfo method = new MethodInfo(constPool, name, descriptor);
+        method.setAccessFlags(AccessFlag.PUBLIC);
+        method.setCodeAttribute(code.toCodeAttribute());
+
+        return method;
+    }
+
+    private Bytecode constructorCode(ConstPool constPool) {
+        Bytecode code = new Bytecode(constPool, 0, 1);
+        code.addAload(0);
+        code.addInvokespecial(Object.class.getName(), CONSTRUCTOR_NAME, NO_ARGS_DESCRIPTOR);
+        code.addOpcode(Opcode.RETURN);
+
+        return code;
+    }
+
+    /**
+     * new Service((Type0) params[0], ...)
+     */
+    private Bytecode createInstanceCode(ConstPool constPool, ServiceDetails serviceDetails) {
+        Constructor<?> targetConstructor = serviceDetails.getTargetConstructor();
+        Class<?>[] parameterTypes = targetConstructor.getParameterTypes();
+
+        Bytecode code = new Bytecode(constPool, 0, 2);
+        code.addNew(serviceDetails.getServiceType().getName());
+        code.addOpcode(Opcode.DUP);
+        for (int i = 0; i < parameterTypes.length; i++) {
+            this.addArrayElement(code, 1, i, parameterTypes[i]);
+        }
+        code.addInvokespecial(
+                serviceDetails.getServiceType().getName(),
+                CONSTRUCTOR_NAME,
+                MethodType.methodType(void.class, parameterTypes).toMethodDescriptorString()
+        );
+        code.addOpcode(Opcode.ARETURN);
+
+        return code;
+    }
+
+    /**
+     * ((DeclaringType) instance).field = (Type) fields[i] for each autowired field.
+     */
+    private Bytecode setAutowiredFieldsCode(ConstPool constPool, ServiceDetails serviceDetails) {
+        Field[] autowireAnnotatedFields = serviceDetails.getAutowireAnnotatedFields();
+
+        Bytecode code = new Bytecode(constPool, 0, 3);
+        for (int i = 0; i < autowireAnnotatedFields.length; i++) {
+            Field field = autowireAnnotatedFields[i];
+
+            code.addAload(1);
+            code.addCheckcast(field.getDeclaringClass().getName());
+            this.addArrayElement(code, 2, i, field.getType());
+            code.addPutfield(field.getDeclaringClass().getName(), field.getName(), field.getType().descriptorString());
+        }
+        code.addOpcode(Opcode.RETURN);
+
+        return code;
+    }
+
+    /**
+     * ((DeclaringType) instance).postConstruct() discarding the result if there is a post construct method.
+     */
+    private Bytecode invokePostConstructCode(ConstPool constPool, ServiceDetails serviceDetails) {
+        Method postConstructMethod = serviceDetails.getPostConstructMethod();
+
+        Bytecode code = new Bytecode(constPool, 0, 2);
+        if (postConstructMethod != null) {
+            code.addAload(1);
+            code.addCheckcast(postConstructMethod.getDeclaringClass().getName());
+            code.addInvokevirtual(
+                    postConstructMethod.getDeclaringClass().getName(),
+                    postConstructMethod.getName(),
+                    MethodType.methodType(postConstructMethod.getReturnType()).toMethodDescriptorString()
+            );
+
+            Class<?> returnType = postConstructMethod.getReturnType();
+            if (returnType == long.class || returnType == double.class) {
+                code.addOpcode(Opcode.POP2);
+            } else if (returnType != void.class) {
+                code.addOpcode(Opcode.POP);
+            }
+        }
+        code.addOpcode(Opcode.RETURN);
+
+        return code;
+    }
+
+    /**
+     * Pushes the element at the given index of the array in the given local variable,
+     * cast or unboxed to the given type.
+     */
+    private void addArrayElement(Bytecode code, int arrayVariable, int index, Class<?> type) {
+        code.addAload(arrayVariable);
+        code.addIconst(index);
+        code.addOpcode(Opcode.AALOAD);
+
+        if (!type.isPrimitive()) {
+            code.addCheckcast(type.getName());
+            return;
+        }
+
+        Class<?> wrapperType = WRAPPER_TYPES.get(type);
+        code.addCheckcast(wrapperType.getName());
+        code.addInvokevirtual(
+                wrapperType.getName(),
+                type.getName() + "Value",
+                MethodType.methodType(type).toMethodDescriptorString()
+        );
+    }
+
+    /**
+     * Checks whether a class in the package of the service can create and initialize it directly.
+     */
+    private boolean isSupported(ServiceDetails serviceDetails) {
+        Class<?> serviceType = serviceDetails.getServiceType();
+        if (Modifier.isAbstract(serviceType.getModifiers()) || !this.isAccessible(serviceType, serviceType)) {
+            return false;
+        }
+
+        Constructor<?> targetConstructor = serviceDetails.getTargetConstructor();
+        if (!this.isAccessible(targetConstructor, serviceType)) {
+            return false;
+        }
+
+        for (Class<?> parameterType : targetConstructor.getParameterTypes()) {
+            if (!this.isAccessible(parameterType, serviceType)) {
+                return false;
+            }
+        }
+
+        for (Field field : serviceDetails.getAutowireAnnotatedFields()) {
+            if (Modifier.isFinal(field.getModifiers())
+                    || Modifier.isStatic(field.getModifiers())
+                    || !this.isAccessible(field, serviceType)
+                    || !this.isAccessible(field.getType(), serviceType)) {
+                return false;
+            }
+        }
+
+        Method postConstructMethod = serviceDetails.getPostConstructMethod();
+
+        return postConstructMethod == null
+                || !Modifier.isStatic(postConstructMethod.getModifiers())
+                && !postConstructMethod.getDeclaringClass().isInterface()
+                && this.isAccessible(postConstructMethod, serviceType);
+    }
+
+    private boolean isAccessible(Member member, Class<?> serviceType) {
+        int modifiers = member.getModifiers();
+        if (Modifier.isPrivate(modifiers) || !this.isAccessible(member.getDeclaringClass(), serviceType)) {
+            return false;
+        }
+
+        return Modifier.isPublic(modifiers) || this.isSamePackage(member.getDeclaringClass(), serviceType);
+    }
+
+    private boolean isAccessible(Class<?> type, Class<?> serviceType) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+
+        if (type.isPrimitive()) {
+            return true;
+        }
+
+        if (type.getModule().isNamed() && !type.getModule().isExported(type.getPackageName())) {
+            return false;
+        }
+
+        for (Class<?> cls = type; cls != null; cls = cls.getDeclaringClass()) {
+            int modifiers = cls.getModifiers();
+            if (Modifier.isPrivate(modifiers)) {
+                return false;
+            }
+
+            if (!Modifier.isPublic(modifiers) && !this.isSamePackage(cls, serviceType)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private boolean isSamePackage(Class<?> type, Class<?> serviceType) {
+        return type.getClassLoader() == serviceType.getClassLoader()
+                && type.getPackageName().equals(serviceType.getPackageName());
+    }
+
+    /**
+     * Factories of a service type by the members they access and the index of the next factory class.
+     */
+    private static class ServiceFactories {
+
+        private final ConcurrentMap<String, ServiceFactory> factories;
+
+        private final AtomicInteger nextIndex;
+
+        private ServiceFactories() {
+            this.factories = new ConcurrentHashMap<>();
+            this.nextIndex = new AtomicInteger();
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.grin.ioc.services.impl;
+
+import com.grin.ioc.annotations.AliasFor;
+import com.grin.ioc.annotations.Bean;
+import com.grin.ioc.annotations.Service;
+import com.grin.ioc.config.DIConfiguration;
+import com.grin.ioc.constants.Constants;
+import com.grin.ioc.enums.DirectoryType;
+import com.grin.ioc.exceptions.ClassLocationException;
+import com.grin.ioc.models.Directory;
+import com.grin.ioc.models.ServiceIndexEntry;
+import com.grin.ioc.services.ServiceIndexReader;
+import com.grin.ioc.utils.PackageFilter;
+
+import java.io.*;
+import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * {@link ServiceIndexReader} implementation.
+ *
+ * <p>
+ * Reads {@link Constants#SERVICE_INDEX_RESOURCE} from the given directory or jar file.
+ * The index is line based, each service starts with a "service" line followed by
+ * lines for its constructor, lifecycle methods, beans and autowired fields.
+ * Only the classes of the indexed services in included packages are loaded.
+ *
+ * <p>
+ * The index starts with the service and bean annotations it was written with. If a configured annotation
+ * is missing, the index is ignored and the directory is scanned, since it may contain services the index does not know.
+ * Indexes without these lines are taken to know only {@link Service} and {@link Bean}.
+ */
+public class ServiceIndexReaderImpl implements ServiceIndexReader {
+    private static final String INVALID_SERVICE_INDEX_MSG = "Invalid service index line '%s' in '%s'.";
+    private static final String COULD_NOT_READ_SERVICE_INDEX_MSG = "Could not read service index in '%s'.";
+
+    private static final String COMMENT = "#";
+    private static final String SEPARATOR = "\t";
+    private static final String SERVICE = "service";
+    private static final String SERVICE_ANNOTATIONS = "serviceAnnotations";
+    private static final String BEAN_ANNOTATIONS = "beanAnnotations";
+    private static final String CONSTRUCTOR = "constructor";
+    private static final String POST_CONSTRUCT = "postConstruct";
+    private static final String PRE_DESTROY = "preDestroy";
+    private static final String BEAN = "bean";
+    private static final String FIELD = "field";
+
+    private ClassLoader classLoader;
+
+    private Set<Class<? extends Annotation>> serviceAnnotations;
+
+    private Set<Class<? extends Annotation>> beanAnnotations;
+
+    /**
+     * Filter for packages, every package is scanned if no packages are configured.
+     */
+    private PackageFilter packageFilter;
+
+    public ServiceIndexReaderImpl(DIConfiguration configuration) {
+        this.classLoader = configuration.annotations().getClassLoader();
+        this.serviceAnnotations = configuration.annotations().getServiceAnnotations();
+        this.beanAnnotations = configuration.annotations().getBeanAnnotations();
+        this.packageFilter = new PackageFilter(
+                configuration.annotations().getIncludedPackages(),
+                configuration.annotations().getExcludedPackages()
+        );
+    }
+
+    @Override
+    public Map<Class<?>, ServiceIndexEntry> readServiceIndex(Directory directory) throws ClassLocationException {
+        try {
+            if (directory.getDirectoryType() == DirectoryType.JAR_FILE) {
+                try (JarFile jarFile = new JarFile(new File(directory.getDirectory()))) {
+                    JarEntry indexEntry = jarFile.getJarEntry(Constants.SERVICE_INDEX_RESOURCE);
+                    if (indexEntry == null) {
+                        return null;
+                    }
+
+                    return this.readServiceIndex(jarFile.getInputStream(indexEntry), directory);
+                }
+            }
+
+            File indexFile = new File(directory.getDirectory(), Constants.SERVICE_INDEX_RESOURCE);
+            if (!indexFile.isFile()) {
+                return null;
+            }
+
+            return this.readServiceIndex(new FileInputStream(indexFile), directory);
+        } catch (IOException | ClassNotFoundException e) {
+            throw new ClassLocationException(String.format(COULD_NOT_READ_SERVICE_INDEX_MSG, directory.getDirectory()), e);
+        }
+    }
+
+    private Map<Class<?>, ServiceIndexEntry> readServiceIndex(InputStream inputStream, Directory directory) throws IOException, ClassNotFoundException {
+        Map<Class<?>, ServiceIndexEntry> services = new LinkedHashMap<>();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String[] service = null;
+            String[] constructorParameterTypes = new String[0];
+            String postConstructMethod = null;
+            String preDestroyMethod = null;
+            List<String> beanMethods = new ArrayList<>();
+            List<String> autowiredFields = new ArrayList<>();
+
+            Set<String> indexedServiceAnnotations = Set.of(Service.class.getName());
+            Set<String> indexedBeanAnnotations = Set.of(Bean.class.getName());
+            boolean annotationsChecked = false;
+
+            for (String line = reader.readLine(); ; line = reader.readLine()) {
+                if (line != null && (line.isEmpty() || line.startsWith(COMMENT))) {
+                    continue;
+                }
+
+                String[] values = line == null ? null : line.split(SEPARATOR);
+
+                if (values != null && (SERVICE_ANNOTATIONS.equals(values[0]) || BEAN_ANNOTATIONS.equals(values[0]))) {
+                    if (service != null) {
+                        throw new ClassLocationException(String.format(INVALID_SERVICE_INDEX_MSG, line, directory.getDirectory()));
+                    }
+
+                    Set<String> annotations = new HashSet<>(Arrays.asList(values).subList(1, values.length));
+                    if (SERVICE_ANNOTATIONS.equals(values[0])) {
+                        indexedServiceAnnotations = annotations;
+                    } else {
+                        indexedBeanAnnotations = annotations;
+                    }
+                    continue;
+                }
+
+                if (!annotationsChecked) {
+                    if (!this.isIndexed(this.serviceAnnotations, indexedServiceAnnotations)
+                            || !this.isIndexed(this.beanAnnotations, indexedBeanAnnotations)) {
+                        return null;
+                    }
+                    annotationsChecked = true;
+                }
+
+                if (line == null || SERVICE.equals(values[0])) {
+                    if (service != null && this.packageFilter.isClassIncluded(service[1])) {
+                        ServiceIndexEntry entry = new ServiceIndexEntry(
+                                service[1],
+                                service[2],
+                                constructorParameterTypes,
+                                postConstructMethod,
+                                preDestroyMethod,
+                                beanMethods.toArray(String[]::new),
+                                autowiredFields.toArray(String[]::new)
+                        );
+
+                        services.put(Class.forName(entry.getClassName(), true, this.classLoader), entry);
+                    }
+
+                    if (line == null) {
+                        break;
+                    }
+
+                    if (values.length != 3) {
+                        throw new ClassLocationException(String.format(INVALID_SERVICE_INDEX_MSG, line, directory.getDirectory()));
+                    }
+
+                    service = values;
+                    constructorParameterTypes = new String[0];
+                    postConstructMethod = null;
+                    preDestroyMethod = null;
+                    beanMethods = new ArrayList<>();
+                    autowiredFields = new ArrayList<>();
+                    continue;
+                }
+
+                if (service == null || (values.length < 2 && !CONSTRUCTOR.equals(values[0]))) {
+                    throw new ClassLocationException(String.format(INVALID_SERVICE_INDEX_MSG, line, directory.getDirectory()));
+                }
+
+                switch (values[0]) {
+                    case CONSTRUCTOR:
+                        constructorParameterTypes = new String[values.length - 1];
+                        System.arraycopy(values, 1, constructorParameterTypes, 0, constructorParameterTypes.length);
+                        break;
+                    case POST_CONSTRUCT:
+                        postConstructMethod = values[1];
+                        break;
+                    case PRE_DESTROY:
+                        preDestroyMethod = values[1];
+                        break;
+                    case BEAN:
+                        beanMethods.add(values[1]);
+                        break;
+                    case FIELD:
+                        autowiredFields.add(values[1]);
+                        break;
+                    default:
+                        throw new ClassLocationException(String.format(INVALID_SERVICE_INDEX_MSG, line, directory.getDirectory()));
+                }
+            }
+        }
+
+        return services;
+    }
+
+    /**
+     * An annotation is indexed if the index was written with it or with the annotation it is an alias for.
+     */
+    private boolean isIndexed(Collection<Class<? extends Annotation>> annotations, Set<String> indexedAnnotations) {
+        for (Class<? extends Annotation> annotation : annotations) {
+            AliasFor aliasFor = annotation.getAnnotation(AliasFor.class);
+            if (!indexedAnnotations.contains(annotation.getName())
+                    && (aliasFor == null || !indexedAnnotations.contains(aliasFor.value().getName()))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
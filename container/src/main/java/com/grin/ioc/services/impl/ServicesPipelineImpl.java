@@ -0,0 +1,237 @@
+package com.grin.ioc.services.impl;
+
+import com.grin.ioc.config.DIConfiguration;
+import com.grin.ioc.config.configurations.InstantiationConfiguration;
+import com.grin.ioc.enums.ServiceScope;
+import com.grin.ioc.exceptions.ServiceInstantiationException;
+import com.grin.ioc.models.ScanIndex;
+import com.grin.ioc.models.ServiceDetails;
+import com.grin.ioc.models.ServiceIndexEntry;
+import com.grin.ioc.services.ObjectInstantiationService;
+import com.grin.ioc.services.ServicesPipeline;
+import com.grin.ioc.services.ServicesScanningService;
+import com.grin.ioc.utils.ProxyUtils;
+import com.grin.ioc.utils.ScopeUtils;
+import com.grin.ioc.utils.ServiceDetailsConstructorComparator;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * {@link ServicesPipeline} implementation.
+ *
+ * <p>
+ * Accepted classes are put in a bounded queue that is drained by a pool of mapping workers,
+ * the scanning thread blocks while the queue is full. Mapped services with no constructor
+ * parameters and no autowired fields are instantiated by a pool of instantiation workers of the same size.
+ * Services with dependencies are only mapped here, a later class may provide one of their dependencies.
+ * The first failure of any stage stops the remaining work and is thrown by {@link #awaitMappedServices()}.
+ *
+ * <p>
+ * If a {@link ScanIndex} is used, mapping starts once all classes are located,
+ * since whether a class is up to date is known only after all directories are scanned.
+ */
+public class ServicesPipelineImpl implements ServicesPipeline {
+    private static final String INTERRUPTED_MSG = "Interrupted while waiting for services to be mapped.";
+    private static final String MAPPING_THREAD_NAME = "grin-ioc-mapping";
+    private static final String INSTANTIATION_THREAD_NAME = "grin-ioc-instantiation";
+    private static final String PIPELINE_CLOSED_MSG = "The services pipeline is closed.";
+    private static final long CAPACITY_WAIT_MILLIS = 100;
+
+    private final ServicesScanningService scanningService;
+
+    private final InstantiationConfiguration configuration;
+
+    private final ObjectInstantiationService instantiationService;
+
+    /**
+     * Entries of the located classes that were indexed at compile time.
+     */
+    private final Map<Class<?>, ServiceIndexEntry> indexedServices;
+
+    /**
+     * Classes waiting for all directories to be scanned, null if classes are mapped right away.
+     */
+    private final List<Class<?>> deferredClasses;
+
+    private final ThreadPoolExecutor mappingExecutor;
+
+    private final ExecutorService instantiationExecutor;
+
+    private final Queue<ServiceDetails> mappedServices;
+
+    private final Queue<ServiceDetails> instantiatedServices;
+
+    private final AtomicReference<Throwable> failure;
+
+    public ServicesPipelineImpl(DIConfiguration configuration,
+                                ServicesScanningService scanningService,
+                                ObjectInstantiationService instantiationService,
+                                Map<Class<?>, ServiceIndexEntry> indexedServices,
+                                ScanIndex scanIndex) {
+        this.configuration = configuration.instantiations();
+        this.scanningService = scanningService;
+        this.instantiationService = instantiationService;
+        this.indexedServices = indexedServices;
+        this.deferredClasses = scanIndex == null ? null : new ArrayList<>();
+
+        int parallelism = configuration.scanning().getParallelism();
+        this.mappingExecutor = new ThreadPoolExecutor(
+                parallelism,
+                parallelism,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(configuration.scanning().getPipelineQueueCapacity()),
+                runnable -> this.createThread(runnable, MAPPING_THREAD_NAME),
+                this::waitForCapacity
+        );
+        this.instantiationExecutor = Executors.newFixedThreadPool(
+                parallelism,
+                runnable -> this.createThread(runnable, INSTANTIATION_THREAD_NAME)
+        );
+
+        this.mappedServices = new ConcurrentLinkedQueue<>();
+        this.instantiatedServices = new ConcurrentLinkedQueue<>();
+        this.failure = new AtomicReference<>();
+    }
+
+    @Override
+    public void accept(Class<?> cls) {
+        if (this.deferredClasses != null) {
+            this.deferredClasses.add(cls);
+            return;
+        }
+
+        this.mappingExecutor.execute(() -> this.mapService(cls));
+    }
+
+    @Override
+    public Set<ServiceDetails> awaitMappedServices() {
+        if (this.deferredClasses != null) {
+            for (Class<?> cls : this.deferredClasses) {
+                this.mappingExecutor.execute(() -> this.mapService(cls));
+            }
+        }
+
+        this.awaitTermination(this.mappingExecutor);
+        this.awaitTermination(this.instantiationExecutor);
+
+        Throwable failure = this.failure.get();
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+
+        if (failure != null) {
+            throw new ServiceInstantiationException(failure.getMessage(), failure);
+        }
+
+        Set<ServiceDetails> serviceDetailsStorage = new HashSet<>(this.mappedServices);
+        serviceDetailsStorage.addAll(this.scanningService.mapAdditionalServices());
+
+        return serviceDetailsStorage.stream()
+                .sorted(new ServiceDetailsConstructorComparator())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    @Override
+    public Collection<ServiceDetails> getInstantiatedServices() {
+        return this.instantiatedServices;
+    }
+
+    @Override
+    public void close() {
+        this.mappingExecutor.shutdownNow();
+        this.instantiationExecutor.shutdownNow();
+    }
+
+    private void mapService(Class<?> cls) {
+        if (this.failure.get() != null) {
+            return;
+        }
+
+        try {
+            ServiceDetails serviceDetails = this.scanningService.mapService(cls, this.indexedServices.get(cls));
+            if (serviceDetails == null) {
+                return;
+            }
+
+            this.mappedServices.add(serviceDetails);
+
+            if (serviceDetails.getTargetConstructor().getParameterCount() == 0
+                    && serviceDetails.getAutowireAnnotatedFields().length == 0) {
+                this.instantiationExecutor.execute(() -> this.instantiateService(serviceDetails));
+            }
+        } catch (Throwable e) {
+            this.failure.compareAndSet(null, e);
+        }
+    }
+
+    private void instantiateService(ServiceDetails serviceDetails) {
+        if (this.failure.get() != null) {
+            return;
+        }
+
+        try {
+            if (serviceDetails.getScope() == ServiceScope.SINGLETON) {
+                this.instantiationService.createInstance(serviceDetails, new Object[0], new Object[0]);
+            } else {
+                serviceDetails.setInstanceSnapshot(ScopeUtils.createInstanceSnapshot(
+                        this.instantiationService, serviceDetails, new Object[0], new Object[0]));
+            }
+            if (ProxyUtils.isReloadable(serviceDetails, this.configuration)) {
+                ProxyUtils.createProxyInstance(serviceDetails);
+            }
+
+            this.instantiatedServices.add(serviceDetails);
+        } catch (Throwable e) {
+            this.failure.compareAndSet(null, e);
+        }
+    }
+
+    /**
+     * Rejection handler of the mapping workers that blocks the scanning thread until the queue has capacity.
+     *
+     * @throws RejectedExecutionException if the workers are shut down before or while waiting.
+     */
+    private void waitForCapacity(Runnable task, ThreadPoolExecutor executor) {
+        try {
+            while (!executor.isShutdown()) {
+                if (executor.getQueue().offer(task, CAPACITY_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            }
+
+            throw new RejectedExecutionException(PIPELINE_CLOSED_MSG);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceInstantiationException(INTERRUPTED_MSG, e);
+        }
+    }
+
+    /**
+     * Shuts the executor down and waits until all of its tasks are done.
+     */
+    private void awaitTermination(ExecutorService executor) {
+        executor.shutdown();
+
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceInstantiationException(INTERRUPTED_MSG, e);
+        }
+    }
+
+    private Thread createThread(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+
+        return thread;
+    }
+}
@@ -0,0 +1,372 @@
+package com.grin.ioc.services.impl;
+
+import com.grin.ioc.annotations.*;
+import com.grin.ioc.config.configurations.ConfigurableAnnotationsConfiguration;
+import com.grin.ioc.models.ScanIndex;
+import com.grin.ioc.models.ServiceDetails;
+import com.grin.ioc.models.ServiceIndexEntry;
+import com.grin.ioc.services.ServicesScanningService;
+import com.grin.ioc.utils.AliasFinder;
+import com.grin.ioc.utils.ServiceDetailsConstructorComparator;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * {@link ServicesScanningService} implementation.
+ *
+ * Iterates all located classes and looks for classes with {@link @Service}
+ * annotation or one provided by the client and then collects data for that class.
+ *
+ * <p>
+ * If a {@link ScanIndex} is given, classes that did not change since the index was written
+ * are mapped from their index entries and the results of this run are added to the index.
+ * Classes indexed at compile time are always mapped from their entries.
+ */
+public class ServicesScanningServiceImpl implements ServicesScanningService {
+
+    private static final Map<String, Class<?>> PRIMITIVE_TYPES = Map.of(
+            "boolean", boolean.class, "byte", byte.class, "char", char.class, "short", short.class,
+            "int", int.class, "long", long.class, "float", float.class, "double", double.class
+    );
+
+    /**
+     * Configuration containing annotations provided by the client.
+     */
+    private ConfigurableAnnotationsConfiguration configuration;
+
+    /**
+     * Results of the previous run, null if no index is used.
+     */
+    private ScanIndex scanIndex;
+
+    public ServicesScanningServiceImpl(ConfigurableAnnotationsConfiguration configuration) {
+        this(configuration, null);
+    }
+
+    public ServicesScanningServiceImpl(ConfigurableAnnotationsConfiguration configuration, ScanIndex scanIndex) {
+        this.configuration = configuration;
+        this.scanIndex = scanIndex;
+        this.init();
+    }
+
+    /**
+     * Adds the platform's default annotations for services and beans on top of the
+     * ones that the client might have provided.
+     */
+    private void init() {
+        this.configuration.getBeanAnnotations().add(Bean.class);
+        this.configuration.getServiceAnnotations().add(Service.class);
+    }
+
+    /**
+     * Iterates scanned classes with @{@link Service} or user specified annotation
+     * and creates a {@link ServiceDetails} object with the collected information.
+     *
+     * @param locatedClasses given set of classes.
+     * @return set or services and their collected details.
+     */
+    @Override
+    public Set<ServiceDetails> mapServices(Set<Class<?>> locatedClasses) {
+        return this.mapServices(locatedClasses, Map.of());
+    }
+
+    /**
+     * Maps every located class with {@link #mapService(Class, ServiceIndexEntry)}
+     * and adds the additional classes provided by the client.
+     *
+     * @param locatedClasses  given set of classes.
+     * @param indexedServices entries of the located classes that were indexed at compile time.
+     * @return set or services and their collected details.
+     */
+    @Override
+    public Set<ServiceDetails> mapServices(Set<Class<?>> locatedClasses, Map<Class<?>, ServiceIndexEntry> indexedServices) {
+        Set<ServiceDetails> serviceDetailsStorage = new HashSet<>();
+
+        for (Class<?> cls : locatedClasses) {
+            ServiceDetails serviceDetails = this.mapService(cls, indexedServices.get(cls));
+            if (serviceDetails != null) {
+                serviceDetailsStorage.add(serviceDetails);
+            }
+        }
+
+        serviceDetailsStorage.addAll(this.mapAdditionalServices());
+
+        return serviceDetailsStorage.stream()
+                .sorted(new ServiceDetailsConstructorComparator())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    /**
+     * Maps a single located class.
+     *
+     * <p>
+     * Classes indexed at compile time are mapped from their entries. Otherwise, if the class
+     * is up to date in the {@link ScanIndex}, it is mapped from its previous entry or skipped
+     * if it was not a service. Entries that do not match the class fall back to scanning it.
+     * Additional classes are skipped since they are mapped by {@link #mapAdditionalServices()}.
+     *
+     * @param cls            the located class.
+     * @param indexedService entry of the class indexed at compile time or null.
+     * @return service details or null if the class is not a service.
+     */
+    @Override
+    public ServiceDetails mapService(Class<?> cls, ServiceIndexEntry indexedService) {
+        if (this.configuration.getAdditionalClasses().containsKey(cls)) {
+            return null;
+        }
+
+        ServiceDetails serviceDetails = null;
+
+        if (indexedService != null) {
+            serviceDetails = this.mapIndexedService(cls, indexedService);
+        } else if (this.scanIndex != null && this.scanIndex.isUpToDate(cls)) {
+            ServiceIndexEntry entry = this.scanIndex.getPreviousServices().get(cls.getName());
+            if (entry == null) {
+                return null;
+            }
+
+            serviceDetails = this.mapIndexedService(cls, entry);
+        }
+
+        if (serviceDetails == null) {
+            serviceDetails = this.scanService(cls);
+        }
+
+        if (serviceDetails != null && this.scanIndex != null) {
+            this.scanIndex.getServices().put(cls.getName(), new ServiceIndexEntry(serviceDetails));
+        }
+
+        return serviceDetails;
+    }
+
+    /**
+     * @return details of the additional classes provided by the client.
+     */
+    @Override
+    public Set<ServiceDetails> mapAdditionalServices() {
+        Set<ServiceDetails> serviceDetailsStorage = new HashSet<>();
+
+        this.configuration.getAdditionalClasses().forEach((cls, a) -> {
+            Annotation annotation = null;
+            if (a != null && cls.isAnnotationPresent(a)) {
+                annotation = cls.getAnnotation(a);
+            }
+
+            serviceDetailsStorage.add(this.createServiceDetails(cls, annotation));
+        });
+
+        return serviceDetailsStorage;
+    }
+
+    /**
+     * Checks if the given class has {@link Service} annotation, one prided by the client
+     * or an {@link AliasFor} annotation for one of them and collects its details.
+     *
+     * @return service details or null if the class is not a service.
+     */
+    private ServiceDetails scanService(Class<?> cls) {
+        if (cls.isInterface() || cls.isEnum() || cls.isAnnotation()) {
+            return null;
+        }
+
+        for (Annotation annotation : cls.getAnnotations()) {
+            if (this.isServiceAnnotation(annotation, this.configuration.getServiceAnnotations())) {
+                return this.createServiceDetails(cls, annotation);
+            }
+        }
+
+        return null;
+    }
+
+    private ServiceDetails createServiceDetails(Class<?> cls, Annotation annotation) {
+        return new ServiceDetails(
+                cls,
+                annotation,
+                this.findSuitableConstructor(cls),
+                this.findVoidMethodWithZeroParamsAndAnnotation(PostConstruct.class, cls),
+                this.findVoidMethodWithZeroParamsAndAnnotation(PreDestroy.class, cls),
+                this.findBeans(cls),
+                this.findAutowireAnnotatedFields(cls, new ArrayList<>()).toArray(new Field[0])
+        );
+    }
+
+    /**
+     * Creates {@link ServiceDetails} by looking up the members stored in the given index entry.
+     *
+     * @param cls   the service class.
+     * @param entry index entry of the service.
+     * @return service details or null if the entry does not match the class
+     * or its annotation is not a service annotation.
+     */
+    private ServiceDetails mapIndexedService(Class<?> cls, ServiceIndexEntry entry) {
+        try {
+            Annotation annotation = null;
+            if (entry.getAnnotationType() != null) {
+                for (Annotation clsAnnotation : cls.getAnnotations()) {
+                    if (clsAnnotation.annotationType().getName().equals(entry.getAnnotationType())
+                            && this.isServiceAnnotation(clsAnnotation, this.configuration.getServiceAnnotations())) {
+                        annotation = clsAnnotation;
+                        break;
+                    }
+                }
+
+                if (annotation == null) {
+                    return null;
+                }
+            }
+
+            Class<?>[] parameterTypes = new Class<?>[entry.getConstructorParameterTypes().length];
+            for (int i = 0; i < parameterTypes.length; i++) {
+                parameterTypes[i] = this.loadType(entry.getConstructorParameterTypes()[i], cls);
+            }
+
+            Constructor<?> targetConstructor = cls.getDeclaredConstructor(parameterTypes);
+            targetConstructor.setAccessible(true);
+
+            Method[] beans = new Method[entry.getBeanMethods().length];
+            for (int i = 0; i < beans.length; i++) {
+                beans[i] = cls.getDeclaredMethod(entry.getBeanMethods()[i]);
+                beans[i].setAccessible(true);
+            }
+
+            Field[] autowiredFields = new Field[entry.getAutowiredFields().length];
+            for (int i = 0; i < autowiredFields.length; i++) {
+                String[] fieldReference = entry.getAutowiredFields()[i].split(ServiceIndexEntry.MEMBER_SEPARATOR);
+                autowiredFields[i] = this.loadType(fieldReference[0], cls).getDeclaredField(fieldReference[1]);
+                autowiredFields[i].setAccessible(true);
+            }
+
+            return new ServiceDetails(
+                    cls,
+                    annotation,
+                    targetConstructor,
+                    this.findIndexedMethod(entry.getPostConstructMethod(), cls),
+                    this.findIndexedMethod(entry.getPreDestroyMethod(), cls),
+                    beans,
+                    autowiredFields
+            );
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private Method findIndexedMethod(String methodReference, Class<?> cls) throws ReflectiveOperationException {
+        if (methodReference == null) {
+            return null;
+        }
+
+        String[] reference = methodReference.split(ServiceIndexEntry.MEMBER_SEPARATOR);
+        Method method = this.loadType(reference[0], cls).getDeclaredMethod(reference[1]);
+        method.setAccessible(true);
+
+        return method;
+    }
+
+    private Class<?> loadType(String typeName, Class<?> cls) throws ClassNotFoundException {
+        if (PRIMITIVE_TYPES.containsKey(typeName)) {
+            return PRIMITIVE_TYPES.get(typeName);
+        }
+
+        return Class.forName(typeName, false, cls.getClassLoader());
+    }
+
+    /**
+     * @param annotation         the given annotation.
+     * @param serviceAnnotations service annotations.
+     * @return true if the annotation is a service annotation or it is {@link AliasFor} one.
+     */
+    private boolean isServiceAnnotation(Annotation annotation, Set<Class<? extends Annotation>> serviceAnnotations) {
+        if (serviceAnnotations.contains(annotation.annotationType())) {
+            return true;
+        }
+
+        AliasFor aliasFor = annotation.annotationType().getAnnotation(AliasFor.class);
+        return aliasFor != null && serviceAnnotations.contains(aliasFor.value());
+    }
+
+    /**
+     * Looks for a constructor from the given class that has {@link Autowired} annotation
+     * or gets the first one.
+     *
+     * @param cls - the given class.
+     * @return suitable constructor.
+     */
+    private Constructor<?> findSuitableConstructor(Class<?> cls) {
+        for (Constructor<?> ctr : cls.getDeclaredConstructors()) {
+            if (AliasFinder.isAnnotationPresent(ctr.getDeclaredAnnotations(), Autowired.class)) {
+                ctr.setAccessible(true);
+                return ctr;
+            }
+        }
+
+        return cls.getConstructors()[0];
+    }
+
+    private Method findVoidMethodWithZeroParamsAndAnnotation(Class<? extends Annotation> annotation,
+                                                             Class<?> cls) {
+        for (Method method : cls.getDeclaredMethods()) {
+            if (method.getParameterCount() != 0 ||
+                    (method.getReturnType() != void.class && method.getReturnType() != Void.class)) {
+                continue;
+            }
+
+            if (AliasFinder.isAnnotationPresent(method.getDeclaredAnnotations(), annotation)) {
+                method.setAccessible(true);
+                return method;
+            }
+        }
+
+        if (cls.getSuperclass() != null) {
+            return this.findVoidMethodWithZeroParamsAndAnnotation(annotation, cls.getSuperclass());
+        }
+
+        return null;
+    }
+
+    /**
+     * Scans a given class for methods that are considered beans.
+     *
+     * @param cls the given class.
+     * @return array or method references that are bean compliant.
+     */
+    private Method[] findBeans(Class<?> cls) {
+        Set<Method> beanMethods = new HashSet<>();
+
+        for (Method method : cls.getDeclaredMethods()) {
+            if (method.getParameterCount() != 0 ||  method.getReturnType() == void.class || method.getReturnType() == Void.class) {
+                continue;
+            }
+
+            for (Class<? extends Annotation> beanAnnotation : this.configuration.getBeanAnnotations()) {
+                if (method.isAnnotationPresent(beanAnnotation)) {
+                    method.setAccessible(true);
+                    beanMethods.add(method);
+
+                    break;
+                }
+            }
+        }
+
+        return beanMethods.toArray(Method[]::new);
+    }
+
+    private List<Field> findAutowireAnnotatedFields(Class<?> cls, List<Field> fields) {
+        for (Field declaredField : cls.getDeclaredFields()) {
+            if (AliasFinder.isAnnotationPresent(declaredField.getDeclaredAnnotations(), Autowired.class)) {
+                declaredField.setAccessible(true);
+                fields.add(declaredField);
+            }
+        }
+
+        if (cls.getSuperclass() != null) {
+            return this.findAutowireAnnotatedFields(cls.getSuperclass(), fields);
+        }
+
+        return fields;
+    }
+}
@@ -0,0 +1,269 @@
+package com.grin.ioc.utils;
+
+import com.grin.ioc.exceptions.ClassLocationException;
+import com.grin.ioc.models.ClassFileDetails;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Reads the parts of a class file that are needed to decide whether
+ * a class is a service, directly from its bytes.
+ *
+ * <p>
+ * Only the constant pool, the access flags, the class name and the class level
+ * RuntimeVisibleAnnotations attribute are decoded, everything else is skipped.
+ */
+public class ClassFileParser {
+    public static final int ACC_INTERFACE = 0x0200;
+    public static final int ACC_ANNOTATION = 0x2000;
+    public static final int ACC_ENUM = 0x4000;
+
+    private static final int MAGIC = 0xCAFEBABE;
+    private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+    private static final String VALUE_ELEMENT = "value";
+    private static final String INVALID_CLASS_FILE_MSG = "Invalid class file.";
+
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_INTEGER = 3;
+    private static final int CONSTANT_FLOAT = 4;
+    private static final int CONSTANT_LONG = 5;
+    private static final int CONSTANT_DOUBLE = 6;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_STRING = 8;
+    private static final int CONSTANT_FIELD_REF = 9;
+    private static final int CONSTANT_METHOD_REF = 10;
+    private static final int CONSTANT_INTERFACE_METHOD_REF = 11;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+    private static final int CONSTANT_METHOD_HANDLE = 15;
+    private static final int CONSTANT_METHOD_TYPE = 16;
+    private static final int CONSTANT_DYNAMIC = 17;
+    private static final int CONSTANT_INVOKE_DYNAMIC = 18;
+    private static final int CONSTANT_MODULE = 19;
+    private static final int CONSTANT_PACKAGE = 20;
+
+    /**
+     * Parses a given class file.
+     * The position of the buffer is not modified.
+     *
+     * @param classFile the bytes of the class file.
+     * @return the details read from the class file.
+     * @throws ClassLocationException if the bytes are not a valid class file.
+     */
+    public static ClassFileDetails parse(ByteBuffer classFile) throws ClassLocationException {
+        ByteBuffer buffer = classFile.duplicate();
+
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new ClassLocationException(INVALID_CLASS_FILE_MSG);
+            }
+
+            //minor and major versions.
+            skip(buffer, 4);
+
+            int[] constantPool = readConstantPool(buffer);
+
+            int accessFlags = buffer.getShort() & 0xFFFF;
+            String className = readClassName(buffer, constantPool, buffer.getShort() & 0xFFFF);
+
+            //super class and interfaces.
+            skip(buffer, 2);
+            skip(buffer, 2 * (buffer.getShort() & 0xFFFF));
+
+            skipMembers(buffer);
+            skipMembers(buffer);
+
+            Map<String, String> annotations = new LinkedHashMap<>();
+
+            int attributesCount = buffer.getShort() & 0xFFFF;
+            for (int i = 0; i < attributesCount; i++) {
+                String attributeName = readUtf8(buffer, constantPool, buffer.getShort() & 0xFFFF);
+                int length = buffer.getInt();
+
+                if (RUNTIME_VISIBLE_ANNOTATIONS.equals(attributeName)) {
+                    readAnnotations(buffer, constantPool, annotations);
+                } else {
+                    skip(buffer, length);
+                }
+            }
+
+            return new ClassFileDetails(className, accessFlags, annotations);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new ClassLocationException(INVALID_CLASS_FILE_MSG, e);
+        }
+    }
+
+    /**
+     * Iterates the constant pool and stores the position of each entry.
+     * Long and double entries take two slots, the second one is left empty.
+     *
+     * @return array of buffer positions indexed by constant pool index.
+     */
+    private static int[] readConstantPool(ByteBuffer buffer) {
+        int count = buffer.getShort() & 0xFFFF;
+        int[] positions = new int[count];
+
+        for (int i = 1; i < count; i++) {
+            positions[i] = buffer.position();
+            int tag = buffer.get() & 0xFF;
+
+            switch (tag) {
+                case CONSTANT_UTF8:
+                    skip(buffer, buffer.getShort() & 0xFFFF);
+                    break;
+                case CONSTANT_CLASS:
+                case CONSTANT_STRING:
+                case CONSTANT_METHOD_TYPE:
+                case CONSTANT_MODULE:
+                case CONSTANT_PACKAGE:
+                    skip(buffer, 2);
+                    break;
+                case CONSTANT_METHOD_HANDLE:
+                    skip(buffer, 3);
+                    break;
+                case CONSTANT_INTEGER:
+                case CONSTANT_FLOAT:
+                case CONSTANT_FIELD_REF:
+                case CONSTANT_METHOD_REF:
+                case CONSTANT_INTERFACE_METHOD_REF:
+                case CONSTANT_NAME_AND_TYPE:
+                case CONSTANT_DYNAMIC:
+                case CONSTANT_INVOKE_DYNAMIC:
+                    skip(buffer, 4);
+                    break;
+                case CONSTANT_LONG:
+                case CONSTANT_DOUBLE:
+                    skip(buffer, 8);
+                    i++;
+                    break;
+                default:
+                    throw new IllegalArgumentException(INVALID_CLASS_FILE_MSG);
+            }
+        }
+
+        return positions;
+    }
+
+    /**
+     * Skips fields or methods, both have the same structure.
+     */
+    private static void skipMembers(ByteBuffer buffer) {
+        int membersCount = buffer.getShort() & 0xFFFF;
+
+        for (int i = 0; i < membersCount; i++) {
+            //access flags, name and descriptor.
+            skip(buffer, 6);
+
+            int attributesCount = buffer.getShort() & 0xFFFF;
+            for (int j = 0; j < attributesCount; j++) {
+                skip(buffer, 2);
+                skip(buffer, buffer.getInt());
+            }
+        }
+    }
+
+    private static void readAnnotations(ByteBuffer buffer, int[] constantPool, Map<String, String> annotations) {
+        int annotationsCount = buffer.getShort() & 0xFFFF;
+
+        for (int i = 0; i < annotationsCount; i++) {
+            String annotationType = descriptorToClassName(readUtf8(buffer, constantPool, buffer.getShort() & 0xFFFF));
+            String valueType = null;
+
+            int pairsCount = buffer.getShort() & 0xFFFF;
+            for (int j = 0; j < pairsCount; j++) {
+                String elementName = readUtf8(buffer, constantPool, buffer.getShort() & 0xFFFF);
+
+                if (VALUE_ELEMENT.equals(elementName) && buffer.get(buffer.position()) == 'c') {
+                    skip(buffer, 1);
+                    valueType = descriptorToClassName(readUtf8(buffer, constantPool, buffer.getShort() & 0xFFFF));
+                } else {
+                    skipElementValue(buffer);
+                }
+            }
+
+            annotations.put(annotationType, valueType);
+        }
+    }
+
+    private static void skipElementValue(ByteBuffer buffer) {
+        int tag = buffer.get();
+
+        switch (tag) {
+            case 'e':
+                skip(buffer, 4);
+                break;
+            case '@':
+                skip(buffer, 2);
+                int pairsCount = buffer.getShort() & 0xFFFF;
+                for (int i = 0; i < pairsCount; i++) {
+                    skip(buffer, 2);
+                    skipElementValue(buffer);
+                }
+                break;
+            case '[':
+                int valuesCount = buffer.getShort() & 0xFFFF;
+                for (int i = 0; i < valuesCount; i++) {
+                    skipElementValue(buffer);
+                }
+                break;
+            default:
+                //Constant values and class literals, all of them are a single constant pool index.
+                skip(buffer, 2);
+        }
+    }
+
+    private static String readClassName(ByteBuffer buffer, int[] constantPool, int classIndex) {
+        int nameIndex = buffer.getShort(constantPool[classIndex] + 1) & 0xFFFF;
+        return readUtf8(buffer, constantPool, nameIndex).replace('/', '.');
+    }
+
+    /**
+     * Decodes a modified UTF-8 constant pool entry.
+     */
+    private static String readUtf8(ByteBuffer buffer, int[] constantPool, int index) {
+        int position = constantPool[index];
+        if (buffer.get(position) != CONSTANT_UTF8) {
+            throw new IllegalArgumentException(INVALID_CLASS_FILE_MSG);
+        }
+
+        int length = buffer.getShort(position + 1) & 0xFFFF;
+        int offset = position + 3;
+        int end = offset + length;
+
+        char[] chars = new char[length];
+        int charsCount = 0;
+
+        while (offset < end) {
+            int b = buffer.get(offset++) & 0xFF;
+
+            if (b < 0x80) {
+                chars[charsCount++] = (char) b;
+            } else if ((b & 0xE0) == 0xC0) {
+                chars[charsCount++] = (char) (((b & 0x1F) << 6) | (buffer.get(offset++) & 0x3F));
+            } else {
+                int b2 = buffer.get(offset++) & 0x3F;
+                int b3 = buffer.get(offset++) & 0x3F;
+                chars[charsCount++] = (char) (((b & 0x0F) << 12) | (b2 << 6) | b3);
+            }
+        }
+
+        return new String(chars, 0, charsCount);
+    }
+
+    /**
+     * Converts a field descriptor (e.g. Lcom/example/MyAnnotation;) to a binary class name.
+     */
+    private static String descriptorToClassName(String descriptor) {
+        if (descriptor.length() > 2 && descriptor.charAt(0) == 'L' && descriptor.endsWith(";")) {
+            return descriptor.substring(1, descriptor.length() - 1).replace('/', '.');
+        }
+
+        return descriptor;
+    }
+
+    private static void skip(ByteBuffer buffer, int bytes) {
+        buffer.position(buffer.position() + bytes);
+    }
+}
@@ -0,0 +1,134 @@
+package com.grin.ioc.utils;
+
+import com.grin.ioc.models.EnqueuedServiceDetails;
+
+import java.util.*;
+
+/**
+ * Finds circular dependencies in the dependency graph.
+ *
+ * <p>
+ * Uses Tarjan's algorithm, without recursion so deep graphs do not overflow the stack,
+ * to find the strongly connected components of the graph. Every component with more than
+ * one service contains at least one cycle.
+ */
+public class DependencyCycleFinder {
+
+    /**
+     * @param services all services of the graph.
+     * @return strongly connected components with more than one service.
+     */
+    public static List<List<EnqueuedServiceDetails>> findCircularComponents(List<EnqueuedServiceDetails> services) {
+        Map<EnqueuedServiceDetails, Integer> indexes = new IdentityHashMap<>();
+        Map<EnqueuedServiceDetails, Integer> lowLinks = new IdentityHashMap<>();
+        Set<EnqueuedServiceDetails> onStack = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<EnqueuedServiceDetails> stack = new ArrayDeque<>();
+        List<List<EnqueuedServiceDetails>> components = new ArrayList<>();
+
+        Deque<EnqueuedServiceDetails> callStack = new ArrayDeque<>();
+        Deque<Iterator<EnqueuedServiceDetails>> iteratorStack = new ArrayDeque<>();
+        int index = 0;
+
+        for (EnqueuedServiceDetails root : services) {
+            if (indexes.containsKey(root)) {
+                continue;
+            }
+
+            indexes.put(root, index);
+            lowLinks.put(root, index++);
+            stack.push(root);
+            onStack.add(root);
+            callStack.push(root);
+            iteratorStack.push(root.getRequiredServices().iterator());
+
+            while (!callStack.isEmpty()) {
+                EnqueuedServiceDetails service = callStack.peek();
+                Iterator<EnqueuedServiceDetails> requiredServices = iteratorStack.peek();
+
+                if (requiredServices.hasNext()) {
+                    EnqueuedServiceDetails requiredService = requiredServices.next();
+
+                    if (!indexes.containsKey(requiredService)) {
+                        indexes.put(requiredService, index);
+                        lowLinks.put(requiredService, index++);
+                        stack.push(requiredService);
+                        onStack.add(requiredService);
+                        callStack.push(requiredService);
+                        iteratorStack.push(requiredService.getRequiredServices().iterator());
+                    } else if (onStack.contains(requiredService)) {
+                        lowLinks.put(service, Math.min(lowLinks.get(service), indexes.get(requiredService)));
+                    }
+
+                    continue;
+                }
+
+                callStack.pop();
+                iteratorStack.pop();
+
+                if (!callStack.isEmpty()) {
+                    EnqueuedServiceDetails caller = callStack.peek();
+                    lowLinks.put(caller, Math.min(lowLinks.get(caller), lowLinks.get(service)));
+                }
+
+                if (lowLinks.get(service).equals(indexes.get(service))) {
+                    List<EnqueuedServiceDetails> component = new ArrayList<>();
+                    EnqueuedServiceDetails member;
+                    do {
+                        member = stack.pop();
+                        onStack.remove(member);
+                        component.add(member);
+                    } while (member != service);
+
+                    if (component.size() > 1) {
+                        components.add(component);
+                    }
+                }
+            }
+        }
+
+        return components;
+    }
+
+    /**
+     * Finds the shortest cycle through the first service of the given component.
+     *
+     * @param component strongly connected component with more than one service.
+     * @return the services of the cycle, starting and ending with the same service.
+     */
+    public static List<EnqueuedServiceDetails> findCycle(List<EnqueuedServiceDetails> component) {
+        Set<EnqueuedServiceDetails> members = Collections.newSetFromMap(new IdentityHashMap<>());
+        members.addAll(component);
+
+        EnqueuedServiceDetails start = component.get(0);
+        Map<EnqueuedServiceDetails, EnqueuedServiceDetails> previous = new IdentityHashMap<>();
+        Deque<EnqueuedServiceDetails> queue = new ArrayDeque<>();
+        queue.add(start);
+
+        while (!queue.isEmpty()) {
+            EnqueuedServiceDetails service = queue.removeFirst();
+
+            for (EnqueuedServiceDetails requiredService : service.getRequiredServices()) {
+                if (!members.contains(requiredService) || previous.containsKey(requiredService)) {
+                    continue;
+                }
+
+                previous.put(requiredService, service);
+                if (requiredService == start) {
+                    queue.clear();
+                    break;
+                }
+
+                queue.addLast(requiredService);
+            }
+        }
+
+        LinkedList<EnqueuedServiceDetails> cycle = new LinkedList<>();
+        cycle.addFirst(start);
+        for (EnqueuedServiceDetails service = previous.get(start); service != start; service = previous.get(service)) {
+            cycle.addFirst(service);
+        }
+        cycle.addFirst(start);
+
+        return cycle;
+    }
+}
@@ -0,0 +1,344 @@
+package com.grin.ioc.utils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * Read only view of a zip (jar) archive that is memory mapped as a whole.
+ *
+ * <p>
+ * The central directory is parsed in place. Entries are addressed by the position
+ * of their central directory record, so iterating and filtering entries does not create objects.
+ * All reads use absolute positions which makes the instance safe to use from multiple threads.
+ *
+ * <p>
+ * Archives larger than 2GB are not supported since they cannot be mapped into a single buffer.
+ */
+public class MappedZipFile implements Closeable {
+    private static final String INVALID_ZIP_FILE_MSG = "Invalid zip file '%s'.";
+    private static final String ZIP_FILE_TOO_LARGE_MSG = "Zip file '%s' is too large to be memory mapped.";
+    private static final String UNSUPPORTED_COMPRESSION_METHOD_MSG = "Unsupported compression method %d for entry '%s'.";
+
+    private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+    private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06064b50;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE = 0x07064b50;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIZE = 20;
+    private static final int CENTRAL_DIRECTORY_HEADER_SIGNATURE = 0x02014b50;
+    private static final int CENTRAL_DIRECTORY_HEADER_SIZE = 46;
+    private static final int LOCAL_FILE_HEADER_SIGNATURE = 0x04034b50;
+    private static final int LOCAL_FILE_HEADER_SIZE = 30;
+    private static final int MAX_COMMENT_LENGTH = 0xFFFF;
+    private static final int ZIP64_EXTRA_FIELD_ID = 0x0001;
+    private static final long ZIP64_MAGIC = 0xFFFFFFFFL;
+
+    private static final int METHOD_STORED = 0;
+    private static final int METHOD_DEFLATED = 8;
+
+    private final Path path;
+
+    private final FileChannel fileChannel;
+
+    private final ByteBuffer buffer;
+
+    private final int centralDirectoryOffset;
+
+    private final int centralDirectoryEnd;
+
+    private final int entriesCount;
+
+    public MappedZipFile(Path path) throws IOException {
+        this.path = path;
+        this.fileChannel = FileChannel.open(path, StandardOpenOption.READ);
+
+        try {
+            if (this.fileChannel.size() > Integer.MAX_VALUE) {
+                throw new ZipException(String.format(ZIP_FILE_TOO_LARGE_MSG, path));
+            }
+
+            this.buffer = this.fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, this.fileChannel.size())
+                    .order(ByteOrder.LITTLE_ENDIAN);
+
+            int endOfCentralDirectory = this.findEndOfCentralDirectory();
+            long entriesCount = this.buffer.getShort(endOfCentralDirectory + 10) & 0xFFFF;
+            long centralDirectorySize = this.buffer.getInt(endOfCentralDirectory + 12) & ZIP64_MAGIC;
+            long centralDirectoryOffset = this.buffer.getInt(endOfCentralDirectory + 16) & ZIP64_MAGIC;
+
+            if (entriesCount == 0xFFFF || centralDirectorySize == ZIP64_MAGIC || centralDirectoryOffset == ZIP64_MAGIC) {
+                int zip64End = this.findZip64EndOfCentralDirectory(endOfCentralDirectory);
+                entriesCount = this.buffer.getLong(zip64End + 32);
+                centralDirectorySize = this.buffer.getLong(zip64End + 40);
+                centralDirectoryOffset = this.buffer.getLong(zip64End + 48);
+            }
+
+            if (centralDirectoryOffset < 0 || centralDirectorySize < 0
+                    || centralDirectoryOffset + centralDirectorySize > this.buffer.limit()
+                    || entriesCount > Integer.MAX_VALUE) {
+                throw this.invalidZipFile();
+            }
+
+            this.centralDirectoryOffset = (int) centralDirectoryOffset;
+            this.centralDirectoryEnd = (int) (centralDirectoryOffset + centralDirectorySize);
+            this.entriesCount = (int) entriesCount;
+        } catch (IOException | RuntimeException e) {
+            this.fileChannel.close();
+            throw e;
+        }
+    }
+
+    public int getEntriesCount() {
+        return this.entriesCount;
+    }
+
+    /**
+     * @return position of the first entry or -1 if the archive is empty.
+     */
+    public int firstEntry() throws ZipException {
+        return this.entriesCount == 0 ? -1 : this.checkEntry(this.centralDirectoryOffset);
+    }
+
+    /**
+     * @param entry position of the current entry.
+     * @return position of the next entry or -1 if the given entry is the last one.
+     */
+    public int nextEntry(int entry) throws ZipException {
+        int next = entry + CENTRAL_DIRECTORY_HEADER_SIZE
+                + this.getNameLength(entry)
+                + (this.buffer.getShort(entry + 30) & 0xFFFF)
+                + (this.buffer.getShort(entry + 32) & 0xFFFF);
+
+        if (next >= this.centralDirectoryEnd) {
+            return -1;
+        }
+
+        return this.checkEntry(next);
+    }
+
+    public int getNameLength(int entry) {
+        return this.buffer.getShort(entry + 28) & 0xFFFF;
+    }
+
+    /**
+     * Returns the byte of the entry name at the given index without decoding the name.
+     */
+    public byte getNameByte(int entry, int index) {
+        return this.buffer.get(entry + CENTRAL_DIRECTORY_HEADER_SIZE + index);
+    }
+
+    public boolean nameStartsWith(int entry, byte[] prefix) {
+        if (this.getNameLength(entry) < prefix.length) {
+            return false;
+        }
+
+        for (int i = 0; i < prefix.length; i++) {
+            if (this.getNameByte(entry, i) != prefix[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    public boolean nameEndsWith(int entry, byte[] suffix) {
+        int offset = this.getNameLength(entry) - suffix.length;
+        if (offset < 0) {
+            return false;
+        }
+
+        for (int i = 0; i < suffix.length; i++) {
+            if (this.getNameByte(entry, offset + i) != suffix[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Decodes the first nameLength bytes of the entry name.
+     */
+    public String getName(int entry, int nameLength) {
+        byte[] name = new byte[nameLength];
+        this.buffer.duplicate().position(entry + CENTRAL_DIRECTORY_HEADER_SIZE).get(name);
+
+        return new String(name, StandardCharsets.UTF_8);
+    }
+
+    public String getName(int entry) {
+        return this.getName(entry, this.getNameLength(entry));
+    }
+
+    /**
+     * Reads the uncompressed content of the given entry.
+     *
+     * <p>
+     * Stored entries are returned as a slice of the mapped buffer, deflated entries
+     * are inflated into a new heap buffer.
+     *
+     * @param entry position of the entry.
+     * @return the content of the entry.
+     */
+    public ByteBuffer getContent(int entry) throws IOException {
+        long compressedSize = this.buffer.getInt(entry + 20) & ZIP64_MAGIC;
+        long uncompressedSize = this.buffer.getInt(entry + 24) & ZIP64_MAGIC;
+        long localHeaderOffset = this.buffer.getInt(entry + 42) & ZIP64_MAGIC;
+
+        if (compressedSize == ZIP64_MAGIC || uncompressedSize == ZIP64_MAGIC || localHeaderOffset == ZIP64_MAGIC) {
+            long[] zip64Values = this.readZip64ExtraField(entry, uncompressedSize, compressedSize, localHeaderOffset);
+            uncompressedSize = zip64Values[0];
+            compressedSize = zip64Values[1];
+            localHeaderOffset = zip64Values[2];
+        }
+
+        if (localHeaderOffset + LOCAL_FILE_HEADER_SIZE > this.buffer.limit()
+                || this.buffer.getInt((int) localHeaderOffset) != LOCAL_FILE_HEADER_SIGNATURE) {
+            throw this.invalidZipFile();
+        }
+
+        int local = (int) localHeaderOffset;
+        long dataOffset = local + LOCAL_FILE_HEADER_SIZE
+                + (this.buffer.getShort(local + 26) & 0xFFFF)
+                + (this.buffer.getShort(local + 28) & 0xFFFF);
+
+        if (dataOffset + compressedSize > this.buffer.limit() || uncompressedSize > Integer.MAX_VALUE) {
+            throw this.invalidZipFile();
+        }
+
+        ByteBuffer compressed = this.buffer.duplicate();
+        compressed.limit((int) (dataOffset + compressedSize)).position((int) dataOffset);
+
+        int method = this.buffer.getShort(entry + 10) & 0xFFFF;
+        if (method == METHOD_STORED) {
+            return compressed.slice();
+        }
+
+        if (method != METHOD_DEFLATED) {
+            throw new ZipException(String.format(UNSUPPORTED_COMPRESSION_METHOD_MSG, method, this.getName(entry)));
+        }
+
+        return this.inflate(compressed, (int) uncompressedSize);
+    }
+
+    private ByteBuffer inflate(ByteBuffer compressed, int uncompressedSize) throws ZipException {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(compressed);
+
+            byte[] content = new byte[uncompressedSize];
+            int offset = 0;
+            while (offset < uncompressedSize && !inflater.finished()) {
+                int inflated = inflater.inflate(content, offset, uncompressedSize - offset);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw this.invalidZipFile();
+                }
+
+                offset += inflated;
+            }
+
+            return ByteBuffer.wrap(content, 0, offset);
+        } catch (DataFormatException e) {
+            throw new ZipException(e.getMessage());
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * Reads the zip64 extended information extra field of a central directory record.
+     * Only the values that are set to 0xFFFFFFFF in the record are present in the field, in this order.
+     *
+     * @return uncompressed size, compressed size and local header offset.
+     */
+    private long[] readZip64ExtraField(int entry, long uncompressedSize, long compressedSize, long localHeaderOffset) throws ZipException {
+        int extraFieldOffset = entry + CENTRAL_DIRECTORY_HEADER_SIZE + this.getNameLength(entry);
+        int extraFieldEnd = extraFieldOffset + (this.buffer.getShort(entry + 30) & 0xFFFF);
+
+        while (extraFieldOffset + 4 <= extraFieldEnd) {
+            int headerId = this.buffer.getShort(extraFieldOffset) & 0xFFFF;
+            int dataSize = this.buffer.getShort(extraFieldOffset + 2) & 0xFFFF;
+
+            if (headerId == ZIP64_EXTRA_FIELD_ID) {
+                int position = extraFieldOffset + 4;
+                if (uncompressedSize == ZIP64_MAGIC) {
+                    uncompressedSize = this.buffer.getLong(position);
+                    position += 8;
+                }
+                if (compressedSize == ZIP64_MAGIC) {
+                    compressedSize = this.buffer.getLong(position);
+                    position += 8;
+                }
+                if (localHeaderOffset == ZIP64_MAGIC) {
+                    localHeaderOffset = this.buffer.getLong(position);
+                }
+
+                return new long[]{uncompressedSize, compressedSize, localHeaderOffset};
+            }
+
+            extraFieldOffset += 4 + dataSize;
+        }
+
+        throw this.invalidZipFile();
+    }
+
+    /**
+     * The end of central directory record is the last structure in the archive,
+     * it can only be followed by a comment of up to 65535 bytes.
+     */
+    private int findEndOfCentralDirectory() throws ZipException {
+        int last = this.buffer.limit() - END_OF_CENTRAL_DIRECTORY_SIZE;
+        int first = Math.max(0, last - MAX_COMMENT_LENGTH);
+
+        for (int position = last; position >= first; position--) {
+            if (this.buffer.getInt(position) == END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+                return position;
+            }
+        }
+
+        throw this.invalidZipFile();
+    }
+
+    private int findZip64EndOfCentralDirectory(int endOfCentralDirectory) throws ZipException {
+        int locator = endOfCentralDirectory - ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIZE;
+        if (locator < 0 || this.buffer.getInt(locator) != ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE) {
+            throw this.invalidZipFile();
+        }
+
+        long zip64End = this.buffer.getLong(locator + 8);
+        if (zip64End < 0 || zip64End + 56 > locator
+                || this.buffer.getInt((int) zip64End) != ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+            throw this.invalidZipFile();
+        }
+
+        return (int) zip64End;
+    }
+
+    private int checkEntry(int entry) throws ZipException {
+        if (entry + CENTRAL_DIRECTORY_HEADER_SIZE > this.centralDirectoryEnd
+                || this.buffer.getInt(entry) != CENTRAL_DIRECTORY_HEADER_SIGNATURE) {
+            throw this.invalidZipFile();
+        }
+
+        return entry;
+    }
+
+    private ZipException invalidZipFile() {
+        return new ZipException(String.format(INVALID_ZIP_FILE_MSG, this.path));
+    }
+
+    /**
+     * Closes the file channel. The mapping itself is released once the buffer is garbage collected.
+     */
+    @Override
+    public void close() throws IOException {
+        this.fileChannel.close();
+    }
+}
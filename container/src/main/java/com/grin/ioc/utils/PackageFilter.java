@@ -0,0 +1,168 @@
+package com.grin.ioc.utils;
+
+import com.grin.ioc.constants.Constants;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Decides which packages are scanned based on included and excluded package patterns.
+ *
+ * <p>
+ * The patterns are compiled into a prefix trie with one node per package name segment.
+ * A pattern covers the package and all of its sub packages, the longest matching pattern wins
+ * and an exclusion wins over an inclusion of the same package.
+ * If there are no included packages everything that is not excluded is scanned.
+ *
+ * <p>
+ * Names can be separated either by '.' (class names) or by '/' (jar entry names).
+ */
+public class PackageFilter {
+    private static final String WILDCARD_SUFFIX = "*";
+
+    private final Node root;
+
+    /**
+     * Decision for packages that are not covered by any pattern.
+     */
+    private final boolean includedByDefault;
+
+    private final boolean empty;
+
+    public PackageFilter(Collection<String> includedPackages, Collection<String> excludedPackages) {
+        this.root = new Node();
+        this.includedByDefault = includedPackages.isEmpty();
+        this.empty = includedPackages.isEmpty() && excludedPackages.isEmpty();
+
+        for (String includedPackage : includedPackages) {
+            this.addPattern(includedPackage, true);
+        }
+
+        for (String excludedPackage : excludedPackages) {
+            this.addPattern(excludedPackage, false);
+        }
+    }
+
+    /**
+     * @return true if there are no patterns and every package is scanned.
+     */
+    public boolean isEmpty() {
+        return this.empty;
+    }
+
+    /**
+     * @param packageName package name with or without a trailing separator.
+     * @return false if neither the package nor any of its sub packages can contain included classes.
+     */
+    public boolean isPackageScanned(String packageName) {
+        if (this.empty) {
+            return true;
+        }
+
+        int end = packageName.length();
+        if (end > 0 && isSeparator(packageName.charAt(end - 1))) {
+            end--;
+        }
+
+        return this.match(packageName, end, true);
+    }
+
+    /**
+     * @param className class name or class file name, the '.class' suffix is dropped before the simple name.
+     * @return true if the package of the class is included.
+     */
+    public boolean isClassIncluded(String className) {
+        if (this.empty) {
+            return true;
+        }
+
+        int end = className.length() - 1;
+        if (className.endsWith(Constants.CLASS_FILE_EXTENSION)) {
+            end -= Constants.CLASS_FILE_EXTENSION.length();
+        }
+
+        while (end >= 0 && !isSeparator(className.charAt(end))) {
+            end--;
+        }
+
+        return this.match(className, Math.max(end, 0), false);
+    }
+
+    /**
+     * Walks the trie along the segments of the given package name and keeps the decision
+     * of the deepest pattern on the way.
+     *
+     * @param subPackages whether included sub packages of the given package count as well.
+     */
+    private boolean match(String packageName, int end, boolean subPackages) {
+        boolean included = this.root.included != null ? this.root.included : this.includedByDefault;
+        Node node = this.root;
+
+        int start = 0;
+        while (start < end) {
+            int separator = start;
+            while (separator < end && !isSeparator(packageName.charAt(separator))) {
+                separator++;
+            }
+
+            node = node.children.get(packageName.substring(start, separator));
+            if (node == null) {
+                return included;
+            }
+
+            if (node.included != null) {
+                included = node.included;
+            }
+
+            start = separator + 1;
+        }
+
+        return included || (subPackages && node.includedBelow);
+    }
+
+    private void addPattern(String pattern, boolean included) {
+        String packageName = pattern.trim();
+        while (packageName.endsWith(WILDCARD_SUFFIX)) {
+            packageName = packageName.substring(0, packageName.length() - 1);
+        }
+
+        Node node = this.root;
+        int start = 0;
+        while (start < packageName.length()) {
+            int separator = start;
+            while (separator < packageName.length() && !isSeparator(packageName.charAt(separator))) {
+                separator++;
+            }
+
+            if (separator > start) {
+                node.includedBelow |= included;
+                node = node.children.computeIfAbsent(packageName.substring(start, separator), segment -> new Node());
+            }
+
+            start = separator + 1;
+        }
+
+        if (node.included == null || !included) {
+            node.included = included;
+        }
+    }
+
+    private static boolean isSeparator(char ch) {
+        return ch == '.' || ch == '/';
+    }
+
+    private static class Node {
+        private final Map<String, Node> children = new HashMap<>();
+
+        /**
+         * Decision of the pattern ending at this node, null if no pattern ends here.
+         */
+        private Boolean included;
+
+        /**
+         * Whether an included pattern ends in one of the sub packages.
+         */
+        private boolean includedBelow;
+    }
+}
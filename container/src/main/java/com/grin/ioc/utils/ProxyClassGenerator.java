@@ -0,0 +1,342 @@
+package com.grin.ioc.utils;
+
+import com.grin.ioc.models.ServiceDetails;
+import com.grin.ioc.models.ServiceInstanceSnapshot;
+import com.grin.ioc.models.ServiceProxy;
+import javassist.bytecode.AccessFlag;
+import javassist.bytecode.Bytecode;
+import javassist.bytecode.ClassFile;
+import javassist.bytecode.ConstPool;
+import javassist.bytecode.DuplicateMemberException;
+import javassist.bytecode.FieldInfo;
+import javassist.bytecode.MethodInfo;
+import javassist.bytecode.Opcode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates proxy classes that call the methods of the current instance of a service directly.
+ *
+ * <p>
+ * Each overridable method of the proxied class or interface loads the service details from a field
+ * of the proxy, enters the current instance snapshot and invokes the same method on its instance.
+ * The call is counted out of the snapshot when it returns or throws. There is no invocation
+ * handler, no argument array and no boxing involved, exceptions are thrown as they are.
+ */
+public class ProxyClassGenerator {
+    private static final String PROXY_CLASS_SUFFIX = "$$Proxy";
+    private static final String SERVICE_DETAILS_FIELD = "$$serviceDetails";
+    private static final String SERVICE_DETAILS_DESCRIPTOR = ServiceDetails.class.descriptorString();
+    private static final String ENTER_INSTANCE_DESCRIPTOR = "()" + ServiceInstanceSnapshot.class.descriptorString();
+    private static final String GET_INSTANCE_DESCRIPTOR = "()Ljava/lang/Object;";
+    private static final String EXIT_DESCRIPTOR = "()V";
+    private static final String SET_SERVICE_DETAILS_DESCRIPTOR = "(" + SERVICE_DETAILS_DESCRIPTOR + ")V";
+    private static final String NO_ARGS_CONSTRUCTOR_DESCRIPTOR = "()V";
+
+    /**
+     * Methods of {@link Object} that are forwarded by proxies of interfaces.
+     */
+    private static final Method[] OBJECT_METHODS;
+
+    static {
+        try {
+            OBJECT_METHODS = new Method[]{
+                    Object.class.getMethod("equals", Object.class),
+                    Object.class.getMethod("hashCode"),
+                    Object.class.getMethod("toString")
+            };
+        } catch (NoSuchMethodException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Defines a proxy class for the given type in its package and class loader.
+     * The proxy class implements {@link ServiceProxy}. It has a public no argument constructor that calls the one
+     * of its superclass if the proxied type is an interface or a class with a no argument constructor that is not private.
+     * Proxies of classes are allocated without calling it where the runtime allows, see {@link ProxyUtils}.
+     *
+     * @param proxiedType class or interface to proxy.
+     * @return the proxy class or null if no proxy class can be defined for the given type.
+     */
+    public static Class<?> generateProxyClass(Class<?> proxiedType) {
+        if (!isSupported(proxiedType)) {
+            return null;
+        }
+
+        String proxyClassName = proxiedType.getName() + PROXY_CLASS_SUFFIX;
+        String superclassName = proxiedType.isInterface() ? Object.class.getName() : proxiedType.getName();
+
+        ClassFile classFile = new ClassFile(false, proxyClassName, superclassName);
+        classFile.setMajorVersion(ClassFile.JAVA_5);
+        classFile.setAccessFlags(AccessFlag.PUBLIC | AccessFlag.FINAL | AccessFlag.SUPER | AccessFlag.SYNTHETIC);
+        classFile.setInterfaces(proxiedType.isInterface()
+                ? new String[]{proxiedType.getName(), ServiceProxy.class.getName()}
+                : new String[]{ServiceProxy.class.getName()});
+
+        ConstPool constPool = classFile.getConstPool();
+
+        try {
+            FieldInfo serviceDetailsField = new FieldInfo(constPool, SERVICE_DETAILS_FIELD, SERVICE_DETAILS_DESCRIPTOR);
+            serviceDetailsField.setAccessFlags(AccessFlag.PRIVATE | AccessFlag.SYNTHETIC);
+            classFile.addField(serviceDetailsField);
+
+            if (proxiedType.isInterface() || hasInheritableNoArgsConstructor(proxiedType)) {
+                classFile.addMethod(createConstructor(constPool, superclassName));
+            }
+
+            classFile.addMethod(createSetServiceDetailsMethod(constPool, proxyClassName));
+
+            for (Method method : findProxiedMethods(proxiedType)) {
+                classFile.addMethod(createProxyMethod(constPool, proxyClassName, proxiedType, method));
+            }
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                classFile.write(out);
+            }
+
+            return MethodHandles.privateLookupIn(proxiedType, MethodHandles.lookup()).defineClass(bytes.toByteArray());
+        } catch (DuplicateMemberException | IOException | IllegalAccessException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * The proxied type has to be extendable and its class loader has to see the {@link ServiceProxy} interface.
+     */
+    private static boolean isSupported(Class<?> proxiedType) {
+        if (proxiedType.isPrimitive() || proxiedType.isArray() || proxiedType.isAnnotation()
+                || Modifier.isFinal(proxiedType.getModifiers()) || proxiedType.isHidden()) {
+            return false;
+        }
+
+        try {
+            return Class.forName(ServiceProxy.class.getName(), false, proxiedType.getClassLoader()) == ServiceProxy.class;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    private static boolean hasInheritableNoArgsConstructor(Class<?> proxiedType) {
+        for (Constructor<?> constructor : proxiedType.getDeclaredConstructors()) {
+            if (constructor.getParameterCount() == 0) {
+                return !Modifier.isPrivate(constructor.getModifiers());
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Collects the methods that can be overridden by a class in the package of the proxied type.
+     * The public methods of the type and the package private and protected methods declared
+     * in the same package are included, unless they are static, final or bridges.
+     */
+    private static Iterable<Method> findProxiedMethods(Class<?> proxiedType) {
+        Map<String, Method> methods = new LinkedHashMap<>();
+        Set<String> finalMethods = new HashSet<>();
+
+        for (Method method : proxiedType.getMethods()) {
+            addProxiedMethod(method, methods, finalMethods);
+        }
+
+        if (proxiedType.isInterface()) {
+            for (Method method : OBJECT_METHODS) {
+                addProxiedMethod(method, methods, finalMethods);
+            }
+        } else {
+            for (Class<?> cls = proxiedType; cls != null; cls = cls.getSuperclass()) {
+                if (!isSamePackage(cls, proxiedType)) {
+                    continue;
+                }
+
+                for (Method method : cls.getDeclaredMethods()) {
+                    if (!Modifier.isPublic(method.getModifiers()) && !Modifier.isPrivate(method.getModifiers())) {
+                        addProxiedMethod(method, methods, finalMethods);
+                    }
+                }
+            }
+        }
+
+        methods.keySet().removeAll(finalMethods);
+
+        return methods.values();
+    }
+
+    private static void addProxiedMethod(Method method, Map<String, Method> methods, Set<String> finalMethods) {
+        int modifiers = method.getModifiers();
+        if (Modifier.isStatic(modifiers) || method.isBridge()) {
+            return;
+        }
+
+        String signature = method.getName() + getDescriptor(method);
+        if (Modifier.isFinal(modifiers)) {
+            finalMethods.add(signature);
+            return;
+        }
+
+        methods.putIfAbsent(signature, method);
+    }
+
+    /**
+     * public Proxy() { super(); }
+     *
+     * <p>
+     * The verifier requires the constructor of the direct superclass to be called,
+     * so a constructor cannot skip the one of the proxied class.
+     */
+    private static MethodInfo createConstructor(ConstPool constPool, String superclassName) {
+        Bytecode code = new Bytecode(constPool, 0, 1);
+        code.addAload(0);
+        code.addInvokespecial(superclassName, MethodInfo.nameInit, NO_ARGS_CONSTRUCTOR_DESCRIPTOR);
+        code.addOpcode(Opcode.RETURN);
+
+        MethodInfo methodInfo = new MethodInfo(constPool, MethodInfo.nameInit, NO_ARGS_CONSTRUCTOR_DESCRIPTOR);
+        methodInfo.setAccessFlags(AccessFlag.PUBLIC);
+        methodInfo.setCodeAttribute(code.toCodeAttribute());
+
+        return methodInfo;
+    }
+
+    /**
+     * setProxiedServiceDetails(ServiceDetails serviceDetails) { this.serviceDetails = serviceDetails; }
+     */
+    private static MethodInfo createSetServiceDetailsMethod(ConstPool constPool, String proxyClassName) {
+        Bytecode code = new Bytecode(constPool, 0, 2);
+        code.addAload(0);
+        code.addAload(1);
+        code.addPutfield(proxyClassName, SERVICE_DETAILS_FIELD, SERVICE_DETAILS_DESCRIPTOR);
+        code.addOpcode(Opcode.RETURN);
+
+        MethodInfo methodInfo = new MethodInfo(constPool, "setProxiedServiceDetails", SET_SERVICE_DETAILS_DESCRIPTOR);
+        methodInfo.setAccessFlags(AccessFlag.PUBLIC);
+        methodInfo.setCodeAttribute(code.toCodeAttribute());
+
+        return methodInfo;
+    }
+
+    /**
+     * method(args) {
+     *     ServiceInstanceSnapshot snapshot = this.serviceDetails.enterInstance();
+     *     try {
+     *         return ((ProxiedType) snapshot.getInstance()).method(args);
+     *     } finally {
+     *         snapshot.exit();
+     *     }
+     * }
+     */
+    private static MethodInfo createProxyMethod(ConstPool constPool, String proxyClassName, Class<?> proxiedType, Method method) {
+        String descriptor = getDescriptor(method);
+        boolean isObjectMethod = proxiedType.isInterface() && method.getDeclaringClass() == Object.class;
+
+        int snapshotVariable = 1;
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            snapshotVariable += getSize(parameterType);
+        }
+
+        Bytecode code = new Bytecode(constPool, 0, snapshotVariable + 2);
+        code.addAload(0);
+        code.addGetfield(proxyClassName, SERVICE_DETAILS_FIELD, SERVICE_DETAILS_DESCRIPTOR);
+        code.addInvokevirtual(ServiceDetails.class.getName(), "enterInstance", ENTER_INSTANCE_DESCRIPTOR);
+        code.addAstore(snapshotVariable);
+
+        int tryStart = code.currentPc();
+        code.addAload(snapshotVariable);
+        code.addInvokevirtual(ServiceInstanceSnapshot.class.getName(), "getInstance", GET_INSTANCE_DESCRIPTOR);
+        if (!isObjectMethod) {
+            code.addCheckcast(proxiedType.getName());
+        }
+
+        int variable = 1;
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            addLoad(code, variable, parameterType);
+            variable += getSize(parameterType);
+        }
+
+        if (isObjectMethod) {
+            code.addInvokevirtual(Object.class.getName(), method.getName(), descriptor);
+        } else if (proxiedType.isInterface()) {
+            code.addInvokeinterface(proxiedType.getName(), method.getName(), descriptor, variable);
+        } else {
+            code.addInvokevirtual(proxiedType.getName(), method.getName(), descriptor);
+        }
+        int tryEnd = code.currentPc();
+
+        code.addAload(snapshotVariable);
+        code.addInvokevirtual(ServiceInstanceSnapshot.class.getName(), "exit", EXIT_DESCRIPTOR);
+        addReturn(code, method.getReturnType());
+
+        int handler = code.currentPc();
+        code.setStackDepth(1);
+        code.addAstore(snapshotVariable + 1);
+        code.addAload(snapshotVariable);
+        code.addInvokevirtual(ServiceInstanceSnapshot.class.getName(), "exit", EXIT_DESCRIPTOR);
+        code.addAload(snapshotVariable + 1);
+        code.addOpcode(Opcode.ATHROW);
+        code.addExceptionHandler(tryStart, tryEnd, handler, 0);
+
+        MethodInfo methodInfo = new MethodInfo(constPool, method.getName(), descriptor);
+        methodInfo.setAccessFlags(method.getModifiers() & (Modifier.PUBLIC | Modifier.PROTECTED));
+        methodInfo.setCodeAttribute(code.toCodeAttribute());
+
+        return methodInfo;
+    }
+
+    /**
+     * @return number of local variable slots used by the given type.
+     */
+    private static int getSize(Class<?> type) {
+        return type == long.class || type == double.class ? 2 : 1;
+    }
+
+    private static void addLoad(Bytecode code, int variable, Class<?> type) {
+        if (type == long.class) {
+            code.addLload(variable);
+        } else if (type == double.class) {
+            code.addDload(variable);
+        } else if (type == float.class) {
+            code.addFload(variable);
+        } else if (type.isPrimitive()) {
+            code.addIload(variable);
+        } else {
+            code.addAload(variable);
+        }
+    }
+
+    private static void addReturn(Bytecode code, Class<?> type) {
+        if (type == void.class) {
+            code.addOpcode(Opcode.RETURN);
+        } else if (type == long.class) {
+            code.addOpcode(Opcode.LRETURN);
+        } else if (type == double.class) {
+            code.addOpcode(Opcode.DRETURN);
+        } else if (type == float.class) {
+            code.addOpcode(Opcode.FRETURN);
+        } else if (type.isPrimitive()) {
+            code.addOpcode(Opcode.IRETURN);
+        } else {
+            code.addOpcode(Opcode.ARETURN);
+        }
+    }
+
+    private static String getDescriptor(Method method) {
+        return MethodType.methodType(method.getReturnType(), method.getParameterTypes()).toMethodDescriptorString();
+    }
+
+    private static boolean isSamePackage(Class<?> type, Class<?> proxiedType) {
+        return type.getClassLoader() == proxiedType.getClassLoader()
+                && type.getPackageName().equals(proxiedType.getPackageName());
+    }
+}
@@ -0,0 +1,212 @@
+package com.grin.ioc.utils;
+
+import com.grin.ioc.annotations.Reloadable;
+import com.grin.ioc.config.configurations.InstantiationConfiguration;
+import com.grin.ioc.enums.ServiceScope;
+import com.grin.ioc.exceptions.ServiceInstantiationException;
+import com.grin.ioc.models.MethodInvocationHandlerImpl;
+import com.grin.ioc.models.InvocationHandlerImpl;
+import com.grin.ioc.models.ServiceBeanDetails;
+import com.grin.ioc.models.ServiceDetails;
+import com.grin.ioc.models.ServiceProxy;
+import javassist.util.proxy.ProxyFactory;
+import javassist.util.proxy.ProxyObject;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+
+public class ProxyUtils {
+
+    /**
+     * Proxy classes by service type. The classes are kept for as long as the service types
+     * are loaded, so they are defined once per class loader and can be unloaded with it.
+     *
+     * <p>
+     * Generated direct dispatch proxies are used where possible. Otherwise classes get a javassist proxy
+     * and interfaces have no proxy class, {@link Proxy} is used for them.
+     */
+    private static final ClassValue<Class<?>> PROXY_CLASSES = new ClassValue<>() {
+        @Override
+        protected Class<?> computeValue(Class<?> serviceType) {
+            Class<?> proxyClass = ProxyClassGenerator.generateProxyClass(serviceType);
+            if (proxyClass != null || serviceType.isInterface()) {
+                return proxyClass;
+            }
+
+            final ProxyFactory proxyFactory = new ProxyFactory();
+            proxyFactory.setSuperclass(serviceType);
+
+            return proxyFactory.createClass();
+        }
+    };
+
+    private static final String NO_PROXY_CONSTRUCTOR_MSG = "Cannot create a proxy of '%s', "
+            + "it needs a no argument constructor that is not private on runtimes without the jdk.unsupported module.";
+    private static final String PROXY_CONSTRUCTOR_FAILED_MSG = "Could not get the proxy constructor of '%s'.";
+    private static final String PROXY_INSTANCE_FAILED_MSG = "Could not create the proxy of '%s'.";
+
+    /**
+     * {@code sun.reflect.ReflectionFactory} of the jdk.unsupported module, looked up at runtime
+     * so that the container neither compiles against nor requires the module. Null if it is not available.
+     */
+    private static final Object REFLECTION_FACTORY;
+
+    private static final Method NEW_CONSTRUCTOR_FOR_SERIALIZATION;
+
+    static {
+        Object reflectionFactory = null;
+        Method newConstructorForSerialization = null;
+        try {
+            Class<?> reflectionFactoryClass = Class.forName("sun.reflect.ReflectionFactory");
+            reflectionFactory = reflectionFactoryClass.getMethod("getReflectionFactory").invoke(null);
+            newConstructorForSerialization = reflectionFactoryClass
+                    .getMethod("newConstructorForSerialization", Class.class, Constructor.class);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            reflectionFactory = null;
+        }
+
+        REFLECTION_FACTORY = reflectionFactory;
+        NEW_CONSTRUCTOR_FOR_SERIALIZATION = newConstructorForSerialization;
+    }
+
+    /**
+     * Constructors of the proxy classes by service type. Proxies of interfaces use their own constructor.
+     * Proxies of classes are allocated without running any constructor of the service where the runtime allows it,
+     * otherwise their constructor calls the no argument constructor of the service.
+     */
+    private static final ClassValue<Constructor<?>> PROXY_CONSTRUCTORS = new ClassValue<>() {
+        @Override
+        protected Constructor<?> computeValue(Class<?> serviceType) {
+            Class<?> proxyClass = PROXY_CLASSES.get(serviceType);
+            try {
+                if (serviceType.isInterface() || REFLECTION_FACTORY == null) {
+                    Constructor<?> constructor = proxyClass.getDeclaredConstructor();
+                    constructor.setAccessible(true);
+
+                    return constructor;
+                }
+
+                return (Constructor<?>) NEW_CONSTRUCTOR_FOR_SERIALIZATION
+                        .invoke(REFLECTION_FACTORY, proxyClass, Object.class.getDeclaredConstructor());
+            } catch (NoSuchMethodException e) {
+                throw new ServiceInstantiationException(String.format(NO_PROXY_CONSTRUCTOR_MSG, serviceType.getName()), e);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new ServiceInstantiationException(String.format(PROXY_CONSTRUCTOR_FAILED_MSG, serviceType.getName()), e);
+            }
+        }
+    };
+
+    /**
+     * Services of thread, per core and pooled scopes are always proxied, so that every call reaches the instance
+     * of the calling thread. Prototypes are never proxied, every dependant service gets its own instance.
+     *
+     * @return true if the given service has to be proxied so that it can be reloaded.
+     */
+    public static boolean isReloadable(ServiceDetails serviceDetails, InstantiationConfiguration configuration) {
+        ServiceScope scope = serviceDetails.getScope();
+        if (scope == ServiceScope.THREAD || scope == ServiceScope.PER_CORE || scope == ServiceScope.POOLED) {
+            return true;
+        }
+
+        if (scope == ServiceScope.PROTOTYPE) {
+            return false;
+        }
+
+        Reloadable reloadable = serviceDetails instanceof ServiceBeanDetails
+                ? ((ServiceBeanDetails) serviceDetails).getOriginMethod().getAnnotation(Reloadable.class)
+                : serviceDetails.getServiceType().getAnnotation(Reloadable.class);
+        if (reloadable == null) {
+            return configuration.isServicesReloadableByDefault();
+        }
+
+        return reloadable.value();
+    }
+
+    /**
+     * Defines the proxy classes of all given services that do not have one yet.
+     */
+    public static void createProxyClasses(Collection<ServiceDetails> services) {
+        for (ServiceDetails serviceDetails : services) {
+            PROXY_CLASSES.get(serviceDetails.getServiceType());
+        }
+    }
+
+    /**
+     * Creates the proxy of a service. The constructor of the service is not called again,
+     * the proxy only delegates to the actual instance.
+     */
+    public static void createProxyInstance(ServiceDetails serviceDetails) {
+        serviceDetails.setProxyInstance(allocateProxyInstance(serviceDetails.getServiceType(), serviceDetails));
+    }
+
+    /**
+     * Allocates an instance of the proxy class of the given type that calls the given service.
+     *
+     * @throws ServiceInstantiationException if the proxy class has no usable constructor or its constructor fails.
+     */
+    private static Object allocateProxyInstance(Class<?> proxiedType, ServiceDetails serviceDetails) {
+        Object proxyInstance;
+        try {
+            proxyInstance = PROXY_CONSTRUCTORS.get(proxiedType).newInstance();
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new ServiceInstantiationException(String.format(PROXY_INSTANCE_FAILED_MSG, proxiedType.getName()), e);
+        }
+
+        if (proxyInstance instanceof ServiceProxy) {
+            ((ServiceProxy) proxyInstance).setProxiedServiceDetails(serviceDetails);
+        } else {
+            ((ProxyObject) proxyInstance).setHandler(new MethodInvocationHandlerImpl(serviceDetails));
+        }
+
+        return proxyInstance;
+    }
+
+    /**
+     * Creates the proxy of a bean of an interface type. Beans of other types are proxied only
+     * if they are not singletons, since their instances depend on the calling thread then.
+     * Scoped beans that cannot be proxied are rejected when their snapshots are created, see {@link ScopeUtils}.
+     */
+    public static void createBeanProxyInstance(ServiceBeanDetails serviceDetails) {
+        Class<?> beanType = serviceDetails.getServiceType();
+        if (beanType.isInterface()) {
+            serviceDetails.setProxyInstance(createInterfaceProxyInstance(beanType, serviceDetails));
+        } else if (serviceDetails.getScope() != ServiceScope.SINGLETON && isProxyable(beanType)) {
+            serviceDetails.setProxyInstance(allocateProxyInstance(beanType, serviceDetails));
+        }
+    }
+
+    /**
+     * @return true if a proxy can be created for the given dependency type.
+     */
+    public static boolean isProxyable(Class<?> dependencyType) {
+        return dependencyType.isInterface()
+                || !dependencyType.isPrimitive() && !dependencyType.isArray() && !Modifier.isFinal(dependencyType.getModifiers());
+    }
+
+    /**
+     * Creates a proxy of the given interface or class that calls the current instance of the given service,
+     * so it can be injected before the service is instantiated.
+     */
+    public static Object createDependencyProxyInstance(Class<?> dependencyType, ServiceDetails serviceDetails) {
+        if (!dependencyType.isInterface()) {
+            return allocateProxyInstance(dependencyType, serviceDetails);
+        }
+
+        return createInterfaceProxyInstance(dependencyType, serviceDetails);
+    }
+
+    private static Object createInterfaceProxyInstance(Class<?> interfaceType, ServiceDetails serviceDetails) {
+        if (PROXY_CLASSES.get(interfaceType) != null) {
+            return allocateProxyInstance(interfaceType, serviceDetails);
+        }
+
+        return Proxy.newProxyInstance(
+                interfaceType.getClassLoader(),
+                new Class[]{interfaceType},
+                new InvocationHandlerImpl(serviceDetails));
+    }
+}
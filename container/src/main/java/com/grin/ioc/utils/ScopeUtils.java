@@ -0,0 +1,136 @@
+package com.grin.ioc.utils;
+
+import com.grin.ioc.annotations.Pooled;
+import com.grin.ioc.enums.ServiceScope;
+import com.grin.ioc.exceptions.BeanInstantiationException;
+import com.grin.ioc.exceptions.ServiceInstantiationException;
+import com.grin.ioc.models.PooledInstanceSnapshot;
+import com.grin.ioc.models.PrototypeInstanceSnapshot;
+import com.grin.ioc.models.ServiceBeanDetails;
+import com.grin.ioc.models.ServiceDetails;
+import com.grin.ioc.models.ServiceInstanceSnapshot;
+import com.grin.ioc.models.StripedInstanceSnapshot;
+import com.grin.ioc.models.ThreadInstanceSnapshot;
+import com.grin.ioc.services.ObjectInstantiationService;
+
+import java.util.function.Supplier;
+
+/**
+ * Creates the instance snapshots of services and beans according to their scopes.
+ *
+ * <p>
+ * Singletons are created right away. The other scopes get a factory that creates their instances
+ * through the given {@link ObjectInstantiationService} with the dependencies resolved now,
+ * so every new instance only costs the call of the constructor or the bean method.
+ */
+public class ScopeUtils {
+    private static final String NOT_PROXYABLE_MSG = "'%s' has %s scope and has to be proxied, "
+            + "but its type '%s' cannot be proxied. Use an interface or a non final class type.";
+
+    /**
+     * Pool settings of pooled services that are not annotated with {@link Pooled}.
+     */
+    private static final Pooled DEFAULT_POOL_SETTINGS = DefaultPoolSettings.class.getAnnotation(Pooled.class);
+
+    /**
+     * @throws ServiceInstantiationException if the service has to be proxied but its type cannot be.
+     */
+    public static ServiceInstanceSnapshot createInstanceSnapshot(ObjectInstantiationService instantiationService,
+                                                                 ServiceDetails serviceDetails,
+                                                                 Object[] constructorParams,
+                                                                 Object[] autowiredFieldInstances) {
+        if (!isProxyableIfScoped(serviceDetails)) {
+            throw new ServiceInstantiationException(getNotProxyableMessage(serviceDetails));
+        }
+
+        return createInstanceSnapshot(
+                instantiationService,
+                serviceDetails,
+                () -> instantiationService.newInstance(serviceDetails, constructorParams, autowiredFieldInstances)
+        );
+    }
+
+    /**
+     * @param rootInstance supplies the instance of the service in which the bean has been declared.
+     * @throws BeanInstantiationException if the bean has to be proxied but its type cannot be.
+     */
+    public static ServiceInstanceSnapshot createBeanInstanceSnapshot(ObjectInstantiationService instantiationService,
+                                                                     ServiceBeanDetails serviceBeanDetails,
+                                                                     Supplier<Object> rootInstance) {
+        if (!isProxyableIfScoped(serviceBeanDetails)) {
+            throw new BeanInstantiationException(getNotProxyableMessage(serviceBeanDetails));
+        }
+
+        return createInstanceSnapshot(
+                instantiationService,
+                serviceBeanDetails,
+                () -> instantiationService.newBeanInstance(serviceBeanDetails, rootInstance.get())
+        );
+    }
+
+    private static ServiceInstanceSnapshot createInstanceSnapshot(ObjectInstantiationService instantiationService,
+                                                                  ServiceDetails serviceDetails,
+                                                                  Supplier<Object> instanceFactory) {
+        switch (serviceDetails.getScope()) {
+            case PROTOTYPE:
+                return new PrototypeInstanceSnapshot(instanceFactory);
+            case THREAD:
+                return new ThreadInstanceSnapshot(
+                        instanceFactory,
+                        instance -> instantiationService.destroyInstance(serviceDetails, instance)
+                );
+            case PER_CORE:
+                return new StripedInstanceSnapshot(instanceFactory);
+            case POOLED:
+                Pooled poolSettings = getPoolSettings(serviceDetails);
+                return new PooledInstanceSnapshot(
+                        instanceFactory,
+                        instance -> instantiationService.destroyInstance(serviceDetails, instance),
+                        poolSettings.minSize(),
+                        poolSettings.maxSize(),
+                        poolSettings.idleTimeoutMillis(),
+                        poolSettings.borrowTimeoutMillis()
+                );
+            default:
+                return serviceDetails.newInstanceSnapshot(instanceFactory.get());
+        }
+    }
+
+    /**
+     * Thread, per core and pooled services are only correct when every call goes through their proxy.
+     * Without one, every dependant service would keep the instance of the thread that injected it.
+     *
+     * @return false if the service has one of these scopes and its type cannot be proxied.
+     */
+    private static boolean isProxyableIfScoped(ServiceDetails serviceDetails) {
+        ServiceScope scope = serviceDetails.getScope();
+        if (scope != ServiceScope.THREAD && scope != ServiceScope.PER_CORE && scope != ServiceScope.POOLED) {
+            return true;
+        }
+
+        return ProxyUtils.isProxyable(serviceDetails.getServiceType());
+    }
+
+    private static String getNotProxyableMessage(ServiceDetails serviceDetails) {
+        String name = serviceDetails instanceof ServiceBeanDetails
+                ? ((ServiceBeanDetails) serviceDetails).getOriginMethod().toString()
+                : serviceDetails.getServiceType().getName();
+
+        return String.format(NOT_PROXYABLE_MSG, name, serviceDetails.getScope(), serviceDetails.getServiceType().getName());
+    }
+
+    private static Pooled getPoolSettings(ServiceDetails serviceDetails) {
+        Pooled poolSettings = serviceDetails instanceof ServiceBeanDetails
+                ? ((ServiceBeanDetails) serviceDetails).getOriginMethod().getAnnotation(Pooled.class)
+                : serviceDetails.getServiceType().getAnnotation(Pooled.class);
+        if (poolSettings == null) {
+            return DEFAULT_POOL_SETTINGS;
+        }
+
+        return poolSettings;
+    }
+
+    @Pooled
+    private static class DefaultPoolSettings {
+    }
+}
@@ -9,6 +9,8 @@ import java.util.Comparator;
  *
  * <p>
  * Used to compare the number of the constructor parameters for each ServiceDetails' target constructor.
+ * Services with the same number of parameters are ordered by their class names,
+ * so the order does not depend on the order in which the classes were located.
  */
 public class ServiceDetailsConstructorComparator implements Comparator<ServiceDetails> {
     @Override
@@ -17,9 +19,15 @@ public class ServiceDetailsConstructorComparator implements Comparator<ServiceDe
             return 0;
         }
 
-        return Integer.compare(
+        int result = Integer.compare(
                 serviceDetails1.getTargetConstructor().getParameterCount(),
                 serviceDetails2.getTargetConstructor().getParameterCount()
         );
+
+        if (result != 0) {
+            return result;
+        }
+
+        return serviceDetails1.getServiceType().getName().compareTo(serviceDetails2.getServiceType().getName());
     }
 }
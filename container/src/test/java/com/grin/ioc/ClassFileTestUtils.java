@@ -0,0 +1,83 @@
+package com.grin.ioc;
+
+import com.grin.ioc.constants.Constants;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Reads the class files compiled from the test sources and copies them to directories or jar files.
+ */
+public class ClassFileTestUtils {
+
+    public static ByteBuffer readClassFile(Class<?> cls) throws IOException {
+        try (InputStream inputStream = cls.getResourceAsStream(cls.getSimpleName() + Constants.CLASS_FILE_EXTENSION)) {
+            return ByteBuffer.wrap(inputStream.readAllBytes());
+        }
+    }
+
+    public static String getEntryName(Class<?> cls) {
+        return cls.getName().replace('.', '/') + Constants.CLASS_FILE_EXTENSION;
+    }
+
+    /**
+     * Writes the class files of the given classes to the package directories under the given root.
+     */
+    public static Path writeClassFiles(Path root, Class<?>... classes) throws IOException {
+        for (Class<?> cls : classes) {
+            Path classFile = root.resolve(getEntryName(cls));
+            Files.createDirectories(classFile.getParent());
+            Files.write(classFile, readClassFile(cls).array());
+        }
+
+        return root;
+    }
+
+    /**
+     * Writes the class files of the given classes to a jar file.
+     *
+     * @param method            {@link ZipEntry#STORED} or {@link ZipEntry#DEFLATED}.
+     * @param additionalEntries number of empty entries appended after the classes,
+     *                          more than 65535 entries produce a zip64 archive.
+     */
+    public static Path writeJar(Path jarFile, int method, int additionalEntries, Class<?>... classes) throws IOException {
+        try (OutputStream outputStream = Files.newOutputStream(jarFile);
+             ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
+            for (Class<?> cls : classes) {
+                ByteBuffer classFile = readClassFile(cls);
+                writeEntry(zipOutputStream, getEntryName(cls), method, classFile.array());
+            }
+
+            for (int i = 0; i < additionalEntries; i++) {
+                writeEntry(zipOutputStream, "resources/entry" + i + ".txt", method, new byte[0]);
+            }
+        }
+
+        return jarFile;
+    }
+
+    private static void writeEntry(ZipOutputStream zipOutputStream, String name, int method, byte[] content) throws IOException {
+        ZipEntry zipEntry = new ZipEntry(name);
+        zipEntry.setMethod(method);
+
+        if (method == ZipEntry.STORED) {
+            CRC32 crc = new CRC32();
+            crc.update(content);
+
+            zipEntry.setSize(content.length);
+            zipEntry.setCompressedSize(content.length);
+            zipEntry.setCrc(crc.getValue());
+        }
+
+        zipOutputStream.putNextEntry(zipEntry);
+        zipOutputStream.write(content);
+        zipOutputStream.closeEntry();
+    }
+}
@@ -0,0 +1,31 @@
+package com.grin.ioc;
+
+import com.grin.ioc.config.DIConfiguration;
+import com.grin.ioc.services.DependencyContainer;
+
+import java.util.function.Consumer;
+
+/**
+ * Runs containers over the services of a single test package.
+ */
+public class ContainerTestUtils {
+
+    public static DependencyContainer runContainer(Class<?> testClass) {
+        return runContainer(testClass, configuration -> {
+        });
+    }
+
+    /**
+     * Scans only the package of the given test class, so each test sees just the services next to it.
+     *
+     * @param testClass    test class whose package is scanned.
+     * @param configurator adjusts the configuration before the container is run.
+     */
+    public static DependencyContainer runContainer(Class<?> testClass, Consumer<DIConfiguration> configurator) {
+        DIConfiguration configuration = new DIConfiguration();
+        configuration.annotations().addIncludedPackage(testClass.getPackageName());
+        configurator.accept(configuration);
+
+        return Main.run(testClass, configuration);
+    }
+}
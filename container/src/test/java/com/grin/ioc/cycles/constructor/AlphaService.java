@@ -0,0 +1,10 @@
+package com.grin.ioc.cycles.constructor;
+
+import com.grin.ioc.annotations.Service;
+
+@Service
+public class AlphaService {
+
+    public AlphaService(BetaService betaService) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.grin.ioc.cycles.constructor;
+
+import com.grin.ioc.exceptions.CircularDependencyException;
+import org.junit.jupiter.api.Test;
+
+import static com.grin.ioc.ContainerTestUtils.runContainer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ConstructorCycleTest {
+
+    @Test
+    public void constructorCycleIsReportedWithItsPath() {
+        CircularDependencyException exception = assertThrows(
+                CircularDependencyException.class,
+                () -> runContainer(ConstructorCycleTest.class, configuration -> configuration.instantiations()
+                        .setCircularFieldDependenciesAllowed(true))
+        );
+
+        assertEquals(String.format("Could not instantiate services because of circular dependencies: \n %s -> %s -> %s",
+                BetaService.class.getName(), AlphaService.class.getName(), BetaService.class.getName()), exception.getMessage());
+    }
+}
@@ -0,0 +1,28 @@
+package com.grin.ioc.cycles.fields;
+
+import com.grin.ioc.exceptions.CircularDependencyException;
+import com.grin.ioc.services.DependencyContainer;
+import org.junit.jupiter.api.Test;
+
+import static com.grin.ioc.ContainerTestUtils.runContainer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class FieldCycleTest {
+
+    @Test
+    public void fieldCycleIsBrokenWhenAllowed() {
+        DependencyContainer dependencyContainer = runContainer(FieldCycleTest.class, configuration -> configuration.instantiations()
+                .setCircularFieldDependenciesAllowed(true));
+
+        MailService mailService = dependencyContainer.getService(MailService.class);
+
+        assertEquals("mail: hello", mailService.getNotificationService().notify("hello"));
+        assertEquals("mail: hello", dependencyContainer.getService(NotificationService.class).notify("hello"));
+    }
+
+    @Test
+    public void fieldCycleIsReportedWhenNotAllowed() {
+        assertThrows(CircularDependencyException.class, () -> runContainer(FieldCycleTest.class));
+    }
+}
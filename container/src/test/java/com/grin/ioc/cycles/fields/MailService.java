@@ -0,0 +1,20 @@
+package com.grin.ioc.cycles.fields;
+
+import com.grin.ioc.annotations.Autowired;
+import com.grin.ioc.annotations.Service;
+
+@Service
+public class MailService implements Sender {
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Override
+    public String send(String message) {
+        return "mail: " + message;
+    }
+
+    public NotificationService getNotificationService() {
+        return this.notificationService;
+    }
+}
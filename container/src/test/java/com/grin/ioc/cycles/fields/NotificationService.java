@@ -0,0 +1,15 @@
+package com.grin.ioc.cycles.fields;
+
+import com.grin.ioc.annotations.Autowired;
+import com.grin.ioc.annotations.Service;
+
+@Service
+public class NotificationService {
+
+    @Autowired
+    private Sender sender;
+
+    public String notify(String message) {
+        return this.sender.send(message);
+    }
+}
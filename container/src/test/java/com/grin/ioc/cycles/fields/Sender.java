@@ -0,0 +1,6 @@
+package com.grin.ioc.cycles.fields;
+
+public interface Sender {
+
+    String send(String message);
+}
@@ -0,0 +1,13 @@
+package com.grin.ioc.cycles.unbreakable;
+
+import com.grin.ioc.annotations.Service;
+
+/**
+ * Final, so the autowired field of {@link FieldService} cannot get a proxy for it.
+ */
+@Service
+public final class ConstructorService {
+
+    public ConstructorService(FieldService fieldService) {
+    }
+}
@@ -0,0 +1,11 @@
+package com.grin.ioc.cycles.unbreakable;
+
+import com.grin.ioc.annotations.Autowired;
+import com.grin.ioc.annotations.Service;
+
+@Service
+public class FieldService {
+
+    @Autowired
+    private ConstructorService constructorService;
+}
@@ -0,0 +1,23 @@
+package com.grin.ioc.cycles.unbreakable;
+
+import com.grin.ioc.exceptions.CircularDependencyException;
+import org.junit.jupiter.api.Test;
+
+import static com.grin.ioc.ContainerTestUtils.runContainer;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class UnbreakableCycleTest {
+
+    @Test
+    public void cycleThroughFinalClassFieldIsReported() {
+        CircularDependencyException exception = assertThrows(
+                CircularDependencyException.class,
+                () -> runContainer(UnbreakableCycleTest.class, configuration -> configuration.instantiations()
+                        .setCircularFieldDependenciesAllowed(true))
+        );
+
+        assertTrue(exception.getMessage().contains(ConstructorService.class.getName()), exception::getMessage);
+        assertTrue(exception.getMessage().contains(FieldService.class.getName()), exception::getMessage);
+    }
+}
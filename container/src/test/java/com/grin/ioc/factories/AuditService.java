@@ -0,0 +1,34 @@
+package com.grin.ioc.factories;
+
+import com.grin.ioc.annotations.Autowired;
+import com.grin.ioc.annotations.PostConstruct;
+import com.grin.ioc.annotations.Service;
+
+/**
+ * Generated factories cannot set private fields or call private methods, so this service is created by the fallback.
+ */
+@Service
+public class AuditService {
+
+    @Autowired
+    private ClockService clockService;
+
+    private boolean initialized;
+
+    public ClockService getClockService() {
+        return this.clockService;
+    }
+
+    public AuditService self() {
+        return this;
+    }
+
+    public boolean isInitialized() {
+        return this.initialized;
+    }
+
+    @PostConstruct
+    private void init() {
+        this.initialized = true;
+    }
+}
@@ -0,0 +1,11 @@
+package com.grin.ioc.factories;
+
+import com.grin.ioc.annotations.Service;
+
+@Service
+public class ClockService {
+
+    public ClockService self() {
+        return this;
+    }
+}
@@ -0,0 +1,131 @@
+package com.grin.ioc.factories;
+
+import com.grin.ioc.enums.ObjectInstantiationType;
+import com.grin.ioc.models.ServiceDetails;
+import com.grin.ioc.models.ServiceFactory;
+import com.grin.ioc.services.DependencyContainer;
+import com.grin.ioc.services.impl.MethodHandleInstantiationServiceImpl;
+import com.grin.ioc.services.impl.ObjectInstantiationServiceImpl;
+import com.grin.ioc.services.impl.ServiceFactoryGeneratorImpl;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+
+import static com.grin.ioc.ContainerTestUtils.runContainer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GeneratedFactoriesTest {
+
+    @Test
+    public void servicesAreCreatedThroughFactoriesWherePossible() {
+        DependencyContainer dependencyContainer = run();
+
+        ClockService clockService = dependencyContainer.getService(ClockService.class).self();
+        AuditService auditService = dependencyContainer.getService(AuditService.class).self();
+        ReportService reportService = dependencyContainer.getService(ReportService.class).self();
+
+        assertSame(clockService, reportService.getClockService().self());
+        assertSame(auditService, reportService.getAuditService().self());
+        assertTrue(reportService.isInitialized());
+
+        assertSame(clockService, auditService.getClockService().self());
+        assertTrue(auditService.isInitialized());
+
+        assertNotNull(dependencyContainer.getServiceDetails(ReportService.class).getServiceFactory());
+        assertNull(dependencyContainer.getServiceDetails(AuditService.class).getServiceFactory());
+    }
+
+    @Test
+    public void factoriesAreReusedByLaterContainers() {
+        DependencyContainer firstContainer = run();
+        DependencyContainer secondContainer = run();
+
+        ReportService firstReportService = firstContainer.getService(ReportService.class).self();
+        ReportService secondReportService = secondContainer.getService(ReportService.class).self();
+
+        assertNotSame(firstReportService, secondReportService);
+        assertSame(secondContainer.getService(ClockService.class).self(), secondReportService.getClockService().self());
+        assertSame(secondContainer.getService(AuditService.class).self(), secondReportService.getAuditService().self());
+        assertSame(
+                firstContainer.getServiceDetails(ReportService.class).getServiceFactory(),
+                secondContainer.getServiceDetails(ReportService.class).getServiceFactory()
+        );
+    }
+
+    @Test
+    public void servicesWithoutFactoryAreCreatedByTheFallback() {
+        DependencyContainer dependencyContainer = run();
+        ServiceDetails auditServiceDetails = dependencyContainer.getServiceDetails(AuditService.class);
+        ServiceDetails reportServiceDetails = dependencyContainer.getServiceDetails(ReportService.class);
+        ClockService clockService = dependencyContainer.getService(ClockService.class);
+
+        ObjectInstantiationServiceImpl instantiationService = new ObjectInstantiationServiceImpl(
+                new ServiceFactoryGeneratorImpl(),
+                new MethodHandleInstantiationServiceImpl()
+        );
+
+        AuditService auditService = (AuditService) instantiationService.newInstance(
+                auditServiceDetails, new Object[0], new Object[]{clockService}
+        );
+        ReportService reportService = (ReportService) instantiationService.newInstance(
+                reportServiceDetails, new Object[]{clockService}, new Object[]{auditService}
+        );
+
+        assertSame(clockService, auditService.getClockService());
+        assertTrue(auditService.isInitialized());
+        assertSame(auditService, reportService.getAuditService());
+        assertTrue(reportService.isInitialized());
+
+        assertEquals(1, instantiationService.getServicesWithoutFactory().size());
+        assertTrue(instantiationService.getServicesWithoutFactory().contains(auditServiceDetails));
+    }
+
+    @Test
+    public void servicesWithoutFactoryAreCreatedThroughReflectionWithoutFallback() {
+        DependencyContainer dependencyContainer = run();
+        ClockService clockService = dependencyContainer.getService(ClockService.class);
+
+        ObjectInstantiationServiceImpl instantiationService = new ObjectInstantiationServiceImpl(new ServiceFactoryGeneratorImpl());
+        AuditService auditService = (AuditService) instantiationService.newInstance(
+                dependencyContainer.getServiceDetails(AuditService.class), new Object[0], new Object[]{clockService}
+        );
+
+        assertSame(clockService, auditService.getClockService());
+        assertTrue(auditService.isInitialized());
+    }
+
+    @Test
+    public void factoriesOfTheSameServiceGetDistinctClasses() {
+        ServiceDetails serviceDetails = run().getServiceDetails(ReportService.class);
+        ServiceDetails withoutFieldsDetails = new ServiceDetails(
+                ReportService.class,
+                serviceDetails.getAnnotation(),
+                serviceDetails.getTargetConstructor(),
+                serviceDetails.getPostConstructMethod(),
+                serviceDetails.getPreDestroyMethod(),
+                serviceDetails.getBeans(),
+                new Field[0]
+        );
+
+        ServiceFactoryGeneratorImpl serviceFactoryGenerator = new ServiceFactoryGeneratorImpl();
+        ServiceFactory factory = serviceFactoryGenerator.generateServiceFactory(serviceDetails);
+        ServiceFactory withoutFieldsFactory = serviceFactoryGenerator.generateServiceFactory(withoutFieldsDetails);
+
+        assertSame(factory, serviceDetails.getServiceFactory());
+        assertNotSame(factory.getClass(), withoutFieldsFactory.getClass());
+        assertSame(withoutFieldsFactory, serviceFactoryGenerator.generateServiceFactory(withoutFieldsDetails));
+        assertSame(ReportService.class.getPackage(), withoutFieldsFactory.getClass().getPackage());
+    }
+
+    private static DependencyContainer run() {
+        return runContainer(
+                GeneratedFactoriesTest.class,
+                configuration -> configuration.instantiations().setObjectInstantiationType(ObjectInstantiationType.GENERATED_FACTORIES)
+        );
+    }
+}
@@ -0,0 +1,40 @@
+package com.grin.ioc.factories;
+
+import com.grin.ioc.annotations.Autowired;
+import com.grin.ioc.annotations.PostConstruct;
+import com.grin.ioc.annotations.Service;
+
+@Service
+public class ReportService {
+    private final ClockService clockService;
+
+    @Autowired
+    AuditService auditService;
+
+    private boolean initialized;
+
+    public ReportService(ClockService clockService) {
+        this.clockService = clockService;
+    }
+
+    public ClockService getClockService() {
+        return this.clockService;
+    }
+
+    public AuditService getAuditService() {
+        return this.auditService;
+    }
+
+    public ReportService self() {
+        return this;
+    }
+
+    public boolean isInitialized() {
+        return this.initialized;
+    }
+
+    @PostConstruct
+    public void init() {
+        this.initialized = true;
+    }
+}
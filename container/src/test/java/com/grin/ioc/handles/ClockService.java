@@ -0,0 +1,4 @@
+package com.grin.ioc.handles;
+
+public class ClockService {
+}
@@ -0,0 +1,6 @@
+package com.grin.ioc.handles;
+
+public interface Entry {
+
+    String getText();
+}
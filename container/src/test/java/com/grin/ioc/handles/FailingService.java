@@ -0,0 +1,26 @@
+package com.grin.ioc.handles;
+
+/**
+ * Every member throws {@link #FAILURE} unless the service is created with failing set to false.
+ */
+public class FailingService {
+    public static final IllegalStateException FAILURE = new IllegalStateException("failure");
+
+    public FailingService(boolean failing) {
+        if (failing) {
+            throw FAILURE;
+        }
+    }
+
+    public void init() {
+        throw FAILURE;
+    }
+
+    public void close() {
+        throw FAILURE;
+    }
+
+    public Entry entry() {
+        throw FAILURE;
+    }
+}
@@ -0,0 +1,46 @@
+package com.grin.ioc.handles;
+
+/**
+ * Declares only private members, which method handles reach through the accessible reflected members.
+ */
+public class JournalService {
+    private final ClockService constructorClock;
+
+    private ClockService fieldClock;
+
+    private int postConstructCalls;
+
+    private int preDestroyCalls;
+
+    private JournalService(ClockService constructorClock) {
+        this.constructorClock = constructorClock;
+    }
+
+    public ClockService getConstructorClock() {
+        return this.constructorClock;
+    }
+
+    public ClockService getFieldClock() {
+        return this.fieldClock;
+    }
+
+    public int getPostConstructCalls() {
+        return this.postConstructCalls;
+    }
+
+    public int getPreDestroyCalls() {
+        return this.preDestroyCalls;
+    }
+
+    private void init() {
+        this.postConstructCalls++;
+    }
+
+    private void close() {
+        this.preDestroyCalls++;
+    }
+
+    private Entry entry() {
+        return () -> "journal";
+    }
+}
@@ -0,0 +1,4 @@
+package com.grin.ioc.lookup;
+
+public abstract class AbstractRepository implements Repository {
+}
@@ -0,0 +1,68 @@
+package com.grin.ioc.lookup;
+
+import com.grin.ioc.annotations.Service;
+import com.grin.ioc.services.DependencyContainer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.grin.ioc.ContainerTestUtils.runContainer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ConcurrentLookupTest {
+    private static final int THREAD_COUNT = 8;
+    private static final int RELOAD_COUNT = 50;
+
+    @Test
+    public void lookupsSeeEveryServiceWhileServicesAreReloaded() throws Exception {
+        DependencyContainer dependencyContainer = runContainer(ConcurrentLookupTest.class);
+        UserRepository userRepository = dependencyContainer.getService(UserRepository.class);
+        CountDownLatch started = new CountDownLatch(THREAD_COUNT);
+        AtomicBoolean reloading = new AtomicBoolean(true);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            List<Future<Integer>> lookups = new ArrayList<>();
+            for (int i = 0; i < THREAD_COUNT; i++) {
+                lookups.add(executor.submit(() -> {
+                    started.countDown();
+                    int lookupCount = 0;
+                    do {
+                        assertSame(userRepository, dependencyContainer.getService(UserRepository.class));
+                        assertNotNull(dependencyContainer.getService(Formatter.class));
+                        assertEquals(2, dependencyContainer.getImplementations(Repository.class).size());
+                        assertEquals(2, dependencyContainer.getServicesByAnnotation(Service.class).size());
+                        assertNull(dependencyContainer.getService(Runnable.class));
+                        assertEquals("users", userRepository.getName());
+                        lookupCount++;
+                    } while (reloading.get());
+
+                    return lookupCount;
+                }));
+            }
+
+            started.await();
+            for (int i = 0; i < RELOAD_COUNT; i++) {
+                dependencyContainer.reload(UserRepository.class);
+                dependencyContainer.reload(OrderRepository.class);
+            }
+            reloading.set(false);
+
+            for (Future<Integer> lookup : lookups) {
+                assertNotNull(lookup.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
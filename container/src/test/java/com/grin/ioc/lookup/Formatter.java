@@ -0,0 +1,6 @@
+package com.grin.ioc.lookup;
+
+public interface Formatter {
+
+    String format(String value);
+}
@@ -0,0 +1,91 @@
+package com.grin.ioc.lookup;
+
+import com.grin.ioc.annotations.Service;
+import com.grin.ioc.models.ServiceDetails;
+import com.grin.ioc.services.DependencyContainer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.grin.ioc.ContainerTestUtils.runContainer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LookupIndexTest {
+
+    @Test
+    public void servicesAreFoundByAllOfTheirSupertypes() {
+        DependencyContainer dependencyContainer = runContainer(LookupIndexTest.class);
+        ServiceDetails userRepositoryDetails = dependencyContainer.getServiceDetails(UserRepository.class);
+        ServiceDetails orderRepositoryDetails = dependencyContainer.getServiceDetails(OrderRepository.class);
+
+        assertSame(userRepositoryDetails, dependencyContainer.getServiceDetails(AbstractRepository.class));
+        assertEquals(List.of(userRepositoryDetails), List.copyOf(dependencyContainer.getImplementations(AbstractRepository.class)));
+        assertEquals(
+                Set.of(userRepositoryDetails, orderRepositoryDetails),
+                Set.copyOf(dependencyContainer.getImplementations(Repository.class))
+        );
+        assertEquals(
+                Set.copyOf(dependencyContainer.getAllServices()),
+                Set.copyOf(dependencyContainer.getImplementations(Object.class))
+        );
+        assertEquals("order value", dependencyContainer.getService(Formatter.class).format("value"));
+    }
+
+    @Test
+    public void servicesAreFoundByTheClassesOfTheirProxies() {
+        DependencyContainer dependencyContainer = runContainer(LookupIndexTest.class);
+        UserRepository userRepository = dependencyContainer.getService(UserRepository.class);
+
+        assertSame(dependencyContainer.getServiceDetails(UserRepository.class), dependencyContainer.getServiceDetails(userRepository.getClass()));
+        assertTrue(dependencyContainer.getImplementations(userRepository.getClass()).isEmpty());
+    }
+
+    @Test
+    public void servicesAreFoundByTheirAnnotation() {
+        DependencyContainer dependencyContainer = runContainer(LookupIndexTest.class);
+
+        Set<Class<?>> serviceTypes = dependencyContainer.getServicesByAnnotation(Service.class).stream()
+                .map(ServiceDetails::getServiceType)
+                .collect(Collectors.toSet());
+
+        assertEquals(Set.of(UserRepository.class, OrderRepository.class), serviceTypes);
+    }
+
+    @Test
+    public void missingTypesAndAnnotationsHaveNoServices() {
+        DependencyContainer dependencyContainer = runContainer(LookupIndexTest.class);
+
+        assertNull(dependencyContainer.getService(Runnable.class));
+        assertNull(dependencyContainer.getServiceDetails(Runnable.class));
+        assertNull(dependencyContainer.getServiceHandle(Runnable.class));
+        assertTrue(dependencyContainer.getImplementations(Runnable.class).isEmpty());
+        assertTrue(dependencyContainer.getServicesByAnnotation(Deprecated.class).isEmpty());
+
+        assertNull(dependencyContainer.getService(Runnable.class));
+        assertTrue(dependencyContainer.getImplementations(Runnable.class).isEmpty());
+    }
+
+    @Test
+    public void lookupsReturnTheSameUnmodifiableLists() {
+        DependencyContainer dependencyContainer = runContainer(LookupIndexTest.class);
+        Collection<ServiceDetails> implementations = dependencyContainer.getImplementations(Repository.class);
+        Collection<ServiceDetails> annotatedServices = dependencyContainer.getServicesByAnnotation(Service.class);
+
+        assertSame(implementations, dependencyContainer.getImplementations(Repository.class));
+        assertSame(annotatedServices, dependencyContainer.getServicesByAnnotation(Service.class));
+        assertThrows(UnsupportedOperationException.class, () -> implementations.add(null));
+        assertThrows(UnsupportedOperationException.class, () -> annotatedServices.clear());
+        assertThrows(UnsupportedOperationException.class, () -> dependencyContainer.getAllServices().clear());
+
+        dependencyContainer.reload(UserRepository.class);
+
+        assertSame(implementations, dependencyContainer.getImplementations(Repository.class));
+    }
+}
@@ -0,0 +1,18 @@
+package com.grin.ioc.lookup;
+
+import com.grin.ioc.annotations.Bean;
+import com.grin.ioc.annotations.Service;
+
+@Service
+public class OrderRepository implements Repository {
+
+    @Override
+    public String getName() {
+        return "orders";
+    }
+
+    @Bean
+    public Formatter formatter() {
+        return value -> "order " + value;
+    }
+}
@@ -0,0 +1,6 @@
+package com.grin.ioc.lookup;
+
+public interface Repository {
+
+    String getName();
+}
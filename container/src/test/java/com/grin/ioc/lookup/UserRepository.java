@@ -0,0 +1,12 @@
+package com.grin.ioc.lookup;
+
+import com.grin.ioc.annotations.Service;
+
+@Service
+public class UserRepository extends AbstractRepository {
+
+    @Override
+    public String getName() {
+        return "users";
+    }
+}
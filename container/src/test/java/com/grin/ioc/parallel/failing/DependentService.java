@@ -0,0 +1,14 @@
+package com.grin.ioc.parallel.failing;
+
+import com.grin.ioc.annotations.Service;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+public class DependentService {
+    static final AtomicInteger INSTANCE_COUNT = new AtomicInteger();
+
+    public DependentService(FirstFailingService firstFailingService) {
+        INSTANCE_COUNT.incrementAndGet();
+    }
+}
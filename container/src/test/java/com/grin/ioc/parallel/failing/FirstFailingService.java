@@ -0,0 +1,16 @@
+package com.grin.ioc.parallel.failing;
+
+import com.grin.ioc.annotations.Service;
+
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class FirstFailingService {
+    static final CyclicBarrier CONSTRUCTION_BARRIER = new CyclicBarrier(2);
+
+    public FirstFailingService() throws Exception {
+        CONSTRUCTION_BARRIER.await(5, TimeUnit.SECONDS);
+        throw new IllegalStateException("first failure");
+    }
+}
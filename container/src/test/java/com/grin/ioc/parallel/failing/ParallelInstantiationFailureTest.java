@@ -0,0 +1,51 @@
+package com.grin.ioc.parallel.failing;
+
+import com.grin.ioc.enums.InstantiationMode;
+import com.grin.ioc.exceptions.ServiceInstantiationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.grin.ioc.ContainerTestUtils.runContainer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ParallelInstantiationFailureTest {
+
+    @Test
+    public void failuresOfAllRunningServicesAreAggregated() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            ServiceInstantiationException exception = assertThrows(
+                    ServiceInstantiationException.class,
+                    () -> runContainer(ParallelInstantiationFailureTest.class, configuration -> configuration.instantiations()
+                            .setInstantiationMode(InstantiationMode.PARALLEL)
+                            .setExecutor(executor))
+            );
+
+            assertEquals(1, exception.getSuppressed().length);
+
+            List<String> messages = new ArrayList<>();
+            messages.add(getRootCauseMessage(exception.getCause()));
+            messages.add(getRootCauseMessage(exception.getSuppressed()[0]));
+
+            assertTrue(messages.contains("first failure"), messages::toString);
+            assertTrue(messages.contains("second failure"), messages::toString);
+            assertEquals(0, DependentService.INSTANCE_COUNT.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static String getRootCauseMessage(Throwable throwable) {
+        while (throwable.getCause() != null) {
+            throwable = throwable.getCause();
+        }
+
+        return throwable.getMessage();
+    }
+}
@@ -0,0 +1,14 @@
+package com.grin.ioc.parallel.failing;
+
+import com.grin.ioc.annotations.Service;
+
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class SecondFailingService {
+
+    public SecondFailingService() throws Exception {
+        FirstFailingService.CONSTRUCTION_BARRIER.await(5, TimeUnit.SECONDS);
+        throw new IllegalStateException("second failure");
+    }
+}
@@ -0,0 +1,23 @@
+package com.grin.ioc.parallel.ordering;
+
+import com.grin.ioc.annotations.Service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Comes first in the dependency graph but is instantiated last, it waits until {@link SecondFormatter} is created.
+ */
+@Service
+public class FirstFormatter implements Formatter {
+
+    public FirstFormatter() throws InterruptedException {
+        if (!SecondFormatter.created.await(5, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Second formatter was not created.");
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "first";
+    }
+}
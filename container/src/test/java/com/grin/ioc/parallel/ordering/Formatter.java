@@ -0,0 +1,6 @@
+package com.grin.ioc.parallel.ordering;
+
+public interface Formatter {
+
+    String getName();
+}
@@ -0,0 +1,50 @@
+package com.grin.ioc.parallel.ordering;
+
+import com.grin.ioc.enums.InstantiationMode;
+import com.grin.ioc.models.ServiceDetails;
+import com.grin.ioc.services.DependencyContainer;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static com.grin.ioc.ContainerTestUtils.runContainer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class InstantiationOrderTest {
+
+    /**
+     * {@link FirstFormatter} finishes after {@link SecondFormatter} in parallel mode,
+     * it is still the implementation found first as in sequential mode.
+     */
+    @Test
+    public void implementationsAreFoundInTheSameOrderInBothModes() {
+        SecondFormatter.created = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        DependencyContainer parallelContainer;
+        try {
+            parallelContainer = runContainer(InstantiationOrderTest.class, configuration -> configuration.instantiations()
+                    .setInstantiationMode(InstantiationMode.PARALLEL)
+                    .setExecutor(executor));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        SecondFormatter.created = new CountDownLatch(0);
+        DependencyContainer sequentialContainer = runContainer(InstantiationOrderTest.class);
+
+        assertEquals("first", parallelContainer.getService(Formatter.class).getName());
+        assertEquals("first", sequentialContainer.getService(Formatter.class).getName());
+        assertEquals(getServiceTypes(sequentialContainer), getServiceTypes(parallelContainer));
+    }
+
+    private static List<Class<?>> getServiceTypes(DependencyContainer dependencyContainer) {
+        return dependencyContainer.getAllServices().stream()
+                .map(ServiceDetails::getServiceType)
+                .collect(Collectors.toList());
+    }
+}
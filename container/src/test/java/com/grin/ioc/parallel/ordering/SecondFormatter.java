@@ -0,0 +1,19 @@
+package com.grin.ioc.parallel.ordering;
+
+import com.grin.ioc.annotations.Service;
+
+import java.util.concurrent.CountDownLatch;
+
+@Service
+public class SecondFormatter implements Formatter {
+    static volatile CountDownLatch created = new CountDownLatch(1);
+
+    public SecondFormatter(TemplateService templateService) {
+        created.countDown();
+    }
+
+    @Override
+    public String getName() {
+        return "second";
+    }
+}
@@ -0,0 +1,7 @@
+package com.grin.ioc.parallel.ordering;
+
+import com.grin.ioc.annotations.Service;
+
+@Service
+public class TemplateService {
+}
@@ -0,0 +1,23 @@
+package com.grin.ioc.parallel.valid;
+
+import com.grin.ioc.annotations.Service;
+
+@Service
+public class OrderService {
+    private final RepositoryService repositoryService;
+
+    private final ClockService clockService;
+
+    public OrderService(RepositoryService repositoryService, ClockService clockService) {
+        this.repositoryService = repositoryService;
+        this.clockService = clockService;
+    }
+
+    public RepositoryService getRepositoryService() {
+        return this.repositoryService;
+    }
+
+    public ClockService getClockService() {
+        return this.clockService;
+    }
+}
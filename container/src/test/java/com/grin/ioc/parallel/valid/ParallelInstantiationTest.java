@@ -0,0 +1,23 @@
+package com.grin.ioc.parallel.valid;
+
+import com.grin.ioc.enums.InstantiationMode;
+import com.grin.ioc.services.DependencyContainer;
+import org.junit.jupiter.api.Test;
+
+import static com.grin.ioc.ContainerTestUtils.runContainer;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ParallelInstantiationTest {
+
+    @Test
+    public void servicesAreInstantiatedAfterTheirDependencies() {
+        DependencyContainer dependencyContainer = runContainer(
+                ParallelInstantiationTest.class,
+                configuration -> configuration.instantiations().setInstantiationMode(InstantiationMode.PARALLEL)
+        );
+
+        OrderService orderService = dependencyContainer.getService(OrderService.class);
+        assertSame(dependencyContainer.getService(RepositoryService.class).self(), orderService.getRepositoryService().self());
+        assertSame(dependencyContainer.getService(ClockService.class).self(), orderService.getClockService().self());
+    }
+}
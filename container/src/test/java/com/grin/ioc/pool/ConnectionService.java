@@ -0,0 +1,39 @@
+package com.grin.ioc.pool;
+
+import com.grin.ioc.annotations.Pooled;
+import com.grin.ioc.annotations.PreDestroy;
+import com.grin.ioc.annotations.Service;
+import com.grin.ioc.enums.ServiceScope;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+@Service(scope = ServiceScope.POOLED)
+@Pooled(minSize = 1, maxSize = 2, idleTimeoutMillis = 50L, borrowTimeoutMillis = 1000L)
+public class ConnectionService {
+    static final Queue<ConnectionService> DESTROYED_INSTANCES = new ConcurrentLinkedQueue<>();
+
+    public ConnectionService() {
+    }
+
+    /**
+     * Keeps the borrowed instance until the call is released.
+     */
+    public ConnectionService hold(CountDownLatch enteredLatch, CountDownLatch releaseLatch) throws InterruptedException {
+        enteredLatch.countDown();
+        releaseLatch.await(5, TimeUnit.SECONDS);
+
+        return this;
+    }
+
+    public ConnectionService self() {
+        return this;
+    }
+
+    @PreDestroy
+    public void destroy() {
+        DESTROYED_INSTANCES.add(this);
+    }
+}
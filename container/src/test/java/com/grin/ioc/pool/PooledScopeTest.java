@@ -0,0 +1,182 @@
+package com.grin.ioc.pool;
+
+import com.grin.ioc.exceptions.ServiceInstantiationException;
+import com.grin.ioc.models.PooledInstanceSnapshot;
+import com.grin.ioc.models.ServicePoolMetrics;
+import com.grin.ioc.services.DependencyContainer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static com.grin.ioc.ContainerTestUtils.runContainer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PooledScopeTest {
+
+    private DependencyContainer dependencyContainer;
+
+    private ConnectionService connectionService;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setUp() {
+        ConnectionService.DESTROYED_INSTANCES.clear();
+
+        this.dependencyContainer = runContainer(PooledScopeTest.class);
+        this.connectionService = this.dependencyContainer.getService(ConnectionService.class);
+        this.executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    public void minimumSizeIsCreatedWithThePool() {
+        ServicePoolMetrics metrics = this.getMetrics();
+
+        assertEquals(1, metrics.getSize());
+        assertEquals(1, metrics.getIdleCount());
+        assertEquals(1, metrics.getCreatedCount());
+    }
+
+    @Test
+    public void idleInstanceIsReused() {
+        ConnectionService instance = this.connectionService.self();
+
+        assertSame(instance, this.connectionService.self());
+        assertEquals(1, this.getMetrics().getCreatedCount());
+        assertEquals(2, this.getMetrics().getBorrowCount());
+    }
+
+    @Test
+    public void borrowTimesOutWhenThePoolIsFull() throws Exception {
+        CountDownLatch releaseLatch = new CountDownLatch(1);
+        List<Future<ConnectionService>> runningCalls = this.holdInstances(2, releaseLatch);
+
+        ServicePoolMetrics metrics = this.getMetrics();
+        assertEquals(2, metrics.getSize());
+        assertEquals(2, metrics.getBorrowedCount());
+
+        assertThrows(ServiceInstantiationException.class, () -> this.connectionService.self());
+
+        metrics = this.getMetrics();
+        assertEquals(2, metrics.getSize());
+        assertEquals(1, metrics.getWaitCount());
+        assertEquals(1, metrics.getTimeoutCount());
+
+        releaseLatch.countDown();
+        assertNotSame(runningCalls.get(0).get(5, TimeUnit.SECONDS), runningCalls.get(1).get(5, TimeUnit.SECONDS));
+        assertEquals(2, this.getMetrics().getIdleCount());
+    }
+
+    @Test
+    public void waitingCallGetsReturnedInstance() throws Exception {
+        CountDownLatch firstReleaseLatch = new CountDownLatch(1);
+        CountDownLatch secondReleaseLatch = new CountDownLatch(1);
+        Future<ConnectionService> firstCall = this.holdInstances(1, firstReleaseLatch).get(0);
+        this.holdInstances(1, secondReleaseLatch);
+
+        Future<ConnectionService> waitingCall = this.executor.submit(() -> this.connectionService.self());
+        this.awaitUntil(() -> this.getMetrics().getWaitCount() == 1);
+
+        firstReleaseLatch.countDown();
+        ConnectionService returnedInstance = firstCall.get(5, TimeUnit.SECONDS);
+
+        assertSame(returnedInstance, waitingCall.get(5, TimeUnit.SECONDS));
+
+        ServicePoolMetrics metrics = this.getMetrics();
+        assertEquals(2, metrics.getCreatedCount());
+        assertEquals(1, metrics.getWaitCount());
+        assertEquals(0, metrics.getTimeoutCount());
+
+        secondReleaseLatch.countDown();
+    }
+
+    @Test
+    public void idleInstancesAreEvictedDownToMinimumSize() throws Exception {
+        CountDownLatch releaseLatch = new CountDownLatch(1);
+        List<Future<ConnectionService>> runningCalls = this.holdInstances(2, releaseLatch);
+        releaseLatch.countDown();
+        for (Future<ConnectionService> runningCall : runningCalls) {
+            runningCall.get(5, TimeUnit.SECONDS);
+        }
+
+        this.awaitUntil(() -> {
+            this.getInstanceSnapshot().evictIdleInstances();
+            return this.getMetrics().getEvictedCount() > 0;
+        });
+
+        ServicePoolMetrics metrics = this.getMetrics();
+        assertEquals(1, metrics.getSize());
+        assertEquals(1, metrics.getIdleCount());
+        assertEquals(1, metrics.getEvictedCount());
+        assertEquals(1, ConnectionService.DESTROYED_INSTANCES.size());
+        assertTrue(runningCalls.stream().anyMatch(runningCall -> this.isDestroyed(runningCall)));
+
+        this.getInstanceSnapshot().evictIdleInstances();
+        assertEquals(1, this.getMetrics().getSize());
+    }
+
+    @Test
+    public void instancesCannotBeUsedOutsideOfCalls() {
+        assertThrows(IllegalStateException.class, () -> this.getInstanceSnapshot().getInstance());
+    }
+
+    /**
+     * Starts calls that borrow the given number of instances and waits until all of them hold their instance.
+     */
+    private List<Future<ConnectionService>> holdInstances(int count, CountDownLatch releaseLatch) throws InterruptedException {
+        CountDownLatch enteredLatch = new CountDownLatch(count);
+        List<Future<ConnectionService>> runningCalls = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            runningCalls.add(this.executor.submit(() -> this.connectionService.hold(enteredLatch, releaseLatch)));
+        }
+
+        assertTrue(enteredLatch.await(5, TimeUnit.SECONDS));
+
+        return runningCalls;
+    }
+
+    /**
+     * Checks the given condition until it holds, failing if it does not within a few seconds.
+     */
+    private void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    private boolean isDestroyed(Future<ConnectionService> runningCall) {
+        try {
+            return ConnectionService.DESTROYED_INSTANCES.contains(runningCall.get());
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private PooledInstanceSnapshot getInstanceSnapshot() {
+        return (PooledInstanceSnapshot) this.dependencyContainer.getServiceDetails(ConnectionService.class).getInstanceSnapshot();
+    }
+
+    private ServicePoolMetrics getMetrics() {
+        return this.dependencyContainer.getPoolMetrics(ConnectionService.class);
+    }
+}
@@ -0,0 +1,55 @@
+package com.grin.ioc.proxies;
+
+import com.grin.ioc.annotations.Service;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Has only a constructor with a parameter, so its proxy can only be allocated without calling a constructor.
+ */
+@Service
+public class CounterService {
+    public static final AtomicInteger CONSTRUCTOR_CALLS = new AtomicInteger();
+
+    private final LabelService labelService;
+
+    private int count;
+
+    public CounterService(LabelService labelService) {
+        this.labelService = labelService;
+        CONSTRUCTOR_CALLS.incrementAndGet();
+    }
+
+    public int next() {
+        return ++this.count;
+    }
+
+    public long total(long offset) {
+        return offset + this.count;
+    }
+
+    public double half(double value) {
+        return value / 2;
+    }
+
+    public boolean isEven() {
+        return this.count % 2 == 0;
+    }
+
+    public void reset() {
+        this.count = 0;
+    }
+
+    public String describe(String prefix) {
+        return prefix + this.labelService.getLabel() + this.count;
+    }
+
+    public void fail(Exception exception) throws Exception {
+        throw exception;
+    }
+
+    public CounterService self() {
+        return this;
+    }
+}
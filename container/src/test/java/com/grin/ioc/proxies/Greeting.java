@@ -0,0 +1,6 @@
+package com.grin.ioc.proxies;
+
+public interface Greeting {
+
+    String greet(String name);
+}
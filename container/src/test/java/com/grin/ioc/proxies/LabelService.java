@@ -0,0 +1,34 @@
+package com.grin.ioc.proxies;
+
+import com.grin.ioc.annotations.Bean;
+import com.grin.ioc.annotations.Service;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+public class LabelService {
+    public static final AtomicInteger CONSTRUCTOR_CALLS = new AtomicInteger();
+
+    public LabelService() {
+        CONSTRUCTOR_CALLS.incrementAndGet();
+    }
+
+    public String getLabel() {
+        return "count: ";
+    }
+
+    @Bean
+    public Greeting greeting() {
+        return new Greeting() {
+            @Override
+            public String greet(String name) {
+                return "hello " + name;
+            }
+
+            @Override
+            public String toString() {
+                return "greeting";
+            }
+        };
+    }
+}
@@ -0,0 +1,50 @@
+package com.grin.ioc.proxies;
+
+import com.grin.ioc.models.ServiceProxy;
+import com.grin.ioc.services.DependencyContainer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.grin.ioc.ContainerTestUtils.runContainer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ProxyAllocationTest {
+
+    @BeforeEach
+    public void resetConstructorCalls() {
+        CounterService.CONSTRUCTOR_CALLS.set(0);
+        LabelService.CONSTRUCTOR_CALLS.set(0);
+    }
+
+    @Test
+    public void proxiesAreAllocatedWithoutCallingTheServiceConstructor() {
+        DependencyContainer dependencyContainer = runContainer(ProxyAllocationTest.class);
+
+        CounterService counterService = dependencyContainer.getService(CounterService.class);
+        LabelService labelService = dependencyContainer.getService(LabelService.class);
+
+        assertTrue(counterService instanceof ServiceProxy);
+        assertTrue(labelService instanceof ServiceProxy);
+        assertNotSame(counterService, counterService.self());
+        assertSame(dependencyContainer.getServiceDetails(CounterService.class).getActualInstance(), counterService.self());
+
+        assertEquals(1, CounterService.CONSTRUCTOR_CALLS.get());
+        assertEquals(1, LabelService.CONSTRUCTOR_CALLS.get());
+    }
+
+    @Test
+    public void reloadCallsTheConstructorOnlyForTheNewInstance() {
+        DependencyContainer dependencyContainer = runContainer(ProxyAllocationTest.class);
+        CounterService counterService = dependencyContainer.getService(CounterService.class);
+        CounterService instance = counterService.self();
+
+        dependencyContainer.reload(CounterService.class);
+
+        assertNotSame(instance, counterService.self());
+        assertEquals(2, CounterService.CONSTRUCTOR_CALLS.get());
+        assertEquals(1, LabelService.CONSTRUCTOR_CALLS.get());
+    }
+}
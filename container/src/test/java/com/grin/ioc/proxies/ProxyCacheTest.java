@@ -0,0 +1,73 @@
+package com.grin.ioc.proxies;
+
+import com.grin.ioc.models.ServiceDetails;
+import com.grin.ioc.models.ServiceProxy;
+import com.grin.ioc.services.DependencyContainer;
+import com.grin.ioc.utils.ProxyUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.grin.ioc.ContainerTestUtils.runContainer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ProxyCacheTest {
+
+    @Test
+    public void proxyClassesAreReusedByLaterContainers() {
+        DependencyContainer firstContainer = runContainer(ProxyCacheTest.class);
+        DependencyContainer secondContainer = runContainer(ProxyCacheTest.class);
+
+        CounterService firstCounterService = firstContainer.getService(CounterService.class);
+        CounterService secondCounterService = secondContainer.getService(CounterService.class);
+
+        assertSame(firstCounterService.getClass(), secondCounterService.getClass());
+        assertSame(firstContainer.getService(Greeting.class).getClass(), secondContainer.getService(Greeting.class).getClass());
+        assertNotSame(firstCounterService, secondCounterService);
+        assertNotSame(firstCounterService.self(), secondCounterService.self());
+
+        assertEquals(1, firstCounterService.next());
+        assertEquals(2, firstCounterService.next());
+        assertEquals(1, secondCounterService.next());
+    }
+
+    @Test
+    public void proxyClassesAreDefinedOnceForAllServices() {
+        ServiceDetails firstDetails = createServiceDetails(new CachedService());
+        ServiceDetails secondDetails = createServiceDetails(new CachedService());
+
+        ProxyUtils.createProxyClasses(List.of(firstDetails, secondDetails));
+        ProxyUtils.createProxyClasses(List.of(firstDetails));
+        ProxyUtils.createProxyInstance(firstDetails);
+        ProxyUtils.createProxyInstance(secondDetails);
+
+        Object firstProxy = firstDetails.getProxyInstance();
+        Object secondProxy = secondDetails.getProxyInstance();
+
+        assertTrue(firstProxy instanceof ServiceProxy);
+        assertSame(firstProxy.getClass(), secondProxy.getClass());
+        assertSame(firstDetails.getActualInstance(), ((CachedService) firstProxy).self());
+        assertSame(secondDetails.getActualInstance(), ((CachedService) secondProxy).self());
+    }
+
+    private static ServiceDetails createServiceDetails(Object instance) {
+        ServiceDetails serviceDetails = new ServiceDetails();
+        serviceDetails.setServiceType(instance.getClass());
+        serviceDetails.setInstance(instance);
+
+        return serviceDetails;
+    }
+
+    /**
+     * Not a service, so no container defines its proxy class before the test.
+     */
+    public static class CachedService {
+
+        public CachedService self() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.grin.ioc.proxies;
+
+import com.grin.ioc.models.ServiceProxy;
+import com.grin.ioc.services.DependencyContainer;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static com.grin.ioc.ContainerTestUtils.runContainer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ProxyDispatchTest {
+
+    @Test
+    public void primitiveAndVoidMethodsAreCalledOnTheInstance() {
+        CounterService counterService = runContainer(ProxyDispatchTest.class).getService(CounterService.class);
+
+        assertEquals(1, counterService.next());
+        assertFalse(counterService.isEven());
+        assertEquals(2, counterService.next());
+        assertTrue(counterService.isEven());
+        assertEquals(Long.MAX_VALUE, counterService.total(Long.MAX_VALUE - 2));
+        assertEquals(1.25, counterService.half(2.5));
+        assertEquals("> count: 2", counterService.describe("> "));
+
+        counterService.reset();
+
+        assertEquals(1, counterService.next());
+    }
+
+    @Test
+    public void exceptionsAreThrownUnwrapped() {
+        CounterService counterService = runContainer(ProxyDispatchTest.class).getService(CounterService.class);
+        IOException checkedException = new IOException("checked");
+        IllegalStateException uncheckedException = new IllegalStateException("unchecked");
+
+        assertSame(checkedException, assertThrows(IOException.class, () -> counterService.fail(checkedException)));
+        assertSame(uncheckedException, assertThrows(IllegalStateException.class, () -> counterService.fail(uncheckedException)));
+        assertEquals(1, counterService.next());
+    }
+
+    @Test
+    public void interfaceBeanIsCalledThroughAGeneratedProxy() {
+        DependencyContainer dependencyContainer = runContainer(ProxyDispatchTest.class);
+        Greeting greeting = dependencyContainer.getService(Greeting.class);
+
+        assertTrue(greeting instanceof ServiceProxy);
+        assertEquals("hello proxy", greeting.greet("proxy"));
+        assertEquals("greeting", greeting.toString());
+        assertEquals(dependencyContainer.getServiceDetails(Greeting.class).getActualInstance().hashCode(), greeting.hashCode());
+    }
+}
@@ -0,0 +1,64 @@
+package com.grin.ioc.reload.concurrent;
+
+import com.grin.ioc.services.DependencyContainer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.grin.ioc.ContainerTestUtils.runContainer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ConcurrentReloadTest {
+    private static final int THREAD_COUNT = 4;
+    private static final int ITERATION_COUNT = 50;
+
+    @Test
+    public void everyReplacedInstanceIsDestroyedOnce() throws Exception {
+        DependencyContainer dependencyContainer = runContainer(
+                ConcurrentReloadTest.class,
+                configuration -> configuration.instantiations().setServicesReloadableByDefault(false)
+        );
+
+        CyclicBarrier startBarrier = new CyclicBarrier(THREAD_COUNT);
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREAD_COUNT; i++) {
+                boolean updates = i % 2 == 0;
+                futures.add(executor.submit(() -> {
+                    startBarrier.await(5, TimeUnit.SECONDS);
+                    for (int j = 0; j < ITERATION_COUNT; j++) {
+                        if (updates) {
+                            dependencyContainer.update(new CounterService());
+                        } else {
+                            dependencyContainer.reload(CounterService.class);
+                        }
+                    }
+
+                    return null;
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        CounterService currentInstance = dependencyContainer.getService(CounterService.class);
+        assertSame(currentInstance, dependencyContainer.getService(ReportService.class).getCounterService());
+        assertEquals(1 + THREAD_COUNT * ITERATION_COUNT, CounterService.CREATED_INSTANCES.size());
+
+        for (CounterService instance : CounterService.CREATED_INSTANCES) {
+            assertEquals(instance == currentInstance ? 0 : 1, instance.getDestroyCount());
+        }
+    }
+}
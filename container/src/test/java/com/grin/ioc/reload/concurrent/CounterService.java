@@ -0,0 +1,29 @@
+package com.grin.ioc.reload.concurrent;
+
+import com.grin.ioc.annotations.PreDestroy;
+import com.grin.ioc.annotations.Service;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+public class CounterService {
+    static final Queue<CounterService> CREATED_INSTANCES = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger destroyCount;
+
+    public CounterService() {
+        this.destroyCount = new AtomicInteger();
+        CREATED_INSTANCES.add(this);
+    }
+
+    public int getDestroyCount() {
+        return this.destroyCount.get();
+    }
+
+    @PreDestroy
+    public void destroy() {
+        this.destroyCount.incrementAndGet();
+    }
+}
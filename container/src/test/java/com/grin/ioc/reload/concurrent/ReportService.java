@@ -0,0 +1,21 @@
+package com.grin.ioc.reload.concurrent;
+
+import com.grin.ioc.annotations.Reloadable;
+import com.grin.ioc.annotations.Service;
+
+/**
+ * Not reloadable, so it is created again together with the counter service it depends on.
+ */
+@Service
+@Reloadable(false)
+public class ReportService {
+    private final CounterService counterService;
+
+    public ReportService(CounterService counterService) {
+        this.counterService = counterService;
+    }
+
+    public CounterService getCounterService() {
+        return this.counterService;
+    }
+}
@@ -0,0 +1,36 @@
+package com.grin.ioc.reload.cycle;
+
+import com.grin.ioc.exceptions.CircularDependencyException;
+import com.grin.ioc.services.DependencyContainer;
+import org.junit.jupiter.api.Test;
+
+import static com.grin.ioc.ContainerTestUtils.runContainer;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CircularReloadTest {
+
+    /**
+     * Startup rejects such cycles, so the dependant services are linked into a cycle afterwards.
+     */
+    @Test
+    public void servicesThatAreNeverReadyAreReportedAndKept() {
+        DependencyContainer dependencyContainer = runContainer(CircularReloadTest.class);
+        PingService pingService = dependencyContainer.getService(PingService.class);
+        PongService pongService = dependencyContainer.getService(PongService.class);
+        dependencyContainer.getServiceDetails(PongService.class).addDependentServices(dependencyContainer.getServiceDetails(PingService.class));
+
+        CircularDependencyException exception = assertThrows(
+                CircularDependencyException.class,
+                () -> dependencyContainer.reload(PingService.class)
+        );
+
+        assertTrue(exception.getMessage().startsWith("Could not reload services because of circular dependencies"));
+        assertTrue(exception.getMessage().contains(PingService.class.getName()));
+        assertTrue(exception.getMessage().contains(PongService.class.getName()));
+        assertSame(pingService, dependencyContainer.getService(PingService.class));
+        assertSame(pongService, dependencyContainer.getService(PongService.class));
+        assertSame(pingService, pongService.getPingService());
+    }
+}
@@ -0,0 +1,9 @@
+package com.grin.ioc.reload.cycle;
+
+import com.grin.ioc.annotations.Reloadable;
+import com.grin.ioc.annotations.Service;
+
+@Service
+@Reloadable(false)
+public class PingService {
+}
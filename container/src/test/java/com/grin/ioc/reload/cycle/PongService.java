@@ -0,0 +1,18 @@
+package com.grin.ioc.reload.cycle;
+
+import com.grin.ioc.annotations.Reloadable;
+import com.grin.ioc.annotations.Service;
+
+@Service
+@Reloadable(false)
+public class PongService {
+    private final PingService pingService;
+
+    public PongService(PingService pingService) {
+        this.pingService = pingService;
+    }
+
+    public PingService getPingService() {
+        return this.pingService;
+    }
+}
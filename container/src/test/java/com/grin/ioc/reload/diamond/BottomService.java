@@ -0,0 +1,43 @@
+package com.grin.ioc.reload.diamond;
+
+import com.grin.ioc.annotations.PreDestroy;
+import com.grin.ioc.annotations.Reloadable;
+import com.grin.ioc.annotations.Service;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+@Reloadable(false)
+public class BottomService {
+    static final AtomicInteger CONSTRUCTOR_CALLS = new AtomicInteger();
+
+    private final LeftService leftService;
+
+    private final RightService rightService;
+
+    private final Settings settings;
+
+    public BottomService(LeftService leftService, RightService rightService, Settings settings) {
+        this.leftService = leftService;
+        this.rightService = rightService;
+        this.settings = settings;
+        CONSTRUCTOR_CALLS.incrementAndGet();
+    }
+
+    public LeftService getLeftService() {
+        return this.leftService;
+    }
+
+    public RightService getRightService() {
+        return this.rightService;
+    }
+
+    public Settings getSettings() {
+        return this.settings;
+    }
+
+    @PreDestroy
+    public void destroy() {
+        ConfigService.DESTROYED_INSTANCES.add(this);
+    }
+}
@@ -0,0 +1,36 @@
+package com.grin.ioc.reload.diamond;
+
+import com.grin.ioc.annotations.Bean;
+import com.grin.ioc.annotations.PreDestroy;
+import com.grin.ioc.annotations.Reloadable;
+import com.grin.ioc.annotations.Service;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Root of the diamond ConfigService -> LeftService, RightService -> BottomService.
+ * None of the services has a proxy, so all of them are reloaded with it.
+ */
+@Service
+@Reloadable(false)
+public class ConfigService {
+    static final AtomicInteger CONSTRUCTOR_CALLS = new AtomicInteger();
+    static final Queue<Object> DESTROYED_INSTANCES = new ConcurrentLinkedQueue<>();
+
+    public ConfigService() {
+        CONSTRUCTOR_CALLS.incrementAndGet();
+    }
+
+    @Bean
+    @Reloadable(false)
+    public Settings settings() {
+        return () -> this;
+    }
+
+    @PreDestroy
+    public void destroy() {
+        DESTROYED_INSTANCES.add(this);
+    }
+}
@@ -0,0 +1,27 @@
+package com.grin.ioc.reload.diamond;
+
+import com.grin.ioc.annotations.Reloadable;
+import com.grin.ioc.annotations.Service;
+
+/**
+ * Depends on the root of the diamond and fails to be created while {@link #failing} is set.
+ */
+@Service
+@Reloadable(false)
+public class FragileService {
+    static volatile boolean failing;
+
+    private final ConfigService configService;
+
+    public FragileService(ConfigService configService) {
+        if (failing) {
+            throw new IllegalStateException("fragile");
+        }
+
+        this.configService = configService;
+    }
+
+    public ConfigService getConfigService() {
+        return this.configService;
+    }
+}
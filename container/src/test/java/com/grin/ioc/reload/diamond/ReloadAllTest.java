@@ -0,0 +1,86 @@
+package com.grin.ioc.reload.diamond;
+
+import com.grin.ioc.exceptions.ServiceInstantiationException;
+import com.grin.ioc.services.DependencyContainer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.grin.ioc.ContainerTestUtils.runContainer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ReloadAllTest {
+
+    @BeforeEach
+    public void resetServices() {
+        ConfigService.CONSTRUCTOR_CALLS.set(0);
+        LeftService.CONSTRUCTOR_CALLS.set(0);
+        RightService.CONSTRUCTOR_CALLS.set(0);
+        BottomService.CONSTRUCTOR_CALLS.set(0);
+        FragileService.failing = false;
+    }
+
+    @AfterEach
+    public void stopFailing() {
+        FragileService.failing = false;
+    }
+
+    @Test
+    public void sharedDependantIsCreatedOnceForAllChangedServices() {
+        DependencyContainer dependencyContainer = runContainer(ReloadAllTest.class);
+        ConfigService configService = dependencyContainer.getService(ConfigService.class);
+        LeftService leftService = dependencyContainer.getService(LeftService.class);
+        BottomService bottomService = dependencyContainer.getService(BottomService.class);
+
+        dependencyContainer.reloadAll(List.of(LeftService.class, RightService.class, LeftService.class));
+
+        assertEquals(1, ConfigService.CONSTRUCTOR_CALLS.get());
+        assertEquals(2, LeftService.CONSTRUCTOR_CALLS.get());
+        assertEquals(2, RightService.CONSTRUCTOR_CALLS.get());
+        assertEquals(2, BottomService.CONSTRUCTOR_CALLS.get());
+
+        BottomService reloadedBottomService = dependencyContainer.getService(BottomService.class);
+        assertSame(configService, dependencyContainer.getService(ConfigService.class));
+        assertNotSame(leftService, dependencyContainer.getService(LeftService.class));
+        assertNotSame(bottomService, reloadedBottomService);
+        assertSame(dependencyContainer.getService(LeftService.class), reloadedBottomService.getLeftService());
+        assertSame(dependencyContainer.getService(RightService.class), reloadedBottomService.getRightService());
+    }
+
+    @Test
+    public void nothingIsPublishedIfAnyServiceFails() {
+        DependencyContainer dependencyContainer = runContainer(ReloadAllTest.class);
+        LeftService leftService = dependencyContainer.getService(LeftService.class);
+        BottomService bottomService = dependencyContainer.getService(BottomService.class);
+        FragileService fragileService = dependencyContainer.getService(FragileService.class);
+        FragileService.failing = true;
+
+        assertThrows(
+                ServiceInstantiationException.class,
+                () -> dependencyContainer.reloadAll(List.of(LeftService.class, FragileService.class))
+        );
+
+        assertSame(leftService, dependencyContainer.getService(LeftService.class));
+        assertSame(bottomService, dependencyContainer.getService(BottomService.class));
+        assertSame(fragileService, dependencyContainer.getService(FragileService.class));
+    }
+
+    @Test
+    public void unknownTypeIsRejectedBeforeAnythingIsReloaded() {
+        DependencyContainer dependencyContainer = runContainer(ReloadAllTest.class);
+        LeftService leftService = dependencyContainer.getService(LeftService.class);
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> dependencyContainer.reloadAll(List.of(LeftService.class, Runnable.class))
+        );
+
+        assertSame(leftService, dependencyContainer.getService(LeftService.class));
+        assertEquals(1, LeftService.CONSTRUCTOR_CALLS.get());
+    }
+}
@@ -0,0 +1,167 @@
+package com.grin.ioc.reload.diamond;
+
+import com.grin.ioc.enums.InstantiationMode;
+import com.grin.ioc.exceptions.ServiceInstantiationException;
+import com.grin.ioc.services.DependencyContainer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.grin.ioc.ContainerTestUtils.runContainer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ReloadBatchTest {
+
+    @BeforeEach
+    public void resetServices() {
+        ConfigService.DESTROYED_INSTANCES.clear();
+        FragileService.failing = false;
+    }
+
+    @AfterEach
+    public void stopFailing() {
+        FragileService.failing = false;
+    }
+
+    @Test
+    public void everyServiceOfTheDiamondIsCreatedOnceAfterItsDependencies() {
+        DependencyContainer dependencyContainer = runContainer(ReloadBatchTest.class);
+        BottomService bottomService = dependencyContainer.getService(BottomService.class);
+        resetConstructorCalls();
+
+        dependencyContainer.reload(ConfigService.class);
+
+        ConfigService reloadedConfigService = dependencyContainer.getService(ConfigService.class);
+        BottomService reloadedBottomService = dependencyContainer.getService(BottomService.class);
+
+        assertEquals(1, ConfigService.CONSTRUCTOR_CALLS.get());
+        assertEquals(1, LeftService.CONSTRUCTOR_CALLS.get());
+        assertEquals(1, RightService.CONSTRUCTOR_CALLS.get());
+        assertEquals(1, BottomService.CONSTRUCTOR_CALLS.get());
+
+        assertNotSame(bottomService, reloadedBottomService);
+        assertSame(dependencyContainer.getService(LeftService.class), reloadedBottomService.getLeftService());
+        assertSame(dependencyContainer.getService(RightService.class), reloadedBottomService.getRightService());
+        assertSame(reloadedConfigService, reloadedBottomService.getLeftService().getConfigService());
+        assertSame(reloadedConfigService, reloadedBottomService.getRightService().getConfigService());
+        assertSame(reloadedConfigService, dependencyContainer.getService(FragileService.class).getConfigService());
+    }
+
+    @Test
+    public void beanIsCreatedFromTheStagedInstanceOfItsService() {
+        DependencyContainer dependencyContainer = runContainer(ReloadBatchTest.class);
+        Settings settings = dependencyContainer.getService(Settings.class);
+
+        dependencyContainer.reloadAll(List.of(Settings.class, ConfigService.class));
+
+        ConfigService reloadedConfigService = dependencyContainer.getService(ConfigService.class);
+        Settings reloadedSettings = dependencyContainer.getService(Settings.class);
+
+        assertNotSame(settings, reloadedSettings);
+        assertSame(reloadedConfigService, reloadedSettings.getConfigService());
+        assertSame(reloadedSettings, dependencyContainer.getService(BottomService.class).getSettings());
+    }
+
+    @Test
+    public void replacedInstancesAreDestroyedDependantsFirst() {
+        DependencyContainer dependencyContainer = runContainer(ReloadBatchTest.class);
+        ConfigService configService = dependencyContainer.getService(ConfigService.class);
+        LeftService leftService = dependencyContainer.getService(LeftService.class);
+        RightService rightService = dependencyContainer.getService(RightService.class);
+        BottomService bottomService = dependencyContainer.getService(BottomService.class);
+
+        dependencyContainer.reload(ConfigService.class);
+
+        List<Object> destroyedInstances = new ArrayList<>(ConfigService.DESTROYED_INSTANCES);
+        assertEquals(4, destroyedInstances.size());
+        assertTrue(destroyedInstances.indexOf(bottomService) < destroyedInstances.indexOf(leftService));
+        assertTrue(destroyedInstances.indexOf(bottomService) < destroyedInstances.indexOf(rightService));
+        assertTrue(destroyedInstances.indexOf(leftService) < destroyedInstances.indexOf(configService));
+        assertTrue(destroyedInstances.indexOf(rightService) < destroyedInstances.indexOf(configService));
+    }
+
+    @Test
+    public void failingDependantKeepsTheCurrentInstancesAndDestroysTheStagedOnes() {
+        DependencyContainer dependencyContainer = runContainer(ReloadBatchTest.class);
+        ConfigService configService = dependencyContainer.getService(ConfigService.class);
+        LeftService leftService = dependencyContainer.getService(LeftService.class);
+        BottomService bottomService = dependencyContainer.getService(BottomService.class);
+        Settings settings = dependencyContainer.getService(Settings.class);
+        FragileService.failing = true;
+
+        ServiceInstantiationException exception = assertThrows(
+                ServiceInstantiationException.class,
+                () -> dependencyContainer.reload(ConfigService.class)
+        );
+
+        Throwable rootCause = exception;
+        while (rootCause.getCause() != null) {
+            rootCause = rootCause.getCause();
+        }
+        assertInstanceOf(IllegalStateException.class, rootCause);
+        assertEquals("fragile", rootCause.getMessage());
+        assertSame(configService, dependencyContainer.getService(ConfigService.class));
+        assertSame(leftService, dependencyContainer.getService(LeftService.class));
+        assertSame(bottomService, dependencyContainer.getService(BottomService.class));
+        assertSame(settings, dependencyContainer.getService(Settings.class));
+
+        assertFalse(ConfigService.DESTROYED_INSTANCES.isEmpty());
+        assertTrue(ConfigService.DESTROYED_INSTANCES.stream().anyMatch(instance -> instance instanceof ConfigService));
+        assertFalse(ConfigService.DESTROYED_INSTANCES.contains(configService));
+        assertFalse(ConfigService.DESTROYED_INSTANCES.contains(leftService));
+        assertFalse(ConfigService.DESTROYED_INSTANCES.contains(bottomService));
+
+        FragileService.failing = false;
+        dependencyContainer.reload(ConfigService.class);
+
+        assertNotSame(configService, dependencyContainer.getService(ConfigService.class));
+        assertTrue(ConfigService.DESTROYED_INSTANCES.contains(configService));
+    }
+
+    @Test
+    public void dependantsAreReloadedOnTheReloadExecutorOnly() {
+        AtomicInteger instantiationTasks = new AtomicInteger();
+        AtomicInteger reloadTasks = new AtomicInteger();
+        Executor instantiationExecutor = runnable -> {
+            instantiationTasks.incrementAndGet();
+            runnable.run();
+        };
+        Executor reloadExecutor = runnable -> {
+            reloadTasks.incrementAndGet();
+            runnable.run();
+        };
+
+        DependencyContainer dependencyContainer = runContainer(ReloadBatchTest.class, configuration -> configuration.instantiations()
+                .setInstantiationMode(InstantiationMode.PARALLEL)
+                .setExecutor(instantiationExecutor)
+                .setReloadExecutor(reloadExecutor));
+        int startupTasks = instantiationTasks.get();
+
+        dependencyContainer.reload(BottomService.class);
+
+        assertEquals(0, reloadTasks.get());
+
+        dependencyContainer.reload(ConfigService.class);
+
+        assertEquals(startupTasks, instantiationTasks.get());
+        assertEquals(5, reloadTasks.get());
+    }
+
+    private static void resetConstructorCalls() {
+        ConfigService.CONSTRUCTOR_CALLS.set(0);
+        LeftService.CONSTRUCTOR_CALLS.set(0);
+        RightService.CONSTRUCTOR_CALLS.set(0);
+        BottomService.CONSTRUCTOR_CALLS.set(0);
+    }
+}
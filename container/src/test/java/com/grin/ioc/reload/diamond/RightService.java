@@ -0,0 +1,29 @@
+package com.grin.ioc.reload.diamond;
+
+import com.grin.ioc.annotations.PreDestroy;
+import com.grin.ioc.annotations.Reloadable;
+import com.grin.ioc.annotations.Service;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+@Reloadable(false)
+public class RightService {
+    static final AtomicInteger CONSTRUCTOR_CALLS = new AtomicInteger();
+
+    private final ConfigService configService;
+
+    public RightService(ConfigService configService) {
+        this.configService = configService;
+        CONSTRUCTOR_CALLS.incrementAndGet();
+    }
+
+    public ConfigService getConfigService() {
+        return this.configService;
+    }
+
+    @PreDestroy
+    public void destroy() {
+        ConfigService.DESTROYED_INSTANCES.add(this);
+    }
+}
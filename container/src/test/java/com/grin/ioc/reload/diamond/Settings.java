@@ -0,0 +1,6 @@
+package com.grin.ioc.reload.diamond;
+
+public interface Settings {
+
+    ConfigService getConfigService();
+}
@@ -0,0 +1,72 @@
+package com.grin.ioc.reload.drain;
+
+import com.grin.ioc.services.DependencyContainer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.grin.ioc.ContainerTestUtils.runContainer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ReloadDrainTest {
+
+    private DependencyContainer dependencyContainer;
+
+    @BeforeEach
+    public void setUp() {
+        SessionService.DESTROYED_INSTANCES.clear();
+
+        this.dependencyContainer = runContainer(ReloadDrainTest.class);
+    }
+
+    @Test
+    public void replacedInstanceIsDestroyedRightAwayWithoutRunningCalls() {
+        SessionService sessionService = this.dependencyContainer.getService(SessionService.class);
+        SessionService oldInstance = sessionService.self();
+
+        this.dependencyContainer.reload(SessionService.class);
+
+        assertEquals(List.of(oldInstance), List.copyOf(SessionService.DESTROYED_INSTANCES));
+        assertNotSame(oldInstance, sessionService.self());
+    }
+
+    @Test
+    public void replacedInstanceIsDestroyedOnceRunningCallsAreDone() throws Exception {
+        SessionService sessionService = this.dependencyContainer.getService(SessionService.class);
+        SessionService oldInstance = sessionService.self();
+
+        CountDownLatch enteredLatch = new CountDownLatch(1);
+        CountDownLatch releaseLatch = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Boolean> runningCall = executor.submit(() -> sessionService.hold(enteredLatch, releaseLatch));
+            assertTrue(enteredLatch.await(5, TimeUnit.SECONDS));
+
+            this.dependencyContainer.reload(SessionService.class);
+
+            assertNotSame(oldInstance, sessionService.self());
+            Thread.sleep(100);
+            assertTrue(SessionService.DESTROYED_INSTANCES.isEmpty());
+
+            releaseLatch.countDown();
+            assertTrue(runningCall.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (SessionService.DESTROYED_INSTANCES.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(List.of(oldInstance), List.copyOf(SessionService.DESTROYED_INSTANCES));
+    }
+}
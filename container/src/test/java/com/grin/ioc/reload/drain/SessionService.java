@@ -0,0 +1,41 @@
+package com.grin.ioc.reload.drain;
+
+import com.grin.ioc.annotations.PreDestroy;
+import com.grin.ioc.annotations.Service;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class SessionService {
+    static final Queue<SessionService> DESTROYED_INSTANCES = new ConcurrentLinkedQueue<>();
+
+    private volatile boolean destroyed;
+
+    public SessionService() {
+    }
+
+    /**
+     * Signals that the call is running and blocks until it is released.
+     *
+     * @return whether the instance was still alive when the call was released.
+     */
+    public boolean hold(CountDownLatch enteredLatch, CountDownLatch releaseLatch) throws InterruptedException {
+        enteredLatch.countDown();
+        releaseLatch.await(5, TimeUnit.SECONDS);
+
+        return !this.destroyed;
+    }
+
+    public SessionService self() {
+        return this;
+    }
+
+    @PreDestroy
+    public void destroy() {
+        this.destroyed = true;
+        DESTROYED_INSTANCES.add(this);
+    }
+}
@@ -0,0 +1,27 @@
+package com.grin.ioc.reloadable;
+
+import com.grin.ioc.annotations.Service;
+
+@Service
+public class ConsumerService {
+    private final FixedService fixedService;
+
+    private final ProxiedService proxiedService;
+
+    public ConsumerService(FixedService fixedService, ProxiedService proxiedService) {
+        this.fixedService = fixedService;
+        this.proxiedService = proxiedService;
+    }
+
+    public FixedService getFixedService() {
+        return this.fixedService;
+    }
+
+    public ProxiedService getProxiedService() {
+        return this.proxiedService;
+    }
+
+    public ConsumerService self() {
+        return this;
+    }
+}
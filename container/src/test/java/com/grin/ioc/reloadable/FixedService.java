@@ -0,0 +1,25 @@
+package com.grin.ioc.reloadable;
+
+import com.grin.ioc.annotations.Bean;
+import com.grin.ioc.annotations.Reloadable;
+import com.grin.ioc.annotations.Service;
+
+@Service
+@Reloadable(false)
+public class FixedService {
+
+    public FixedService self() {
+        return this;
+    }
+
+    @Bean
+    public Label proxiedLabel() {
+        return () -> "proxied";
+    }
+
+    @Bean
+    @Reloadable(false)
+    public Label fixedLabel() {
+        return () -> "fixed";
+    }
+}
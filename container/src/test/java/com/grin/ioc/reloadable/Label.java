@@ -0,0 +1,6 @@
+package com.grin.ioc.reloadable;
+
+public interface Label {
+
+    String getText();
+}
@@ -0,0 +1,11 @@
+package com.grin.ioc.reloadable;
+
+import com.grin.ioc.annotations.Service;
+
+@Service
+public class PlainService {
+
+    public PlainService self() {
+        return this;
+    }
+}
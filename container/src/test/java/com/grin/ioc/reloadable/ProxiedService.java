@@ -0,0 +1,13 @@
+package com.grin.ioc.reloadable;
+
+import com.grin.ioc.annotations.Reloadable;
+import com.grin.ioc.annotations.Service;
+
+@Service
+@Reloadable
+public class ProxiedService {
+
+    public ProxiedService self() {
+        return this;
+    }
+}
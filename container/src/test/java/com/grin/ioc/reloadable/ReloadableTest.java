@@ -0,0 +1,84 @@
+package com.grin.ioc.reloadable;
+
+import com.grin.ioc.models.ServiceBeanDetails;
+import com.grin.ioc.models.ServiceDetails;
+import com.grin.ioc.models.ServiceProxy;
+import com.grin.ioc.services.DependencyContainer;
+import org.junit.jupiter.api.Test;
+
+import static com.grin.ioc.ContainerTestUtils.runContainer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ReloadableTest {
+
+    @Test
+    public void servicesAreProxiedUnlessTheyOptOut() {
+        DependencyContainer dependencyContainer = runContainer(ReloadableTest.class);
+
+        assertTrue(dependencyContainer.getService(PlainService.class) instanceof ServiceProxy);
+        assertTrue(dependencyContainer.getService(ProxiedService.class) instanceof ServiceProxy);
+        assertFalse(dependencyContainer.getService(FixedService.class) instanceof ServiceProxy);
+        assertSame(
+                dependencyContainer.getServiceDetails(FixedService.class).getActualInstance(),
+                dependencyContainer.getService(FixedService.class)
+        );
+
+        ConsumerService consumerService = dependencyContainer.getService(ConsumerService.class);
+        assertSame(dependencyContainer.getService(FixedService.class), consumerService.getFixedService());
+        assertTrue(consumerService.getProxiedService() instanceof ServiceProxy);
+    }
+
+    @Test
+    public void onlyAnnotatedServicesAreProxiedWhenNotReloadableByDefault() {
+        DependencyContainer dependencyContainer = runContainer(ReloadableTest.class, configuration -> configuration.instantiations()
+                .setServicesReloadableByDefault(false));
+
+        assertFalse(dependencyContainer.getService(PlainService.class) instanceof ServiceProxy);
+        assertFalse(dependencyContainer.getService(ConsumerService.class) instanceof ServiceProxy);
+        assertFalse(dependencyContainer.getService(FixedService.class) instanceof ServiceProxy);
+        assertTrue(dependencyContainer.getService(ProxiedService.class) instanceof ServiceProxy);
+        assertFalse(getLabel(dependencyContainer, "proxiedLabel") instanceof ServiceProxy);
+    }
+
+    @Test
+    public void beansAreProxiedUnlessTheyOptOut() {
+        DependencyContainer dependencyContainer = runContainer(ReloadableTest.class);
+
+        Label proxiedLabel = getLabel(dependencyContainer, "proxiedLabel");
+        Label fixedLabel = getLabel(dependencyContainer, "fixedLabel");
+
+        assertTrue(proxiedLabel instanceof ServiceProxy);
+        assertEquals("proxied", proxiedLabel.getText());
+        assertFalse(fixedLabel instanceof ServiceProxy);
+        assertEquals("fixed", fixedLabel.getText());
+    }
+
+    @Test
+    public void dependantsOfAServiceWithoutProxyAreReloadedWithIt() {
+        DependencyContainer dependencyContainer = runContainer(ReloadableTest.class);
+        ConsumerService consumerService = dependencyContainer.getService(ConsumerService.class);
+        ConsumerService consumerInstance = consumerService.self();
+        FixedService fixedService = dependencyContainer.getService(FixedService.class);
+
+        dependencyContainer.reload(FixedService.class);
+
+        FixedService reloadedFixedService = dependencyContainer.getService(FixedService.class);
+        assertNotSame(fixedService, reloadedFixedService);
+        assertNotSame(consumerInstance, consumerService.self());
+        assertSame(reloadedFixedService, consumerService.getFixedService());
+    }
+
+    private static Label getLabel(DependencyContainer dependencyContainer, String beanMethodName) {
+        for (ServiceDetails serviceDetails : dependencyContainer.getImplementations(Label.class)) {
+            if (((ServiceBeanDetails) serviceDetails).getOriginMethod().getName().equals(beanMethodName)) {
+                return (Label) serviceDetails.getProxyInstance();
+            }
+        }
+
+        throw new AssertionError(beanMethodName);
+    }
+}
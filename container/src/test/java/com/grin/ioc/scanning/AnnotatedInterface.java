@@ -0,0 +1,7 @@
+package com.grin.ioc.scanning;
+
+import com.grin.ioc.annotations.Service;
+
+@Service
+public interface AnnotatedInterface {
+}
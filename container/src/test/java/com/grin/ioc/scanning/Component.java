@@ -0,0 +1,15 @@
+package com.grin.ioc.scanning;
+
+import com.grin.ioc.annotations.AliasFor;
+import com.grin.ioc.annotations.Service;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@AliasFor(Service.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Component {
+}
@@ -0,0 +1,5 @@
+package com.grin.ioc.scanning;
+
+@Component
+public class ComponentService {
+}
@@ -0,0 +1,31 @@
+package com.grin.ioc.scanning;
+
+import com.grin.ioc.annotations.Service;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+/**
+ * Its constant pool has long and double entries, which take two slots each, before the annotations.
+ */
+@Marker(
+        names = {"first", "second"},
+        type = ElementType.FIELD,
+        retention = @Retention(RetentionPolicy.CLASS),
+        value = ComponentService.class,
+        weight = 7_000_000_000L
+)
+@Service
+public class ConstantsService {
+    private long count = 9_000_000_000L;
+
+    private double ratio = 0.123456789;
+
+    public long next() {
+        this.count += 4_000_000_000L;
+        this.ratio *= 1.5e300;
+
+        return this.count;
+    }
+}
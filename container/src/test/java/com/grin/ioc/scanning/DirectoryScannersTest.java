@@ -0,0 +1,66 @@
+package com.grin.ioc.scanning;
+
+import com.grin.ioc.enums.DirectoryScannerType;
+import com.grin.ioc.enums.ScanningMode;
+import com.grin.ioc.models.ServiceDetails;
+import com.grin.ioc.scanning.nested.NestedService;
+import com.grin.ioc.services.DependencyContainer;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.grin.ioc.ContainerTestUtils.runContainer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DirectoryScannersTest {
+
+    @Test
+    public void forkJoinScannerLocatesTheSameClassesAsRecursiveScanner() {
+        for (ScanningMode scanningMode : ScanningMode.values()) {
+            DependencyContainer recursive = runContainer(DirectoryScannersTest.class, configuration -> configuration.scanning()
+                    .setScanningMode(scanningMode)
+                    .setDirectoryScannerType(DirectoryScannerType.RECURSIVE));
+
+            DependencyContainer forkJoin = runContainer(DirectoryScannersTest.class, configuration -> configuration.scanning()
+                    .setScanningMode(scanningMode)
+                    .setDirectoryScannerType(DirectoryScannerType.FORK_JOIN));
+
+            assertEquals(new HashSet<>(recursive.getAllLocatedClasses()), new HashSet<>(forkJoin.getAllLocatedClasses()));
+            assertEquals(getServiceTypes(recursive), getServiceTypes(forkJoin));
+            assertTrue(getServiceTypes(forkJoin).contains(NestedService.class));
+        }
+    }
+
+    @Test
+    public void bytecodeModeLocatesTheSameServicesAsClassLoading() {
+        DependencyContainer classLoading = runContainer(DirectoryScannersTest.class);
+
+        DependencyContainer bytecode = runContainer(DirectoryScannersTest.class, configuration -> configuration.scanning()
+                .setScanningMode(ScanningMode.BYTECODE)
+                .setDirectoryScannerType(DirectoryScannerType.FORK_JOIN));
+
+        assertEquals(getServiceTypes(classLoading), getServiceTypes(bytecode));
+        assertFalse(bytecode.getAllLocatedClasses().contains(PlainClass.class));
+    }
+
+    @Test
+    public void forkJoinScannerSkipsExcludedPackages() {
+        DependencyContainer forkJoin = runContainer(DirectoryScannersTest.class, configuration -> {
+            configuration.annotations().addExcludedPackage(NestedService.class.getPackageName());
+            configuration.scanning().setDirectoryScannerType(DirectoryScannerType.FORK_JOIN);
+        });
+
+        assertFalse(forkJoin.getAllLocatedClasses().contains(NestedService.class));
+        assertTrue(forkJoin.getAllLocatedClasses().contains(ConstantsService.class));
+    }
+
+    private static Set<Class<?>> getServiceTypes(DependencyContainer dependencyContainer) {
+        return dependencyContainer.getAllServices().stream()
+                .map(ServiceDetails::getServiceType)
+                .collect(Collectors.toSet());
+    }
+}
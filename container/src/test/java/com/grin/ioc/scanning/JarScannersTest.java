@@ -0,0 +1,78 @@
+package com.grin.ioc.scanning;
+
+import com.grin.ioc.Main;
+import com.grin.ioc.config.DIConfiguration;
+import com.grin.ioc.enums.JarScannerType;
+import com.grin.ioc.enums.ScanningMode;
+import com.grin.ioc.models.ServiceDetails;
+import com.grin.ioc.scanning.nested.NestedService;
+import com.grin.ioc.services.DependencyContainer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+
+import static com.grin.ioc.ClassFileTestUtils.writeJar;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JarScannersTest {
+
+    private static final Class<?>[] JAR_CLASSES = {
+            AnnotatedInterface.class, Component.class, ComponentService.class, ConstantsService.class,
+            Marker.class, PlainClass.class, NestedService.class
+    };
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void memoryMappedScannerLocatesTheSameClassesAsJarFileScanner() throws IOException {
+        for (int method : new int[]{ZipEntry.STORED, ZipEntry.DEFLATED}) {
+            File jarFile = writeJar(this.tempDir.resolve("classes" + method + ".jar"), method, 0, JAR_CLASSES).toFile();
+
+            this.assertScannersLocateTheSameClasses(jarFile);
+        }
+    }
+
+    @Test
+    public void memoryMappedScannerReadsZip64Jars() throws IOException {
+        File jarFile = writeJar(this.tempDir.resolve("zip64.jar"), ZipEntry.DEFLATED, 70_000, JAR_CLASSES).toFile();
+
+        this.assertScannersLocateTheSameClasses(jarFile);
+    }
+
+    private void assertScannersLocateTheSameClasses(File jarFile) {
+        for (ScanningMode scanningMode : ScanningMode.values()) {
+            DependencyContainer jarFileScanner = run(jarFile, scanningMode, JarScannerType.JAR_FILE);
+            DependencyContainer memoryMappedScanner = run(jarFile, scanningMode, JarScannerType.MEMORY_MAPPED);
+
+            assertEquals(new HashSet<>(jarFileScanner.getAllLocatedClasses()), new HashSet<>(memoryMappedScanner.getAllLocatedClasses()));
+            assertEquals(getServiceTypes(jarFileScanner), getServiceTypes(memoryMappedScanner));
+            assertTrue(getServiceTypes(memoryMappedScanner).contains(ConstantsService.class));
+            assertTrue(getServiceTypes(memoryMappedScanner).contains(NestedService.class));
+        }
+    }
+
+    private static DependencyContainer run(File jarFile, ScanningMode scanningMode, JarScannerType jarScannerType) {
+        DIConfiguration configuration = new DIConfiguration();
+        configuration.annotations().addIncludedPackage(JarScannersTest.class.getPackageName());
+        configuration.scanning()
+                .setScanningMode(scanningMode)
+                .setJarScannerType(jarScannerType);
+
+        return Main.run(new File[]{jarFile}, configuration);
+    }
+
+    private static Set<Class<?>> getServiceTypes(DependencyContainer dependencyContainer) {
+        return dependencyContainer.getAllServices().stream()
+                .map(ServiceDetails::getServiceType)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,24 @@
+package com.grin.ioc.scanning;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation with elements of every kind that the class file parser has to skip.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Marker {
+
+    String[] names() default {};
+
+    ElementType type() default ElementType.TYPE;
+
+    Retention retention() default @Retention(RetentionPolicy.RUNTIME);
+
+    Class<?> value() default Object.class;
+
+    long weight() default 0L;
+}
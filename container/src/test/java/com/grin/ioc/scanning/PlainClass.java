@@ -0,0 +1,5 @@
+package com.grin.ioc.scanning;
+
+@Marker
+public class PlainClass {
+}
@@ -0,0 +1,7 @@
+package com.grin.ioc.scanning.nested;
+
+import com.grin.ioc.annotations.Service;
+
+@Service
+public class NestedService {
+}
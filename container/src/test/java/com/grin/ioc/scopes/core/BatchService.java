@@ -0,0 +1,28 @@
+package com.grin.ioc.scopes.core;
+
+import com.grin.ioc.annotations.Service;
+import com.grin.ioc.enums.ServiceScope;
+
+@Service(scope = ServiceScope.PER_CORE)
+public class BatchService {
+    private final TallyService tallyService;
+
+    private long count;
+
+    public BatchService(TallyService tallyService) {
+        this.tallyService = tallyService;
+    }
+
+    /**
+     * Calls the tally service while this call holds its stripe.
+     */
+    public void increment() {
+        long count = this.count;
+        this.tallyService.increment();
+        this.count = count + 1;
+    }
+
+    public long getCount() {
+        return this.count;
+    }
+}
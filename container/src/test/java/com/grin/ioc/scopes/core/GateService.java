@@ -0,0 +1,23 @@
+package com.grin.ioc.scopes.core;
+
+import com.grin.ioc.annotations.Service;
+import com.grin.ioc.enums.ServiceScope;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+@Service(scope = ServiceScope.PER_CORE)
+public class GateService {
+
+    public GateService() {
+    }
+
+    /**
+     * Holds the stripe of the call until it is released.
+     */
+    public boolean hold(CountDownLatch enteredLatch, CountDownLatch releaseLatch) throws InterruptedException {
+        enteredLatch.countDown();
+
+        return releaseLatch.await(5, TimeUnit.SECONDS);
+    }
+}
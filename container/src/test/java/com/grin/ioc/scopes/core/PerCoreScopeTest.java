@@ -0,0 +1,108 @@
+package com.grin.ioc.scopes.core;
+
+import com.grin.ioc.services.DependencyContainer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.grin.ioc.ContainerTestUtils.runContainer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PerCoreScopeTest {
+    private static final int THREAD_COUNT = 16;
+    private static final int ITERATION_COUNT = 2_000;
+
+    @Test
+    public void instancesAreNeverUsedByTwoThreadsAtOnce() throws Exception {
+        DependencyContainer dependencyContainer = runContainer(PerCoreScopeTest.class);
+
+        TallyService tallyService = dependencyContainer.getService(TallyService.class);
+        BatchService batchService = dependencyContainer.getService(BatchService.class);
+
+        CyclicBarrier startBarrier = new CyclicBarrier(THREAD_COUNT);
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREAD_COUNT; i++) {
+                boolean nested = i % 2 == 0;
+                futures.add(executor.submit(() -> {
+                    startBarrier.await(5, TimeUnit.SECONDS);
+                    for (int j = 0; j < ITERATION_COUNT; j++) {
+                        if (nested) {
+                            batchService.increment();
+                        } else {
+                            tallyService.increment();
+                        }
+                    }
+
+                    return null;
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(THREAD_COUNT * ITERATION_COUNT, getTotalCount(dependencyContainer, TallyService.class));
+        assertEquals(THREAD_COUNT / 2 * ITERATION_COUNT, getTotalCount(dependencyContainer, BatchService.class));
+    }
+
+    @Test
+    public void heldCallDoesNotBlockCallsToOtherServices() throws Exception {
+        DependencyContainer dependencyContainer = runContainer(PerCoreScopeTest.class);
+        GateService gateService = dependencyContainer.getService(GateService.class);
+        TallyService tallyService = dependencyContainer.getService(TallyService.class);
+        CountDownLatch enteredLatch = new CountDownLatch(1);
+        CountDownLatch releaseLatch = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Boolean> heldCall = executor.submit(() -> gateService.hold(enteredLatch, releaseLatch));
+            assertTrue(enteredLatch.await(5, TimeUnit.SECONDS));
+
+            executor.submit(tallyService::increment).get(5, TimeUnit.SECONDS);
+
+            releaseLatch.countDown();
+            assertTrue(heldCall.get(5, TimeUnit.SECONDS));
+        } finally {
+            releaseLatch.countDown();
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, getTotalCount(dependencyContainer, TallyService.class));
+    }
+
+    @Test
+    public void instancesAreCreatedOnFirstUse() {
+        DependencyContainer dependencyContainer = runContainer(PerCoreScopeTest.class);
+
+        assertEquals(0, dependencyContainer.getServiceDetails(TallyService.class).getInstanceSnapshot().getInstances().size());
+
+        dependencyContainer.getService(TallyService.class).increment();
+
+        assertFalse(dependencyContainer.getServiceDetails(TallyService.class).getInstanceSnapshot().getInstances().isEmpty());
+    }
+
+    private static long getTotalCount(DependencyContainer dependencyContainer, Class<?> serviceType) {
+        long totalCount = 0;
+        for (Object instance : dependencyContainer.getServiceDetails(serviceType).getInstanceSnapshot().getInstances()) {
+            totalCount += instance instanceof TallyService
+                    ? ((TallyService) instance).getCount()
+                    : ((BatchService) instance).getCount();
+        }
+
+        return totalCount;
+    }
+}
@@ -0,0 +1,25 @@
+package com.grin.ioc.scopes.core;
+
+import com.grin.ioc.annotations.Service;
+import com.grin.ioc.enums.ServiceScope;
+
+/**
+ * Counts without any synchronization, so lost updates show if an instance is used by two threads at once.
+ */
+@Service(scope = ServiceScope.PER_CORE)
+public class TallyService {
+    private long count;
+
+    public TallyService() {
+    }
+
+    public void increment() {
+        long count = this.count;
+        Thread.yield();
+        this.count = count + 1;
+    }
+
+    public long getCount() {
+        return this.count;
+    }
+}
@@ -0,0 +1,25 @@
+package com.grin.ioc.scopes.thread;
+
+import com.grin.ioc.annotations.PreDestroy;
+import com.grin.ioc.annotations.Service;
+import com.grin.ioc.enums.ServiceScope;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+@Service(scope = ServiceScope.THREAD)
+public class RequestContext {
+    static final Queue<RequestContext> DESTROYED_INSTANCES = new ConcurrentLinkedQueue<>();
+
+    public RequestContext() {
+    }
+
+    public RequestContext self() {
+        return this;
+    }
+
+    @PreDestroy
+    public void destroy() {
+        DESTROYED_INSTANCES.add(this);
+    }
+}
@@ -0,0 +1,74 @@
+package com.grin.ioc.scopes.thread;
+
+import com.grin.ioc.models.ThreadInstanceSnapshot;
+import com.grin.ioc.services.DependencyContainer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.grin.ioc.ContainerTestUtils.runContainer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ThreadScopeTest {
+
+    private DependencyContainer dependencyContainer;
+
+    private RequestContext requestContext;
+
+    @BeforeEach
+    public void setUp() {
+        RequestContext.DESTROYED_INSTANCES.clear();
+
+        this.dependencyContainer = runContainer(ThreadScopeTest.class);
+        this.requestContext = this.dependencyContainer.getService(RequestContext.class);
+    }
+
+    @Test
+    public void everyThreadGetsItsOwnInstance() throws InterruptedException {
+        RequestContext instance = this.requestContext.self();
+        RequestContext otherInstance = this.callOnNewThread();
+
+        assertSame(instance, this.requestContext.self());
+        assertNotSame(instance, otherInstance);
+    }
+
+    @Test
+    public void instancesOfTerminatedThreadsAreDestroyedByNewThreads() throws InterruptedException {
+        RequestContext terminatedInstance = this.callOnNewThread();
+        assertTrue(RequestContext.DESTROYED_INSTANCES.isEmpty());
+
+        RequestContext liveInstance = this.requestContext.self();
+
+        assertEquals(List.of(terminatedInstance), List.copyOf(RequestContext.DESTROYED_INSTANCES));
+        assertEquals(List.of(liveInstance), List.copyOf(this.getInstanceSnapshot().getInstances()));
+    }
+
+    @Test
+    public void instancesOfTerminatedThreadsAreDestroyedOnDemand() throws InterruptedException {
+        RequestContext liveInstance = this.requestContext.self();
+        RequestContext terminatedInstance = this.callOnNewThread();
+
+        this.getInstanceSnapshot().destroyInstancesOfTerminatedThreads();
+
+        assertEquals(List.of(terminatedInstance), List.copyOf(RequestContext.DESTROYED_INSTANCES));
+        assertEquals(List.of(liveInstance), List.copyOf(this.getInstanceSnapshot().getInstances()));
+    }
+
+    private RequestContext callOnNewThread() throws InterruptedException {
+        AtomicReference<RequestContext> instance = new AtomicReference<>();
+        Thread thread = new Thread(() -> instance.set(this.requestContext.self()));
+        thread.start();
+        thread.join();
+
+        return instance.get();
+    }
+
+    private ThreadInstanceSnapshot getInstanceSnapshot() {
+        return (ThreadInstanceSnapshot) this.dependencyContainer.getServiceDetails(RequestContext.class).getInstanceSnapshot();
+    }
+}
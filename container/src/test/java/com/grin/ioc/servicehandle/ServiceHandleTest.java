@@ -0,0 +1,96 @@
+package com.grin.ioc.servicehandle;
+
+import com.grin.ioc.models.ServiceDetails;
+import com.grin.ioc.models.ServiceHandle;
+import com.grin.ioc.services.DependencyContainer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.grin.ioc.ContainerTestUtils.runContainer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ServiceHandleTest {
+    private static final int THREAD_COUNT = 8;
+    private static final int ROUND_COUNT = 200;
+
+    @Test
+    public void handleFollowsUpdatesOfAServiceWithoutProxy() {
+        DependencyContainer dependencyContainer = runContainer(ServiceHandleTest.class);
+        ServiceHandle<SettingsService> handle = dependencyContainer.getServiceHandle(SettingsService.class);
+        SettingsService settingsService = handle.get();
+
+        assertSame(dependencyContainer.getService(SettingsService.class), settingsService);
+
+        SettingsService updatedSettingsService = new SettingsService("updated");
+        dependencyContainer.update(updatedSettingsService);
+
+        assertSame(updatedSettingsService, handle.get());
+        assertEquals("updated", handle.get().getName());
+
+        dependencyContainer.reload(SettingsService.class);
+
+        assertNotSame(updatedSettingsService, handle.get());
+        assertEquals("default", handle.get().getName());
+        assertSame(dependencyContainer.getService(SettingsService.class), handle.get());
+    }
+
+    @Test
+    public void prototypeHandleReturnsANewInstanceOnEveryCall() {
+        DependencyContainer dependencyContainer = runContainer(ServiceHandleTest.class);
+        ServiceHandle<SessionService> handle = dependencyContainer.getServiceHandle(SessionService.class);
+
+        SessionService first = handle.get();
+        SessionService second = handle.get();
+
+        assertNotNull(first);
+        assertNotNull(second);
+        assertNotSame(first, second);
+        assertSame(SessionService.class, first.getClass());
+    }
+
+    /**
+     * Every thread publishes its own instances, so refreshes of the handle race with each other.
+     * The handle has to end with the instance that was published last.
+     */
+    @Test
+    public void concurrentRefreshesEndWithThePublishedInstance() throws Exception {
+        ServiceDetails serviceDetails = new ServiceDetails();
+        serviceDetails.setServiceType(Object.class);
+        serviceDetails.setInstance(new Object());
+        ServiceHandle<Object> handle = serviceDetails.getServiceHandle();
+        CyclicBarrier barrier = new CyclicBarrier(THREAD_COUNT);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            for (int round = 0; round < ROUND_COUNT; round++) {
+                List<Future<?>> publishers = new ArrayList<>();
+                for (int i = 0; i < THREAD_COUNT; i++) {
+                    publishers.add(executor.submit(() -> {
+                        barrier.await();
+                        serviceDetails.setInstance(new Object());
+
+                        return null;
+                    }));
+                }
+
+                for (Future<?> publisher : publishers) {
+                    publisher.get(10, TimeUnit.SECONDS);
+                }
+
+                assertSame(serviceDetails.getActualInstance(), handle.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
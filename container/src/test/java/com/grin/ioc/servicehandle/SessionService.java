@@ -0,0 +1,8 @@
+package com.grin.ioc.servicehandle;
+
+import com.grin.ioc.annotations.Service;
+import com.grin.ioc.enums.ServiceScope;
+
+@Service(scope = ServiceScope.PROTOTYPE)
+public class SessionService {
+}
@@ -0,0 +1,24 @@
+package com.grin.ioc.servicehandle;
+
+import com.grin.ioc.annotations.Autowired;
+import com.grin.ioc.annotations.Reloadable;
+import com.grin.ioc.annotations.Service;
+
+@Service
+@Reloadable(false)
+public class SettingsService {
+    private final String name;
+
+    @Autowired
+    public SettingsService() {
+        this("default");
+    }
+
+    public SettingsService(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+}
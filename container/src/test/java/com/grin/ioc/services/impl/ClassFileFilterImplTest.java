@@ -0,0 +1,52 @@
+package com.grin.ioc.services.impl;
+
+import com.grin.ioc.config.DIConfiguration;
+import com.grin.ioc.scanning.AnnotatedInterface;
+import com.grin.ioc.scanning.Component;
+import com.grin.ioc.scanning.ComponentService;
+import com.grin.ioc.scanning.ConstantsService;
+import com.grin.ioc.scanning.Marker;
+import com.grin.ioc.scanning.PlainClass;
+import com.grin.ioc.services.ClassFileFilter;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static com.grin.ioc.ClassFileTestUtils.readClassFile;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ClassFileFilterImplTest {
+
+    @Test
+    public void classesWithServiceAnnotationAreCandidates() throws IOException {
+        ClassFileFilter classFileFilter = new ClassFileFilterImpl(new DIConfiguration());
+
+        assertTrue(classFileFilter.isServiceCandidate(readClassFile(ConstantsService.class)));
+        assertFalse(classFileFilter.isServiceCandidate(readClassFile(PlainClass.class)));
+    }
+
+    @Test
+    public void classesWithAliasOfServiceAnnotationAreCandidates() throws IOException {
+        ClassFileFilter classFileFilter = new ClassFileFilterImpl(new DIConfiguration());
+
+        assertTrue(classFileFilter.isServiceCandidate(readClassFile(ComponentService.class)));
+    }
+
+    @Test
+    public void configuredServiceAnnotationsAreCandidates() throws IOException {
+        DIConfiguration configuration = new DIConfiguration();
+        configuration.annotations().addServiceAnnotation(Marker.class);
+        ClassFileFilter classFileFilter = new ClassFileFilterImpl(configuration);
+
+        assertTrue(classFileFilter.isServiceCandidate(readClassFile(PlainClass.class)));
+    }
+
+    @Test
+    public void interfacesAndAnnotationsAreNeverCandidates() throws IOException {
+        ClassFileFilter classFileFilter = new ClassFileFilterImpl(new DIConfiguration());
+
+        assertFalse(classFileFilter.isServiceCandidate(readClassFile(AnnotatedInterface.class)));
+        assertFalse(classFileFilter.isServiceCandidate(readClassFile(Component.class)));
+    }
+}
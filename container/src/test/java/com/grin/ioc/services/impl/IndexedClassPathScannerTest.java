@@ -0,0 +1,127 @@
+package com.grin.ioc.services.impl;
+
+import com.grin.ioc.config.DIConfiguration;
+import com.grin.ioc.enums.DirectoryType;
+import com.grin.ioc.enums.ScanningMode;
+import com.grin.ioc.models.ScanIndex;
+import com.grin.ioc.scanning.ComponentService;
+import com.grin.ioc.scanning.ConstantsService;
+import com.grin.ioc.scanning.PlainClass;
+import com.grin.ioc.services.ClassPathScanner;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.HashMap;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+
+import static com.grin.ioc.ClassFileTestUtils.getEntryName;
+import static com.grin.ioc.ClassFileTestUtils.writeClassFiles;
+import static com.grin.ioc.ClassFileTestUtils.writeJar;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IndexedClassPathScannerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void unchangedClassFilesAreNotExaminedAgain() throws IOException {
+        DIConfiguration configuration = createConfiguration(ScanningMode.CLASS_LOADING);
+        Path root = writeClassFiles(this.tempDir, ConstantsService.class, ComponentService.class, PlainClass.class);
+
+        ScanIndex firstIndex = createScanIndex(null);
+        Set<Class<?>> firstClasses = locateClassesInDirectory(root, firstIndex, configuration);
+
+        assertEquals(Set.of(ConstantsService.class, ComponentService.class, PlainClass.class), firstClasses);
+        assertEquals(Set.of(ConstantsService.class.getName(), ComponentService.class.getName(), PlainClass.class.getName()),
+                firstIndex.getChangedClasses());
+
+        ScanIndex secondIndex = createScanIndex(firstIndex);
+        assertEquals(firstClasses, locateClassesInDirectory(root, secondIndex, configuration));
+        assertTrue(secondIndex.getChangedClasses().isEmpty());
+        assertTrue(secondIndex.isUpToDate(PlainClass.class));
+    }
+
+    @Test
+    public void changedAndRemovedClassFilesAreExaminedAgain() throws IOException {
+        DIConfiguration configuration = createConfiguration(ScanningMode.BYTECODE);
+        Path root = writeClassFiles(this.tempDir, ConstantsService.class, ComponentService.class, PlainClass.class);
+
+        ScanIndex firstIndex = createScanIndex(null);
+        assertEquals(Set.of(ConstantsService.class, ComponentService.class), locateClassesInDirectory(root, firstIndex, configuration));
+
+        Path plainClassFile = root.resolve(getEntryName(PlainClass.class));
+        Files.setLastModifiedTime(plainClassFile, FileTime.fromMillis(Files.getLastModifiedTime(plainClassFile).toMillis() + 10_000));
+        Files.delete(root.resolve(getEntryName(ComponentService.class)));
+
+        ScanIndex secondIndex = createScanIndex(firstIndex);
+        assertEquals(Set.of(ConstantsService.class), locateClassesInDirectory(root, secondIndex, configuration));
+        assertEquals(Set.of(PlainClass.class.getName(), ComponentService.class.getName()), secondIndex.getChangedClasses());
+        assertFalse(secondIndex.isUpToDate(PlainClass.class));
+        assertTrue(secondIndex.isUpToDate(ConstantsService.class));
+    }
+
+    @Test
+    public void jarFileIsScannedAgainOnlyWhenItsChecksumChanges() throws IOException {
+        DIConfiguration configuration = createConfiguration(ScanningMode.CLASS_LOADING);
+        Path jarFile = writeJar(this.tempDir.resolve("classes.jar"), ZipEntry.DEFLATED, 0, ConstantsService.class, PlainClass.class);
+
+        ScanIndex firstIndex = createScanIndex(null);
+        assertEquals(Set.of(ConstantsService.class, PlainClass.class), locateClassesInJarFile(jarFile, firstIndex, configuration));
+        assertEquals(Set.of(jarFile.toString()), firstIndex.getChangedJarFiles());
+
+        ScanIndex secondIndex = createScanIndex(firstIndex);
+        assertEquals(Set.of(ConstantsService.class, PlainClass.class), locateClassesInJarFile(jarFile, secondIndex, configuration));
+        assertTrue(secondIndex.getChangedJarFiles().isEmpty());
+
+        writeJar(jarFile, ZipEntry.DEFLATED, 0, ConstantsService.class, PlainClass.class, ComponentService.class);
+
+        ScanIndex thirdIndex = createScanIndex(secondIndex);
+        assertEquals(Set.of(ConstantsService.class, PlainClass.class, ComponentService.class),
+                locateClassesInJarFile(jarFile, thirdIndex, configuration));
+        assertEquals(Set.of(jarFile.toString()), thirdIndex.getChangedJarFiles());
+        assertNotEquals(secondIndex.getRoots().get(jarFile.toString()).getChecksum(),
+                thirdIndex.getRoots().get(jarFile.toString()).getChecksum());
+    }
+
+    private static DIConfiguration createConfiguration(ScanningMode scanningMode) {
+        DIConfiguration configuration = new DIConfiguration();
+        configuration.annotations().addIncludedPackage(ConstantsService.class.getPackageName());
+        configuration.scanning().setScanningMode(scanningMode);
+
+        return configuration;
+    }
+
+    /**
+     * @return index that has the results of the given index as previous results.
+     */
+    private static ScanIndex createScanIndex(ScanIndex previousIndex) {
+        if (previousIndex == null) {
+            return new ScanIndex("", new HashMap<>(), new HashMap<>());
+        }
+
+        return new ScanIndex("", previousIndex.getRoots(), previousIndex.getServices());
+    }
+
+    private static Set<Class<?>> locateClassesInDirectory(Path root, ScanIndex scanIndex, DIConfiguration configuration) {
+        ClassPathScanner classPathScanner = new IndexedClassPathScanner(
+                new ClassPathScannerForDirectory(configuration), DirectoryType.DIRECTORY, scanIndex, configuration);
+
+        return classPathScanner.locateClasses(root.toString());
+    }
+
+    private static Set<Class<?>> locateClassesInJarFile(Path jarFile, ScanIndex scanIndex, DIConfiguration configuration) {
+        ClassPathScanner classPathScanner = new IndexedClassPathScanner(
+                new ClassPathScannerForJarFile(configuration), DirectoryType.JAR_FILE, scanIndex, configuration);
+
+        return classPathScanner.locateClasses(jarFile.toString());
+    }
+}
@@ -0,0 +1,173 @@
+package com.grin.ioc.services.impl;
+
+import com.grin.ioc.exceptions.BeanInstantiationException;
+import com.grin.ioc.exceptions.PostConstructException;
+import com.grin.ioc.exceptions.PreDestroyException;
+import com.grin.ioc.exceptions.ServiceInstantiationException;
+import com.grin.ioc.handles.ClockService;
+import com.grin.ioc.handles.Entry;
+import com.grin.ioc.handles.FailingService;
+import com.grin.ioc.handles.JournalService;
+import com.grin.ioc.models.ServiceBeanDetails;
+import com.grin.ioc.models.ServiceDetails;
+import com.grin.ioc.models.ServiceMethodHandles;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MethodHandleInstantiationServiceImplTest {
+
+    @Test
+    public void instanceIsCreatedThroughPrivateMembers() throws Exception {
+        ServiceDetails serviceDetails = createJournalDetails();
+        ClockService constructorClock = new ClockService();
+        ClockService fieldClock = new ClockService();
+
+        new MethodHandleInstantiationServiceImpl().createInstance(
+                serviceDetails, new Object[]{constructorClock}, new Object[]{fieldClock}
+        );
+
+        JournalService journalService = (JournalService) serviceDetails.getActualInstance();
+        assertSame(constructorClock, journalService.getConstructorClock());
+        assertSame(fieldClock, journalService.getFieldClock());
+        assertEquals(1, journalService.getPostConstructCalls());
+    }
+
+    @Test
+    public void newInstanceIsNotSetAndReusesCachedHandles() throws Exception {
+        ServiceDetails serviceDetails = createJournalDetails();
+        MethodHandleInstantiationServiceImpl instantiationService = new MethodHandleInstantiationServiceImpl();
+
+        JournalService first = (JournalService) instantiationService.newInstance(
+                serviceDetails, new Object[]{new ClockService()}, new Object[]{new ClockService()}
+        );
+        ServiceMethodHandles methodHandles = serviceDetails.getMethodHandles();
+        JournalService second = (JournalService) instantiationService.newInstance(
+                serviceDetails, new Object[]{new ClockService()}, new Object[]{new ClockService()}
+        );
+
+        assertNull(serviceDetails.getActualInstance());
+        assertNotSame(first, second);
+        assertEquals(1, second.getPostConstructCalls());
+        assertSame(methodHandles, serviceDetails.getMethodHandles());
+    }
+
+    @Test
+    public void beanIsCreatedFromItsRootInstance() throws Exception {
+        ServiceDetails serviceDetails = createJournalDetails();
+        ServiceBeanDetails beanDetails = new ServiceBeanDetails(Entry.class, serviceDetails.getBeans()[0], serviceDetails);
+        MethodHandleInstantiationServiceImpl instantiationService = new MethodHandleInstantiationServiceImpl();
+        instantiationService.createInstance(serviceDetails, new Object[]{new ClockService()}, new Object[]{new ClockService()});
+
+        instantiationService.createBeanInstance(beanDetails);
+
+        assertEquals("journal", ((Entry) beanDetails.getActualInstance()).getText());
+    }
+
+    @Test
+    public void preDestroyIsInvokedOnceForTheInstance() throws Exception {
+        ServiceDetails serviceDetails = createJournalDetails();
+        MethodHandleInstantiationServiceImpl instantiationService = new MethodHandleInstantiationServiceImpl();
+        instantiationService.createInstance(serviceDetails, new Object[]{new ClockService()}, new Object[]{new ClockService()});
+        JournalService journalService = (JournalService) serviceDetails.getActualInstance();
+
+        instantiationService.destroyInstance(serviceDetails);
+
+        assertEquals(1, journalService.getPreDestroyCalls());
+        assertNull(serviceDetails.getActualInstance());
+    }
+
+    @Test
+    public void invalidParametersCountIsRejected() throws Exception {
+        ServiceDetails serviceDetails = createJournalDetails();
+
+        ServiceInstantiationException exception = assertThrows(
+                ServiceInstantiationException.class,
+                () -> new MethodHandleInstantiationServiceImpl().newInstance(serviceDetails, new Object[0], new Object[]{new ClockService()})
+        );
+
+        assertEquals(ServiceInstantiationException.class, exception.getClass());
+        assertEquals("Invalid parameters count for '" + JournalService.class.getName() + "'.", exception.getMessage());
+    }
+
+    @Test
+    public void constructorFailureIsWrapped() throws Exception {
+        ServiceInstantiationException exception = assertThrows(
+                ServiceInstantiationException.class,
+                () -> new MethodHandleInstantiationServiceImpl().newInstance(createFailingDetails(), new Object[]{true}, new Object[0])
+        );
+
+        assertEquals(ServiceInstantiationException.class, exception.getClass());
+        assertSame(FailingService.FAILURE, exception.getCause());
+    }
+
+    @Test
+    public void postConstructFailureIsWrapped() throws Exception {
+        PostConstructException exception = assertThrows(
+                PostConstructException.class,
+                () -> new MethodHandleInstantiationServiceImpl().newInstance(createFailingDetails(), new Object[]{false}, new Object[0])
+        );
+
+        assertSame(FailingService.FAILURE, exception.getCause());
+    }
+
+    @Test
+    public void beanFailureIsWrapped() throws Exception {
+        ServiceDetails serviceDetails = createFailingDetails();
+        ServiceBeanDetails beanDetails = new ServiceBeanDetails(Entry.class, serviceDetails.getBeans()[0], serviceDetails);
+
+        BeanInstantiationException exception = assertThrows(
+                BeanInstantiationException.class,
+                () -> new MethodHandleInstantiationServiceImpl().newBeanInstance(beanDetails, new FailingService(false))
+        );
+
+        assertSame(FailingService.FAILURE, exception.getCause());
+    }
+
+    @Test
+    public void preDestroyFailureIsWrapped() throws Exception {
+        PreDestroyException exception = assertThrows(
+                PreDestroyException.class,
+                () -> new MethodHandleInstantiationServiceImpl().destroyInstance(createFailingDetails(), new FailingService(false))
+        );
+
+        assertSame(FailingService.FAILURE, exception.getCause());
+    }
+
+    /**
+     * Creates details the way scanning does, with members made accessible.
+     */
+    private static ServiceDetails createJournalDetails() throws Exception {
+        Constructor<?> constructor = JournalService.class.getDeclaredConstructor(ClockService.class);
+        Field field = JournalService.class.getDeclaredField("fieldClock");
+        Method postConstruct = JournalService.class.getDeclaredMethod("init");
+        Method preDestroy = JournalService.class.getDeclaredMethod("close");
+        Method bean = JournalService.class.getDeclaredMethod("entry");
+        AccessibleObject.setAccessible(new AccessibleObject[]{constructor, field, postConstruct, preDestroy, bean}, true);
+
+        return new ServiceDetails(
+                JournalService.class, null, constructor, postConstruct, preDestroy, new Method[]{bean}, new Field[]{field}
+        );
+    }
+
+    private static ServiceDetails createFailingDetails() throws Exception {
+        return new ServiceDetails(
+                FailingService.class,
+                null,
+                FailingService.class.getConstructor(boolean.class),
+                FailingService.class.getMethod("init"),
+                FailingService.class.getMethod("close"),
+                new Method[]{FailingService.class.getMethod("entry")},
+                new Field[0]
+        );
+    }
+}
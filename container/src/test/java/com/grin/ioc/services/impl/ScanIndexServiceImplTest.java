@@ -0,0 +1,172 @@
+package com.grin.ioc.services.impl;
+
+import com.grin.ioc.annotations.Service;
+import com.grin.ioc.config.DIConfiguration;
+import com.grin.ioc.enums.DirectoryType;
+import com.grin.ioc.enums.ScanningMode;
+import com.grin.ioc.models.FileStamp;
+import com.grin.ioc.models.ScanIndex;
+import com.grin.ioc.models.ScanIndexRoot;
+import com.grin.ioc.models.ServiceIndexEntry;
+import com.grin.ioc.scanning.Component;
+import com.grin.ioc.scanning.ComponentService;
+import com.grin.ioc.scanning.ConstantsService;
+import com.grin.ioc.scanning.Marker;
+import com.grin.ioc.services.ScanIndexService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+
+import static com.grin.ioc.ClassFileTestUtils.getEntryName;
+import static com.grin.ioc.ClassFileTestUtils.readClassFile;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ScanIndexServiceImplTest {
+
+    private static final String DIRECTORY = "/classes";
+
+    private static final String JAR_FILE = "/lib/classes.jar";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void indexIsReadAsItWasWritten() {
+        DIConfiguration configuration = this.createConfiguration(ClassLoader.getSystemClassLoader());
+        this.writeIndex(configuration);
+
+        ScanIndex scanIndex = new ScanIndexServiceImpl(configuration).readIndex();
+
+        ScanIndexRoot directoryRoot = scanIndex.getPreviousRoots().get(DIRECTORY);
+        assertEquals(DirectoryType.DIRECTORY, directoryRoot.getDirectoryType());
+        assertEquals(Map.of(getEntryName(ConstantsService.class), new FileStamp(1_000, 2_000)), directoryRoot.getFileStamps());
+        assertEquals(Set.of(ConstantsService.class.getName()), directoryRoot.getLocatedClasses());
+
+        ScanIndexRoot jarRoot = scanIndex.getPreviousRoots().get(JAR_FILE);
+        assertEquals(DirectoryType.JAR_FILE, jarRoot.getDirectoryType());
+        assertEquals(0xCAFEL, jarRoot.getChecksum());
+        assertEquals(Set.of(ComponentService.class.getName()), jarRoot.getLocatedClasses());
+
+        ServiceIndexEntry entry = scanIndex.getPreviousServices().get(ConstantsService.class.getName());
+        assertEquals(Service.class.getName(), entry.getAnnotationType());
+        assertArrayEquals(new String[]{"long"}, entry.getConstructorParameterTypes());
+        assertEquals(ConstantsService.class.getName() + "#next", entry.getPostConstructMethod());
+        assertNull(entry.getPreDestroyMethod());
+        assertArrayEquals(new String[]{"next"}, entry.getBeanMethods());
+        assertArrayEquals(new String[]{ConstantsService.class.getName() + "#count"}, entry.getAutowiredFields());
+    }
+
+    @Test
+    public void indexOfAnotherConfigurationIsIgnored() {
+        DIConfiguration configuration = this.createConfiguration(ClassLoader.getSystemClassLoader());
+        this.writeIndex(configuration);
+
+        configuration.scanning().setScanningMode(ScanningMode.BYTECODE);
+        ScanIndex scanIndex = new ScanIndexServiceImpl(configuration).readIndex();
+
+        assertTrue(scanIndex.getPreviousRoots().isEmpty());
+        assertTrue(scanIndex.getPreviousServices().isEmpty());
+    }
+
+    @Test
+    public void indexIsIgnoredWhenAnAnnotationClassChanges() throws IOException {
+        ReplacingClassLoader classLoader = new ReplacingClassLoader();
+        DIConfiguration configuration = this.createConfiguration(classLoader);
+        this.writeIndex(configuration);
+
+        assertEquals(2, new ScanIndexServiceImpl(configuration).readIndex().getPreviousRoots().size());
+
+        Path changedClassFile = Files.write(this.tempDir.resolve("Component.class"), readClassFile(Marker.class).array());
+        classLoader.replace(Component.class, changedClassFile);
+
+        assertTrue(new ScanIndexServiceImpl(configuration).readIndex().getPreviousRoots().isEmpty());
+    }
+
+    @Test
+    public void invalidIndexIsIgnored() throws IOException {
+        DIConfiguration configuration = this.createConfiguration(ClassLoader.getSystemClassLoader());
+        Files.writeString(configuration.scanning().getIndexFile(), "not an index");
+
+        assertTrue(new ScanIndexServiceImpl(configuration).readIndex().getPreviousRoots().isEmpty());
+    }
+
+    private DIConfiguration createConfiguration(ClassLoader classLoader) {
+        DIConfiguration configuration = new DIConfiguration();
+        configuration.annotations()
+                .addIncludedPackage(ConstantsService.class.getPackageName())
+                .setClassLoader(classLoader);
+        configuration.scanning().setIndexFile(this.tempDir.resolve("scan.index"));
+
+        return configuration;
+    }
+
+    /**
+     * Writes an index with a directory that located {@link ConstantsService} and a jar file
+     * that located {@link ComponentService}, which is annotated with the {@link Component} alias.
+     */
+    private void writeIndex(DIConfiguration configuration) {
+        ScanIndexService scanIndexService = new ScanIndexServiceImpl(configuration);
+        ScanIndex scanIndex = scanIndexService.readIndex();
+
+        scanIndex.getRoots().put(DIRECTORY, new ScanIndexRoot(
+                DIRECTORY,
+                DirectoryType.DIRECTORY,
+                0,
+                Map.of(getEntryName(ConstantsService.class), new FileStamp(1_000, 2_000)),
+                Set.of(ConstantsService.class.getName())
+        ));
+        scanIndex.getRoots().put(JAR_FILE, new ScanIndexRoot(
+                JAR_FILE, DirectoryType.JAR_FILE, 0xCAFEL, Map.of(), Set.of(ComponentService.class.getName())
+        ));
+
+        scanIndex.getServices().put(ConstantsService.class.getName(), new ServiceIndexEntry(
+                ConstantsService.class.getName(),
+                Service.class.getName(),
+                new String[]{"long"},
+                ConstantsService.class.getName() + "#next",
+                null,
+                new String[]{"next"},
+                new String[]{ConstantsService.class.getName() + "#count"}
+        ));
+
+        scanIndexService.writeIndex(scanIndex);
+    }
+
+    /**
+     * Serves the class file of a class from another file, as if it was recompiled.
+     */
+    private static class ReplacingClassLoader extends ClassLoader {
+
+        private String replacedResource;
+
+        private URL replacement;
+
+        ReplacingClassLoader() {
+            super(ScanIndexServiceImplTest.class.getClassLoader());
+        }
+
+        void replace(Class<?> cls, Path classFile) throws MalformedURLException {
+            this.replacedResource = getEntryName(cls);
+            this.replacement = classFile.toUri().toURL();
+        }
+
+        @Override
+        public URL getResource(String name) {
+            if (name.equals(this.replacedResource)) {
+                return this.replacement;
+            }
+
+            return super.getResource(name);
+        }
+    }
+}
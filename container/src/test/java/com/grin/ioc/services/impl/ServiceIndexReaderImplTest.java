@@ -0,0 +1,159 @@
+package com.grin.ioc.services.impl;
+
+import com.grin.ioc.Main;
+import com.grin.ioc.annotations.Service;
+import com.grin.ioc.config.DIConfiguration;
+import com.grin.ioc.constants.Constants;
+import com.grin.ioc.enums.DirectoryType;
+import com.grin.ioc.exceptions.ClassLocationException;
+import com.grin.ioc.models.Directory;
+import com.grin.ioc.models.ServiceDetails;
+import com.grin.ioc.models.ServiceIndexEntry;
+import com.grin.ioc.scanning.Component;
+import com.grin.ioc.scanning.ComponentService;
+import com.grin.ioc.scanning.ConstantsService;
+import com.grin.ioc.scanning.Marker;
+import com.grin.ioc.scanning.nested.NestedService;
+import com.grin.ioc.services.DependencyContainer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ServiceIndexReaderImplTest {
+
+    private static final String HEADER = "# Generated by com.grin.ioc.processor.ServiceIndexProcessor\n"
+            + "serviceAnnotations\tcom.grin.ioc.annotations.Service\n"
+            + "beanAnnotations\tcom.grin.ioc.annotations.Bean\n";
+
+    private static final String CONSTANTS_SERVICE_BLOCK = "service\tcom.grin.ioc.scanning.ConstantsService\tcom.grin.ioc.annotations.Service\n"
+            + "constructor\n"
+            + "postConstruct\tcom.grin.ioc.scanning.ConstantsService#init\n"
+            + "bean\tnext\n"
+            + "field\tcom.grin.ioc.scanning.ConstantsService#count\n";
+
+    private static final String COMPONENT_SERVICE_BLOCK = "service\tcom.grin.ioc.scanning.ComponentService\tcom.grin.ioc.scanning.Component\n"
+            + "constructor\n";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void indexedServicesAreRead() throws IOException {
+        Map<Class<?>, ServiceIndexEntry> services = this.readServiceIndex(new DIConfiguration(),
+                HEADER + CONSTANTS_SERVICE_BLOCK + COMPONENT_SERVICE_BLOCK);
+
+        assertEquals(Set.of(ConstantsService.class, ComponentService.class), services.keySet());
+
+        ServiceIndexEntry entry = services.get(ConstantsService.class);
+        assertEquals(Service.class.getName(), entry.getAnnotationType());
+        assertArrayEquals(new String[0], entry.getConstructorParameterTypes());
+        assertEquals(ConstantsService.class.getName() + "#init", entry.getPostConstructMethod());
+        assertNull(entry.getPreDestroyMethod());
+        assertArrayEquals(new String[]{"next"}, entry.getBeanMethods());
+        assertArrayEquals(new String[]{ConstantsService.class.getName() + "#count"}, entry.getAutowiredFields());
+
+        assertEquals(Component.class.getName(), services.get(ComponentService.class).getAnnotationType());
+    }
+
+    @Test
+    public void directoryWithoutIndexIsNotRead() {
+        Directory directory = new Directory(this.tempDir.toString(), DirectoryType.DIRECTORY);
+
+        assertNull(new ServiceIndexReaderImpl(new DIConfiguration()).readServiceIndex(directory));
+    }
+
+    @Test
+    public void indexWithoutConfiguredAnnotationIsIgnored() throws IOException {
+        DIConfiguration configuration = new DIConfiguration();
+        configuration.annotations().addServiceAnnotation(Marker.class);
+
+        assertNull(this.readServiceIndex(configuration, HEADER + CONSTANTS_SERVICE_BLOCK));
+
+        String header = HEADER.replace("com.grin.ioc.annotations.Service\n", "com.grin.ioc.annotations.Service\t" + Marker.class.getName() + "\n");
+        assertNotNull(this.readServiceIndex(configuration, header + CONSTANTS_SERVICE_BLOCK));
+    }
+
+    @Test
+    public void configuredAliasIsIndexedWithItsAnnotation() throws IOException {
+        DIConfiguration configuration = new DIConfiguration();
+        configuration.annotations().addServiceAnnotation(Component.class);
+
+        assertNotNull(this.readServiceIndex(configuration, HEADER + COMPONENT_SERVICE_BLOCK));
+    }
+
+    @Test
+    public void indexWithoutHeaderKnowsOnlyTheDefaultAnnotations() throws IOException {
+        assertNotNull(this.readServiceIndex(new DIConfiguration(), CONSTANTS_SERVICE_BLOCK));
+
+        DIConfiguration configuration = new DIConfiguration();
+        configuration.annotations().addBeanAnnotation(Marker.class);
+        assertNull(this.readServiceIndex(configuration, CONSTANTS_SERVICE_BLOCK));
+    }
+
+    @Test
+    public void servicesOfExcludedPackagesAreSkipped() throws IOException {
+        DIConfiguration configuration = new DIConfiguration();
+        configuration.annotations().addIncludedPackage(NestedService.class.getPackageName());
+
+        assertEquals(Map.of(), this.readServiceIndex(configuration, HEADER + CONSTANTS_SERVICE_BLOCK));
+    }
+
+    @Test
+    public void invalidLinesAreRejected() {
+        assertThrows(ClassLocationException.class,
+                () -> this.readServiceIndex(new DIConfiguration(), HEADER + "constructor\n"));
+        assertThrows(ClassLocationException.class,
+                () -> this.readServiceIndex(new DIConfiguration(), HEADER + CONSTANTS_SERVICE_BLOCK + "unknown\tvalue\n"));
+        assertThrows(ClassLocationException.class,
+                () -> this.readServiceIndex(new DIConfiguration(), CONSTANTS_SERVICE_BLOCK + HEADER));
+    }
+
+    /**
+     * The entry of {@link ConstantsService} refers to a method that does not exist,
+     * so the service is scanned instead of being mapped from the entry.
+     */
+    @Test
+    public void entriesThatDoNotMatchTheirClassFallBackToScanning() throws IOException {
+        this.writeIndex(HEADER + CONSTANTS_SERVICE_BLOCK + COMPONENT_SERVICE_BLOCK);
+
+        DIConfiguration configuration = new DIConfiguration();
+        configuration.annotations().addIncludedPackage(ConstantsService.class.getPackageName());
+        configuration.scanning().setServiceIndexEnabled(true);
+
+        DependencyContainer dependencyContainer = Main.run(new File[]{this.tempDir.toFile()}, configuration);
+
+        assertEquals(Set.of(ConstantsService.class, ComponentService.class), new HashSet<>(dependencyContainer.getAllLocatedClasses()));
+
+        ServiceDetails serviceDetails = dependencyContainer.getServiceDetails(ConstantsService.class);
+        assertNull(serviceDetails.getPostConstructMethod());
+        assertEquals(0, serviceDetails.getBeans().length);
+        assertEquals(0, serviceDetails.getAutowireAnnotatedFields().length);
+        assertNotNull(dependencyContainer.getService(ComponentService.class));
+    }
+
+    private Map<Class<?>, ServiceIndexEntry> readServiceIndex(DIConfiguration configuration, String index) throws IOException {
+        this.writeIndex(index);
+
+        Directory directory = new Directory(this.tempDir.toString(), DirectoryType.DIRECTORY);
+        return new ServiceIndexReaderImpl(configuration).readServiceIndex(directory);
+    }
+
+    private void writeIndex(String index) throws IOException {
+        Path indexFile = this.tempDir.resolve(Constants.SERVICE_INDEX_RESOURCE);
+        Files.createDirectories(indexFile.getParent());
+        Files.writeString(indexFile, index);
+    }
+}
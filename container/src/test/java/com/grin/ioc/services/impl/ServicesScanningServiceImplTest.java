@@ -0,0 +1,83 @@
+package com.grin.ioc.services.impl;
+
+import com.grin.ioc.annotations.Service;
+import com.grin.ioc.config.DIConfiguration;
+import com.grin.ioc.models.ScanIndex;
+import com.grin.ioc.models.ServiceDetails;
+import com.grin.ioc.models.ServiceIndexEntry;
+import com.grin.ioc.scanning.ConstantsService;
+import com.grin.ioc.services.ServicesScanningService;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ServicesScanningServiceImplTest {
+
+    @Test
+    public void upToDateClassIsMappedFromItsPreviousEntry() {
+        ScanIndex scanIndex = createScanIndex(createEntry(null));
+
+        ServiceDetails serviceDetails = createScanningService(scanIndex).mapService(ConstantsService.class, null);
+
+        assertNull(serviceDetails.getAnnotation());
+        assertTrue(scanIndex.getServices().containsKey(ConstantsService.class.getName()));
+    }
+
+    @Test
+    public void upToDateClassWithoutPreviousEntryIsNotAService() {
+        ScanIndex scanIndex = new ScanIndex("", new HashMap<>(), new HashMap<>());
+
+        assertNull(createScanningService(scanIndex).mapService(ConstantsService.class, null));
+    }
+
+    @Test
+    public void changedClassIsScannedAgain() {
+        ScanIndex scanIndex = createScanIndex(createEntry(null));
+        scanIndex.getChangedClasses().add(ConstantsService.class.getName());
+
+        ServiceDetails serviceDetails = createScanningService(scanIndex).mapService(ConstantsService.class, null);
+
+        assertEquals(Service.class, serviceDetails.getAnnotation().annotationType());
+    }
+
+    @Test
+    public void entryThatNoLongerMatchesItsClassFallsBackToScanning() {
+        ScanIndex scanIndex = createScanIndex(createEntry(ConstantsService.class.getName() + "#removedMethod"));
+
+        ServiceDetails serviceDetails = createScanningService(scanIndex).mapService(ConstantsService.class, null);
+
+        assertNotNull(serviceDetails);
+        assertEquals(Service.class, serviceDetails.getAnnotation().annotationType());
+        assertNull(serviceDetails.getPostConstructMethod());
+        assertEquals(Service.class.getName(), scanIndex.getServices().get(ConstantsService.class.getName()).getAnnotationType());
+    }
+
+    private static ServicesScanningService createScanningService(ScanIndex scanIndex) {
+        return new ServicesScanningServiceImpl(new DIConfiguration().annotations(), scanIndex);
+    }
+
+    private static ScanIndex createScanIndex(ServiceIndexEntry previousEntry) {
+        return new ScanIndex("", new HashMap<>(), new HashMap<>(Map.of(previousEntry.getClassName(), previousEntry)));
+    }
+
+    /**
+     * Entry without annotation, so that services mapped from it can be told apart from scanned ones.
+     */
+    private static ServiceIndexEntry createEntry(String postConstructMethod) {
+        return new ServiceIndexEntry(
+                ConstantsService.class.getName(),
+                null,
+                new String[0],
+                postConstructMethod,
+                null,
+                new String[0],
+                new String[0]
+        );
+    }
+}
@@ -0,0 +1,86 @@
+package com.grin.ioc.utils;
+
+import com.grin.ioc.annotations.AliasFor;
+import com.grin.ioc.annotations.Service;
+import com.grin.ioc.exceptions.ClassLocationException;
+import com.grin.ioc.models.ClassFileDetails;
+import com.grin.ioc.scanning.AnnotatedInterface;
+import com.grin.ioc.scanning.Component;
+import com.grin.ioc.scanning.ComponentService;
+import com.grin.ioc.scanning.ConstantsService;
+import com.grin.ioc.scanning.Marker;
+import com.grin.ioc.scanning.PlainClass;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static com.grin.ioc.ClassFileTestUtils.readClassFile;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ClassFileParserTest {
+
+    @Test
+    public void entriesAfterLongAndDoubleConstantsAreRead() throws IOException {
+        ClassFileDetails classFileDetails = ClassFileParser.parse(readClassFile(ConstantsService.class));
+
+        assertEquals(ConstantsService.class.getName(), classFileDetails.getClassName());
+
+        Map<String, String> annotations = classFileDetails.getAnnotations();
+        assertEquals(2, annotations.size());
+        assertEquals(ComponentService.class.getName(), annotations.get(Marker.class.getName()));
+        assertTrue(annotations.containsKey(Service.class.getName()));
+        assertNull(annotations.get(Service.class.getName()));
+    }
+
+    @Test
+    public void aliasValueIsRead() throws IOException {
+        ClassFileDetails classFileDetails = ClassFileParser.parse(readClassFile(Component.class));
+
+        assertEquals(Service.class.getName(), classFileDetails.getAnnotations().get(AliasFor.class.getName()));
+        assertTrue((classFileDetails.getAccessFlags() & ClassFileParser.ACC_ANNOTATION) != 0);
+    }
+
+    @Test
+    public void classWithoutServiceAnnotationIsRead() throws IOException {
+        ClassFileDetails classFileDetails = ClassFileParser.parse(readClassFile(PlainClass.class));
+
+        assertEquals(PlainClass.class.getName(), classFileDetails.getClassName());
+        assertEquals(Collections.singletonMap(Marker.class.getName(), null), classFileDetails.getAnnotations());
+        assertEquals(0, classFileDetails.getAccessFlags() & ClassFileParser.ACC_INTERFACE);
+    }
+
+    @Test
+    public void interfaceFlagIsRead() throws IOException {
+        ClassFileDetails classFileDetails = ClassFileParser.parse(readClassFile(AnnotatedInterface.class));
+
+        assertNotEquals(0, classFileDetails.getAccessFlags() & ClassFileParser.ACC_INTERFACE);
+        assertTrue(classFileDetails.getAnnotations().containsKey(Service.class.getName()));
+    }
+
+    @Test
+    public void positionOfTheBufferIsKept() throws IOException {
+        ByteBuffer classFile = readClassFile(ComponentService.class);
+        classFile.position(0);
+
+        ClassFileParser.parse(classFile);
+
+        assertEquals(0, classFile.position());
+    }
+
+    @Test
+    public void invalidClassFilesAreRejected() throws IOException {
+        ByteBuffer classFile = readClassFile(ConstantsService.class);
+        byte[] truncated = Arrays.copyOf(classFile.array(), classFile.remaining() / 2);
+
+        assertThrows(ClassLocationException.class, () -> ClassFileParser.parse(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5})));
+        assertThrows(ClassLocationException.class, () -> ClassFileParser.parse(ByteBuffer.wrap(truncated)));
+    }
+}
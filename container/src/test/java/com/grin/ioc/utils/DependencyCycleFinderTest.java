@@ -0,0 +1,120 @@
+package com.grin.ioc.utils;
+
+import com.grin.ioc.models.EnqueuedServiceDetails;
+import com.grin.ioc.models.ServiceDetails;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DependencyCycleFinderTest {
+
+    @Test
+    public void acyclicGraphHasNoComponents() {
+        List<EnqueuedServiceDetails> services = createServices(3);
+        require(services.get(0), services.get(1));
+        require(services.get(1), services.get(2));
+        require(services.get(0), services.get(2));
+
+        assertTrue(DependencyCycleFinder.findCircularComponents(services).isEmpty());
+    }
+
+    @Test
+    public void everyComponentIsFound() {
+        List<EnqueuedServiceDetails> services = createServices(6);
+        require(services.get(0), services.get(1));
+        require(services.get(1), services.get(0));
+        require(services.get(2), services.get(3));
+        require(services.get(3), services.get(4));
+        require(services.get(4), services.get(2));
+        require(services.get(5), services.get(0));
+        require(services.get(5), services.get(2));
+
+        List<List<EnqueuedServiceDetails>> components = DependencyCycleFinder.findCircularComponents(services);
+
+        assertEquals(2, components.size());
+        assertEquals(Set.of(Set.of(services.get(0), services.get(1)), Set.of(services.get(2), services.get(3), services.get(4))),
+                Set.of(new HashSet<>(components.get(0)), new HashSet<>(components.get(1))));
+    }
+
+    @Test
+    public void cycleStartsAndEndsWithTheFirstServiceOfItsComponent() {
+        List<EnqueuedServiceDetails> services = createServices(4);
+        require(services.get(0), services.get(1));
+        require(services.get(1), services.get(0));
+        require(services.get(1), services.get(2));
+        require(services.get(2), services.get(3));
+        require(services.get(3), services.get(0));
+
+        List<EnqueuedServiceDetails> component = DependencyCycleFinder.findCircularComponents(services).get(0);
+        List<EnqueuedServiceDetails> cycle = DependencyCycleFinder.findCycle(component);
+
+        assertEquals(component.get(0), cycle.get(0));
+        assertEquals(component.get(0), cycle.get(cycle.size() - 1));
+        assertEquals(cycle.size() - 1, new HashSet<>(cycle).size());
+        for (int i = 0; i < cycle.size() - 1; i++) {
+            assertTrue(cycle.get(i).getRequiredServices().contains(cycle.get(i + 1)));
+        }
+    }
+
+    /**
+     * Every service requires every other one, so the shortest cycle through any service has two edges.
+     */
+    @Test
+    public void shortestCycleIsFound() {
+        List<EnqueuedServiceDetails> services = createServices(5);
+        for (EnqueuedServiceDetails service : services) {
+            for (EnqueuedServiceDetails requiredService : services) {
+                if (service != requiredService) {
+                    require(service, requiredService);
+                }
+            }
+        }
+
+        List<EnqueuedServiceDetails> component = DependencyCycleFinder.findCircularComponents(services).get(0);
+
+        assertEquals(3, DependencyCycleFinder.findCycle(component).size());
+    }
+
+    @Test
+    public void deepGraphsDoNotOverflowTheStack() {
+        List<EnqueuedServiceDetails> services = createServices(100_000);
+        for (int i = 0; i < services.size() - 1; i++) {
+            require(services.get(i), services.get(i + 1));
+        }
+        require(services.get(services.size() - 1), services.get(0));
+
+        List<List<EnqueuedServiceDetails>> components = DependencyCycleFinder.findCircularComponents(services);
+
+        assertEquals(1, components.size());
+        assertEquals(services.size(), components.get(0).size());
+        assertEquals(services.size() + 1, DependencyCycleFinder.findCycle(components.get(0)).size());
+    }
+
+    private static List<EnqueuedServiceDetails> createServices(int count) {
+        List<EnqueuedServiceDetails> services = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            try {
+                services.add(new EnqueuedServiceDetails(new ServiceDetails(
+                        Object.class, null, Object.class.getConstructor(), null, null, new Method[0], new Field[0]
+                )));
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        return services;
+    }
+
+    private static void require(EnqueuedServiceDetails service, EnqueuedServiceDetails requiredService) {
+        service.addRequiredService(requiredService);
+    }
+}
@@ -0,0 +1,112 @@
+package com.grin.ioc.utils;
+
+import com.grin.ioc.scanning.ComponentService;
+import com.grin.ioc.scanning.ConstantsService;
+import com.grin.ioc.scanning.PlainClass;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+
+import static com.grin.ioc.ClassFileTestUtils.getEntryName;
+import static com.grin.ioc.ClassFileTestUtils.readClassFile;
+import static com.grin.ioc.ClassFileTestUtils.writeJar;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MappedZipFileTest {
+
+    private static final int ZIP64_ADDITIONAL_ENTRIES = 70_000;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void storedAndDeflatedEntriesAreRead() throws IOException {
+        for (int method : new int[]{ZipEntry.STORED, ZipEntry.DEFLATED}) {
+            Path jarFile = writeJar(this.tempDir.resolve("classes" + method + ".jar"), method, 0,
+                    ConstantsService.class, ComponentService.class, PlainClass.class);
+
+            try (MappedZipFile zipFile = new MappedZipFile(jarFile)) {
+                assertEquals(3, zipFile.getEntriesCount());
+
+                int entry = zipFile.firstEntry();
+                for (Class<?> cls : List.of(ConstantsService.class, ComponentService.class, PlainClass.class)) {
+                    assertEquals(getEntryName(cls), zipFile.getName(entry));
+                    assertEquals(readClassFile(cls), zipFile.getContent(entry));
+
+                    entry = zipFile.nextEntry(entry);
+                }
+
+                assertEquals(-1, entry);
+            }
+        }
+    }
+
+    @Test
+    public void entryNamesAreComparedWithoutDecoding() throws IOException {
+        Path jarFile = writeJar(this.tempDir.resolve("classes.jar"), ZipEntry.DEFLATED, 0, ConstantsService.class);
+
+        try (MappedZipFile zipFile = new MappedZipFile(jarFile)) {
+            int entry = zipFile.firstEntry();
+
+            assertTrue(zipFile.nameStartsWith(entry, "com/grin/".getBytes(StandardCharsets.UTF_8)));
+            assertTrue(zipFile.nameEndsWith(entry, "Service.class".getBytes(StandardCharsets.UTF_8)));
+            assertFalse(zipFile.nameStartsWith(entry, "META-INF/".getBytes(StandardCharsets.UTF_8)));
+            assertFalse(zipFile.nameEndsWith(entry, ".txt".getBytes(StandardCharsets.UTF_8)));
+            assertEquals("com/grin/ioc", zipFile.getName(entry, "com/grin/ioc".length()));
+        }
+    }
+
+    @Test
+    public void zip64ArchivesAreRead() throws IOException {
+        Path jarFile = writeJar(this.tempDir.resolve("zip64.jar"), ZipEntry.DEFLATED, ZIP64_ADDITIONAL_ENTRIES,
+                ConstantsService.class);
+
+        try (MappedZipFile zipFile = new MappedZipFile(jarFile)) {
+            assertEquals(ZIP64_ADDITIONAL_ENTRIES + 1, zipFile.getEntriesCount());
+
+            int entry = zipFile.firstEntry();
+            assertEquals(readClassFile(ConstantsService.class), zipFile.getContent(entry));
+
+            List<String> names = new ArrayList<>();
+            for (; entry != -1; entry = zipFile.nextEntry(entry)) {
+                names.add(zipFile.getName(entry));
+            }
+
+            assertEquals(ZIP64_ADDITIONAL_ENTRIES + 1, names.size());
+            assertEquals("resources/entry" + (ZIP64_ADDITIONAL_ENTRIES - 1) + ".txt", names.get(names.size() - 1));
+        }
+    }
+
+    @Test
+    public void emptyArchiveHasNoEntries() throws IOException {
+        Path jarFile = writeJar(this.tempDir.resolve("empty.jar"), ZipEntry.DEFLATED, 0);
+
+        try (MappedZipFile zipFile = new MappedZipFile(jarFile)) {
+            assertEquals(0, zipFile.getEntriesCount());
+            assertEquals(-1, zipFile.firstEntry());
+        }
+    }
+
+    @Test
+    public void invalidArchivesAreRejected() throws IOException {
+        Path textFile = Files.writeString(this.tempDir.resolve("invalid.jar"), "not a zip file");
+        assertThrows(ZipException.class, () -> new MappedZipFile(textFile));
+
+        Path jarFile = writeJar(this.tempDir.resolve("classes.jar"), ZipEntry.STORED, 0, ConstantsService.class);
+        byte[] content = Files.readAllBytes(jarFile);
+        Path truncatedFile = Files.write(this.tempDir.resolve("truncated.jar"), Arrays.copyOf(content, content.length / 2));
+        assertThrows(ZipException.class, () -> new MappedZipFile(truncatedFile));
+    }
+}
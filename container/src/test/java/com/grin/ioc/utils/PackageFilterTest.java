@@ -0,0 +1,83 @@
+package com.grin.ioc.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PackageFilterTest {
+
+    @Test
+    public void emptyFilterIncludesEverything() {
+        PackageFilter packageFilter = new PackageFilter(List.of(), List.of());
+
+        assertTrue(packageFilter.isEmpty());
+        assertTrue(packageFilter.isClassIncluded("com.app.Service"));
+        assertTrue(packageFilter.isPackageScanned("org/other/"));
+    }
+
+    @Test
+    public void includedPackageCoversSubPackages() {
+        PackageFilter packageFilter = new PackageFilter(List.of("com.app"), List.of());
+
+        assertTrue(packageFilter.isClassIncluded("com.app.Service"));
+        assertTrue(packageFilter.isClassIncluded("com.app.impl.ServiceImpl"));
+        assertFalse(packageFilter.isClassIncluded("com.application.Service"));
+        assertFalse(packageFilter.isClassIncluded("org.other.Service"));
+    }
+
+    @Test
+    public void wildcardSuffixIsIgnored() {
+        PackageFilter packageFilter = new PackageFilter(List.of("com.app.*"), List.of());
+
+        assertTrue(packageFilter.isClassIncluded("com.app.Service"));
+        assertFalse(packageFilter.isClassIncluded("com.Service"));
+    }
+
+    @Test
+    public void exclusionWinsOverInclusionOfSamePackage() {
+        PackageFilter packageFilter = new PackageFilter(List.of("com.app"), List.of("com.app"));
+
+        assertFalse(packageFilter.isClassIncluded("com.app.Service"));
+    }
+
+    @Test
+    public void longestPatternWins() {
+        PackageFilter packageFilter = new PackageFilter(List.of("com.app", "com.app.impl.api"), List.of("com.app.impl"));
+
+        assertTrue(packageFilter.isClassIncluded("com.app.Service"));
+        assertFalse(packageFilter.isClassIncluded("com.app.impl.ServiceImpl"));
+        assertTrue(packageFilter.isClassIncluded("com.app.impl.api.Api"));
+    }
+
+    @Test
+    public void classFileNamesAreMatchedByTheirPackage() {
+        PackageFilter packageFilter = new PackageFilter(List.of("com.app"), List.of("com.app.impl"));
+
+        assertTrue(packageFilter.isClassIncluded("com/app/impl.class"));
+        assertFalse(packageFilter.isClassIncluded("com/app/impl/ServiceImpl.class"));
+        assertTrue(packageFilter.isClassIncluded("com/app/Service.class"));
+    }
+
+    @Test
+    public void packageIsScannedIfSubPackageIsIncluded() {
+        PackageFilter packageFilter = new PackageFilter(List.of("com.app.impl"), List.of());
+
+        assertTrue(packageFilter.isPackageScanned("com"));
+        assertTrue(packageFilter.isPackageScanned("com/app/"));
+        assertTrue(packageFilter.isPackageScanned("com/app/impl/sub"));
+        assertFalse(packageFilter.isPackageScanned("org"));
+        assertFalse(packageFilter.isClassIncluded("com.app.Service"));
+    }
+
+    @Test
+    public void excludedPackageIsNotScanned() {
+        PackageFilter packageFilter = new PackageFilter(List.of(), List.of("com.app.generated"));
+
+        assertFalse(packageFilter.isPackageScanned("com/app/generated/"));
+        assertTrue(packageFilter.isPackageScanned("com/app/"));
+        assertTrue(packageFilter.isClassIncluded("org.other.Service"));
+    }
+}
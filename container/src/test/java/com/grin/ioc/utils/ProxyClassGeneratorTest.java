@@ -0,0 +1,152 @@
+package com.grin.ioc.utils;
+
+import com.grin.ioc.models.ServiceDetails;
+import com.grin.ioc.models.ServiceProxy;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A proxy class can be defined only once for each type, so every test uses its own types.
+ */
+public class ProxyClassGeneratorTest {
+
+    @Test
+    public void unsupportedTypesHaveNoProxyClass() {
+        assertNull(ProxyClassGenerator.generateProxyClass(int.class));
+        assertNull(ProxyClassGenerator.generateProxyClass(Object[].class));
+        assertNull(ProxyClassGenerator.generateProxyClass(Deprecated.class));
+        assertNull(ProxyClassGenerator.generateProxyClass(FinalService.class));
+        assertNull(ProxyClassGenerator.generateProxyClass(String.class));
+    }
+
+    @Test
+    public void noArgsConstructorOfTheServiceIsCalledByTheProxyConstructor() throws Exception {
+        int constructorCalls = NoArgsService.constructorCalls;
+        Class<?> proxyClass = ProxyClassGenerator.generateProxyClass(NoArgsService.class);
+
+        Object proxy = proxyClass.getConstructor().newInstance();
+
+        assertEquals(constructorCalls + 1, NoArgsService.constructorCalls);
+        assertTrue(proxy instanceof NoArgsService);
+        assertTrue(proxy instanceof ServiceProxy);
+        assertEquals(NoArgsService.class.getName() + "$$Proxy", proxyClass.getName());
+        assertTrue(Modifier.isFinal(proxyClass.getModifiers()));
+    }
+
+    @Test
+    public void proxyClassHasNoConstructorWithoutAnInheritableNoArgsConstructor() {
+        assertEquals(0, ProxyClassGenerator.generateProxyClass(ArgsService.class).getDeclaredConstructors().length);
+        assertEquals(0, ProxyClassGenerator.generateProxyClass(PrivateConstructorService.class).getDeclaredConstructors().length);
+    }
+
+    @Test
+    public void overridableMethodsAreCalledOnTheCurrentInstance() throws Exception {
+        Class<?> proxyClass = ProxyClassGenerator.generateProxyClass(DispatchService.class);
+        DispatchService proxy = (DispatchService) proxyClass.getConstructor().newInstance();
+        ServiceDetails serviceDetails = createServiceDetails(DispatchService.class, new DispatchService("first"));
+        ((ServiceProxy) proxy).setProxiedServiceDetails(serviceDetails);
+
+        assertEquals("first", proxy.getName());
+        assertEquals("first", proxy.getPackageName());
+        assertEquals("proxy", proxy.getFinalName());
+
+        serviceDetails.setInstance(new DispatchService("second"));
+
+        assertEquals("second", proxy.getName());
+        assertNotNull(proxyClass.getDeclaredMethod("getPackageName"));
+        assertFalse(declaresMethod(proxyClass, "getFinalName"));
+        assertFalse(declaresMethod(proxyClass, "getStaticName"));
+    }
+
+    @Test
+    public void interfaceProxyForwardsObjectMethods() throws Exception {
+        Class<?> proxyClass = ProxyClassGenerator.generateProxyClass(NamedService.class);
+        NamedService proxy = (NamedService) proxyClass.getConstructor().newInstance();
+        NamedService instance = () -> "named";
+        ((ServiceProxy) proxy).setProxiedServiceDetails(createServiceDetails(NamedService.class, instance));
+
+        assertSame(Object.class, proxyClass.getSuperclass());
+        assertEquals("named", proxy.getName());
+        assertEquals(instance.toString(), proxy.toString());
+        assertEquals(instance.hashCode(), proxy.hashCode());
+        assertTrue(proxy.equals(instance));
+    }
+
+    private static ServiceDetails createServiceDetails(Class<?> serviceType, Object instance) {
+        ServiceDetails serviceDetails = new ServiceDetails();
+        serviceDetails.setServiceType(serviceType);
+        serviceDetails.setInstance(instance);
+
+        return serviceDetails;
+    }
+
+    private static boolean declaresMethod(Class<?> type, String name) {
+        return Arrays.stream(type.getDeclaredMethods()).map(Method::getName).anyMatch(name::equals);
+    }
+
+    public interface NamedService {
+
+        String getName();
+    }
+
+    public static final class FinalService {
+    }
+
+    public static class NoArgsService {
+        private static int constructorCalls;
+
+        public NoArgsService() {
+            constructorCalls++;
+        }
+    }
+
+    public static class ArgsService {
+
+        public ArgsService(String name) {
+        }
+    }
+
+    public static class PrivateConstructorService {
+
+        private PrivateConstructorService() {
+        }
+    }
+
+    public static class DispatchService {
+        private final String name;
+
+        public DispatchService() {
+            this("proxy");
+        }
+
+        public DispatchService(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return this.name;
+        }
+
+        String getPackageName() {
+            return this.name;
+        }
+
+        public final String getFinalName() {
+            return this.name;
+        }
+
+        public static String getStaticName() {
+            return "static";
+        }
+    }
+}
@@ -0,0 +1,430 @@
+package com.grin.ioc.processor;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Annotation processor that writes an index of all services at compile time.
+ *
+ * <p>
+ * The index is written to {@value #SERVICE_INDEX_RESOURCE}. When the container finds it in a
+ * directory or jar file, services are created from the index instead of scanning the classes.
+ * Each service is stored as a block of tab separated lines:
+ * <pre>
+ * service        className  annotationType
+ * constructor    parameterType...
+ * postConstruct  declaringClass#methodName
+ * preDestroy     declaringClass#methodName
+ * bean           methodName
+ * field          declaringClass#fieldName
+ * </pre>
+ *
+ * <p>
+ * The index starts with the service and bean annotations it was written with,
+ * so that the container can scan instead when it is configured with other ones:
+ * <pre>
+ * serviceAnnotations  annotationType...
+ * beanAnnotations     annotationType...
+ * </pre>
+ *
+ * <p>
+ * Annotations are matched by name so the processor does not depend on the container.
+ * Additional service and bean annotations can be passed with the {@value #SERVICE_ANNOTATIONS_OPTION}
+ * and {@value #BEAN_ANNOTATIONS_OPTION} options as comma separated class names.
+ */
+@SupportedAnnotationTypes("*")
+@SupportedOptions({ServiceIndexProcessor.SERVICE_ANNOTATIONS_OPTION, ServiceIndexProcessor.BEAN_ANNOTATIONS_OPTION})
+public class ServiceIndexProcessor extends AbstractProcessor {
+    public static final String SERVICE_INDEX_RESOURCE = "META-INF/grin-ioc/service-index";
+    public static final String SERVICE_ANNOTATIONS_OPTION = "grin.ioc.serviceAnnotations";
+    public static final String BEAN_ANNOTATIONS_OPTION = "grin.ioc.beanAnnotations";
+
+    private static final String SERVICE_ANNOTATION = "com.grin.ioc.annotations.Service";
+    private static final String BEAN_ANNOTATION = "com.grin.ioc.annotations.Bean";
+    private static final String AUTOWIRED_ANNOTATION = "com.grin.ioc.annotations.Autowired";
+    private static final String POST_CONSTRUCT_ANNOTATION = "com.grin.ioc.annotations.PostConstruct";
+    private static final String PRE_DESTROY_ANNOTATION = "com.grin.ioc.annotations.PreDestroy";
+    private static final String ALIAS_FOR_ANNOTATION = "com.grin.ioc.annotations.AliasFor";
+
+    private static final String NO_SUITABLE_CONSTRUCTOR_MSG = "Service '%s' has neither a public nor an @Autowired constructor.";
+    private static final String COULD_NOT_WRITE_INDEX_MSG = "Could not write service index: %s";
+
+    private static final String COMMENT = "#";
+    private static final String SEPARATOR = "\t";
+    private static final String MEMBER_SEPARATOR = "#";
+    private static final String SERVICE = "service";
+    private static final String SERVICE_ANNOTATIONS = "serviceAnnotations";
+    private static final String BEAN_ANNOTATIONS = "beanAnnotations";
+    private static final String CONSTRUCTOR = "constructor";
+    private static final String POST_CONSTRUCT = "postConstruct";
+    private static final String PRE_DESTROY = "preDestroy";
+    private static final String BEAN = "bean";
+    private static final String FIELD = "field";
+
+    private Elements elements;
+
+    private Types types;
+
+    private Set<String> serviceAnnotations;
+
+    private Set<String> beanAnnotations;
+
+    /**
+     * Index blocks of all services keyed by binary class name, in the order they were found.
+     */
+    private Map<String, List<String>> services;
+
+    /**
+     * Classes that were compiled in this compilation, whether they are services or not.
+     */
+    private Set<String> processedClasses;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+
+        this.serviceAnnotations = this.readAnnotationsOption(SERVICE_ANNOTATIONS_OPTION, SERVICE_ANNOTATION);
+        this.beanAnnotations = this.readAnnotationsOption(BEAN_ANNOTATIONS_OPTION, BEAN_ANNOTATION);
+
+        this.services = new LinkedHashMap<>();
+        this.processedClasses = new HashSet<>();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            this.writeIndex();
+            return false;
+        }
+
+        for (TypeElement typeElement : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            this.processType(typeElement);
+        }
+
+        return false;
+    }
+
+    /**
+     * Processes a given type and all of its nested types.
+     */
+    private void processType(TypeElement typeElement) {
+        String className = this.elements.getBinaryName(typeElement).toString();
+        this.processedClasses.add(className);
+
+        String serviceAnnotation = this.findServiceAnnotation(typeElement);
+        if (typeElement.getKind() == ElementKind.CLASS && serviceAnnotation != null) {
+            this.services.put(className, this.createServiceBlock(typeElement, className, serviceAnnotation));
+        }
+
+        for (TypeElement nestedType : ElementFilter.typesIn(typeElement.getEnclosedElements())) {
+            this.processType(nestedType);
+        }
+    }
+
+    private List<String> createServiceBlock(TypeElement typeElement, String className, String serviceAnnotation) {
+        List<String> block = new ArrayList<>();
+        block.add(String.join(SEPARATOR, SERVICE, className, serviceAnnotation));
+
+        ExecutableElement constructor = this.findSuitableConstructor(typeElement);
+        if (constructor == null) {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    String.format(NO_SUITABLE_CONSTRUCTOR_MSG, className), typeElement);
+        } else {
+            StringBuilder constructorLine = new StringBuilder(CONSTRUCTOR);
+            for (VariableElement parameter : constructor.getParameters()) {
+                constructorLine.append(SEPARATOR).append(this.toClassName(parameter.asType()));
+            }
+
+            block.add(constructorLine.toString());
+        }
+
+        ExecutableElement postConstructMethod = this.findVoidMethodWithZeroParamsAndAnnotation(POST_CONSTRUCT_ANNOTATION, typeElement);
+        if (postConstructMethod != null) {
+            block.add(POST_CONSTRUCT + SEPARATOR + this.toMemberReference(postConstructMethod));
+        }
+
+        ExecutableElement preDestroyMethod = this.findVoidMethodWithZeroParamsAndAnnotation(PRE_DESTROY_ANNOTATION, typeElement);
+        if (preDestroyMethod != null) {
+            block.add(PRE_DESTROY + SEPARATOR + this.toMemberReference(preDestroyMethod));
+        }
+
+        for (ExecutableElement method : ElementFilter.methodsIn(typeElement.getEnclosedElements())) {
+            if (method.getParameters().isEmpty() && !this.isVoid(method) && this.hasAnyAnnotation(method, this.beanAnnotations)) {
+                block.add(BEAN + SEPARATOR + method.getSimpleName());
+            }
+        }
+
+        for (TypeElement type = typeElement; type != null; type = this.getSuperclass(type)) {
+            for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+                if (this.isAnnotationPresent(field, AUTOWIRED_ANNOTATION)) {
+                    block.add(FIELD + SEPARATOR + this.toMemberReference(field));
+                }
+            }
+        }
+
+        return block;
+    }
+
+    /**
+     * @return the service annotation of the given type, or the alias for one, or null.
+     */
+    private String findServiceAnnotation(TypeElement typeElement) {
+        for (AnnotationMirror annotationMirror : typeElement.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotationMirror.getAnnotationType().asElement();
+            String annotationName = this.elements.getBinaryName(annotationType).toString();
+
+            if (this.serviceAnnotations.contains(annotationName)
+                    || this.serviceAnnotations.contains(this.getAliasValue(annotationType))) {
+                return annotationName;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Looks for a constructor that has {@link #AUTOWIRED_ANNOTATION} annotation or gets the first public one.
+     */
+    private ExecutableElement findSuitableConstructor(TypeElement typeElement) {
+        List<ExecutableElement> constructors = ElementFilter.constructorsIn(typeElement.getEnclosedElements());
+
+        for (ExecutableElement constructor : constructors) {
+            if (this.isAnnotationPresent(constructor, AUTOWIRED_ANNOTATION)) {
+                return constructor;
+            }
+        }
+
+        for (ExecutableElement constructor : constructors) {
+            if (constructor.getModifiers().contains(Modifier.PUBLIC)) {
+                return constructor;
+            }
+        }
+
+        return null;
+    }
+
+    private ExecutableElement findVoidMethodWithZeroParamsAndAnnotation(String annotation, TypeElement typeElement) {
+        for (TypeElement type = typeElement; type != null; type = this.getSuperclass(type)) {
+            for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+                if (method.getParameters().isEmpty() && this.isVoid(method) && this.isAnnotationPresent(method, annotation)) {
+                    return method;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * @return true if the element has the given annotation or an {@link #ALIAS_FOR_ANNOTATION} for it.
+     */
+    private boolean isAnnotationPresent(Element element, String annotation) {
+        for (AnnotationMirror annotationMirror : element.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotationMirror.getAnnotationType().asElement();
+
+            if (annotation.equals(this.elements.getBinaryName(annotationType).toString())
+                    || annotation.equals(this.getAliasValue(annotationType))) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private boolean hasAnyAnnotation(Element element, Set<String> annotations) {
+        for (AnnotationMirror annotationMirror : element.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotationMirror.getAnnotationType().asElement();
+
+            if (annotations.contains(this.elements.getBinaryName(annotationType).toString())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * @return name of the annotation that the given annotation type is an alias for, or null.
+     */
+    private String getAliasValue(TypeElement annotationType) {
+        for (AnnotationMirror annotationMirror : annotationType.getAnnotationMirrors()) {
+            TypeElement metaAnnotationType = (TypeElement) annotationMirror.getAnnotationType().asElement();
+            if (!ALIAS_FOR_ANNOTATION.equals(this.elements.getBinaryName(metaAnnotationType).toString())) {
+                continue;
+            }
+
+            for (AnnotationValue value : annotationMirror.getElementValues().values()) {
+                if (value.getValue() instanceof TypeMirror) {
+                    return this.toClassName((TypeMirror) value.getValue());
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private TypeElement getSuperclass(TypeElement typeElement) {
+        TypeMirror superclass = typeElement.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+
+        return (TypeElement) ((DeclaredType) superclass).asElement();
+    }
+
+    private boolean isVoid(ExecutableElement method) {
+        TypeMirror returnType = method.getReturnType();
+        return returnType.getKind() == TypeKind.VOID || "java.lang.Void".equals(this.toClassName(returnType));
+    }
+
+    private String toMemberReference(Element member) {
+        TypeElement declaringType = (TypeElement) member.getEnclosingElement();
+        return this.elements.getBinaryName(declaringType) + MEMBER_SEPARATOR + member.getSimpleName();
+    }
+
+    /**
+     * Converts a type to the name returned by {@link Class#getName()} for its erasure.
+     */
+    private String toClassName(TypeMirror type) {
+        TypeMirror erasure = this.types.erasure(type);
+
+        if (erasure.getKind() == TypeKind.DECLARED) {
+            return this.elements.getBinaryName((TypeElement) ((DeclaredType) erasure).asElement()).toString();
+        }
+
+        if (erasure.getKind() == TypeKind.ARRAY) {
+            return "[" + this.toDescriptor(((ArrayType) erasure).getComponentType());
+        }
+
+        return erasure.getKind().name().toLowerCase(Locale.ROOT);
+    }
+
+    private String toDescriptor(TypeMirror type) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+                return "Z";
+            case BYTE:
+                return "B";
+            case CHAR:
+                return "C";
+            case SHORT:
+                return "S";
+            case INT:
+                return "I";
+            case LONG:
+                return "J";
+            case FLOAT:
+                return "F";
+            case DOUBLE:
+                return "D";
+            case ARRAY:
+                return "[" + this.toDescriptor(((ArrayType) type).getComponentType());
+            default:
+                return "L" + this.toClassName(type) + ";";
+        }
+    }
+
+    private Set<String> readAnnotationsOption(String option, String defaultAnnotation) {
+        Set<String> annotations = new HashSet<>();
+        annotations.add(defaultAnnotation);
+
+        String value = this.processingEnv.getOptions().get(option);
+        if (value != null) {
+            for (String annotation : value.split(",")) {
+                if (!annotation.isBlank()) {
+                    annotations.add(annotation.trim());
+                }
+            }
+        }
+
+        return annotations;
+    }
+
+    /**
+     * Writes the index, keeping the services of a previous index that were not compiled this time
+     * and still exist, so incremental compilation does not drop them.
+     */
+    private void writeIndex() {
+        Map<String, List<String>> allServices = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> previousService : this.readPreviousIndex().entrySet()) {
+            String className = previousService.getKey();
+
+            if (!this.processedClasses.contains(className) && this.elements.getTypeElement(className.replace('$', '.')) != null) {
+                allServices.put(className, previousService.getValue());
+            }
+        }
+
+        allServices.putAll(this.services);
+
+        try {
+            FileObject resource = this.processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_INDEX_RESOURCE);
+
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(resource.openOutputStream(), StandardCharsets.UTF_8))) {
+                writer.write(COMMENT + " Generated by " + ServiceIndexProcessor.class.getName() + "\n");
+                writer.write(SERVICE_ANNOTATIONS + SEPARATOR + String.join(SEPARATOR, new TreeSet<>(this.serviceAnnotations)) + "\n");
+                writer.write(BEAN_ANNOTATIONS + SEPARATOR + String.join(SEPARATOR, new TreeSet<>(this.beanAnnotations)) + "\n");
+
+                for (List<String> block : allServices.values()) {
+                    for (String line : block) {
+                        writer.write(line);
+                        writer.write('\n');
+                    }
+                }
+            }
+        } catch (IOException e) {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, String.format(COULD_NOT_WRITE_INDEX_MSG, e.getMessage()));
+        }
+    }
+
+    private Map<String, List<String>> readPreviousIndex() {
+        Map<String, List<String>> previousServices = new LinkedHashMap<>();
+
+        try {
+            FileObject resource = this.processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_INDEX_RESOURCE);
+
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.openInputStream(), StandardCharsets.UTF_8))) {
+                List<String> block = null;
+
+                for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                    if (line.isEmpty() || line.startsWith(COMMENT)) {
+                        continue;
+                    }
+
+                    if (line.startsWith(SERVICE + SEPARATOR)) {
+                        block = new ArrayList<>();
+                        previousServices.put(line.split(SEPARATOR)[1], block);
+                    }
+
+                    if (block != null) {
+                        block.add(line);
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            //There is no previous index.
+        }
+
+        return previousServices;
+    }
+}
@@ -0,0 +1,202 @@
+package com.grin.ioc.processor;
+
+import com.grin.ioc.annotations.Service;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ServiceIndexProcessorTest {
+
+    private static final String REPOSITORY_SOURCE = "package app;\n"
+            + "import com.grin.ioc.annotations.*;\n"
+            + "@Service\n"
+            + "public class Repository extends BaseRepository {\n"
+            + "    @Autowired private Clock clock;\n"
+            + "    public Repository(Clock clock, int[] sizes) { }\n"
+            + "    @PostConstruct public void init() { }\n"
+            + "    @Bean public String name() { return \"repository\"; }\n"
+            + "}\n";
+
+    private static final String BASE_REPOSITORY_SOURCE = "package app;\n"
+            + "import com.grin.ioc.annotations.*;\n"
+            + "public abstract class BaseRepository {\n"
+            + "    @Autowired protected Clock baseClock;\n"
+            + "    @PreDestroy public void close() { }\n"
+            + "}\n";
+
+    private static final String CLOCK_SOURCE = "package app;\n"
+            + "@Component\n"
+            + "public class Clock {\n"
+            + "}\n";
+
+    private static final String COMPONENT_SOURCE = "package app;\n"
+            + "import com.grin.ioc.annotations.*;\n"
+            + "import java.lang.annotation.*;\n"
+            + "@AliasFor(Service.class)\n"
+            + "@Retention(RetentionPolicy.RUNTIME)\n"
+            + "public @interface Component {\n"
+            + "}\n";
+
+    private static final String PLAIN_SOURCE = "package app;\n"
+            + "public class Plain {\n"
+            + "}\n";
+
+    @TempDir
+    Path classOutput;
+
+    @Test
+    public void servicesAreWrittenAsBlocks() throws IOException {
+        this.compile(List.of(), REPOSITORY_SOURCE, BASE_REPOSITORY_SOURCE, CLOCK_SOURCE, COMPONENT_SOURCE, PLAIN_SOURCE);
+
+        List<String> index = this.readIndex();
+
+        assertEquals("serviceAnnotations\tcom.grin.ioc.annotations.Service", index.get(1));
+        assertEquals("beanAnnotations\tcom.grin.ioc.annotations.Bean", index.get(2));
+        assertEquals(List.of(
+                "service\tapp.Repository\tcom.grin.ioc.annotations.Service",
+                "constructor\tapp.Clock\t[I",
+                "postConstruct\tapp.Repository#init",
+                "preDestroy\tapp.BaseRepository#close",
+                "bean\tname",
+                "field\tapp.Repository#clock",
+                "field\tapp.BaseRepository#baseClock"
+        ), this.getServiceBlock(index, "app.Repository"));
+        assertEquals(List.of(
+                "service\tapp.Clock\tapp.Component",
+                "constructor"
+        ), this.getServiceBlock(index, "app.Clock"));
+        assertTrue(this.getServiceBlock(index, "app.Plain").isEmpty());
+        assertTrue(this.getServiceBlock(index, "app.Component").isEmpty());
+    }
+
+    @Test
+    public void configuredAnnotationsAreWrittenToTheHeader() throws IOException {
+        this.compile(List.of("-A" + ServiceIndexProcessor.SERVICE_ANNOTATIONS_OPTION + "=app.Marker, app.Other"),
+                PLAIN_SOURCE, "package app;\npublic @interface Marker {\n}\n");
+
+        List<String> index = this.readIndex();
+
+        assertEquals("serviceAnnotations\tapp.Marker\tapp.Other\tcom.grin.ioc.annotations.Service", index.get(1));
+        assertEquals("beanAnnotations\tcom.grin.ioc.annotations.Bean", index.get(2));
+    }
+
+    @Test
+    public void incrementalCompilationKeepsServicesThatStillExist() throws IOException {
+        this.compile(List.of(), REPOSITORY_SOURCE, BASE_REPOSITORY_SOURCE, CLOCK_SOURCE, COMPONENT_SOURCE,
+                "package app;\n@Component\npublic class Removed {\n}\n");
+        Files.delete(this.classOutput.resolve("app/Removed.class"));
+
+        this.compile(List.of(), "package app;\n@Component\npublic class Repository extends BaseRepository {\n}\n");
+
+        List<String> index = this.readIndex();
+
+        assertEquals(List.of(
+                "service\tapp.Repository\tapp.Component",
+                "constructor",
+                "preDestroy\tapp.BaseRepository#close",
+                "field\tapp.BaseRepository#baseClock"
+        ), this.getServiceBlock(index, "app.Repository"));
+        assertFalse(this.getServiceBlock(index, "app.Clock").isEmpty());
+        assertTrue(this.getServiceBlock(index, "app.Removed").isEmpty());
+    }
+
+    /**
+     * Compiles the given sources to the class output with the processor,
+     * classes compiled before are on the class path.
+     */
+    private void compile(List<String> options, String... sources) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+
+        List<JavaFileObject> compilationUnits = new ArrayList<>();
+        for (String source : sources) {
+            compilationUnits.add(new SourceFile(source));
+        }
+
+        List<String> compilerOptions = new ArrayList<>(options);
+        compilerOptions.addAll(List.of(
+                "-d", this.classOutput.toString(),
+                "-classpath", getContainerClassPath() + File.pathSeparator + this.classOutput
+        ));
+
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics, compilerOptions, null, compilationUnits);
+        task.setProcessors(List.of(new ServiceIndexProcessor()));
+
+        assertTrue(task.call(), diagnostics.getDiagnostics().toString());
+    }
+
+    private List<String> readIndex() throws IOException {
+        return Files.readAllLines(this.classOutput.resolve(ServiceIndexProcessor.SERVICE_INDEX_RESOURCE));
+    }
+
+    /**
+     * @return lines of the given service up to the next service or an empty list.
+     */
+    private List<String> getServiceBlock(List<String> index, String className) {
+        List<String> block = new ArrayList<>();
+
+        for (String line : index) {
+            if (line.startsWith("service\t")) {
+                if (!block.isEmpty()) {
+                    break;
+                }
+
+                if (line.split("\t")[1].equals(className)) {
+                    block.add(line);
+                }
+            } else if (!block.isEmpty()) {
+                block.add(line);
+            }
+        }
+
+        return block;
+    }
+
+    private static String getContainerClassPath() {
+        try {
+            return Paths.get(Service.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class SourceFile extends SimpleJavaFileObject {
+
+        private final String source;
+
+        SourceFile(String source) {
+            super(URI.create("string:///" + getClassName(source).replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.source = source;
+        }
+
+        private static String getClassName(String source) {
+            String packageName = source.substring("package ".length(), source.indexOf(';'));
+            String[] declaration = source.split("(class|@interface) ", 2)[1].split("[ {]", 2);
+
+            return packageName + "." + declaration[0];
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return this.source;
+        }
+    }
+}